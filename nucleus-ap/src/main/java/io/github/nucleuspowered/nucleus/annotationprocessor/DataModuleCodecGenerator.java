@@ -0,0 +1,292 @@
+package io.github.nucleuspowered.nucleus.annotationprocessor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates a codec for each concrete {@code DataModule}, which reads and
+ * writes its {@code @DataKey} fields without reflection, and a registry of
+ * the codecs and module constructors for {@code DataModuleFactory}.
+ *
+ * <p>The codecs are generated in the package of the module, so the fields
+ * must not be private.</p>
+ */
+class DataModuleCodecGenerator {
+
+    private static final String PACKAGE = "io.github.nucleuspowered.nucleus.dataservices.modular";
+    private static final String DATA_MODULE = PACKAGE + ".DataModule";
+    private static final String DATA_KEY = PACKAGE + ".DataKey";
+    private static final String REGISTRY = "GeneratedDataModules";
+    private static final String CODEC_SUFFIX = "Codec";
+    static final String GENERATED = "// Generated by " + StoreProcessor.class.getSimpleName() + ", do not edit.";
+
+    private static final Map<String, String> SERVICES = new TreeMap<>();
+
+    static {
+        SERVICES.put(PACKAGE + ".ModularGeneralService", "General");
+        SERVICES.put(PACKAGE + ".ModularUserService", "User");
+        SERVICES.put(PACKAGE + ".ModularWorldService", "World");
+    }
+
+    private final ProcessingEnvironment processingEnv;
+    private boolean generated = false;
+
+    DataModuleCodecGenerator(ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+    }
+
+    void generate(RoundEnvironment roundEnv) {
+        TypeElement dataModule = this.processingEnv.getElementUtils().getTypeElement(DATA_MODULE);
+        if (this.generated || dataModule == null) {
+            return;
+        }
+
+        Types types = this.processingEnv.getTypeUtils();
+        TypeMirror dataModuleType = types.erasure(dataModule.asType());
+        List<ModuleEntry> modules = new ArrayList<>();
+        for (TypeElement element : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            if (element.getKind() == ElementKind.CLASS
+                    && !element.getModifiers().contains(Modifier.ABSTRACT)
+                    && element.getNestingKind() == NestingKind.TOP_LEVEL
+                    && types.isAssignable(types.erasure(element.asType()), dataModuleType)) {
+                ModuleEntry entry = createEntry(element, dataModuleType);
+                if (entry != null) {
+                    modules.add(entry);
+                }
+            }
+        }
+
+        if (modules.isEmpty()) {
+            return;
+        }
+
+        this.generated = true;
+        modules.sort((first, second) -> first.qualifiedName.compareTo(second.qualifiedName));
+        try {
+            for (ModuleEntry entry : modules) {
+                writeCodec(entry);
+            }
+
+            writeRegistry(modules);
+        } catch (IOException e) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write data module codecs: " + e.getMessage());
+        }
+    }
+
+    @Nullable
+    private ModuleEntry createEntry(TypeElement element, TypeMirror dataModuleType) {
+        Types types = this.processingEnv.getTypeUtils();
+        ModuleEntry entry = new ModuleEntry();
+        entry.qualifiedName = element.getQualifiedName().toString();
+        entry.packageName = ((PackageElement) element.getEnclosingElement()).getQualifiedName().toString();
+        entry.simpleName = element.getSimpleName().toString();
+        entry.service = getServiceType(element.asType(), dataModuleType);
+        if (entry.service == null) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Could not determine the data service for " + entry.qualifiedName + ", it will not be registered.", element);
+        }
+
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(element.getEnclosedElements())) {
+            if (!constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                if (constructor.getParameters().size() == 1) {
+                    entry.takesService = true;
+                } else if (constructor.getParameters().isEmpty()) {
+                    entry.hasNoArgs = true;
+                }
+            }
+        }
+
+        boolean valid = true;
+        for (VariableElement field : ElementFilter.fieldsIn(element.getEnclosedElements())) {
+            String path = getDataKey(field);
+            if (path == null) {
+                continue;
+            }
+
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL) || modifiers.contains(Modifier.STATIC)) {
+                this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "@DataKey fields must not be private, final or static, so that a codec can be generated.", field);
+                valid = false;
+                continue;
+            }
+
+            TypeMirror type = field.asType();
+            FieldEntry fieldEntry = new FieldEntry();
+            fieldEntry.name = field.getSimpleName().toString();
+            fieldEntry.path = path;
+            if (type.getKind().isPrimitive()) {
+                fieldEntry.type = types.boxedClass(types.getPrimitiveType(type.getKind())).getQualifiedName().toString();
+                fieldEntry.typeToken = "TypeToken.of(" + type.toString() + ".class)";
+            } else if (type.getKind() == TypeKind.DECLARED && ((DeclaredType) type).getTypeArguments().isEmpty()) {
+                fieldEntry.type = type.toString();
+                fieldEntry.typeToken = "TypeToken.of(" + fieldEntry.type + ".class)";
+            } else {
+                fieldEntry.type = type.toString();
+                fieldEntry.typeToken = "new TypeToken<" + fieldEntry.type + ">() {}";
+            }
+
+            entry.fields.add(fieldEntry);
+        }
+
+        return valid ? entry : null;
+    }
+
+    @Nullable
+    private String getServiceType(TypeMirror type, TypeMirror dataModuleType) {
+        Types types = this.processingEnv.getTypeUtils();
+        for (TypeMirror supertype : types.directSupertypes(type)) {
+            if (types.isSameType(types.erasure(supertype), dataModuleType)) {
+                List<? extends TypeMirror> arguments = ((DeclaredType) supertype).getTypeArguments();
+                return arguments.isEmpty() ? null : arguments.get(0).toString();
+            }
+
+            String result = getServiceType(supertype, dataModuleType);
+            if (result != null) {
+                return result;
+            }
+        }
+
+        return null;
+    }
+
+    @Nullable
+    private String getDataKey(Element field) {
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(DATA_KEY)) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : mirror.getElementValues().entrySet()) {
+                    if (value.getKey().getSimpleName().contentEquals("value")) {
+                        return String.valueOf(value.getValue().getValue());
+                    }
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private void writeCodec(ModuleEntry entry) throws IOException {
+        String codec = entry.simpleName + CODEC_SUFFIX;
+        JavaFileObject file = this.processingEnv.getFiler().createSourceFile(entry.packageName + "." + codec);
+        try (Writer writer = file.openWriter()) {
+            writer.write("package " + entry.packageName + ";\n\n");
+            writer.write("import com.google.common.collect.ImmutableList;\n");
+            writer.write("import com.google.common.reflect.TypeToken;\n");
+            writer.write("import " + PACKAGE + ".DataKeyField;\n\n");
+            writer.write("import java.util.List;\n\n");
+            writer.write(GENERATED + "\n");
+            writer.write("public final class " + codec + " {\n\n");
+            writer.write("    private " + codec + "() {\n    }\n\n");
+            writer.write("    public static List<DataKeyField<" + entry.simpleName + ", ?>> getFields() {\n");
+            writer.write("        return ImmutableList.<DataKeyField<" + entry.simpleName + ", ?>>builder()\n");
+            for (FieldEntry field : entry.fields) {
+                writer.write("                .add(new DataKeyField<" + entry.simpleName + ", " + field.type + ">(\""
+                        + field.name + "\", \"" + escape(field.path) + "\", " + field.typeToken + ",\n");
+                writer.write("                        x -> x." + field.name + ", (x, v) -> x." + field.name + " = v))\n");
+            }
+
+            writer.write("                .build();\n");
+            writer.write("    }\n");
+            writer.write("}\n");
+        }
+    }
+
+    private void writeRegistry(List<ModuleEntry> modules) throws IOException {
+        JavaFileObject file = this.processingEnv.getFiler().createSourceFile(PACKAGE + "." + REGISTRY);
+        try (Writer writer = file.openWriter()) {
+            writer.write("package " + PACKAGE + ";\n\n");
+            writer.write("import java.util.HashMap;\n");
+            writer.write("import java.util.List;\n");
+            writer.write("import java.util.Map;\n");
+            writer.write("import java.util.function.Function;\n");
+            writer.write("import java.util.function.Supplier;\n\n");
+            writer.write("import javax.annotation.Nullable;\n\n");
+            writer.write(GENERATED + "\n");
+            writer.write("final class " + REGISTRY + " {\n\n");
+            writer.write("    private static final Map<Class<?>, Supplier<List<?>>> fields = new HashMap<>();\n\n");
+            writer.write("    static {\n");
+            for (ModuleEntry entry : modules) {
+                writer.write("        fields.put(" + entry.qualifiedName + ".class, " + entry.qualifiedName + CODEC_SUFFIX + "::getFields);\n");
+            }
+
+            writer.write("    }\n\n");
+            writer.write("    private " + REGISTRY + "() {\n    }\n\n");
+            writer.write("    @Nullable\n");
+            writer.write("    @SuppressWarnings(\"unchecked\")\n");
+            writer.write("    static List<DataKeyField<DataModule<?>, ?>> getFields(Class<?> module) {\n");
+            writer.write("        Supplier<List<?>> supplier = fields.get(module);\n");
+            writer.write("        return supplier == null ? null : (List<DataKeyField<DataModule<?>, ?>>) supplier.get();\n");
+            writer.write("    }\n");
+
+            for (Map.Entry<String, String> service : SERVICES.entrySet()) {
+                String type = service.getKey().substring(PACKAGE.length() + 1);
+                writer.write("\n    static void register" + service.getValue() + "(Map<Class<? extends DataModule<" + type + ">>,\n");
+                writer.write("            Function<" + type + ", ? extends DataModule<" + type + ">>> map) {\n");
+                for (ModuleEntry entry : modules) {
+                    if (!service.getKey().equals(entry.service)) {
+                        continue;
+                    }
+
+                    if (entry.takesService) {
+                        writer.write("        map.put(" + entry.qualifiedName + ".class, " + entry.qualifiedName + "::new);\n");
+                    } else if (entry.hasNoArgs) {
+                        writer.write("        map.put(" + entry.qualifiedName + ".class, x -> new " + entry.qualifiedName + "());\n");
+                    }
+                }
+
+                writer.write("    }\n");
+            }
+
+            writer.write("}\n");
+        }
+    }
+
+    static String escape(String string) {
+        return string.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static class ModuleEntry {
+
+        private String qualifiedName;
+        private String packageName;
+        private String simpleName;
+        @Nullable private String service;
+        private boolean takesService = false;
+        private boolean hasNoArgs = false;
+        private final List<FieldEntry> fields = new ArrayList<>();
+    }
+
+    private static class FieldEntry {
+
+        private String name;
+        private String path;
+        private String type;
+        private String typeToken;
+    }
+}
@@ -0,0 +1,386 @@
+package io.github.nucleuspowered.nucleus.annotationprocessor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.Name;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates the registry of modules and the classes that each module loads,
+ * with constructor references where possible, and the metadata for each
+ * command, read from the command annotations. Together these replace the
+ * classpath scanning and reflection that was done at startup.
+ *
+ * <p>Any class or command that cannot be referenced from the generated code
+ * is left to the reflective path at runtime.</p>
+ */
+class ModuleRegistryGenerator {
+
+    private static final String INTERNAL = "io.github.nucleuspowered.nucleus.internal";
+    private static final String MODULE_PACKAGE = INTERNAL + ".qsml";
+    private static final String MODULE_REGISTRY = "GeneratedModuleClasses";
+    private static final String COMMAND_PACKAGE = INTERNAL + ".command";
+    private static final String COMMAND_REGISTRY = "GeneratedCommandMetadata";
+    private static final String ABSTRACT_COMMAND = COMMAND_PACKAGE + ".AbstractCommand";
+    private static final String ANNOTATIONS = INTERNAL + ".annotations.";
+    private static final String COMMAND_ANNOTATIONS = ANNOTATIONS + "command.";
+    private static final String SUGGESTED_LEVEL = INTERNAL + ".permissions.SuggestedLevel";
+
+    // Matches Constants.COMMAND
+    private static final String COMMAND = "command";
+
+    // Classes with these annotations may not link, so they are left for the reflective path, which handles that.
+    private static final String[] NO_CONSTRUCTOR_REFERENCE = {
+            ANNOTATIONS + "RequireExistenceOf",
+            ANNOTATIONS + "RequireExistenceOfHolder",
+            ANNOTATIONS + "SkipOnError"
+    };
+
+    // Marker annotations that map directly on to a builder method of the same name.
+    private static final String[][] FLAGS = {
+            { COMMAND_ANNOTATIONS + "NoCommandPrefix", "noCommandPrefix" },
+            { COMMAND_ANNOTATIONS + "NoModifiers", "noModifiers" },
+            { COMMAND_ANNOTATIONS + "NoCooldown", "noCooldown" },
+            { COMMAND_ANNOTATIONS + "NoCost", "noCost" },
+            { COMMAND_ANNOTATIONS + "SetCooldownManually", "setCooldownManually" },
+            { ANNOTATIONS + "RequiresEconomy", "requiresEconomy" },
+            { COMMAND_ANNOTATIONS + "NoTimings", "noTimings" },
+            { ANNOTATIONS + "RunAsync", "runAsync" },
+            { COMMAND_ANNOTATIONS + "NoPermissions", "noPermissions" },
+            { COMMAND_ANNOTATIONS + "NoDocumentation", "noDocumentation" }
+    };
+
+    private final ProcessingEnvironment processingEnv;
+    private boolean generated = false;
+
+    ModuleRegistryGenerator(ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+    }
+
+    void generate(Map<TypeElement, Map<String, List<TypeElement>>> modules) {
+        if (this.generated) {
+            return;
+        }
+
+        this.generated = true;
+        List<TypeElement> sortedModules = new ArrayList<>();
+        for (TypeElement module : sort(modules.keySet())) {
+            if (isAccessible(module)) {
+                sortedModules.add(module);
+            } else {
+                this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Modules must be public.", module);
+            }
+        }
+
+        Map<TypeElement, String> methodNames = getMethodNames(sortedModules);
+        try {
+            writeModuleRegistry(sortedModules, modules, methodNames);
+            writeCommandMetadata(sortedModules, modules, methodNames);
+        } catch (IOException e) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write the module registry: " + e.getMessage());
+        }
+    }
+
+    private void writeModuleRegistry(List<TypeElement> sortedModules, Map<TypeElement, Map<String, List<TypeElement>>> modules,
+            Map<TypeElement, String> methodNames) throws IOException {
+        JavaFileObject file = this.processingEnv.getFiler().createSourceFile(MODULE_PACKAGE + "." + MODULE_REGISTRY);
+        try (Writer writer = file.openWriter()) {
+            writer.write("package " + MODULE_PACKAGE + ";\n\n");
+            writer.write(DataModuleCodecGenerator.GENERATED + "\n");
+            writer.write("final class " + MODULE_REGISTRY + " {\n\n");
+            writer.write("    private " + MODULE_REGISTRY + "() {\n    }\n\n");
+            writer.write("    static void register(ModuleClassRegistry registry) {\n");
+            for (TypeElement module : sortedModules) {
+                String moduleName = module.getQualifiedName().toString();
+                writer.write("        registry.addModule(" + moduleName + ".class, " + (canConstruct(module) ? moduleName + "::new" : "null") + ", "
+                        + MODULE_REGISTRY + "::" + methodNames.get(module) + ");\n");
+            }
+
+            writer.write("    }\n");
+
+            // One method per module keeps each method well within the size limit, and means that the classes of a module are
+            // only loaded when the module asks for them, so disabled modules load nothing.
+            for (TypeElement module : sortedModules) {
+                String moduleName = module.getQualifiedName().toString();
+                writer.write("\n    private static void " + methodNames.get(module) + "(ModuleClassRegistry registry) {\n");
+                writer.write("        Class<" + moduleName + "> module = " + moduleName + ".class;\n");
+                Map<String, List<TypeElement>> classes = modules.get(module);
+                for (String key : classes.keySet().stream().sorted().collect(Collectors.toList())) {
+                    for (TypeElement element : sort(classes.get(key))) {
+                        if (isAccessible(element)) {
+                            String name = element.getQualifiedName().toString();
+                            writer.write("        registry.add(module, \"" + DataModuleCodecGenerator.escape(key) + "\", " + name + ".class, "
+                                    + (canConstruct(element) ? name + "::new" : "null") + ");\n");
+                        } else {
+                            writer.write("        registry.add(module, \"" + DataModuleCodecGenerator.escape(key) + "\", \""
+                                    + this.processingEnv.getElementUtils().getBinaryName(element) + "\");\n");
+                        }
+                    }
+                }
+
+                writer.write("    }\n");
+            }
+
+            writer.write("}\n");
+        }
+    }
+
+    private void writeCommandMetadata(List<TypeElement> sortedModules, Map<TypeElement, Map<String, List<TypeElement>>> modules,
+            Map<TypeElement, String> methodNames) throws IOException {
+        JavaFileObject file = this.processingEnv.getFiler().createSourceFile(COMMAND_PACKAGE + "." + COMMAND_REGISTRY);
+        try (Writer writer = file.openWriter()) {
+            writer.write("package " + COMMAND_PACKAGE + ";\n\n");
+            writer.write("import java.util.Map;\n\n");
+            writer.write(DataModuleCodecGenerator.GENERATED + "\n");
+            writer.write("final class " + COMMAND_REGISTRY + " {\n\n");
+            writer.write("    private " + COMMAND_REGISTRY + "() {\n    }\n\n");
+            writer.write("    static void register(String module, Map<Class<?>, CommandMetadata> map) {\n");
+            writer.write("        switch (module) {\n");
+            for (TypeElement module : sortedModules) {
+                writer.write("            case \"" + this.processingEnv.getElementUtils().getBinaryName(module) + "\":\n");
+                writer.write("                " + methodNames.get(module) + "(map);\n");
+                writer.write("                break;\n");
+            }
+
+            writer.write("            default:\n");
+            writer.write("                break;\n");
+            writer.write("        }\n");
+            writer.write("    }\n");
+
+            for (TypeElement module : sortedModules) {
+                writer.write("\n    private static void " + methodNames.get(module) + "(Map<Class<?>, CommandMetadata> map) {\n");
+                for (TypeElement command : sort(modules.get(module).getOrDefault(COMMAND, new ArrayList<>()))) {
+                    String metadata = isAccessible(command) ? getMetadata(command) : null;
+                    if (metadata != null) {
+                        writer.write("        map.putIfAbsent(" + command.getQualifiedName() + ".class, " + metadata + ");\n");
+                    }
+                }
+
+                writer.write("    }\n");
+            }
+
+            writer.write("}\n");
+        }
+    }
+
+    /**
+     * Gets the expression that builds the metadata for the command, or null
+     * if the metadata cannot be generated, in which case it will be read from
+     * the annotations at runtime.
+     */
+    @Nullable
+    private String getMetadata(TypeElement command) {
+        Types types = this.processingEnv.getTypeUtils();
+        TypeElement abstractCommand = this.processingEnv.getElementUtils().getTypeElement(ABSTRACT_COMMAND);
+        if (abstractCommand == null) {
+            return null;
+        }
+
+        TypeMirror sourceType = getSourceType(command.asType(), types.erasure(abstractCommand.asType()));
+        if (sourceType == null) {
+            return null;
+        }
+
+        StringBuilder sb = new StringBuilder("CommandMetadata.builder(").append(sourceType).append(".class)");
+
+        // This includes inherited annotations, as Class#getAnnotation does.
+        Map<String, AnnotationMirror> annotations = new HashMap<>();
+        for (AnnotationMirror mirror : this.processingEnv.getElementUtils().getAllAnnotationMirrors(command)) {
+            annotations.put(((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString(), mirror);
+        }
+
+        Map<String, Object> values = getValues(annotations.get(COMMAND_ANNOTATIONS + "RegisterCommand"));
+        if (values != null) {
+            String subcommandOf = getClassLiteral(values.get("subcommandOf"));
+            if (subcommandOf == null) {
+                return null;
+            }
+
+            sb.append("\n                .register(").append(toArray(values.get("value"))).append(", ").append(subcommandOf).append(", ")
+                    .append(toArray(values.get("rootAliasRegister"))).append(", ").append(values.get("hasExecutor")).append(")");
+        }
+
+        values = getValues(annotations.get(COMMAND_ANNOTATIONS + "NoWarmup"));
+        if (values != null) {
+            sb.append("\n                .noWarmup(").append(values.get("generateConfigEntry")).append(", ")
+                    .append(values.get("generatePermissionDocs")).append(")");
+        }
+
+        values = getValues(annotations.get(COMMAND_ANNOTATIONS + "RedirectModifiers"));
+        if (values != null) {
+            sb.append("\n                .redirectModifiers(").append(toLiteral(values.get("value"))).append(", ")
+                    .append(values.get("requireGeneration")).append(")");
+        }
+
+        values = getValues(annotations.get(COMMAND_ANNOTATIONS + "Permissions"));
+        if (values != null) {
+            sb.append("\n                .permissions(").append(toLiteral(values.get("prefix"))).append(", ")
+                    .append(toLiteral(values.get("mainOverride"))).append(", ")
+                    .append(toLiteral(values.get("suffix"))).append(", ")
+                    .append(values.get("supportsOthers")).append(", ")
+                    .append(SUGGESTED_LEVEL).append(".").append(((VariableElement) values.get("suggestedLevel")).getSimpleName()).append(")");
+        }
+
+        values = getValues(annotations.get(COMMAND_ANNOTATIONS + "PermissionsFrom"));
+        if (values != null) {
+            String from = getClassLiteral(values.get("value"));
+            if (from == null) {
+                return null;
+            }
+
+            sb.append("\n                .permissionsFrom(").append(from).append(", ").append(toArray(values.get("requiresSuffix"))).append(")");
+        }
+
+        for (String[] flag : FLAGS) {
+            if (annotations.containsKey(flag[0])) {
+                sb.append("\n                .").append(flag[1]).append("()");
+            }
+        }
+
+        return sb.append("\n                .build()").toString();
+    }
+
+    @Nullable
+    private TypeMirror getSourceType(TypeMirror type, TypeMirror abstractCommand) {
+        Types types = this.processingEnv.getTypeUtils();
+        for (TypeMirror supertype : types.directSupertypes(type)) {
+            if (types.isSameType(types.erasure(supertype), abstractCommand)) {
+                List<? extends TypeMirror> arguments = ((DeclaredType) supertype).getTypeArguments();
+                if (arguments.isEmpty() || arguments.get(0).getKind() != TypeKind.DECLARED) {
+                    return null;
+                }
+
+                TypeMirror argument = types.erasure(arguments.get(0));
+                return isAccessible((TypeElement) types.asElement(argument)) ? argument : null;
+            }
+
+            TypeMirror result = getSourceType(supertype, abstractCommand);
+            if (result != null) {
+                return result;
+            }
+        }
+
+        return null;
+    }
+
+    @Nullable
+    private Map<String, Object> getValues(@Nullable AnnotationMirror mirror) {
+        if (mirror == null) {
+            return null;
+        }
+
+        Map<String, Object> values = new HashMap<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+                this.processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+            values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+        }
+
+        return values;
+    }
+
+    @Nullable
+    private String getClassLiteral(Object value) {
+        if (value instanceof DeclaredType) {
+            TypeElement element = (TypeElement) ((DeclaredType) value).asElement();
+            if (isAccessible(element)) {
+                return element.getQualifiedName() + ".class";
+            }
+        }
+
+        return null;
+    }
+
+    private static String toArray(Object value) {
+        List<?> list = (List<?>) value;
+        if (list.isEmpty()) {
+            return "new String[0]";
+        }
+
+        return list.stream().map(x -> toLiteral(((AnnotationValue) x).getValue()))
+                .collect(Collectors.joining(", ", "new String[] { ", " }"));
+    }
+
+    private static String toLiteral(Object value) {
+        return "\"" + DataModuleCodecGenerator.escape(String.valueOf(value)) + "\"";
+    }
+
+    private boolean isAccessible(TypeElement element) {
+        Element current = element;
+        while (current.getKind().isClass() || current.getKind().isInterface()) {
+            if (!current.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+
+            current = current.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    private boolean canConstruct(TypeElement element) {
+        Set<Modifier> modifiers = element.getModifiers();
+        if (element.getKind() != ElementKind.CLASS || modifiers.contains(Modifier.ABSTRACT) || !isAccessible(element)
+                || (element.getNestingKind().isNested() && !modifiers.contains(Modifier.STATIC))) {
+            return false;
+        }
+
+        for (AnnotationMirror mirror : this.processingEnv.getElementUtils().getAllAnnotationMirrors(element)) {
+            Name name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName();
+            for (String annotation : NO_CONSTRUCTOR_REFERENCE) {
+                if (name.contentEquals(annotation)) {
+                    return false;
+                }
+            }
+        }
+
+        return ElementFilter.constructorsIn(element.getEnclosedElements()).stream()
+                .anyMatch(x -> x.getParameters().isEmpty() && x.getModifiers().contains(Modifier.PUBLIC) && x.getThrownTypes().isEmpty());
+    }
+
+    private Map<TypeElement, String> getMethodNames(List<TypeElement> modules) {
+        Map<TypeElement, String> names = new HashMap<>();
+        Set<String> used = new HashSet<>();
+        for (TypeElement module : modules) {
+            String name = "register" + module.getSimpleName();
+            int i = 2;
+            while (!used.add(name)) {
+                name = "register" + module.getSimpleName() + i++;
+            }
+
+            names.put(module, name);
+        }
+
+        return names;
+    }
+
+    private static List<TypeElement> sort(Iterable<TypeElement> elements) {
+        List<TypeElement> list = new ArrayList<>();
+        elements.forEach(list::add);
+        list.sort((first, second) -> first.getQualifiedName().toString().compareTo(second.getQualifiedName().toString()));
+        return list;
+    }
+}
@@ -1,10 +1,7 @@
 package io.github.nucleuspowered.nucleus.annotationprocessor;
 
 import com.google.auto.service.AutoService;
-import com.google.gson.GsonBuilder;
 
-import java.io.IOException;
-import java.io.Writer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -16,6 +13,7 @@ import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.Processor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
@@ -30,16 +28,31 @@ import javax.lang.model.element.TypeParameterElement;
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.AbstractElementVisitor8;
-import javax.tools.FileObject;
-import javax.tools.StandardLocation;
 
 @AutoService(Processor.class)
 @SupportedSourceVersion(SourceVersion.RELEASE_8)
-@SupportedAnnotationTypes("io.github.nucleuspowered.nucleus.annotationprocessor.Store")
+@SupportedAnnotationTypes({
+        "io.github.nucleuspowered.nucleus.annotationprocessor.Store",
+        "io.github.nucleuspowered.nucleus.dataservices.modular.DataKey"
+})
 public class StoreProcessor extends AbstractProcessor {
 
+    @Nullable private DataModuleCodecGenerator codecGenerator = null;
+    @Nullable private ModuleRegistryGenerator registryGenerator = null;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.codecGenerator = new DataModuleCodecGenerator(processingEnv);
+        this.registryGenerator = new ModuleRegistryGenerator(processingEnv);
+    }
+
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (this.codecGenerator != null) {
+            this.codecGenerator.generate(roundEnv);
+        }
+
         Map<Element, String> classes = new HashMap<>();
         Map<TypeMirror, String> store = new HashMap<>();
 
@@ -65,19 +78,20 @@ public class StoreProcessor extends AbstractProcessor {
 
         // Get the root elements
         ClassElementVisitor cev = new ClassElementVisitor();
-        Map<String, String> conv = classes.entrySet().stream()
+        Map<String, TypeElement> conv = classes.entrySet().stream()
                 .filter(x -> x.getValue() == null)
                 .map(x -> cev.visit(x.getKey(), true))
                 .filter(Objects::nonNull)
                 .collect(Collectors.toMap(x -> x.pa, x -> x.cl));
 
-        final Map<String, Map<String, List<String>>> result = conv.values().stream().collect(Collectors.toMap(x -> x, x -> new HashMap<>()));
+        final Map<TypeElement, Map<String, List<TypeElement>>> result = new HashMap<>();
+        conv.values().forEach(x -> result.put(x, new HashMap<>()));
 
         classes.entrySet().stream().filter(x -> x.getValue() != null)
                 .map(x -> {
-                    StringTuple st = cev.visit(x.getKey(), false);
+                    ElementTuple st = cev.visit(x.getKey(), false);
                     if (st != null) {
-                        return new StringTuple(x.getValue(), st.cl);
+                        return new ElementTuple(x.getValue(), st.cl);
                     }
 
                     return null;
@@ -85,59 +99,48 @@ public class StoreProcessor extends AbstractProcessor {
                 .filter(Objects::nonNull)
                 .forEach(x -> {
             // Check the class vs package name
-            conv.entrySet().stream().filter(y -> x.cl.startsWith(y.getKey())).distinct().findFirst().ifPresent(y ->
+            String name = x.cl.getQualifiedName().toString();
+            conv.entrySet().stream().filter(y -> name.startsWith(y.getKey())).distinct().findFirst().ifPresent(y ->
                     result.get(y.getValue()).computeIfAbsent(x.pa, z -> new ArrayList<>()).add(x.cl));
         });
 
-        if (!classes.isEmpty()) {
-
-            // Write this file
-            try {
-                FileObject fo = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "assets.nucleus", "classes.json");
-                try (Writer os = fo.openWriter()) {
-                    os.write(new GsonBuilder().setPrettyPrinting().create().toJson(result));
-                    os.flush();
-                }
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
+        if (!result.isEmpty() && this.registryGenerator != null) {
+            this.registryGenerator.generate(result);
         }
 
         return false;
     }
 
-    static class ClassElementVisitor extends AbstractElementVisitor8<StringTuple, Boolean> {
+    static class ClassElementVisitor extends AbstractElementVisitor8<ElementTuple, Boolean> {
 
-        @Override public StringTuple visitPackage(PackageElement e, Boolean aBoolean) {
+        @Override public ElementTuple visitPackage(PackageElement e, Boolean aBoolean) {
             return null;
         }
 
-        @Override public StringTuple visitType(TypeElement e, Boolean aBoolean) {
+        @Override public ElementTuple visitType(TypeElement e, Boolean aBoolean) {
             String name = e.getQualifiedName().toString();
             if (!e.getModifiers().contains(Modifier.ABSTRACT) && name.startsWith("io.github.nucleuspowered.nucleus.modules")) {
 
                 if (aBoolean) {
                     // Only care about the package here.
-                    return new StringTuple(name.replaceAll("\\.[^.]+?$", "\\."), name);
-                } else if (e.getNestingKind().isNested()) {
-                    return new StringTuple(null, name.replaceAll("\\.([^.]+?)$", "\\$$1"));
+                    return new ElementTuple(name.replaceAll("\\.[^.]+?$", "\\."), e);
                 }
 
-                return new StringTuple(null, name);
+                return new ElementTuple(null, e);
             }
 
             return null;
         }
 
-        @Override public StringTuple visitVariable(VariableElement e, Boolean aBoolean) {
+        @Override public ElementTuple visitVariable(VariableElement e, Boolean aBoolean) {
             return null;
         }
 
-        @Override public StringTuple visitExecutable(ExecutableElement e, Boolean aBoolean) {
+        @Override public ElementTuple visitExecutable(ExecutableElement e, Boolean aBoolean) {
             return null;
         }
 
-        @Override public StringTuple visitTypeParameter(TypeParameterElement e, Boolean aBoolean) {
+        @Override public ElementTuple visitTypeParameter(TypeParameterElement e, Boolean aBoolean) {
             return null;
         }
     }
@@ -146,11 +149,11 @@ public class StoreProcessor extends AbstractProcessor {
         return this.processingEnv.getTypeUtils().isAssignable(myTypeElement.asType(), desiredInterface);
     }
 
-    static class StringTuple {
+    static class ElementTuple {
         @Nullable final String pa;
-        final String cl;
+        final TypeElement cl;
 
-        StringTuple(@Nullable String pa, String cl) {
+        ElementTuple(@Nullable String pa, TypeElement cl) {
             this.pa = pa;
             this.cl = cl;
         }
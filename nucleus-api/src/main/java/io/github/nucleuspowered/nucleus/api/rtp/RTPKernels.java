@@ -42,6 +42,14 @@ public final class RTPKernels {
      */
     public final static RTPKernel DEFAULT = DummyObjectProvider.createFor(RTPKernel.class, "DEFAULT");
 
+    /**
+     * A surface only Nucleus RTP kernel, which finds the surface from the
+     * world's height map, and checks the biome before loading the chunk.
+     *
+     * <p>This has an ID of {@code nucleus:heightmap_surface}</p>
+     */
+    public final static RTPKernel HEIGHTMAP_SURFACE = DummyObjectProvider.createFor(RTPKernel.class, "HEIGHTMAP_SURFACE");
+
     /**
      * The default Nucleus RTP kernel, adjusted to ensure locations are surface only.
      *
@@ -17,6 +17,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -136,6 +137,23 @@ public interface NucleusWarpService {
      */
     Set<String> getWarpNames();
 
+    /**
+     * Gets the names of the warps that start with the given string, case
+     * insensitively, in alphabetical order.
+     *
+     * @param prefix The start of the warp name.
+     * @param limit The maximum number of names to return.
+     * @return The warp names.
+     */
+    default List<String> getWarpNamesStartingWith(String prefix, int limit) {
+        String lower = prefix.toLowerCase();
+        return getWarpNames().stream()
+                .filter(x -> x.toLowerCase().startsWith(lower))
+                .sorted(String.CASE_INSENSITIVE_ORDER)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Gets whether a warp exists.
      *
@@ -0,0 +1,82 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.benchmarks;
+
+import io.github.nucleuspowered.nucleus.Nucleus;
+import io.github.nucleuspowered.nucleus.NucleusPlugin;
+import io.github.nucleuspowered.nucleus.api.exceptions.PluginAlreadyRegisteredException;
+import io.github.nucleuspowered.nucleus.api.service.NucleusMessageTokenService;
+import io.github.nucleuspowered.nucleus.internal.text.NucleusTokenServiceImpl;
+import io.github.nucleuspowered.nucleus.internal.text.TextParsingUtils;
+import io.github.nucleuspowered.nucleus.tests.TestBase;
+import io.github.nucleuspowered.nucleus.tests.util.Stubs;
+import org.mockito.Mockito;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.text.Text;
+
+import java.util.Optional;
+
+/**
+ * The {@link Nucleus} instance used by the benchmarks. This extends the
+ * stub used by the unit tests, but provides a real token service and
+ * {@link TextParsingUtils} so that the text pipeline can be exercised.
+ *
+ * <p>The token service has an extra plugin, {@code bench}, registered,
+ * which returns its identifier as {@link Text}. The primary token
+ * {@code {{benchvalue}}} maps to it. This keeps the cost of the tokens
+ * themselves out of the measurements.</p>
+ */
+public class BenchmarkNucleus extends TestBase.NucleusTest {
+
+    private static boolean setup = false;
+
+    private final TextParsingUtils textParsingUtils = new TextParsingUtils();
+    private NucleusTokenServiceImpl tokenService;
+
+    /**
+     * Installs the benchmark {@link Nucleus} instance, if it has not been
+     * installed already.
+     *
+     * @throws Exception if the instance could not be installed.
+     */
+    public static synchronized void setup() throws Exception {
+        if (setup) {
+            return;
+        }
+
+        setup = true;
+        BenchmarkNucleus nucleus = new BenchmarkNucleus();
+        TestBase.testSetup(nucleus);
+
+        // The token service needs Nucleus.getNucleus() to be set before it is created.
+        nucleus.tokenService = new NucleusTokenServiceImpl(mockPlugin());
+        nucleus.registerBenchmarkTokens();
+    }
+
+    private static NucleusPlugin mockPlugin() {
+        PluginContainer container = stubContainer("nucleus");
+        NucleusPlugin plugin = Mockito.mock(NucleusPlugin.class);
+        Mockito.when(plugin.getPluginContainer()).thenReturn(container);
+        return plugin;
+    }
+
+    private static PluginContainer stubContainer(String id) {
+        return Stubs.stub(PluginContainer.class, (method, args) -> method.equals("getId") ? id : null);
+    }
+
+    private void registerBenchmarkTokens() throws PluginAlreadyRegisteredException {
+        PluginContainer container = stubContainer("bench");
+        this.tokenService.register(container, (tokenInput, source, variables) -> Optional.of(Text.of(tokenInput)));
+        this.tokenService.registerPrimaryToken("benchvalue", container, "value");
+    }
+
+    @Override public NucleusMessageTokenService getMessageTokenService() {
+        return this.tokenService;
+    }
+
+    @Override public TextParsingUtils getTextParsingUtils() {
+        return this.textParsingUtils;
+    }
+}
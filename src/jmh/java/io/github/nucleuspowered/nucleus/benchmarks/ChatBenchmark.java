@@ -0,0 +1,72 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.benchmarks;
+
+import io.github.nucleuspowered.nucleus.internal.text.TextParsingUtils;
+import io.github.nucleuspowered.nucleus.modules.chat.listeners.ChatListener;
+import io.github.nucleuspowered.nucleus.tests.util.Stubs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.service.permission.Subject;
+import org.spongepowered.api.text.Text;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the per message work done by the {@link ChatListener}.
+ *
+ * <p>The subject used has permission for every colour, but none of the
+ * styles, so that both the keep and strip paths are exercised.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatBenchmark {
+
+    @Param({
+            "hello there, how is everyone today?",
+            "&ahello &lthere&r, &9&nhow&r is &keveryone&r today?",
+            "&chey, have a look at http://nucleuspowered.org/docs and https://github.com/NucleusPowered/Nucleus &etoday"
+    })
+    public String message;
+
+    private Subject subject;
+    private long permittedCodes;
+
+    @Setup
+    public void setup() throws Exception {
+        BenchmarkNucleus.setup();
+        this.subject = Stubs.stub(Subject.class,
+                (method, args) -> method.equals("hasPermission") ? ((String) args[args.length - 1]).contains(".colo") : null);
+        this.permittedCodes = ChatListener.getPermittedCodes(this.subject);
+    }
+
+    @Benchmark
+    public String stripPermissionless() {
+        return ChatListener.stripPermissionless(this.subject, this.message);
+    }
+
+    @Benchmark
+    public String stripPermissionlessCached() {
+        return ChatListener.stripPermissionless(this.message, this.permittedCodes);
+    }
+
+    @Benchmark
+    public Text addUrls() {
+        return TextParsingUtils.addUrls(this.message);
+    }
+}
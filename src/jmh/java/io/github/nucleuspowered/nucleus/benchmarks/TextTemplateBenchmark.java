@@ -0,0 +1,63 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.benchmarks;
+
+import io.github.nucleuspowered.nucleus.internal.text.NucleusTextTemplateFactory;
+import io.github.nucleuspowered.nucleus.internal.text.NucleusTextTemplateImpl;
+import io.github.nucleuspowered.nucleus.tests.util.Stubs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.text.Text;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks creating and rendering {@link NucleusTextTemplateImpl}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextTemplateBenchmark {
+
+    @Param({
+            "&aWelcome to the server!",
+            "&a{{benchvalue}} &fhas joined &e{{pl:bench:world}}",
+            "{{benchvalue}} {{pl:bench:one}} {{pl:bench:two}} {{pl:bench:three}} &7- visit http://nucleuspowered.org"
+    })
+    public String template;
+
+    private NucleusTextTemplateImpl compiled;
+    private CommandSource source;
+
+    @Setup
+    public void setup() throws Exception {
+        BenchmarkNucleus.setup();
+        this.compiled = NucleusTextTemplateFactory.createFromAmpersandString(this.template);
+        this.source = Stubs.stub(CommandSource.class, (method, args) -> method.equals("getName") ? "bench" : null);
+    }
+
+    @Benchmark
+    public NucleusTextTemplateImpl create() {
+        return NucleusTextTemplateFactory.createFromAmpersandString(this.template);
+    }
+
+    @Benchmark
+    public Text render() {
+        return this.compiled.getForCommandSource(this.source);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.benchmarks;
+
+import io.github.nucleuspowered.nucleus.Nucleus;
+import io.github.nucleuspowered.nucleus.internal.text.NucleusTokenServiceImpl;
+import io.github.nucleuspowered.nucleus.tests.util.Stubs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.text.Text;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks resolving tokens through the {@link NucleusTokenServiceImpl},
+ * both from the token string each time and from a bound token.
+ *
+ * <p>The source is a {@link Player}, as option tokens are only resolved for
+ * players. It has a {@code prefix} option in every context.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenBenchmark {
+
+    @Param({ "benchvalue", "{{pl:bench:value:s}}", "o:prefix" })
+    public String token;
+
+    private NucleusTokenServiceImpl service;
+    private NucleusTokenServiceImpl.BoundToken bound;
+    private Player source;
+
+    @Setup
+    public void setup() throws Exception {
+        BenchmarkNucleus.setup();
+        this.service = (NucleusTokenServiceImpl) Nucleus.getNucleus().getMessageTokenService();
+        this.bound = this.service.bind(this.token);
+        this.source = Stubs.stub(Player.class, (method, args) -> {
+            switch (method) {
+                case "getName":
+                    return "bench";
+                case "getActiveContexts":
+                    return Collections.emptySet();
+                case "getOption":
+                    return args[args.length - 1].equals("prefix") ? Optional.of("&c[Bench] ") : Optional.empty();
+                default:
+                    return null;
+            }
+        });
+    }
+
+    @Benchmark
+    public Optional<Text> parseToken() {
+        return this.service.parseToken(this.token, this.source, null);
+    }
+
+    @Benchmark
+    public Optional<Text> bound() {
+        return this.bound.apply(this.source, null);
+    }
+}
@@ -16,6 +16,7 @@ import io.github.nucleuspowered.nucleus.dataservices.modular.ModularGeneralServi
 import io.github.nucleuspowered.nucleus.internal.EconHelper;
 import io.github.nucleuspowered.nucleus.internal.InternalServiceManager;
 import io.github.nucleuspowered.nucleus.internal.PermissionRegistry;
+import io.github.nucleuspowered.nucleus.internal.StartupTimings;
 import io.github.nucleuspowered.nucleus.internal.TextFileController;
 import io.github.nucleuspowered.nucleus.internal.docgen.DocGenCache;
 import io.github.nucleuspowered.nucleus.internal.interfaces.Reloadable;
@@ -28,6 +29,7 @@ import io.github.nucleuspowered.nucleus.internal.text.TextParsingUtils;
 import io.github.nucleuspowered.nucleus.modules.core.config.WarmupConfig;
 import org.slf4j.Logger;
 import org.spongepowered.api.asset.Asset;
+import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.text.Text;
 import uk.co.drnaylor.quickstart.modulecontainers.DiscoveryModuleContainer;
@@ -36,6 +38,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -109,6 +112,10 @@ public abstract class Nucleus {
 
     public abstract MessageProvider getMessageProvider();
 
+    public abstract MessageProvider getMessageProvider(CommandSource source);
+
+    public abstract MessageProvider getMessageProvider(Locale locale);
+
     public abstract MessageProvider getCommandMessageProvider();
 
     public abstract int traceUserCreations();
@@ -148,4 +155,6 @@ public abstract class Nucleus {
     public abstract void addStartupMessage(Text message);
 
     public abstract boolean isPrintingSavesAndLoads();
+
+    public abstract StartupTimings getStartupTimings();
 }
@@ -13,8 +13,6 @@ import static io.github.nucleuspowered.nucleus.PluginInfo.VERSION;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 import com.typesafe.config.ConfigException;
 import io.github.nucleuspowered.nucleus.api.NucleusAPITokens;
 import io.github.nucleuspowered.nucleus.api.service.NucleusMessageTokenService;
@@ -37,15 +35,20 @@ import io.github.nucleuspowered.nucleus.internal.EconHelper;
 import io.github.nucleuspowered.nucleus.internal.InternalServiceManager;
 import io.github.nucleuspowered.nucleus.internal.PermissionRegistry;
 import io.github.nucleuspowered.nucleus.internal.PreloadTasks;
+import io.github.nucleuspowered.nucleus.internal.StartupLoadScheduler;
+import io.github.nucleuspowered.nucleus.internal.StartupTimings;
 import io.github.nucleuspowered.nucleus.internal.TextFileController;
 import io.github.nucleuspowered.nucleus.internal.client.ClientMessageReciever;
 import io.github.nucleuspowered.nucleus.internal.docgen.DocGenCache;
 import io.github.nucleuspowered.nucleus.internal.interfaces.Reloadable;
 import io.github.nucleuspowered.nucleus.internal.messages.ConfigMessageProvider;
+import io.github.nucleuspowered.nucleus.internal.messages.MessageCatalog;
 import io.github.nucleuspowered.nucleus.internal.messages.MessageProvider;
 import io.github.nucleuspowered.nucleus.internal.messages.ResourceMessageProvider;
 import io.github.nucleuspowered.nucleus.internal.permissions.PermissionResolverImpl;
 import io.github.nucleuspowered.nucleus.internal.permissions.ServiceChangeListener;
+import io.github.nucleuspowered.nucleus.internal.permissions.SubjectDecisionCache;
+import io.github.nucleuspowered.nucleus.internal.qsml.ModuleClassRegistry;
 import io.github.nucleuspowered.nucleus.internal.qsml.ModuleRegistrationProxyService;
 import io.github.nucleuspowered.nucleus.internal.qsml.NucleusConfigAdapter;
 import io.github.nucleuspowered.nucleus.internal.qsml.NucleusLoggerProxy;
@@ -64,16 +67,21 @@ import io.github.nucleuspowered.nucleus.modules.core.CoreModule;
 import io.github.nucleuspowered.nucleus.modules.core.config.CoreConfig;
 import io.github.nucleuspowered.nucleus.modules.core.config.CoreConfigAdapter;
 import io.github.nucleuspowered.nucleus.modules.core.config.WarmupConfig;
+import io.github.nucleuspowered.nucleus.modules.core.config.DataCacheConfig;
 import io.github.nucleuspowered.nucleus.modules.core.datamodules.UniqueUserCountTransientModule;
 import io.github.nucleuspowered.nucleus.modules.core.services.UUIDChangeService;
+import ninja.leaping.configurate.ConfigurationNode;
 import ninja.leaping.configurate.commented.CommentedConfigurationNode;
 import ninja.leaping.configurate.hocon.HoconConfigurationLoader;
+import ninja.leaping.configurate.objectmapping.ObjectMapper;
+import ninja.leaping.configurate.objectmapping.ObjectMappingException;
 import org.slf4j.Logger;
 import org.spongepowered.api.Game;
 import org.spongepowered.api.GameState;
 import org.spongepowered.api.Platform;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.asset.Asset;
+import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.command.source.ConsoleSource;
 import org.spongepowered.api.config.ConfigDir;
 import org.spongepowered.api.event.Listener;
@@ -109,9 +117,11 @@ import java.nio.file.Paths;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -152,10 +162,13 @@ public class NucleusPlugin extends Nucleus {
     private final InternalServiceManager serviceManager = new InternalServiceManager();
     private MessageProvider messageProvider = new ResourceMessageProvider(ResourceMessageProvider.messagesBundle);
     private MessageProvider commandMessageProvider = new ResourceMessageProvider(ResourceMessageProvider.commandMessagesBundle);
+    private MessageCatalog messageCatalog = new MessageCatalog(ResourceMessageProvider.messagesBundle, this.messageProvider, false);
 
     private WarmupManager warmupManager;
     private final EconHelper econHelper = new EconHelper();
     private final PermissionRegistry permissionRegistry = new PermissionRegistry();
+    private final StartupTimings startupTimings = new StartupTimings();
+    private final StartupLoadScheduler startupLoadScheduler = new StartupLoadScheduler(this.startupTimings);
 
     private DiscoveryModuleContainer moduleContainer;
 
@@ -165,6 +178,9 @@ public class NucleusPlugin extends Nucleus {
     private final Path configDir;
     private final Supplier<Path> dataDir;
     @Nullable private Path dataFileLocation = null;
+    private DataProviders.UserDataStorage userDataStorage = DataProviders.UserDataStorage.JSON;
+    private DataCacheConfig userDataCacheConfig = new DataCacheConfig();
+    private DataCacheConfig worldDataCacheConfig = new DataCacheConfig();
     private Path currentDataDir;
     private boolean isServer = false;
     private WarmupConfig warmupConfig;
@@ -175,6 +191,18 @@ public class NucleusPlugin extends Nucleus {
     private int isTraceUserCreations = 0;
     private boolean savesandloads = false;
 
+    private static DataCacheConfig getDataCacheConfig(ConfigurationNode node) {
+        if (node.isVirtual()) {
+            return new DataCacheConfig();
+        }
+
+        try {
+            return ObjectMapper.forClass(DataCacheConfig.class).bindToNew().populate(node);
+        } catch (ObjectMappingException e) {
+            return new DataCacheConfig();
+        }
+    }
+
     private static boolean versionCheck(MessageProvider provider) throws IllegalStateException {
         Pattern matching = Pattern.compile("^(?<major>\\d+)\\.(?<minor>\\d+)");
         Optional<String> v = Sponge.getPlatform().getContainer(Platform.Component.API).getVersion();
@@ -243,6 +271,8 @@ public class NucleusPlugin extends Nucleus {
 
     @Listener(order = Order.FIRST)
     public void onPreInit(GamePreInitializationEvent preInitializationEvent) {
+        long start = System.nanoTime();
+
         // Setup object mapper.
         MessageReceiver s;
         if (Sponge.getGame().isServerAvailable()) {
@@ -264,6 +294,11 @@ public class NucleusPlugin extends Nucleus {
             if (!location.equalsIgnoreCase("default")) {
                 this.dataFileLocation = Paths.get(location);
             }
+
+            this.userDataStorage = DataProviders.UserDataStorage.fromConfig(node.getNode("core", "user-data-storage").getString("json"));
+
+            this.userDataCacheConfig = getDataCacheConfig(node.getNode("core", "user-data-cache"));
+            this.worldDataCacheConfig = getDataCacheConfig(node.getNode("core", "world-data-cache"));
         } catch (IOException e) {
             // don't worry about it
         }
@@ -303,12 +338,16 @@ public class NucleusPlugin extends Nucleus {
             }
             this.commandsConfig = new CommandsConfig(Paths.get(this.configDir.toString(), "commands.conf"));
 
-            DataProviders d = new DataProviders(this);
+            DataProviders d = new DataProviders(this, this.userDataStorage);
+            this.serviceManager.registerService(DataProviders.class, d);
             this.generalService = new ModularGeneralService(d.getGeneralDataProvider());
             this.itemDataService = new ItemDataService(d.getItemDataProvider());
-            this.itemDataService.loadInternal();
-            this.userDataManager = new UserDataManager(d::getUserFileDataProviders, d::doesUserFileExist);
-            this.worldDataManager = new WorldDataManager(d::getWorldFileDataProvider, d::doesWorldFileExist);
+
+            // Item aliases are not needed until the modules are enabled.
+            this.startupLoadScheduler.async("items", this.itemDataService::loadInternal);
+            this.userDataManager = new UserDataManager(d::getUserFileDataProviders, d::doesUserFileExist, d::runUserSaves,
+                    this.userDataCacheConfig);
+            this.worldDataManager = new WorldDataManager(d::getWorldFileDataProvider, d::doesWorldFileExist, this.worldDataCacheConfig);
             this.kitService = new KitService(d.getKitsDataProvider());
             this.nameBanService = new NameBanService(d.getNameBanDataProvider());
             this.userCacheService = new UserCacheService(d.getUserCacheDataProvider());
@@ -345,21 +384,14 @@ public class NucleusPlugin extends Nucleus {
 
         try {
             final String he = this.messageProvider.getMessageWithFormat("config.main-header", PluginInfo.VERSION);
-            Optional<Asset> optionalAsset = Sponge.getAssetManager().getAsset(Nucleus.getNucleus(), "classes.json");
+            long registryStart = System.nanoTime();
+            ModuleClassRegistry registry = ModuleClassRegistry.getInstance();
+            this.startupTimings.addPhase("registry", registryStart);
             DiscoveryModuleContainer.Builder db = DiscoveryModuleContainer.builder();
-            if (optionalAsset.isPresent()) {
-                Map<String, Map<String, List<String>>> m = new Gson().fromJson(
-                        optionalAsset.get().readString(),
-                        new TypeToken<Map<String, Map<String, List<String>>>>() {}.getType()
-                );
-
-                Set<Class<?>> sc = Sets.newHashSet();
-                for (String classString : m.keySet()) {
-                    sc.add(Class.forName(classString));
-                }
-
+            if (!registry.isEmpty()) {
+                Set<Class<?>> sc = Sets.newHashSet(registry.getModules());
                 db.setStrategy((string, classloader) -> sc)
-                        .setConstructor(new QuickStartModuleConstructor(m));
+                        .setConstructor(new QuickStartModuleConstructor(registry));
             } else {
                 db.setConstructor(new QuickStartModuleConstructor(null))
                         .setStrategy(Strategy.DEFAULT);
@@ -404,12 +436,16 @@ public class NucleusPlugin extends Nucleus {
                             m.getAnnotation(ModuleData.class).id().toLowerCase() + ".desc"))
                     .build();
 
+            long discoveryStart = System.nanoTime();
             this.moduleContainer.startDiscover();
+            this.startupTimings.addPhase("discovery", discoveryStart);
         } catch (Exception e) {
             this.isErrored = e;
             disable();
             e.printStackTrace();
         }
+
+        this.startupTimings.addPhase("preinit", start);
     }
 
     @Listener(order = Order.FIRST)
@@ -418,6 +454,7 @@ public class NucleusPlugin extends Nucleus {
             return;
         }
 
+        long start = System.nanoTime();
         this.logger.info(this.messageProvider.getMessageWithFormat("startup.init", PluginInfo.NAME));
 
         try {
@@ -427,6 +464,8 @@ public class NucleusPlugin extends Nucleus {
             disable();
             e.printStackTrace();
         }
+
+        this.startupTimings.addPhase("init", start);
     }
 
     @Listener(order = Order.POST)
@@ -435,12 +474,14 @@ public class NucleusPlugin extends Nucleus {
             return;
         }
 
+        long start = System.nanoTime();
         this.logger.info(this.messageProvider.getMessageWithFormat("startup.postinit", PluginInfo.NAME));
 
         // Load up the general data files now, mods should have registered items by now.
         try {
             // Reloadable so that we can update the serialisers.
             this.moduleContainer.reloadSystemConfig();
+            this.startupLoadScheduler.await("items");
         } catch (Exception e) {
             this.isErrored = e;
             disable();
@@ -451,7 +492,9 @@ public class NucleusPlugin extends Nucleus {
         try {
             Sponge.getEventManager().post(new BaseModuleEvent.AboutToConstructEvent(this));
             this.logger.info(this.messageProvider.getMessageWithFormat("startup.moduleloading", PluginInfo.NAME));
+            long moduleStart = System.nanoTime();
             this.moduleContainer.loadModules(true);
+            this.startupTimings.addPhase("modules", moduleStart);
 
             CoreConfig coreConfig = this.moduleContainer.getConfigAdapterForModule(CoreModule.ID, CoreConfigAdapter.class).getNodeOrDefault();
 
@@ -470,6 +513,17 @@ public class NucleusPlugin extends Nucleus {
             return;
         }
 
+        try {
+            this.startupLoadScheduler.awaitAll();
+        } catch (Exception e) {
+            this.isErrored = e;
+            disable();
+            e.printStackTrace();
+            return;
+        } finally {
+            this.startupLoadScheduler.shutdown();
+        }
+
         // Register a reloadable.
         CommandPermissionHandler.onReload();
         registerReloadable(CommandPermissionHandler::onReload);
@@ -478,16 +532,19 @@ public class NucleusPlugin extends Nucleus {
         logMessageDefault();
         this.logger.info(this.messageProvider.getMessageWithFormat("startup.moduleloaded", PluginInfo.NAME));
         PermissionResolverImpl.INSTANCE.registerPermissions();
+        Sponge.getEventManager().registerListeners(this, SubjectDecisionCache.getInstance());
         registerReloadable(this::reloadPerm);
         this.reloadPerm();
         Sponge.getEventManager().post(new BaseModuleEvent.Complete(this));
 
+        this.startupTimings.addPhase("postinit", start);
         this.logger.info(this.messageProvider.getMessageWithFormat("startup.completeinit", PluginInfo.NAME));
     }
 
     @Listener(order = Order.EARLY)
     public void onGameStartingEarly(GameStartingServerEvent event) {
         if (!this.isServer) {
+            long start = System.nanoTime();
             try {
                 this.logger.info(this.messageProvider.getMessageWithFormat("startup.loaddata", PluginInfo.NAME));
                 allChange();
@@ -496,25 +553,45 @@ public class NucleusPlugin extends Nucleus {
                 disable();
                 e.printStackTrace();
             }
+
+            this.startupTimings.addPhase("gamestarting", start);
         }
     }
 
     private void allChange() throws Exception {
-        resetDataPath(true);
-        this.generalService.changeFile();
-        this.kitService.changeFile();
-        this.nameBanService.changeFile();
-        this.userCacheService.changeFile();
-
-        this.userCacheService.load();
-        this.nameBanService.load();
-        this.generalService.loadInternal();
-        this.kitService.loadInternal();
+        this.startupLoadScheduler.main("data-path", () -> {
+            resetDataPath(true);
+            migrateUserData();
+            this.generalService.changeFile();
+            this.kitService.changeFile();
+            this.nameBanService.changeFile();
+            this.userCacheService.changeFile();
+        });
+
+        this.startupLoadScheduler.async("user-cache", this.userCacheService::load, "data-path");
+        this.startupLoadScheduler.async("name-bans", this.nameBanService::load, "data-path");
+        this.startupLoadScheduler.async("general", this.generalService::loadInternal, "data-path");
+
+        // Kits contain item stacks, which are deserialised by Sponge.
+        this.startupLoadScheduler.main("kits", this.kitService::loadInternal, "data-path");
+        this.startupLoadScheduler.await("user-cache", "name-bans", "general");
+    }
+
+    private void migrateUserData() {
+        // No user data has been loaded at this point, so nothing in the user cache can overwrite the migrated data.
+        DataProviders dataProviders = this.serviceManager.getServiceUnchecked(DataProviders.class);
+        try {
+            dataProviders.migrateUserDataIfRequested().ifPresent(count ->
+                    this.logger.info(this.messageProvider.getMessageWithFormat("startup.migrateuserdata.complete", String.valueOf(count))));
+        } catch (Exception e) {
+            this.logger.error(this.messageProvider.getMessageWithFormat("startup.migrateuserdata.error", String.valueOf(e.getMessage())), e);
+        }
     }
 
     @Listener
     public void onGameStarting(GameStartingServerEvent event) {
         if (this.isErrored == null) {
+            long start = System.nanoTime();
             this.logger.info(this.messageProvider.getMessageWithFormat("startup.gamestart", PluginInfo.NAME));
 
             // Load up the general data files now, mods should have registered items by now.
@@ -529,6 +606,7 @@ public class NucleusPlugin extends Nucleus {
 
             // Start the user cache walk if required, the user storage service is loaded at this point.
             Task.builder().async().execute(() -> this.userCacheService.startFilewalkIfNeeded()).submit(this);
+            this.startupTimings.addPhase("gamestarting", start);
             this.logger.info(this.messageProvider.getMessageWithFormat("startup.started", PluginInfo.NAME));
         }
     }
@@ -536,6 +614,7 @@ public class NucleusPlugin extends Nucleus {
     @Listener(order = Order.PRE)
     public void onGameStarted(GameStartedServerEvent event) {
         if (this.isErrored == null) {
+            long start = System.nanoTime();
             this.generalService.getTransient(UniqueUserCountTransientModule.class).resetUniqueUserCount();
             try {
                 getInternalServiceManager().getServiceUnchecked(UUIDChangeService.class).setStateAndReload();
@@ -553,6 +632,8 @@ public class NucleusPlugin extends Nucleus {
 
             this.hasStarted = true;
             Sponge.getScheduler().createSyncExecutor(this).submit(() -> this.gameStartedTime = Instant.now());
+            this.startupTimings.addPhase("gamestarted", start);
+            logStartupTimings();
 
             if (this.getInternalServiceManager().getService(CoreConfigAdapter.class).get().getNodeOrDefault().isWarningOnStartup()) {
                 // What about perms and econ?
@@ -718,6 +799,11 @@ public class NucleusPlugin extends Nucleus {
             this.isDebugMode = coreConfig.isDebugmode();
             this.isTraceUserCreations = coreConfig.traceUserCreations();
             this.savesandloads = coreConfig.isPrintSaveLoad();
+            if (coreConfig.getUserDataStorage() != this.userDataStorage) {
+                // The storage is chosen before the data is loaded, so can't be switched while the server is running.
+                this.logger.warn(this.messageProvider.getMessageWithFormat("reload.userdatastorage",
+                        coreConfig.getUserDataStorage().name().toLowerCase(), this.userDataStorage.name().toLowerCase()));
+            }
 
             for (TextFileController tfc : this.textFileControllers.values()) {
                 tfc.load();
@@ -738,10 +824,13 @@ public class NucleusPlugin extends Nucleus {
     }
 
     private void reloadPerm() {
-        if (getInternalServiceManager().getServiceUnchecked(CoreConfigAdapter.class).getNodeOrDefault().isUseParentPerms()) {
-            this.permissionResolver = PermissionResolverImpl.INSTANCE;
+        CoreConfig config = getInternalServiceManager().getServiceUnchecked(CoreConfigAdapter.class).getNodeOrDefault();
+        SubjectDecisionCache cache = SubjectDecisionCache.getInstance();
+        cache.setExpiry(config.getPermissionCacheSeconds());
+        if (config.isUseParentPerms()) {
+            this.permissionResolver = cache.wrap(PermissionResolverImpl.INSTANCE);
         } else {
-            this.permissionResolver = PermissionResolver.SIMPLE;
+            this.permissionResolver = cache.wrap(PermissionResolver.SIMPLE);
         }
     }
 
@@ -757,11 +846,17 @@ public class NucleusPlugin extends Nucleus {
 
         if (config.isCustommessages()) {
             try {
+                final String locale = language;
+                CompletableFuture<MessageProvider> commandMessages = this.startupLoadScheduler.supply("command-messages",
+                        () -> new ConfigMessageProvider(this.configDir.resolve("command-help-messages.conf"),
+                                ResourceMessageProvider.commandMessagesBundle, locale));
                 this.messageProvider =
                         new ConfigMessageProvider(this.configDir.resolve("messages.conf"), ResourceMessageProvider.messagesBundle, language);
-                this.commandMessageProvider =
-                        new ConfigMessageProvider(this.configDir.resolve("command-help-messages.conf"),
-                                ResourceMessageProvider.commandMessagesBundle, language);
+                this.startupLoadScheduler.await("command-messages");
+                this.commandMessageProvider = commandMessages.join();
+
+                // The custom messages are not translated, so everyone sees them.
+                this.messageCatalog = new MessageCatalog(ResourceMessageProvider.messagesBundle, this.messageProvider, false);
                 Sponge.getServer().getConsole().sendMessage(this.messageProvider.getTextMessageWithFormat("language.set", "messages.conf"));
                 return true;
             } catch (Throwable exception) {
@@ -793,6 +888,7 @@ public class NucleusPlugin extends Nucleus {
 
         this.messageProvider = new ResourceMessageProvider(ResourceMessageProvider.messagesBundle, language);
         this.commandMessageProvider = new ResourceMessageProvider(ResourceMessageProvider.commandMessagesBundle, language);
+        this.messageCatalog = new MessageCatalog(ResourceMessageProvider.messagesBundle, this.messageProvider, config.isUseClientLocale());
         if (this.hasStarted) {
             logMessageDefault();
         }
@@ -892,6 +988,16 @@ public class NucleusPlugin extends Nucleus {
         return this.messageProvider;
     }
 
+    @Override
+    public MessageProvider getMessageProvider(CommandSource source) {
+        return this.messageCatalog.getMessageProvider(source);
+    }
+
+    @Override
+    public MessageProvider getMessageProvider(Locale locale) {
+        return this.messageCatalog.getMessageProvider(locale);
+    }
+
     @Override
     public MessageProvider getCommandMessageProvider() {
         return this.commandMessageProvider;
@@ -987,7 +1093,22 @@ public class NucleusPlugin extends Nucleus {
         return this.savesandloads;
     }
 
+    @Override public StartupTimings getStartupTimings() {
+        return this.startupTimings;
+    }
+
+    private void logStartupTimings() {
+        this.logger.info(this.messageProvider.getMessageWithFormat("startup.timings.phases", PluginInfo.NAME,
+                String.valueOf(this.startupTimings.getTotalMillis()), this.startupTimings.getPhaseReport()));
+        this.logger.info(this.messageProvider.getMessageWithFormat("startup.timings.modules", this.startupTimings.getModuleReport(5)));
+        if (this.startupTimings.hasTasks()) {
+            this.logger.info(this.messageProvider.getMessageWithFormat("startup.timings.tasks", this.startupTimings.getTaskReport(5)));
+        }
+    }
+
     private void disable() {
+        this.startupLoadScheduler.shutdown();
+
         // Disable everything, just in case. Thanks to pie-flavor: https://forums.spongepowered.org/t/disable-plugin-disable-itself/15831/8
         Sponge.getEventManager().unregisterPluginListeners(this);
         Sponge.getCommandManager().getOwnedBy(this).forEach(Sponge.getCommandManager()::removeMapping);
@@ -8,6 +8,7 @@ import com.flowpowered.math.vector.Vector3d;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import io.github.nucleuspowered.nucleus.internal.messages.MessageProvider;
+import io.github.nucleuspowered.nucleus.internal.permissions.SubjectDecisionCache;
 import io.github.nucleuspowered.nucleus.util.PaginationBuilderWrapper;
 import io.github.nucleuspowered.nucleus.util.ThrownFunction;
 import org.spongepowered.api.CatalogType;
@@ -277,17 +278,9 @@ public class Util {
      * @return An {@link Optional} that might contain a value.
      */
     public static Optional<String> getOptionFromSubject(Subject player, String... options) {
+        SubjectDecisionCache cache = SubjectDecisionCache.getInstance();
         for (String option : options) {
-            String o = option.toLowerCase();
-
-            // Option for context.
-            Optional<String> os = player.getOption(player.getActiveContexts(), o);
-            if (os.isPresent()) {
-                return os.map(r -> r.isEmpty() ? null : r);
-            }
-
-            // General option
-            os = player.getOption(o);
+            Optional<String> os = cache.getOption(player, option.toLowerCase(), Util::getOptionFromSubjectUncached);
             if (os.isPresent()) {
                 return os.map(r -> r.isEmpty() ? null : r);
             }
@@ -296,6 +289,17 @@ public class Util {
         return Optional.empty();
     }
 
+    private static Optional<String> getOptionFromSubjectUncached(Subject player, String option) {
+        // Option for context.
+        Optional<String> os = player.getOption(player.getActiveContexts(), option);
+        if (os.isPresent()) {
+            return os;
+        }
+
+        // General option
+        return player.getOption(option);
+    }
+
     /**
      * Gets the {@link ItemType} or {@link BlockState} for an ID.
      *
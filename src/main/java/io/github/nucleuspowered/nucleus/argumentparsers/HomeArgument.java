@@ -22,8 +22,6 @@ import org.spongepowered.api.util.annotation.NonnullByDefault;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -83,14 +81,11 @@ public class HomeArgument extends CommandElement {
     }
 
     protected List<String> complete(User src, String homeName) {
-        Set<String> s;
         try {
-            s = Nucleus.getNucleus().getUserDataManager().getUnchecked(src).get(HomeUserDataModule.class).getHomes().keySet();
+            return Nucleus.getNucleus().getUserDataManager().getUnchecked(src).get(HomeUserDataModule.class)
+                    .getHomeNamesStartingWith(homeName, 20);
         } catch (Exception e) {
             return Lists.newArrayList();
         }
-
-        String name = homeName.toLowerCase();
-        return s.stream().filter(x -> x.toLowerCase().startsWith(name)).limit(20).collect(Collectors.toList());
     }
 }
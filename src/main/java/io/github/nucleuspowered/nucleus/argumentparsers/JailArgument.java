@@ -17,7 +17,6 @@ import org.spongepowered.api.text.Text;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -45,7 +44,7 @@ public class JailArgument extends CommandElement {
     public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
         try {
             String a = args.peek().toLowerCase();
-            return this.handler.getJails().keySet().stream().filter(x -> x.startsWith(a)).collect(Collectors.toList());
+            return this.handler.getJailNamesStartingWith(a);
         } catch (ArgumentParseException e) {
             return Lists.newArrayList(this.handler.getJails().keySet());
         }
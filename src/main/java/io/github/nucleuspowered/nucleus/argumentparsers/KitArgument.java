@@ -62,10 +62,7 @@ public class KitArgument extends CommandElement implements PermissionTrait {
     public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
         try {
             final boolean showhidden = hasPermission(src, this.showhiddenperm);
-            String name = args.peek().toLowerCase();
-            return this.kitHandler.getKitNames().stream()
-                    .filter(s -> s.toLowerCase().startsWith(name))
-                    .limit(20)
+            return this.kitHandler.getKitNamesStartingWith(args.peek(), 20).stream()
                     .map(x -> this.kitHandler.getKit(x).get())
                     .filter(x -> checkPermission(src, x))
                     .filter(x -> this.permissionCheck && (showhidden || !x.isHiddenFromList()))
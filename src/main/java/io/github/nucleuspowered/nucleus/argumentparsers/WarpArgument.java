@@ -75,12 +75,10 @@ public class WarpArgument extends CommandElement implements Reloadable, Internal
 
         try {
             String el = args.peek();
-            String name = el.toLowerCase();
-            List<String> elements = this.service.getWarpNames().stream()
-                    .filter(s -> s.startsWith(name))
-                    .limit(21).collect(Collectors.toList());
+            List<String> elements = this.service.getWarpNamesStartingWith(el, 21);
+
             if (elements.size() >= 21) {
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.warps.maxselect", el));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("args.warps.maxselect", el));
                 return ImmutableList.of(el);
             } else if (elements.isEmpty()) {
                 return ImmutableList.of();
@@ -20,6 +20,7 @@ import io.github.nucleuspowered.nucleus.configurate.typeserialisers.Vector3dType
 import io.github.nucleuspowered.nucleus.configurate.wrappers.NucleusItemStackSnapshot;
 import io.github.nucleuspowered.nucleus.internal.text.NucleusTextTemplateImpl;
 import ninja.leaping.configurate.ConfigurationOptions;
+import ninja.leaping.configurate.objectmapping.serialize.TypeSerializer;
 import ninja.leaping.configurate.objectmapping.serialize.TypeSerializerCollection;
 
 import java.time.Instant;
@@ -27,6 +28,8 @@ import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javax.annotation.Nullable;
+
 public class ConfigurateHelper {
 
     private ConfigurateHelper() {}
@@ -64,6 +67,20 @@ public class ConfigurateHelper {
         return options.setSerializers(tsc).setObjectMapperFactory(objectMapperFactory);
     }
 
+    /**
+     * Gets the {@link TypeSerializer} that nodes with Nucleus' options use for
+     * the given type, so that it can be looked up once rather than each time a
+     * node is read or written.
+     *
+     * @param type The {@link TypeToken} of the type.
+     * @param <T> The type.
+     * @return The {@link TypeSerializer}, or {@code null} if there is none.
+     */
+    @Nullable
+    public static <T> TypeSerializer<T> getTypeSerialiser(TypeToken<T> type) {
+        return getNucleusTypeSerialiserCollection().get(type);
+    }
+
     private static TypeSerializerCollection getNucleusTypeSerialiserCollection() {
         if (typeSerializerCollection != null) {
             return typeSerializerCollection;
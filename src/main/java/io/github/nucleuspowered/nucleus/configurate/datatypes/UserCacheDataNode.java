@@ -12,6 +12,7 @@ import io.github.nucleuspowered.nucleus.modules.mute.datamodules.MuteUserDataMod
 import ninja.leaping.configurate.objectmapping.Setting;
 import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
 
+import java.time.Instant;
 import java.util.Optional;
 
 import javax.annotation.Nullable;
@@ -30,6 +31,9 @@ public class UserCacheDataNode {
     @Setting
     private boolean isMuted = false;
 
+    @Setting
+    private long lastSeen = 0;
+
     public UserCacheDataNode() {
         // ignored - for Configurate
     }
@@ -38,10 +42,21 @@ public class UserCacheDataNode {
         set(x);
     }
 
+    public UserCacheDataNode(@Nullable String ipAddress, @Nullable String jail, boolean isMuted, long lastSeen) {
+        this.ipAddress = ipAddress == null ? null : ipAddress.replace("/", "");
+        this.jail = jail;
+        this.isMuted = isMuted;
+        this.lastSeen = lastSeen;
+    }
+
     public void set(ModularUserService x) {
-        this.ipAddress = x.get(CoreUserDataModule.class).getLastIp().map(y -> y.replace("/", "")).orElse(null);
+        CoreUserDataModule core = x.get(CoreUserDataModule.class);
+        this.ipAddress = core.getLastIp().map(y -> y.replace("/", "")).orElse(null);
         this.jail = x.get(JailUserDataModule.class).getJailData().map(JailData::getJailName).orElse(null);
         this.isMuted = x.get(MuteUserDataModule.class).getMuteData().isPresent();
+        this.lastSeen = Math.max(
+                core.getLastLogin().map(Instant::toEpochMilli).orElse(0L),
+                core.getLastLogout().map(Instant::toEpochMilli).orElse(0L));
     }
 
     public Optional<String> getIpAddress() {
@@ -59,4 +74,12 @@ public class UserCacheDataNode {
     public boolean isMuted() {
         return this.isMuted;
     }
+
+    public Optional<Instant> getLastSeen() {
+        if (this.lastSeen == 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(Instant.ofEpochMilli(this.lastSeen));
+    }
 }
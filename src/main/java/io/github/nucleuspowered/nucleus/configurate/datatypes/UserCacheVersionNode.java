@@ -15,15 +15,32 @@ import java.util.UUID;
 public class UserCacheVersionNode {
 
     @Setting
-    private int version = 1;
+    private int version = 2;
 
     @Setting
     private Map<UUID, UserCacheDataNode> node = Maps.newHashMap();
 
+    @Setting
+    private long timestamp = 0;
+
     public int getVersion() {
         return this.version;
     }
 
+    /**
+     * Gets when this node was saved, in milliseconds since the epoch, or 0 if
+     * it has not been set.
+     *
+     * @return The timestamp
+     */
+    public long getTimestamp() {
+        return this.timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
     public Map<UUID, UserCacheDataNode> getNode() {
         return this.node;
     }
@@ -0,0 +1,55 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.configurate.typeserialisers;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.nucleuspowered.nucleus.configurate.wrappers.NucleusItemStackSnapshot;
+import ninja.leaping.configurate.ConfigurationNode;
+
+import java.util.Optional;
+
+/**
+ * Caches item stacks that have been read from configuration, keyed on the
+ * configuration that they were read from, so that unchanged items do not have
+ * to go through the full translation again when a file is reloaded.
+ *
+ * <p>The key is the value of the node, which is a copy of the node made up of
+ * maps, lists and scalars. These are compared by their contents and keep
+ * their types, so a changed item will never match a cached one. As
+ * {@link NucleusItemStackSnapshot}s are immutable, the cached snapshot is
+ * returned as is.</p>
+ */
+final class ItemStackSnapshotCache {
+
+    // Used as the key for a node without a value
+    private static final Object EMPTY = new Object();
+
+    private static final long MAXIMUM_SIZE = 4096;
+
+    private final Cache<Object, NucleusItemStackSnapshot> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .build();
+
+    /**
+     * Gets the key for the given node. This must be called before the node is
+     * altered.
+     *
+     * @param node The node.
+     * @return The key.
+     */
+    Object getKey(ConfigurationNode node) {
+        Object value = node.getValue();
+        return value == null ? EMPTY : value;
+    }
+
+    Optional<NucleusItemStackSnapshot> get(Object key) {
+        return Optional.ofNullable(this.cache.getIfPresent(key));
+    }
+
+    void put(Object key, NucleusItemStackSnapshot snapshot) {
+        this.cache.put(key, snapshot);
+    }
+}
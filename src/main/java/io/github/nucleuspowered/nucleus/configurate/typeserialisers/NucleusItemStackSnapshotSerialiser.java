@@ -29,15 +29,30 @@ import org.spongepowered.api.util.Tuple;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 public class NucleusItemStackSnapshotSerialiser implements TypeSerializer<NucleusItemStackSnapshot> {
 
     private final TypeToken<ItemStackSnapshot> iss = TypeToken.of(ItemStackSnapshot.class);
+    private final ItemStackSnapshotCache cache = new ItemStackSnapshotCache();
 
     @Override
     public NucleusItemStackSnapshot deserialize(TypeToken<?> type, ConfigurationNode value) {
+        // The key must be taken before the node is fixed up below.
+        Object key = this.cache.getKey(value);
+        Optional<NucleusItemStackSnapshot> cached = this.cache.get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        NucleusItemStackSnapshot snapshot = deserializeFromNode(value);
+        this.cache.put(key, snapshot);
+        return snapshot;
+    }
+
+    private NucleusItemStackSnapshot deserializeFromNode(ConfigurationNode value) {
         // Process enchantments, temporary fix before Sponge gets a more general fix in.
         boolean emptyEnchant = false;
         ConfigurationNode ench = value.getNode("UnsafeData", "ench");
@@ -4,6 +4,8 @@
  */
 package io.github.nucleuspowered.nucleus.dataservices;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.collect.ImmutableSet;
 import io.github.nucleuspowered.nucleus.Util;
 import io.github.nucleuspowered.nucleus.api.nucleusdata.Kit;
@@ -11,21 +13,84 @@ import io.github.nucleuspowered.nucleus.configurate.datatypes.KitConfigDataNode;
 import io.github.nucleuspowered.nucleus.configurate.datatypes.KitDataNode;
 import io.github.nucleuspowered.nucleus.configurate.wrappers.NucleusItemStackSnapshot;
 import io.github.nucleuspowered.nucleus.dataservices.dataproviders.DataProvider;
+import io.github.nucleuspowered.nucleus.internal.text.NucleusTextTemplateFactory;
+import io.github.nucleuspowered.nucleus.internal.text.NucleusTextTemplateImpl;
 import io.github.nucleuspowered.nucleus.modules.kit.misc.SingleKit;
+import io.github.nucleuspowered.nucleus.util.CompletionIndex;
+import org.spongepowered.api.data.key.Keys;
+import org.spongepowered.api.item.inventory.ItemStackSnapshot;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.serializer.TextSerializers;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 public class KitService extends AbstractService<KitConfigDataNode> {
 
+    private static final Pattern TOKEN = Pattern.compile("\\{\\{.+?}}");
+
+    private final CompletionIndex<String> kitNames = new CompletionIndex<>();
+
+    // Display names and lore lines of kit items, and the templates they compile to if they contain tokens.
+    private final Cache<Text, Optional<NucleusTextTemplateImpl>> itemTemplates = Caffeine.newBuilder().maximumSize(5000).build();
+
     public KitService(DataProvider<KitConfigDataNode> dataProvider) {
         super(dataProvider);
     }
 
+    @Override
+    public void loadInternal() throws Exception {
+        super.loadInternal();
+        this.kitNames.rebuild(this.data.getKits().keySet(), x -> x);
+        this.itemTemplates.invalidateAll();
+        this.data.getKits().values().forEach(x -> compileItemTemplates(x.stacks));
+    }
+
+    /**
+     * Gets the template for a kit item's display name or lore line, if it
+     * contains tokens. Templates for saved kits are compiled when the kit is
+     * loaded or saved, others are compiled on first use.
+     *
+     * @param text The display name or lore line.
+     * @return The template, if the text contains tokens.
+     */
+    public Optional<NucleusTextTemplateImpl> getItemTemplate(Text text) {
+        return this.itemTemplates.get(text, KitService::compileItemTemplate);
+    }
+
+    private void compileItemTemplates(List<NucleusItemStackSnapshot> stacks) {
+        for (NucleusItemStackSnapshot stack : stacks) {
+            ItemStackSnapshot snapshot = stack.getSnapshot();
+            snapshot.get(Keys.DISPLAY_NAME).ifPresent(this::getItemTemplate);
+            snapshot.get(Keys.ITEM_LORE).ifPresent(x -> x.forEach(this::getItemTemplate));
+        }
+    }
+
+    private static Optional<NucleusTextTemplateImpl> compileItemTemplate(Text text) {
+        if (!TOKEN.matcher(text.toPlain()).find()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(NucleusTextTemplateFactory.createFromAmpersandString(TextSerializers.FORMATTING_CODE.serialize(text)));
+    }
+
+    /**
+     * Gets the names of all kits, including hidden kits, that start with the
+     * given string, case insensitively.
+     *
+     * @param prefix The start of the kit name.
+     * @param limit The maximum number of names to return, or a negative number for no limit.
+     * @return The kit names.
+     */
+    public List<String> getKitNamesStartingWith(String prefix, int limit) {
+        return this.kitNames.completeNames(prefix, limit);
+    }
+
     public Set<String> getKitNames(boolean showHidden) {
         return this.data.getKits().entrySet().stream()
                 .filter(x -> showHidden || (!x.getValue().hidden && !x.getValue().firstJoin))
@@ -55,7 +120,7 @@ public class KitService extends AbstractService<KitConfigDataNode> {
             return false;
         }
 
-        this.data.getKits().put(name, new KitDataNode(
+        KitDataNode node = new KitDataNode(
                 kit.getStacks().stream().map(NucleusItemStackSnapshot::new).collect(Collectors.toList()),
                 kit.getCooldown().map(Duration::getSeconds).orElse(0L),
                 kit.getCost(),
@@ -66,14 +131,22 @@ public class KitService extends AbstractService<KitConfigDataNode> {
                 kit.isHiddenFromList(),
                 kit.getCommands(),
                 kit.isFirstJoinKit()
-        ));
+        );
+        this.data.getKits().put(name, node);
+        this.kitNames.put(name, name);
+        compileItemTemplates(node.stacks);
         return true;
     }
 
     public boolean removeKit(String name) {
         Map<String, KitDataNode> msk = this.data.getKits();
         Optional<String> key = msk.keySet().stream().filter(name::equalsIgnoreCase).findFirst();
-        return key.isPresent() && this.data.getKits().remove(key.get()) != null;
+        if (key.isPresent() && this.data.getKits().remove(key.get()) != null) {
+            this.kitNames.remove(key.get());
+            return true;
+        }
+
+        return false;
     }
 
     @Override protected String serviceName() {
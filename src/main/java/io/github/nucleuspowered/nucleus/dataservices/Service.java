@@ -4,6 +4,8 @@
  */
 package io.github.nucleuspowered.nucleus.dataservices;
 
+import javax.annotation.Nullable;
+
 public interface Service {
 
     boolean load();
@@ -15,4 +17,32 @@ public interface Service {
     void saveInternal() throws Exception;
 
     boolean delete();
+
+    /**
+     * Gets whether this service has changes that have not been saved.
+     *
+     * @return <code>true</code> if a save would write anything.
+     */
+    default boolean isDirty() {
+        return true;
+    }
+
+    /**
+     * Sets a listener to be run whenever this service becomes dirty.
+     *
+     * @param listener The listener, or <code>null</code> to remove it.
+     */
+    default void setDirtyListener(@Nullable Runnable listener) {
+        // noop
+    }
+
+    /**
+     * Gets an approximate, relative measure of the memory this service uses,
+     * for caches that are bounded by weight rather than entry count.
+     *
+     * @return The weight, which must not be negative.
+     */
+    default int getWeight() {
+        return 1;
+    }
 }
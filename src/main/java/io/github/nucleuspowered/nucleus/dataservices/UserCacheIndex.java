@@ -0,0 +1,171 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.dataservices;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import io.github.nucleuspowered.nucleus.configurate.datatypes.UserCacheDataNode;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import javax.annotation.Nullable;
+
+/**
+ * Secondary indexes over the {@link UserCacheDataNode}s held by the
+ * {@link UserCacheService}.
+ *
+ * <p>Not thread safe, callers must hold the lock of the owning service.</p>
+ */
+class UserCacheIndex {
+
+    private final Map<UUID, Entry> entries = Maps.newHashMap();
+    private final Map<String, Set<UUID>> byIp = Maps.newHashMap();
+    private final Map<String, Set<UUID>> byJail = Maps.newHashMap();
+    private final Set<UUID> jailed = Sets.newHashSet();
+    private final Set<UUID> muted = Sets.newHashSet();
+    private final NavigableMap<Long, Set<UUID>> byLastSeen = new TreeMap<>();
+
+    void clear() {
+        this.entries.clear();
+        this.byIp.clear();
+        this.byJail.clear();
+        this.jailed.clear();
+        this.muted.clear();
+        this.byLastSeen.clear();
+    }
+
+    void rebuild(Map<UUID, UserCacheDataNode> nodes) {
+        clear();
+        nodes.forEach(this::put);
+    }
+
+    void put(UUID uuid, UserCacheDataNode node) {
+        remove(uuid);
+        Entry entry = new Entry(
+                node.getIpAddress().orElse(null),
+                node.getJailName().map(x -> x.toLowerCase(Locale.ENGLISH)).orElse(null),
+                node.isMuted(),
+                node.getLastSeen().map(Instant::toEpochMilli).orElse(null));
+        this.entries.put(uuid, entry);
+        if (entry.ip != null) {
+            this.byIp.computeIfAbsent(entry.ip, x -> Sets.newHashSet()).add(uuid);
+        }
+
+        if (entry.jail != null) {
+            this.byJail.computeIfAbsent(entry.jail, x -> Sets.newHashSet()).add(uuid);
+            this.jailed.add(uuid);
+        }
+
+        if (entry.muted) {
+            this.muted.add(uuid);
+        }
+
+        if (entry.lastSeen != null) {
+            this.byLastSeen.computeIfAbsent(entry.lastSeen, x -> Sets.newHashSet()).add(uuid);
+        }
+    }
+
+    void remove(UUID uuid) {
+        Entry entry = this.entries.remove(uuid);
+        if (entry == null) {
+            return;
+        }
+
+        removeFrom(this.byIp, entry.ip, uuid);
+        removeFrom(this.byJail, entry.jail, uuid);
+        removeFrom(this.byLastSeen, entry.lastSeen, uuid);
+        this.jailed.remove(uuid);
+        this.muted.remove(uuid);
+    }
+
+    Set<UUID> getForIp(String ip) {
+        return this.byIp.getOrDefault(ip, Collections.emptySet());
+    }
+
+    Set<UUID> getJailedIn(String jail) {
+        return this.byJail.getOrDefault(jail.toLowerCase(Locale.ENGLISH), Collections.emptySet());
+    }
+
+    Set<UUID> getJailed() {
+        return this.jailed;
+    }
+
+    Set<UUID> getMuted() {
+        return this.muted;
+    }
+
+    Collection<Set<UUID>> getLastSeenBetween(long fromInclusive, long toExclusive) {
+        if (fromInclusive >= toExclusive) {
+            return Collections.emptyList();
+        }
+
+        return this.byLastSeen.subMap(fromInclusive, true, toExclusive, false).values();
+    }
+
+    Set<UUID> getAll() {
+        return this.entries.keySet();
+    }
+
+    boolean matches(UUID uuid, @Nullable String ip, @Nullable String jail, boolean jailedOnly, boolean mutedOnly, long seenFrom, long seenTo) {
+        Entry entry = this.entries.get(uuid);
+        if (entry == null) {
+            return false;
+        }
+
+        if (ip != null && !ip.equals(entry.ip)) {
+            return false;
+        }
+
+        if (jail != null && !jail.toLowerCase(Locale.ENGLISH).equals(entry.jail)) {
+            return false;
+        }
+
+        if (jailedOnly && entry.jail == null) {
+            return false;
+        }
+
+        if (mutedOnly && !entry.muted) {
+            return false;
+        }
+
+        if (seenFrom != Long.MIN_VALUE || seenTo != Long.MAX_VALUE) {
+            return entry.lastSeen != null && entry.lastSeen >= seenFrom && entry.lastSeen < seenTo;
+        }
+
+        return true;
+    }
+
+    private static <K> void removeFrom(Map<K, Set<UUID>> map, @Nullable K key, UUID uuid) {
+        if (key != null) {
+            Set<UUID> set = map.get(key);
+            if (set != null && set.remove(uuid) && set.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        @Nullable private final String ip;
+        @Nullable private final String jail;
+        private final boolean muted;
+        @Nullable private final Long lastSeen;
+
+        private Entry(@Nullable String ip, @Nullable String jail, boolean muted, @Nullable Long lastSeen) {
+            this.ip = ip;
+            this.jail = jail;
+            this.muted = muted;
+            this.lastSeen = lastSeen;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.dataservices;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.annotation.Nullable;
+
+/**
+ * A query against the {@link UserCacheService}. All constraints that are set
+ * must match for a user to be returned.
+ *
+ * <p>Obtain an instance from {@link UserCacheService#query()}.</p>
+ */
+public final class UserCacheQuery {
+
+    private final UserCacheService service;
+    @Nullable private String ip = null;
+    @Nullable private String jail = null;
+    private boolean jailed = false;
+    private boolean muted = false;
+    private long seenFrom = Long.MIN_VALUE;
+    private long seenTo = Long.MAX_VALUE;
+
+    UserCacheQuery(UserCacheService service) {
+        this.service = service;
+    }
+
+    /**
+     * Only return users whose last known IP address is the one supplied.
+     *
+     * @param ip The IP address.
+     * @return This query, for chaining.
+     */
+    public UserCacheQuery ip(String ip) {
+        this.ip = Preconditions.checkNotNull(ip).replace("/", "");
+        return this;
+    }
+
+    /**
+     * Only return users that are jailed in the given jail.
+     *
+     * @param jail The name of the jail, case insensitive.
+     * @return This query, for chaining.
+     */
+    public UserCacheQuery jailedIn(String jail) {
+        this.jail = Preconditions.checkNotNull(jail);
+        return this;
+    }
+
+    /**
+     * Only return users that are jailed.
+     *
+     * @return This query, for chaining.
+     */
+    public UserCacheQuery jailed() {
+        this.jailed = true;
+        return this;
+    }
+
+    /**
+     * Only return users that are muted.
+     *
+     * @return This query, for chaining.
+     */
+    public UserCacheQuery muted() {
+        this.muted = true;
+        return this;
+    }
+
+    /**
+     * Only return users that were last seen at or after the given time.
+     *
+     * @param instant The {@link Instant}.
+     * @return This query, for chaining.
+     */
+    public UserCacheQuery seenSince(Instant instant) {
+        this.seenFrom = instant.toEpochMilli();
+        return this;
+    }
+
+    /**
+     * Only return users that were last seen before the given time.
+     *
+     * @param instant The {@link Instant}.
+     * @return This query, for chaining.
+     */
+    public UserCacheQuery seenBefore(Instant instant) {
+        this.seenTo = instant.toEpochMilli();
+        return this;
+    }
+
+    /**
+     * Runs the query.
+     *
+     * @return The {@link UUID}s of the users that match.
+     */
+    public List<UUID> execute() {
+        return this.service.execute(this);
+    }
+
+    List<UUID> execute(UserCacheIndex index) {
+        // Start from the smallest index that applies, then check the rest of the constraints per user.
+        Collection<UUID> candidates = null;
+        if (this.ip != null) {
+            candidates = smallest(null, index.getForIp(this.ip));
+        }
+
+        if (this.jail != null) {
+            candidates = smallest(candidates, index.getJailedIn(this.jail));
+        } else if (this.jailed) {
+            candidates = smallest(candidates, index.getJailed());
+        }
+
+        if (this.muted) {
+            candidates = smallest(candidates, index.getMuted());
+        }
+
+        List<UUID> result = Lists.newArrayList();
+        if (candidates == null) {
+            if (this.seenFrom == Long.MIN_VALUE && this.seenTo == Long.MAX_VALUE) {
+                result.addAll(index.getAll());
+            } else {
+                index.getLastSeenBetween(this.seenFrom, this.seenTo).forEach(result::addAll);
+            }
+
+            return result;
+        }
+
+        for (UUID uuid : candidates) {
+            if (index.matches(uuid, this.ip, this.jail, this.jailed, this.muted, this.seenFrom, this.seenTo)) {
+                result.add(uuid);
+            }
+        }
+
+        return result;
+    }
+
+    private static Collection<UUID> smallest(@Nullable Collection<UUID> current, Set<UUID> next) {
+        if (current == null || next.size() < current.size()) {
+            return next;
+        }
+
+        return current;
+    }
+}
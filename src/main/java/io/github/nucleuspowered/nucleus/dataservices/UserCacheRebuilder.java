@@ -0,0 +1,228 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.dataservices;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.github.nucleuspowered.nucleus.Nucleus;
+import io.github.nucleuspowered.nucleus.configurate.datatypes.UserCacheDataNode;
+import io.github.nucleuspowered.nucleus.configurate.datatypes.UserCacheVersionNode;
+import io.github.nucleuspowered.nucleus.dataservices.dataproviders.DataProvider;
+import io.github.nucleuspowered.nucleus.dataservices.dataproviders.DataProviders;
+import io.github.nucleuspowered.nucleus.modules.core.datamodules.CoreUserDataModule;
+import io.github.nucleuspowered.nucleus.modules.jail.data.JailData;
+import io.github.nucleuspowered.nucleus.modules.jail.datamodules.JailUserDataModule;
+import io.github.nucleuspowered.nucleus.modules.mute.datamodules.MuteUserDataModule;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.service.user.UserStorageService;
+import org.spongepowered.api.util.Identifiable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+/**
+ * Rebuilds the user cache by reading the few values it needs straight from
+ * the stored user data, in parallel, without loading full user services.
+ *
+ * <p>Progress is periodically written to a checkpoint file. If a rebuild is
+ * interrupted, the next one picks up from the checkpoint and only reads the
+ * users that were not yet processed, or whose data has changed since the
+ * checkpoint was written. Checkpoints older than {@link #CHECKPOINT_MAX_AGE}
+ * are discarded.</p>
+ */
+class UserCacheRebuilder {
+
+    private static final int BATCH_SIZE = 500;
+    private static final long CHECKPOINT_INTERVAL = TimeUnit.SECONDS.toNanos(30);
+    private static final long CHECKPOINT_MAX_AGE = TimeUnit.HOURS.toMillis(1);
+
+    private final DataProviders dataProviders;
+    private final DataProvider.FileChanging<UserCacheVersionNode> checkpoint;
+    private final int version;
+
+    UserCacheRebuilder(DataProviders dataProviders, int version) {
+        this.dataProviders = dataProviders;
+        this.checkpoint = dataProviders.getUserCacheCheckpointDataProvider();
+        this.checkpoint.onChange();
+        this.version = version;
+    }
+
+    Map<UUID, UserCacheDataNode> rebuild() throws Exception {
+        // Make sure what is on disk is current.
+        Nucleus.getNucleus().getUserDataManager().saveAll();
+
+        Set<UUID> knownUsers = Sponge.getServiceManager().provideUnchecked(UserStorageService.class).getAll().stream()
+                .map(Identifiable::getUniqueId).collect(Collectors.toSet());
+        Set<UUID> toRead = this.dataProviders.getAllUserDataKeys();
+        toRead.retainAll(knownUsers);
+
+        // Everything in the result is at least as new as the data was at this point, including anything kept from the
+        // checkpoint, as it has been checked for changes since the checkpoint was written.
+        long start = System.currentTimeMillis();
+        Map<UUID, UserCacheDataNode> result = new ConcurrentHashMap<>();
+        loadCheckpoint().ifPresent(x -> {
+            Map<UUID, UserCacheDataNode> checkpointed = x.getNode();
+            checkpointed.keySet().retainAll(toRead);
+
+            // Anyone whose data has been written since the checkpoint needs to be read again, as does anyone whose data
+            // does not have a recorded write time.
+            checkpointed.keySet().removeIf(uuid -> this.dataProviders.getUserDataLastModified(uuid)
+                    .map(modified -> modified >= x.getTimestamp()).orElse(true));
+            result.putAll(checkpointed);
+            Nucleus.getNucleus().getLogger().info(
+                    Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("usercache.rebuild.resume", String.valueOf(checkpointed.size())));
+        });
+
+        List<UUID> remaining = toRead.stream().filter(x -> !result.containsKey(x)).collect(Collectors.toList());
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Nucleus User Cache Rebuild - %d").build());
+        try {
+            long lastCheckpoint = System.nanoTime();
+            for (List<UUID> batch : Lists.partition(remaining, BATCH_SIZE)) {
+                CompletableFuture.allOf(batch.stream()
+                        .map(uuid -> CompletableFuture.runAsync(() -> read(uuid).ifPresent(node -> result.put(uuid, node)), executor))
+                        .toArray(CompletableFuture[]::new)).join();
+
+                if (System.nanoTime() - lastCheckpoint > CHECKPOINT_INTERVAL) {
+                    saveCheckpoint(result, start);
+                    lastCheckpoint = System.nanoTime();
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        if (this.checkpoint.has()) {
+            this.checkpoint.delete();
+        }
+
+        return result;
+    }
+
+    private Optional<UserCacheDataNode> read(UUID uuid) {
+        try {
+            Optional<Reader> reader = this.dataProviders.getRawUserData(uuid);
+            if (reader.isPresent()) {
+                try (JsonReader json = new JsonReader(reader.get())) {
+                    return Optional.ofNullable(read(json));
+                }
+            }
+        } catch (Exception e) {
+            Nucleus.getNucleus().getLogger().warn("Could not read user data for " + uuid.toString() + " while rebuilding the user cache.");
+            Nucleus.getNucleus().printStackTraceIfDebugMode(e);
+        }
+
+        return Optional.empty();
+    }
+
+    @Nullable
+    private static UserCacheDataNode read(JsonReader json) throws IOException {
+        json.setLenient(true);
+        if (json.peek() != JsonToken.BEGIN_OBJECT) {
+            return null;
+        }
+
+        String ip = null;
+        String jail = null;
+        boolean muted = false;
+        long login = 0;
+        long logout = 0;
+
+        json.beginObject();
+        while (json.hasNext()) {
+            String name = json.nextName();
+            if (json.peek() == JsonToken.NULL) {
+                json.nextNull();
+                continue;
+            }
+
+            switch (name) {
+                case CoreUserDataModule.LAST_IP_KEY:
+                    ip = json.nextString();
+                    break;
+                case CoreUserDataModule.LAST_LOGIN_KEY:
+                    login = json.nextLong();
+                    break;
+                case CoreUserDataModule.LAST_LOGOUT_KEY:
+                    logout = json.nextLong();
+                    break;
+                case JailUserDataModule.JAIL_DATA_KEY:
+                    jail = readJailName(json);
+                    break;
+                case MuteUserDataModule.MUTE_DATA_KEY:
+                    muted = true;
+                    json.skipValue();
+                    break;
+                default:
+                    json.skipValue();
+            }
+        }
+
+        return new UserCacheDataNode(ip, jail, muted, Math.max(login, logout));
+    }
+
+    @Nullable
+    private static String readJailName(JsonReader json) throws IOException {
+        if (json.peek() != JsonToken.BEGIN_OBJECT) {
+            json.skipValue();
+            return null;
+        }
+
+        String jail = null;
+        json.beginObject();
+        while (json.hasNext()) {
+            if (json.nextName().equals(JailData.JAIL_NAME_KEY) && json.peek() == JsonToken.STRING) {
+                jail = json.nextString();
+            } else {
+                json.skipValue();
+            }
+        }
+
+        json.endObject();
+        return jail;
+    }
+
+    private Optional<UserCacheVersionNode> loadCheckpoint() {
+        try {
+            if (this.checkpoint.has()) {
+                UserCacheVersionNode node = this.checkpoint.load();
+                if (node.getVersion() == this.version && !node.getNode().isEmpty()
+                        && System.currentTimeMillis() - node.getTimestamp() <= CHECKPOINT_MAX_AGE) {
+                    return Optional.of(node);
+                }
+            }
+        } catch (Exception e) {
+            Nucleus.getNucleus().printStackTraceIfDebugMode(e);
+        }
+
+        return Optional.empty();
+    }
+
+    private void saveCheckpoint(Map<UUID, UserCacheDataNode> data, long timestamp) {
+        try {
+            UserCacheVersionNode node = new UserCacheVersionNode();
+            node.setTimestamp(timestamp);
+            node.getNode().putAll(data);
+            this.checkpoint.save(node);
+        } catch (Exception e) {
+            Nucleus.getNucleus().printStackTraceIfDebugMode(e);
+        }
+    }
+}
@@ -4,21 +4,16 @@
  */
 package io.github.nucleuspowered.nucleus.dataservices;
 
-import com.google.common.collect.Maps;
 import io.github.nucleuspowered.nucleus.Nucleus;
 import io.github.nucleuspowered.nucleus.configurate.datatypes.UserCacheDataNode;
 import io.github.nucleuspowered.nucleus.configurate.datatypes.UserCacheVersionNode;
 import io.github.nucleuspowered.nucleus.dataservices.dataproviders.DataProvider;
-import io.github.nucleuspowered.nucleus.dataservices.loaders.UserDataManager;
+import io.github.nucleuspowered.nucleus.dataservices.dataproviders.DataProviders;
 import io.github.nucleuspowered.nucleus.dataservices.modular.ModularUserService;
-import org.spongepowered.api.Sponge;
-import org.spongepowered.api.service.user.UserStorageService;
-import org.spongepowered.api.util.Identifiable;
 
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 public class UserCacheService extends AbstractService<UserCacheVersionNode> {
 
@@ -26,49 +21,72 @@ public class UserCacheService extends AbstractService<UserCacheVersionNode> {
     private boolean isWalking = false;
 
     private final Object lockingObject = new Object();
+    private final UserCacheIndex index = new UserCacheIndex();
 
     public UserCacheService(DataProvider<UserCacheVersionNode> dataProvider) {
         super(dataProvider);
     }
 
     public List<UUID> getForIp(String ip) {
-        updateCacheForOnlinePlayers();
-        String ipToCheck = ip.replace("/", "");
-        return this.data.getNode().entrySet().stream().filter(x -> x.getValue()
-                .getIpAddress().map(y -> y.equals(ipToCheck)).orElse(false))
-                .map(Map.Entry::getKey).collect(Collectors.toList());
+        return query().ip(ip).execute();
     }
 
     public List<UUID> getJailed() {
-        updateCacheForOnlinePlayers();
-        return this.data.getNode().entrySet().stream().filter(x -> x.getValue().isJailed())
-                .map(Map.Entry::getKey).collect(Collectors.toList());
+        return query().jailed().execute();
     }
 
     public List<UUID> getJailedIn(String name) {
-        updateCacheForOnlinePlayers();
-        return this.data.getNode().entrySet().stream()
-                .filter(x -> x.getValue().getJailName().map(y -> y.equalsIgnoreCase(name)).orElse(false))
-                .map(Map.Entry::getKey).collect(Collectors.toList());
+        return query().jailedIn(name).execute();
     }
 
     public List<UUID> getMuted() {
-        updateCacheForOnlinePlayers();
-        return this.data.getNode().entrySet().stream().filter(x -> x.getValue().isMuted())
-                .map(Map.Entry::getKey).collect(Collectors.toList());
+        return query().muted().execute();
+    }
+
+    /**
+     * Starts a new query against the cache. Lookups use the cache's indexes,
+     * and so take time proportional to the number of results, rather than
+     * the number of known users.
+     *
+     * @return The {@link UserCacheQuery}
+     */
+    public UserCacheQuery query() {
+        return new UserCacheQuery(this);
+    }
+
+    List<UUID> execute(UserCacheQuery query) {
+        synchronized (this.lockingObject) {
+            return query.execute(this.index);
+        }
     }
 
     @Override protected String serviceName() {
         return "User Cache";
     }
 
+    @Override public void loadInternal() throws Exception {
+        synchronized (this.lockingObject) {
+            super.loadInternal();
+            this.index.rebuild(this.data.getNode());
+        }
+    }
+
+    @Override public void saveInternal() throws Exception {
+        synchronized (this.lockingObject) {
+            super.saveInternal();
+        }
+    }
+
     public void updateCacheForOnlinePlayers() {
-        Nucleus.getNucleus().getUserDataManager().getOnlineUsers().forEach(u ->
-                this.data.getNode().computeIfAbsent(u.getUniqueId(), x -> new UserCacheDataNode()).set(u));
+        Nucleus.getNucleus().getUserDataManager().getOnlineUsers().forEach(this::updateCacheForPlayer);
     }
 
     public void updateCacheForPlayer(ModularUserService u) {
-        this.data.getNode().computeIfAbsent(u.getUniqueId(), x -> new UserCacheDataNode()).set(u);
+        synchronized (this.lockingObject) {
+            UserCacheDataNode node = this.data.getNode().computeIfAbsent(u.getUniqueId(), x -> new UserCacheDataNode());
+            node.set(u);
+            this.index.put(u.getUniqueId(), node);
+        }
     }
 
     public void updateCacheForPlayer(UUID uuid) {
@@ -95,25 +113,18 @@ public class UserCacheService extends AbstractService<UserCacheVersionNode> {
         }
 
         try {
-            Map<UUID, UserCacheDataNode> data = Maps.newHashMap();
-            List<UUID> knownUsers = Sponge.getServiceManager().provideUnchecked(UserStorageService.class).getAll().stream()
-                    .map(Identifiable::getUniqueId).collect(Collectors.toList());
-
-            int count = 0;
-            UserDataManager manager = Nucleus.getNucleus().getUserDataManager();
-            for (UUID user : knownUsers) {
-                if (manager.has(user)) {
-                    manager.get(user).ifPresent(x -> data.put(user, new UserCacheDataNode(x)));
-                    if (++count >= 10) {
-                        manager.removeOfflinePlayers();
-                        count = 0;
-                    }
-                }
+            Map<UUID, UserCacheDataNode> data = new UserCacheRebuilder(
+                    Nucleus.getNucleus().getInternalServiceManager().getServiceUnchecked(DataProviders.class), expectedVersion).rebuild();
+            synchronized (this.lockingObject) {
+                this.data = new UserCacheVersionNode();
+                this.data.getNode().putAll(data);
+                this.index.rebuild(data);
             }
 
-            this.data = new UserCacheVersionNode();
-            this.data.getNode().putAll(data);
             save();
+        } catch (Exception e) {
+            Nucleus.getNucleus().getLogger().error("Could not rebuild the user cache.", e);
+            return false;
         } finally {
             this.isWalking = false;
         }
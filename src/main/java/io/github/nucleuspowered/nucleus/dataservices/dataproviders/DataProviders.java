@@ -20,30 +20,130 @@ import ninja.leaping.configurate.loader.ConfigurationLoader;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
 
 public class DataProviders {
 
     private final NucleusPlugin plugin;
+    private final UserDataStorage userDataStorage;
+    @Nullable private volatile H2UserDataStore h2UserDataStore = null;
     private final TypeToken<Map<String, ItemDataNode>> ttmsi = new TypeToken<Map<String, ItemDataNode>>() {};
     private final TypeToken<Map<String, String>> ttss = new TypeToken<Map<String, String>>() {};
     private final TypeToken<KitConfigDataNode> ttmk = TypeToken.of(KitConfigDataNode.class);
     private final TypeToken<UserCacheVersionNode> ttucv = TypeToken.of(UserCacheVersionNode.class);
 
     private final String userJson = "userdata%1$s%2$s%1$s%3$s.json";
+    private final String migrationMarker = "migrate-userdata";
     private final String worldJson = "worlddata%1$s%2$s%1$s%3$s.json";
 
     public DataProviders(NucleusPlugin plugin) {
+        this(plugin, UserDataStorage.JSON);
+    }
+
+    public DataProviders(NucleusPlugin plugin, UserDataStorage userDataStorage) {
         this.plugin = plugin;
+        this.userDataStorage = userDataStorage;
+    }
+
+    public UserDataStorage getUserDataStorage() {
+        return this.userDataStorage;
+    }
+
+    public H2UserDataStore getH2UserDataStore() {
+        H2UserDataStore store = this.h2UserDataStore;
+        if (store == null) {
+            synchronized (this) {
+                store = this.h2UserDataStore;
+                if (store == null) {
+                    store = new H2UserDataStore(this.plugin::getDataPath, this.plugin.getLogger());
+                    this.h2UserDataStore = store;
+                }
+            }
+        }
+
+        return store;
+    }
+
+    /**
+     * Requests that the JSON user data files are copied into the database the
+     * next time the data is loaded, which happens before any user data is
+     * cached.
+     *
+     * @throws IOException if the request could not be saved
+     */
+    public void requestUserDataMigration() throws IOException {
+        Path marker = this.plugin.getDataPath().resolve(this.migrationMarker);
+        if (!Files.exists(marker)) {
+            Files.createFile(marker);
+        }
+    }
+
+    /**
+     * Copies the JSON user data files into the database if a migration has
+     * been requested using {@link #requestUserDataMigration()}.
+     *
+     * <p>This must only be called before any user data has been loaded, else
+     * the cached data would overwrite the migrated data when it is saved.</p>
+     *
+     * @return The number of users that were migrated, if a migration was run
+     * @throws Exception if the migration failed, in which case it will be
+     *                   attempted again next time
+     */
+    public Optional<Integer> migrateUserDataIfRequested() throws Exception {
+        Path marker = this.plugin.getDataPath().resolve(this.migrationMarker);
+        if (this.userDataStorage != UserDataStorage.H2 || !Files.exists(marker)) {
+            return Optional.empty();
+        }
+
+        int count = getH2UserDataStore().importFrom(getUserDataDirectory());
+        Files.delete(marker);
+        return Optional.of(count);
+    }
+
+    public Path getUserDataDirectory() {
+        return this.plugin.getDataPath().resolve("userdata");
+    }
+
+    /**
+     * Runs a set of user saves, batching them into a single write if the
+     * storage backend supports it.
+     *
+     * @param saves The saves to run.
+     */
+    public void runUserSaves(Runnable saves) {
+        if (this.userDataStorage == UserDataStorage.H2) {
+            getH2UserDataStore().batch(saves);
+        } else {
+            saves.run();
+        }
     }
 
     public DataProvider<ConfigurationNode> getUserFileDataProviders(UUID uuid, boolean create) {
-        // For now, just the Configurate one.
+        if (this.userDataStorage == UserDataStorage.H2) {
+            if (create || doesUserFileExist(uuid)) {
+                return new H2UserDataProvider(getH2UserDataStore(), uuid, this::getGsonBuilder);
+            }
+
+            return null;
+        }
+
         try {
             Path p = getFile(this.userJson, uuid);
             if (create || doesUserFileExist(uuid)) {
@@ -58,6 +158,10 @@ public class DataProviders {
 
     public boolean doesUserFileExist(UUID uuid) {
         try {
+            if (this.userDataStorage == UserDataStorage.H2) {
+                return getH2UserDataStore().has(uuid);
+            }
+
             return Files.exists(getFile(this.userJson, uuid));
         } catch (Exception e) {
             return false;
@@ -99,9 +203,89 @@ public class DataProviders {
         }
     }
 
+    /**
+     * Gets the {@link UUID}s of all users that have stored data, without
+     * loading that data.
+     *
+     * @return The {@link UUID}s
+     * @throws Exception if the store could not be read
+     */
+    public Set<UUID> getAllUserDataKeys() throws Exception {
+        if (this.userDataStorage == UserDataStorage.H2) {
+            return getH2UserDataStore().getAllKeys();
+        }
+
+        Path directory = getUserDataDirectory();
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptySet();
+        }
+
+        try (Stream<Path> files = Files.walk(directory, 2)) {
+            return files.map(x -> H2UserDataStore.FILE_PATTERN.matcher(x.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(x -> UUID.fromString(x.group("uuid")))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    /**
+     * Opens the raw JSON document for a user, for callers that only need to
+     * read a few values and want to avoid loading the full user data.
+     *
+     * @param uuid The {@link UUID} of the user
+     * @return The {@link Reader}, if the user has data
+     * @throws Exception if the store could not be read
+     */
+    public Optional<Reader> getRawUserData(UUID uuid) throws Exception {
+        if (this.userDataStorage == UserDataStorage.H2) {
+            return getH2UserDataStore().load(uuid).map(StringReader::new);
+        }
+
+        String u = uuid.toString();
+        Path file = this.plugin.getDataPath().resolve(String.format(this.userJson, File.separator, u.substring(0, 2), u));
+        if (Files.exists(file)) {
+            return Optional.of(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the time that a user's data was last written, if the store keeps
+     * track of it.
+     *
+     * @param uuid The {@link UUID} of the user
+     * @return The time in milliseconds since the epoch, if it is known
+     */
+    public Optional<Long> getUserDataLastModified(UUID uuid) {
+        try {
+            if (this.userDataStorage == UserDataStorage.H2) {
+                return getH2UserDataStore().getLastModified(uuid);
+            }
+
+            String u = uuid.toString();
+            Path file = this.plugin.getDataPath().resolve(String.format(this.userJson, File.separator, u.substring(0, 2), u));
+            if (Files.exists(file)) {
+                return Optional.of(Files.getLastModifiedTime(file).toMillis());
+            }
+        } catch (IOException | SQLException e) {
+            // ignored
+        }
+
+        return Optional.empty();
+    }
+
     public DataProvider.FileChanging<UserCacheVersionNode> getUserCacheDataProvider() {
+        return getUserCacheDataProvider("nucleususercache.json");
+    }
+
+    public DataProvider.FileChanging<UserCacheVersionNode> getUserCacheCheckpointDataProvider() {
+        return getUserCacheDataProvider("nucleususercache-rebuild.json");
+    }
+
+    private DataProvider.FileChanging<UserCacheVersionNode> getUserCacheDataProvider(String file) {
         try {
-            Supplier<Path> p = () -> this.plugin.getDataPath().resolve("nucleususercache.json");
+            Supplier<Path> p = () -> this.plugin.getDataPath().resolve(file);
             return new FileChangingConfigurateDataProvider<>(this.ttucv,
                     path -> new LazyConfigurationLoader<>(() -> getGsonBuilder().setPath(path).build()), p);
         } catch (Exception e) {
@@ -173,6 +357,30 @@ public class DataProviders {
         return gsb.setDefaultOptions(ConfigurateHelper.setOptions(gsb.getDefaultOptions()));
     }
 
+    public enum UserDataStorage {
+
+        /**
+         * One JSON file per user.
+         */
+        JSON,
+
+        /**
+         * All users in a single, local H2 database.
+         */
+        H2;
+
+        /**
+         * Gets the storage type for the value of {@code core.user-data-storage}.
+         * Anything other than {@code h2} is treated as JSON.
+         *
+         * @param value The value in the config.
+         * @return The {@link UserDataStorage}.
+         */
+        public static UserDataStorage fromConfig(String value) {
+            return value.equalsIgnoreCase("h2") ? H2 : JSON;
+        }
+    }
+
     /**
      * Only performs the loading when required.
      * @param <T> The type of node that this lazy loaded loader will load.
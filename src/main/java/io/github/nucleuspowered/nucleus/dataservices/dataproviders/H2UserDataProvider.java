@@ -0,0 +1,67 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.dataservices.dataproviders;
+
+import static io.github.nucleuspowered.nucleus.configurate.ConfigurateHelper.setOptions;
+
+import com.google.common.base.Preconditions;
+import ninja.leaping.configurate.ConfigurationNode;
+import ninja.leaping.configurate.gson.GsonConfigurationLoader;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+public class H2UserDataProvider implements DataProvider<ConfigurationNode> {
+
+    private final H2UserDataStore store;
+    private final UUID uuid;
+    private final Supplier<GsonConfigurationLoader.Builder> builderSupplier;
+
+    H2UserDataProvider(H2UserDataStore store, UUID uuid, Supplier<GsonConfigurationLoader.Builder> builderSupplier) {
+        this.store = store;
+        this.uuid = uuid;
+        this.builderSupplier = builderSupplier;
+    }
+
+    @Override public boolean has() {
+        try {
+            return this.store.has(this.uuid);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @Override public ConfigurationNode load() throws Exception {
+        Optional<String> data = this.store.load(this.uuid);
+        GsonConfigurationLoader.Builder builder = this.builderSupplier.get();
+        if (!data.isPresent()) {
+            return builder.build().createEmptyNode(setOptions(builder.getDefaultOptions()));
+        }
+
+        return builder.setSource(() -> new BufferedReader(new StringReader(data.get())))
+                .build()
+                .load(setOptions(builder.getDefaultOptions()));
+    }
+
+    @Override public void save(ConfigurationNode info) throws Exception {
+        Preconditions.checkNotNull(info);
+        if (info.isVirtual()) {
+            throw new IllegalStateException("The data for " + this.uuid.toString() + " has not been saved.\nConfiguration Node is virtual.");
+        }
+
+        StringWriter writer = new StringWriter();
+        this.builderSupplier.get().setSink(() -> new BufferedWriter(writer)).build().save(info);
+        this.store.save(this.uuid, writer.toString());
+    }
+
+    @Override public void delete() throws Exception {
+        this.store.delete(this.uuid);
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.dataservices.dataproviders;
+
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.service.sql.SqlService;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+import javax.sql.DataSource;
+
+/**
+ * Stores user data in a single, local H2 database file rather than one JSON
+ * file per user. The data for each user is still the same JSON document that
+ * the file based store writes, so the two formats are interchangeable.
+ *
+ * <p>The H2 driver is provided by Sponge's {@link SqlService}, and so no
+ * additional dependencies are required.</p>
+ */
+public class H2UserDataStore {
+
+    private static final String TABLE = "NUCLEUS_USERDATA";
+    private static final String CREATE =
+            "CREATE TABLE IF NOT EXISTS " + TABLE + " (UUID UUID PRIMARY KEY, DATA CLOB NOT NULL, MODIFIED BIGINT NOT NULL DEFAULT 0)";
+
+    // Tables created before the modified time was recorded.
+    private static final String ADD_MODIFIED = "ALTER TABLE " + TABLE + " ADD COLUMN IF NOT EXISTS MODIFIED BIGINT NOT NULL DEFAULT 0";
+    private static final String SELECT = "SELECT DATA FROM " + TABLE + " WHERE UUID = ?";
+    private static final String SELECT_MODIFIED = "SELECT MODIFIED FROM " + TABLE + " WHERE UUID = ?";
+    private static final String EXISTS = "SELECT 1 FROM " + TABLE + " WHERE UUID = ?";
+    private static final String MERGE = "MERGE INTO " + TABLE + " (UUID, DATA, MODIFIED) KEY (UUID) VALUES (?, ?, ?)";
+    private static final String DELETE = "DELETE FROM " + TABLE + " WHERE UUID = ?";
+    private static final String ALL_KEYS = "SELECT UUID FROM " + TABLE;
+    static final Pattern FILE_PATTERN =
+            Pattern.compile("^(?<uuid>[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12})\\.json$", Pattern.CASE_INSENSITIVE);
+    private static final int MIGRATION_BATCH_SIZE = 500;
+
+    private final Supplier<Path> dataPath;
+    private final Logger logger;
+    private final ThreadLocal<Connection> batchConnection = new ThreadLocal<>();
+
+    @Nullable private DataSource dataSource = null;
+    @Nullable private Path currentPath = null;
+
+    public H2UserDataStore(Supplier<Path> dataPath, Logger logger) {
+        this.dataPath = dataPath;
+        this.logger = logger;
+    }
+
+    public boolean has(UUID uuid) throws SQLException {
+        return execute(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(EXISTS)) {
+                statement.setObject(1, uuid);
+                try (ResultSet set = statement.executeQuery()) {
+                    return set.next();
+                }
+            }
+        });
+    }
+
+    public Optional<String> load(UUID uuid) throws SQLException {
+        return execute(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(SELECT)) {
+                statement.setObject(1, uuid);
+                try (ResultSet set = statement.executeQuery()) {
+                    if (set.next()) {
+                        return Optional.ofNullable(set.getString(1));
+                    }
+
+                    return Optional.empty();
+                }
+            }
+        });
+    }
+
+    /**
+     * Gets the time that the data for a user was last written.
+     *
+     * @param uuid The {@link UUID} of the user.
+     * @return The time, in milliseconds, or {@link Optional#empty()} if there
+     *         is no data or it was written before the time was recorded.
+     * @throws SQLException if the database could not be read.
+     */
+    public Optional<Long> getLastModified(UUID uuid) throws SQLException {
+        return execute(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_MODIFIED)) {
+                statement.setObject(1, uuid);
+                try (ResultSet set = statement.executeQuery()) {
+                    if (set.next() && set.getLong(1) > 0) {
+                        return Optional.of(set.getLong(1));
+                    }
+
+                    return Optional.empty();
+                }
+            }
+        });
+    }
+
+    public void save(UUID uuid, String data) throws SQLException {
+        Preconditions.checkNotNull(data);
+        execute(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(MERGE)) {
+                statement.setObject(1, uuid);
+                statement.setString(2, data);
+                statement.setLong(3, System.currentTimeMillis());
+                return statement.executeUpdate();
+            }
+        });
+    }
+
+    public void delete(UUID uuid) throws SQLException {
+        execute(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(DELETE)) {
+                statement.setObject(1, uuid);
+                return statement.executeUpdate();
+            }
+        });
+    }
+
+    public Set<UUID> getAllKeys() throws SQLException {
+        return execute(connection -> {
+            Set<UUID> keys = new HashSet<>();
+            try (Statement statement = connection.createStatement(); ResultSet set = statement.executeQuery(ALL_KEYS)) {
+                while (set.next()) {
+                    keys.add(set.getObject(1, UUID.class));
+                }
+            }
+
+            return keys;
+        });
+    }
+
+    /**
+     * Runs the supplied {@link Runnable}, and writes any saves that happen on
+     * this thread while it runs in a single transaction.
+     *
+     * @param runnable The {@link Runnable} to run.
+     */
+    public void batch(Runnable runnable) {
+        if (this.batchConnection.get() != null) {
+            // Already in a batch, join it.
+            runnable.run();
+            return;
+        }
+
+        Connection connection;
+        try {
+            connection = getDataSource().getConnection();
+            connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            this.logger.error("Could not start a user data transaction, saving each user separately.", e);
+            runnable.run();
+            return;
+        }
+
+        this.batchConnection.set(connection);
+        try {
+            runnable.run();
+            connection.commit();
+        } catch (SQLException e) {
+            this.logger.error("Could not commit the user data transaction.", e);
+            rollback(connection);
+        } catch (RuntimeException e) {
+            rollback(connection);
+            throw e;
+        } finally {
+            this.batchConnection.remove();
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                // ignored
+            }
+        }
+    }
+
+    /**
+     * Imports all user files from the JSON store into this store, overwriting
+     * any entries that already exist.
+     *
+     * @param userDataDirectory The root of the JSON user data store.
+     * @return The number of users that were imported.
+     * @throws IOException if the directory could not be walked.
+     * @throws SQLException if the database could not be written to.
+     */
+    public int importFrom(Path userDataDirectory) throws IOException, SQLException {
+        if (!Files.isDirectory(userDataDirectory)) {
+            return 0;
+        }
+
+        int count = 0;
+        try (Connection connection = getDataSource().getConnection();
+                PreparedStatement statement = connection.prepareStatement(MERGE);
+                Stream<Path> files = Files.walk(userDataDirectory, 2)) {
+            connection.setAutoCommit(false);
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher matcher = FILE_PATTERN.matcher(file.getFileName().toString());
+                if (!Files.isRegularFile(file) || !matcher.matches()) {
+                    continue;
+                }
+
+                String data = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+                if (data.trim().isEmpty()) {
+                    continue;
+                }
+
+                statement.setObject(1, UUID.fromString(matcher.group("uuid")));
+                statement.setString(2, data);
+                statement.setLong(3, System.currentTimeMillis());
+                statement.addBatch();
+                if (++count % MIGRATION_BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+
+            statement.executeBatch();
+            connection.commit();
+        }
+
+        return count;
+    }
+
+    private void rollback(Connection connection) {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            // ignored
+        }
+    }
+
+    private <R> R execute(SqlFunction<R> function) throws SQLException {
+        Connection batch = this.batchConnection.get();
+        if (batch != null) {
+            return function.apply(batch);
+        }
+
+        try (Connection connection = getDataSource().getConnection()) {
+            return function.apply(connection);
+        }
+    }
+
+    private synchronized DataSource getDataSource() throws SQLException {
+        Path path = this.dataPath.get().resolve("userdata").toAbsolutePath();
+        if (this.dataSource == null || !path.equals(this.currentPath)) {
+            this.dataSource = Sponge.getServiceManager().provideUnchecked(SqlService.class).getDataSource("jdbc:h2:" + path.toString());
+            this.currentPath = path;
+            try (Connection connection = this.dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                statement.execute(CREATE);
+                statement.execute(ADD_MODIFIED);
+            }
+        }
+
+        return this.dataSource;
+    }
+
+    @FunctionalInterface
+    private interface SqlFunction<R> {
+
+        R apply(Connection connection) throws SQLException;
+    }
+}
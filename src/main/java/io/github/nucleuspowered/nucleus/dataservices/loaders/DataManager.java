@@ -6,21 +6,34 @@ package io.github.nucleuspowered.nucleus.dataservices.loaders;
 
 import co.aikar.timings.Timing;
 import co.aikar.timings.Timings;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.github.nucleuspowered.nucleus.Nucleus;
 import io.github.nucleuspowered.nucleus.dataservices.Service;
 import io.github.nucleuspowered.nucleus.dataservices.dataproviders.DataProvider;
 import io.github.nucleuspowered.nucleus.internal.TimingsDummy;
+import io.github.nucleuspowered.nucleus.modules.core.config.DataCacheConfig;
 
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -30,10 +43,24 @@ import javax.annotation.Nullable;
 
 public abstract class DataManager<I, P, S extends Service> {
 
+    private static final ExecutorService IO_EXECUTOR = Executors.newFixedThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors() / 2),
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Nucleus Data IO - %d").build());
+
     private final Collection<I> bypassSave = Sets.newConcurrentHashSet();
     private final Predicate<I> fileExists;
     private final BiFunction<I, Boolean, DataProvider<P>> dataProviderFactory;
+    @Nullable private final AsyncLoadingCache<I, S> asyncCache;
     private final LoadingCache<I, S> cache;
+    private final Consumer<Runnable> saveBatcher;
+    private final long expireAfterAccess;
+
+    // Holds a strong reference to anything that has not been saved, so it cannot be collected if soft values are in use.
+    private final Map<I, S> writeBehindQueue = Maps.newConcurrentMap();
+
+    private final AtomicLong writtenSaves = new AtomicLong();
+    private final AtomicLong skippedSaves = new AtomicLong();
+    private final AtomicLong coalescedSaves = new AtomicLong();
 
     private Timing GENERAL_LOAD_TIMINGS = TimingsDummy.DUMMY;
     private Timing ACTUAL_LOAD_TIMINGS = TimingsDummy.DUMMY;
@@ -41,12 +68,38 @@ public abstract class DataManager<I, P, S extends Service> {
     @Nullable private String name;
 
     DataManager(BiFunction<I, Boolean, DataProvider<P>> dataProviderFactory, Predicate<I> fileExistsPredicate) {
+        this(dataProviderFactory, fileExistsPredicate, Runnable::run, new DataCacheConfig());
+    }
+
+    DataManager(BiFunction<I, Boolean, DataProvider<P>> dataProviderFactory, Predicate<I> fileExistsPredicate, Consumer<Runnable> saveBatcher,
+            DataCacheConfig cacheConfig) {
         this.dataProviderFactory = dataProviderFactory;
         this.fileExists = fileExistsPredicate;
-        this.cache = Caffeine.newBuilder()
-                .maximumSize(500)
-                .removalListener(new Removal())
-                .build(new Loader());
+        this.saveBatcher = saveBatcher;
+        this.expireAfterAccess = TimeUnit.SECONDS.toNanos(cacheConfig.getExpireAfterAccess());
+
+        Caffeine<I, S> builder = Caffeine.newBuilder()
+                .recordStats()
+                .executor(IO_EXECUTOR)
+                .removalListener(new Removal());
+        if (cacheConfig.getMaximumWeight() > 0) {
+            builder.maximumWeight(cacheConfig.getMaximumWeight()).weigher((I key, S value) -> value.getWeight());
+        } else {
+            builder.maximumSize(cacheConfig.getMaximumEntries());
+        }
+
+        if (cacheConfig.getExpireAfterAccess() > 0) {
+            builder.expireAfter(new OfflineExpiry(this.expireAfterAccess));
+        }
+
+        if (cacheConfig.isSoftValues()) {
+            // Async caches cannot hold soft references.
+            this.asyncCache = null;
+            this.cache = builder.softValues().build(new Loader());
+        } else {
+            this.asyncCache = builder.buildAsync(new Loader());
+            this.cache = this.asyncCache.synchronous();
+        }
 
         try {
             Nucleus plugin = Nucleus.getNucleus();
@@ -66,19 +119,58 @@ public abstract class DataManager<I, P, S extends Service> {
         return this.name;
     }
 
+    private class OfflineExpiry implements Expiry<I, S> {
+
+        private final long expiry;
+
+        private OfflineExpiry(long expiry) {
+            this.expiry = expiry;
+        }
+
+        private long getExpiry(I key) {
+            return shouldNotExpire(key) ? Long.MAX_VALUE : this.expiry;
+        }
+
+        @Override public long expireAfterCreate(@Nonnull I key, @Nonnull S value, long currentTime) {
+            return getExpiry(key);
+        }
+
+        @Override public long expireAfterUpdate(@Nonnull I key, @Nonnull S value, long currentTime, long currentDuration) {
+            return getExpiry(key);
+        }
+
+        @Override public long expireAfterRead(@Nonnull I key, @Nonnull S value, long currentTime, long currentDuration) {
+            return getExpiry(key);
+        }
+    }
+
     private class Removal implements RemovalListener<I, S> {
 
         @Override
         public void onRemoval(@Nullable I key, @Nullable S value, @Nonnull RemovalCause cause) {
             if (key != null && DataManager.this.bypassSave.remove(key)) {
                 // don't save.
+                DataManager.this.writeBehindQueue.remove(key);
                 return;
             }
 
+            if (key != null) {
+                S pending = DataManager.this.writeBehindQueue.remove(key);
+                if (value == null) {
+                    // The value was collected, but we held on to it as it had not been saved.
+                    value = pending;
+                }
+            }
+
             if (value != null) {
                 try {
                     DataManager.this.SAVE_TIMINGS.startTimingIfSync();
-                    value.saveInternal();
+                    if (value.isDirty()) {
+                        value.saveInternal();
+                        DataManager.this.writtenSaves.incrementAndGet();
+                    } else {
+                        DataManager.this.skippedSaves.incrementAndGet();
+                    }
                 } catch (Exception e) {
                     if (Nucleus.getNucleus().isDebugMode()) {
                         Nucleus.getNucleus().getLogger().error("[" + getClassName()  + "] Could not save " + String.valueOf(key) + ".", e);
@@ -114,7 +206,12 @@ public abstract class DataManager<I, P, S extends Service> {
                     return null;
                 }
 
-                return getNew(key, d).orElse(null);
+                S service = getNew(key, d).orElse(null);
+                if (service != null) {
+                    service.setDirtyListener(() -> queueWrite(key, service));
+                }
+
+                return service;
             } finally {
                 DataManager.this.GENERAL_LOAD_TIMINGS.stopTimingIfSync();
                 DataManager.this.ACTUAL_LOAD_TIMINGS.stopTimingIfSync();
@@ -138,6 +235,82 @@ public abstract class DataManager<I, P, S extends Service> {
         return Optional.empty();
     }
 
+    /**
+     * Gets the data for the supplied key without blocking the calling thread.
+     * Any file I/O is performed on a dedicated thread pool.
+     *
+     * @param data The key.
+     * @return A {@link CompletableFuture} that will contain the data, if it exists.
+     */
+    public final CompletableFuture<Optional<S>> getAsync(I data) {
+        return this.getAsync(data, true);
+    }
+
+    /**
+     * Gets the data for the supplied key without blocking the calling thread.
+     * Any file I/O is performed on a dedicated thread pool.
+     *
+     * @param data The key.
+     * @param create Whether to create the data if it does not exist.
+     * @return A {@link CompletableFuture} that will contain the data, if it exists.
+     */
+    public final CompletableFuture<Optional<S>> getAsync(I data, boolean create) {
+        if (this.asyncCache == null) {
+            S present = this.cache.getIfPresent(data);
+            if (present != null) {
+                return CompletableFuture.completedFuture(Optional.of(present));
+            }
+
+            return CompletableFuture.supplyAsync(() -> get(data, create), IO_EXECUTOR);
+        }
+
+        CompletableFuture<S> present = this.asyncCache.getIfPresent(data);
+        if (present != null) {
+            return present.thenApply(Optional::ofNullable);
+        }
+
+        if (create) {
+            return this.asyncCache.get(data).thenApply(Optional::ofNullable);
+        }
+
+        return CompletableFuture.supplyAsync(() -> this.fileExists.test(data), IO_EXECUTOR).thenCompose(exists -> {
+            if (exists) {
+                return this.asyncCache.get(data).thenApply(Optional::ofNullable);
+            }
+
+            return CompletableFuture.completedFuture(Optional.empty());
+        });
+    }
+
+    /**
+     * Gets the statistics for the underlying cache.
+     *
+     * @return The {@link CacheStats}
+     */
+    public final CacheStats getCacheStats() {
+        return this.cache.stats();
+    }
+
+    /**
+     * Gets the approximate number of entries in the cache.
+     *
+     * @return The number of entries.
+     */
+    public final long getCacheSize() {
+        return this.cache.estimatedSize();
+    }
+
+    /**
+     * Starts loading the data for the supplied key into the cache, if it
+     * exists, so that a later {@link #get(Object)} does not have to wait for
+     * file I/O.
+     *
+     * @param data The key.
+     */
+    public final void prefetch(I data) {
+        getAsync(data, false);
+    }
+
     public final Map<I, S> getAll(Collection<I> keys) {
         return this.cache.getAllPresent(keys);
     }
@@ -154,6 +327,22 @@ public abstract class DataManager<I, P, S extends Service> {
         }
     }
 
+    /**
+     * Starts the expiry of the cached data for the supplied key, if it is
+     * cached and is now allowed to expire.
+     *
+     * <p>The expiry is only recalculated when the data is accessed, so data
+     * that could not expire when it was last accessed, such as that of a
+     * player who has since logged out, would otherwise never expire.</p>
+     *
+     * @param key The key.
+     */
+    final void resetExpiry(I key) {
+        if (this.expireAfterAccess > 0 && !shouldNotExpire(key)) {
+            this.cache.policy().expireVariably().ifPresent(x -> x.setExpiresAfter(key, this.expireAfterAccess, TimeUnit.NANOSECONDS));
+        }
+    }
+
     public final void invalidateOld() {
         this.cache.invalidateAll(
                 this.cache.asMap().entrySet().stream().filter(x -> !this.shouldNotExpire(x.getKey())).collect(Collectors.toList())
@@ -163,11 +352,111 @@ public abstract class DataManager<I, P, S extends Service> {
     public final void saveAll() {
         try {
             this.SAVE_TIMINGS.startTimingIfSync();
-            for (S s : this.cache.asMap().values()) {
-                s.save();
-            }
+            this.saveBatcher.accept(() -> {
+                for (Map.Entry<I, S> entry : this.cache.asMap().entrySet()) {
+                    this.writeBehindQueue.remove(entry.getKey());
+                    saveIfDirty(entry.getValue());
+                }
+
+                // Anything left was collected from the cache before it was saved.
+                for (I key : ImmutableList.copyOf(this.writeBehindQueue.keySet())) {
+                    S s = this.writeBehindQueue.remove(key);
+                    if (s != null) {
+                        saveIfDirty(s);
+                    }
+                }
+            });
+        } finally {
+            this.SAVE_TIMINGS.stopTimingIfSync();
+        }
+    }
+
+    /**
+     * Saves any services that have changed since the write behind queue was
+     * last flushed. Multiple changes to the same service result in one write.
+     */
+    public final void flushWriteBehind() {
+        if (this.writeBehindQueue.isEmpty()) {
+            return;
+        }
+
+        try {
+            this.SAVE_TIMINGS.startTimingIfSync();
+            this.saveBatcher.accept(() -> {
+                for (I key : ImmutableList.copyOf(this.writeBehindQueue.keySet())) {
+                    S s = this.writeBehindQueue.remove(key);
+                    if (s != null) {
+                        saveIfDirty(s);
+                    }
+                }
+            });
         } finally {
             this.SAVE_TIMINGS.stopTimingIfSync();
         }
     }
+
+    /**
+     * Gets the save statistics gathered since this was last called, and
+     * resets them.
+     *
+     * @return The {@link SaveStatistics}
+     */
+    public final SaveStatistics getAndResetSaveStatistics() {
+        return new SaveStatistics(this.writtenSaves.getAndSet(0), this.skippedSaves.getAndSet(0), this.coalescedSaves.getAndSet(0));
+    }
+
+    private void queueWrite(I key, S service) {
+        if (this.writeBehindQueue.put(key, service) != null) {
+            this.coalescedSaves.incrementAndGet();
+        }
+    }
+
+    private void saveIfDirty(S s) {
+        if (!s.isDirty()) {
+            this.skippedSaves.incrementAndGet();
+        } else if (s.save()) {
+            this.writtenSaves.incrementAndGet();
+        }
+    }
+
+    public static final class SaveStatistics {
+
+        private final long written;
+        private final long skipped;
+        private final long coalesced;
+
+        private SaveStatistics(long written, long skipped, long coalesced) {
+            this.written = written;
+            this.skipped = skipped;
+            this.coalesced = coalesced;
+        }
+
+        /**
+         * The number of saves that were written to disk.
+         *
+         * @return The number of saves.
+         */
+        public long getWritten() {
+            return this.written;
+        }
+
+        /**
+         * The number of saves that were skipped as nothing had changed.
+         *
+         * @return The number of saves.
+         */
+        public long getSkipped() {
+            return this.skipped;
+        }
+
+        /**
+         * The number of changes that were merged into a save that was
+         * already pending.
+         *
+         * @return The number of changes.
+         */
+        public long getCoalesced() {
+            return this.coalesced;
+        }
+    }
 }
@@ -8,6 +8,8 @@ import com.google.common.collect.ImmutableList;
 import io.github.nucleuspowered.nucleus.Nucleus;
 import io.github.nucleuspowered.nucleus.dataservices.dataproviders.DataProvider;
 import io.github.nucleuspowered.nucleus.dataservices.modular.ModularUserService;
+import io.github.nucleuspowered.nucleus.dataservices.modular.PlayerStatus;
+import io.github.nucleuspowered.nucleus.modules.core.config.DataCacheConfig;
 import ninja.leaping.configurate.ConfigurationNode;
 import org.slf4j.Logger;
 import org.spongepowered.api.Sponge;
@@ -16,18 +18,37 @@ import org.spongepowered.api.service.user.UserStorageService;
 import org.spongepowered.api.util.Identifiable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 public class UserDataManager extends DataManager<UUID, ConfigurationNode, ModularUserService> {
 
+    // The status flags of online players, so listeners can check them without going through the cache.
+    private final Map<UUID, PlayerStatus> onlineStatus = new ConcurrentHashMap<>();
+
     public UserDataManager(BiFunction<UUID, Boolean, DataProvider<ConfigurationNode>> dataProviderFactory, Predicate<UUID> fileExist) {
         super(dataProviderFactory, fileExist);
     }
 
+    public UserDataManager(BiFunction<UUID, Boolean, DataProvider<ConfigurationNode>> dataProviderFactory, Predicate<UUID> fileExist,
+            Consumer<Runnable> saveBatcher) {
+        this(dataProviderFactory, fileExist, saveBatcher, new DataCacheConfig());
+    }
+
+    public UserDataManager(BiFunction<UUID, Boolean, DataProvider<ConfigurationNode>> dataProviderFactory, Predicate<UUID> fileExist,
+            Consumer<Runnable> saveBatcher, DataCacheConfig cacheConfig) {
+        super(dataProviderFactory, fileExist, saveBatcher, cacheConfig);
+    }
+
     public ModularUserService getUnchecked(UUID user) {
         return get(user).orElseThrow(NullPointerException::new);
     }
@@ -44,6 +65,10 @@ public class UserDataManager extends DataManager<UUID, ConfigurationNode, Modula
         return get(user.getUniqueId(), create);
     }
 
+    public CompletableFuture<Optional<ModularUserService>> getAsync(User user) {
+        return getAsync(user.getUniqueId());
+    }
+
     @Override
     protected boolean shouldNotExpire(UUID key) {
         return Sponge.getServer().getPlayer(key).isPresent();
@@ -69,12 +94,41 @@ public class UserDataManager extends DataManager<UUID, ConfigurationNode, Modula
 
             ModularUserService m = new ModularUserService(dataProvider, user.get().getUniqueId());
             m.loadInternal();
+            if (this.onlineStatus.containsKey(uuid)) {
+                // Reloaded while online, so point at the new flags.
+                this.onlineStatus.put(uuid, m.getStatus());
+            }
+
             return Optional.of(m);
         }
 
         return Optional.empty();
     }
 
+    /**
+     * Gets the {@link PlayerStatus} for an online player, if they have been
+     * registered through {@link #onPlayerJoin(UUID)}.
+     *
+     * @param uuid The {@link UUID} of the player.
+     * @return The {@link PlayerStatus}, or {@code null} if the player is not online.
+     */
+    @Nullable
+    public PlayerStatus getOnlineStatus(UUID uuid) {
+        return this.onlineStatus.get(uuid);
+    }
+
+    public void onPlayerJoin(UUID uuid) {
+        get(uuid).ifPresent(x -> this.onlineStatus.put(uuid, x.getStatus()));
+    }
+
+    public void onPlayerQuit(UUID uuid) {
+        this.onlineStatus.remove(uuid);
+
+        // The player is still online until the disconnect event has finished, and their data is read during it, so
+        // wait until the next tick to start the offline expiry.
+        Sponge.getScheduler().createTaskBuilder().execute(() -> resetExpiry(uuid)).submit(Nucleus.getNucleus());
+    }
+
     public void removeOfflinePlayers() {
         this.invalidateOld();
     }
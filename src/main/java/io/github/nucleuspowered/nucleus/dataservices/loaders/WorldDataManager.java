@@ -7,6 +7,7 @@ package io.github.nucleuspowered.nucleus.dataservices.loaders;
 import com.google.common.base.Preconditions;
 import io.github.nucleuspowered.nucleus.dataservices.dataproviders.DataProvider;
 import io.github.nucleuspowered.nucleus.dataservices.modular.ModularWorldService;
+import io.github.nucleuspowered.nucleus.modules.core.config.DataCacheConfig;
 import ninja.leaping.configurate.ConfigurationNode;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.world.World;
@@ -22,6 +23,11 @@ public class WorldDataManager extends DataManager<UUID, ConfigurationNode, Modul
         super(dataProviderFactory, fileExist);
     }
 
+    public WorldDataManager(BiFunction<UUID, Boolean, DataProvider<ConfigurationNode>> dataProviderFactory, Predicate<UUID> fileExist,
+            DataCacheConfig cacheConfig) {
+        super(dataProviderFactory, fileExist, Runnable::run, cacheConfig);
+    }
+
     @Override
     protected boolean shouldNotExpire(UUID key) {
         return Sponge.getServer().getWorld(key).isPresent();
@@ -0,0 +1,101 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.dataservices.modular;
+
+import com.google.common.reflect.TypeToken;
+import io.github.nucleuspowered.nucleus.configurate.ConfigurateHelper;
+import ninja.leaping.configurate.ConfigurationNode;
+import ninja.leaping.configurate.objectmapping.ObjectMappingException;
+import ninja.leaping.configurate.objectmapping.serialize.TypeSerializer;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads and writes a single {@link DataKey} field on a {@link DataModule}.
+ *
+ * <p>These are normally created by the codecs that the annotation processor
+ * generates for each {@link DataModule}, which access the fields directly.
+ * {@link DataModule} only falls back to reflection if no codec exists.</p>
+ *
+ * <p>The {@link TypeSerializer} for the field is looked up when the field is
+ * created, rather than each time the field is loaded or saved.</p>
+ *
+ * @param <T> The type of {@link DataModule}.
+ * @param <V> The type of the field, boxed if it is a primitive.
+ */
+public final class DataKeyField<T extends DataModule<?>, V> {
+
+    private final String name;
+    private final String path;
+    private final TypeToken<V> typeToken;
+    private final Function<T, V> getter;
+    private final BiConsumer<T, V> setter;
+    @Nullable private final TypeSerializer<V> serializer;
+
+    public DataKeyField(String name, String path, TypeToken<V> typeToken, Function<T, V> getter, BiConsumer<T, V> setter) {
+        this.name = name;
+        this.path = path;
+        this.typeToken = typeToken;
+        this.getter = getter;
+        this.setter = setter;
+        this.serializer = ConfigurateHelper.getTypeSerialiser(typeToken);
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public String getPath() {
+        return this.path;
+    }
+
+    public TypeToken<V> getTypeToken() {
+        return this.typeToken;
+    }
+
+    /**
+     * Reads the value of this field from the given node.
+     *
+     * @param node The node that holds the value, not its parent.
+     * @return The value, or {@code null} if there is no value.
+     * @throws ObjectMappingException if the value could not be read.
+     */
+    @Nullable
+    V deserialize(ConfigurationNode node) throws ObjectMappingException {
+        if (this.serializer == null) {
+            return node.getValue(this.typeToken);
+        }
+
+        return node.isVirtual() ? null : this.serializer.deserialize(this.typeToken, node);
+    }
+
+    /**
+     * Writes a value of this field to the given node.
+     *
+     * @param value The value, or {@code null} to remove it.
+     * @param node The node that holds the value, not its parent.
+     * @throws ObjectMappingException if the value could not be written.
+     */
+    void serialize(@Nullable V value, ConfigurationNode node) throws ObjectMappingException {
+        if (value == null) {
+            node.setValue(null);
+        } else if (this.serializer == null) {
+            node.setValue(this.typeToken, value);
+        } else {
+            this.serializer.serialize(this.typeToken, value, node);
+        }
+    }
+
+    V get(T module) {
+        return this.getter.apply(module);
+    }
+
+    void set(T module, V value) {
+        this.setter.accept(module, value);
+    }
+}
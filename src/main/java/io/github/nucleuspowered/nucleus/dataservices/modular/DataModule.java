@@ -20,6 +20,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
 
 /**
@@ -29,12 +30,15 @@ import javax.annotation.concurrent.GuardedBy;
  */
 public abstract class DataModule<S extends ModularDataService<S>> {
 
-    private static final Map<Class<? extends DataModule<?>>, List<FieldData>> fieldData = Maps.newHashMap();
+    private static final Map<Class<? extends DataModule<?>>, List<DataKeyField<DataModule<?>, ?>>> fieldData = Maps.newHashMap();
     private static final Object lock = new Object();
 
-    private final List<FieldData> data;
+    private final List<DataKeyField<DataModule<?>, ?>> data;
     private final Object lockingObject = new Object();
 
+    private volatile boolean dirty = false;
+    @Nullable private volatile Runnable dirtyListener = null;
+
     @SuppressWarnings("unchecked") protected DataModule() {
         synchronized (lock) {
             this.data = fieldData.computeIfAbsent((Class<? extends DataModule<?>>) this.getClass(), this::init);
@@ -44,25 +48,48 @@ public abstract class DataModule<S extends ModularDataService<S>> {
     @GuardedBy("lockingObject")
     protected void loadFrom(ConfigurationNode node) {
         synchronized (this.lockingObject) {
-            for (FieldData d : this.data) {
+            for (DataKeyField<DataModule<?>, ?> d : this.data) {
                 try {
-                    Optional<?> value = getValue(d.clazz, d.path, node);
-                    if (value.isPresent()) {
-                        d.field.set(this, value.get());
-                    }
-                } catch (IllegalArgumentException e) {
-                    Nucleus.getNucleus().getLogger().warn("Could not set field data for " + d.field.getName() + " "
-                            + "(data key " + d.path + ") - falling back to default.");
+                    loadField(d, node);
+                } catch (IllegalArgumentException | ClassCastException e) {
+                    Nucleus.getNucleus().getLogger().warn("Could not set field data for " + d.getName() + " "
+                            + "(data key " + d.getPath() + ") - falling back to default.");
                 } catch (Exception e) {
                     e.printStackTrace();
                 }
             }
 
-            // We loaded, migrate anything that needs to be migrated.
+            // We loaded, migrate anything that needs to be migrated. Migrations should mark the module as dirty.
+            this.dirty = false;
             migrate();
         }
     }
 
+    /**
+     * Marks this module as having changed since it was last saved. Any method
+     * that alters data that is persisted by this module MUST call this,
+     * otherwise the change may not be saved.
+     */
+    protected final void markDirty() {
+        this.dirty = true;
+        Runnable listener = this.dirtyListener;
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
+    final boolean isDirty() {
+        return this.dirty;
+    }
+
+    final void markClean() {
+        this.dirty = false;
+    }
+
+    final void setDirtyListener(@Nullable Runnable listener) {
+        this.dirtyListener = listener;
+    }
+
     /**
      * Migrate data
      */
@@ -70,9 +97,9 @@ public abstract class DataModule<S extends ModularDataService<S>> {
         // noop
     }
 
-    protected <T> Optional<T> getValue(TypeToken<T> token, String path, ConfigurationNode node) {
+    protected <T> Optional<T> getValue(DataKeyField<?, T> field, ConfigurationNode node) {
         try {
-            return Optional.ofNullable(node.getNode(path).getValue(token));
+            return Optional.ofNullable(field.deserialize(node.getNode(field.getPath())));
         } catch (ObjectMappingException e) {
             e.printStackTrace();
             return Optional.empty();
@@ -82,46 +109,69 @@ public abstract class DataModule<S extends ModularDataService<S>> {
     @GuardedBy("lockingObject")
     protected void saveTo(ConfigurationNode node) {
         synchronized (this.lockingObject) {
-            for (FieldData d : this.data) {
+            for (DataKeyField<DataModule<?>, ?> d : this.data) {
                 try {
-                    saveFieldData(d.clazz, d.field, d.path, node);
+                    saveField(d, node);
                 } catch (Exception e) {
-                    Nucleus.getNucleus().getLogger().error("Could not save module " + d.clazz.getType().getTypeName(), e);
+                    Nucleus.getNucleus().getLogger().error("Could not save module " + d.getTypeToken().getType().getTypeName(), e);
                 }
             }
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private <T> void saveFieldData(TypeToken<T> typeToken, Field field, String path, ConfigurationNode node) throws ObjectMappingException {
-        T t;
-        try {
-            t = (T)field.get(this);
-        } catch (IllegalAccessException e) {
-            Nucleus.getNucleus().getLogger().error("Could not get data from " + getClass().getSimpleName() + ": " + field.getName(), e);
-            t = null;
+    private <T> void loadField(DataKeyField<DataModule<?>, T> field, ConfigurationNode node) {
+        Optional<T> value = getValue(field, node);
+        if (value.isPresent()) {
+            field.set(this, value.get());
         }
+    }
 
-        saveNode(typeToken, t, path, node);
+    private <T> void saveField(DataKeyField<DataModule<?>, T> field, ConfigurationNode node) throws ObjectMappingException {
+        saveNode(field, field.get(this), node);
     }
 
-    protected <T> void saveNode(TypeToken<T> typeToken, T value, String path, ConfigurationNode node) throws ObjectMappingException {
-        ConfigurationNode cn = node.getNode(path);
-        if (value == null) {
-            cn.setValue(null);
-        } else {
-            cn.setValue(typeToken, value);
-        }
+    protected <T> void saveNode(DataKeyField<?, T> field, @Nullable T value, ConfigurationNode node) throws ObjectMappingException {
+        field.serialize(value, node.getNode(field.getPath()));
     }
 
-    private List<FieldData> init(Class<? extends DataModule<?>> clazz) {
+    private List<DataKeyField<DataModule<?>, ?>> init(Class<? extends DataModule<?>> clazz) {
+        // The annotation processor generates a codec for each module, so this should always be found.
+        List<DataKeyField<DataModule<?>, ?>> generated = GeneratedDataModules.getFields(clazz);
+        if (generated != null) {
+            return generated;
+        }
+
+        Nucleus.getNucleus().getLogger().warn("No generated codec found for " + clazz.getSimpleName() + ", using reflection.");
+
         // Get the fields.
         List<Field> fields = Arrays.stream(clazz.getDeclaredFields())
             .filter(x -> x.isAnnotationPresent(DataKey.class))
             .collect(Collectors.toList());
 
         fields.forEach(x -> x.setAccessible(true));
-        return fields.stream().map(x -> new FieldData(x.getAnnotation(DataKey.class).value(), TypeToken.of(x.getGenericType()), x)).collect(Collectors.toList());
+        return fields.stream().map(DataModule::reflectiveField).collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DataKeyField<DataModule<?>, ?> reflectiveField(Field field) {
+        return new DataKeyField<DataModule<?>, Object>(
+                field.getName(),
+                field.getAnnotation(DataKey.class).value(),
+                (TypeToken<Object>) TypeToken.of(field.getGenericType()),
+                module -> {
+                    try {
+                        return field.get(module);
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                },
+                (module, value) -> {
+                    try {
+                        field.set(module, value);
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
     }
 
     /**
@@ -142,17 +192,4 @@ public abstract class DataModule<S extends ModularDataService<S>> {
             this.modularDataService = new WeakReference<>(modularDataService);
         }
     }
-
-    private static class FieldData {
-
-        private final String path;
-        private final TypeToken<?> clazz;
-        private final Field field;
-
-        private FieldData(String path, TypeToken<?> clazz, Field field) {
-            this.path = path;
-            this.clazz = clazz;
-            this.field = field;
-        }
-    }
 }
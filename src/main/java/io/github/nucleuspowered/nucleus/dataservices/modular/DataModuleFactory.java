@@ -6,31 +6,8 @@ package io.github.nucleuspowered.nucleus.dataservices.modular;
 
 import com.google.common.collect.Maps;
 import io.github.nucleuspowered.nucleus.modules.back.datamodules.BackUserTransientModule;
-import io.github.nucleuspowered.nucleus.modules.core.datamodules.CoreUserDataModule;
-import io.github.nucleuspowered.nucleus.modules.core.datamodules.PreferencesUserModule;
 import io.github.nucleuspowered.nucleus.modules.core.datamodules.UniqueUserCountTransientModule;
-import io.github.nucleuspowered.nucleus.modules.environment.datamodule.EnvironmentWorldDataModule;
-import io.github.nucleuspowered.nucleus.modules.fly.datamodules.FlyUserDataModule;
-import io.github.nucleuspowered.nucleus.modules.freezeplayer.datamodules.FreezePlayerUserDataModule;
-import io.github.nucleuspowered.nucleus.modules.home.datamodules.HomeUserDataModule;
-import io.github.nucleuspowered.nucleus.modules.ignore.datamodules.IgnoreUserDataModule;
-import io.github.nucleuspowered.nucleus.modules.invulnerability.datamodules.InvulnerabilityUserDataModule;
-import io.github.nucleuspowered.nucleus.modules.jail.datamodules.JailGeneralDataModule;
-import io.github.nucleuspowered.nucleus.modules.jail.datamodules.JailUserDataModule;
-import io.github.nucleuspowered.nucleus.modules.kit.datamodules.KitUserDataModule;
-import io.github.nucleuspowered.nucleus.modules.mail.datamodules.MailUserDataModule;
-import io.github.nucleuspowered.nucleus.modules.mute.datamodules.MuteUserDataModule;
-import io.github.nucleuspowered.nucleus.modules.nickname.datamodules.NicknameUserDataModule;
-import io.github.nucleuspowered.nucleus.modules.note.datamodules.NoteUserDataModule;
-import io.github.nucleuspowered.nucleus.modules.powertool.datamodules.PowertoolUserDataModule;
-import io.github.nucleuspowered.nucleus.modules.serverlist.datamodules.ServerListGeneralDataModule;
-import io.github.nucleuspowered.nucleus.modules.spawn.datamodules.SpawnGeneralDataModule;
-import io.github.nucleuspowered.nucleus.modules.spawn.datamodules.SpawnWorldDataModule;
 import io.github.nucleuspowered.nucleus.modules.staffchat.datamodules.StaffChatTransientModule;
-import io.github.nucleuspowered.nucleus.modules.vanish.datamodules.VanishUserDataModule;
-import io.github.nucleuspowered.nucleus.modules.warn.datamodules.WarnUserDataModule;
-import io.github.nucleuspowered.nucleus.modules.warp.datamodules.WarpGeneralDataModule;
-import io.github.nucleuspowered.nucleus.modules.world.datamodules.WorldgenWorldDataModule;
 
 import java.util.Map;
 import java.util.Optional;
@@ -61,34 +38,13 @@ final class DataModuleFactory {
     static {
         generalt.put(UniqueUserCountTransientModule.class, x -> new UniqueUserCountTransientModule());
 
-        general.put(JailGeneralDataModule.class, x -> new JailGeneralDataModule());
-        general.put(SpawnGeneralDataModule.class, x -> new SpawnGeneralDataModule());
-        general.put(WarpGeneralDataModule.class, x -> new WarpGeneralDataModule());
-        general.put(ServerListGeneralDataModule.class, x -> new ServerListGeneralDataModule());
-
-        world.put(EnvironmentWorldDataModule.class, x -> new EnvironmentWorldDataModule());
-        world.put(SpawnWorldDataModule.class, x -> new SpawnWorldDataModule());
-        world.put(WorldgenWorldDataModule.class, x -> new WorldgenWorldDataModule());
-
         usert.put(BackUserTransientModule.class, x -> new BackUserTransientModule());
         usert.put(StaffChatTransientModule.class, x -> new StaffChatTransientModule());
 
-        user.put(CoreUserDataModule.class, x -> new CoreUserDataModule());
-        user.put(FlyUserDataModule.class, FlyUserDataModule::new);
-        user.put(FreezePlayerUserDataModule.class, x -> new FreezePlayerUserDataModule());
-        user.put(HomeUserDataModule.class, HomeUserDataModule::new);
-        user.put(IgnoreUserDataModule.class, x -> new IgnoreUserDataModule());
-        user.put(JailUserDataModule.class, JailUserDataModule::new);
-        user.put(KitUserDataModule.class, x -> new KitUserDataModule());
-        user.put(MailUserDataModule.class, x -> new MailUserDataModule());
-        user.put(InvulnerabilityUserDataModule.class, InvulnerabilityUserDataModule::new);
-        user.put(MuteUserDataModule.class, x -> new MuteUserDataModule());
-        user.put(NicknameUserDataModule.class, NicknameUserDataModule::new);
-        user.put(NoteUserDataModule.class, x -> new NoteUserDataModule());
-        user.put(PowertoolUserDataModule.class, x -> new PowertoolUserDataModule());
-        user.put(VanishUserDataModule.class, x -> new VanishUserDataModule());
-        user.put(WarnUserDataModule.class, x -> new WarnUserDataModule());
-        user.put(PreferencesUserModule.class, x -> new PreferencesUserModule());
+        // Data modules are registered by the annotation processor, along with their codecs.
+        GeneratedDataModules.registerGeneral(general);
+        GeneratedDataModules.registerUser(user);
+        GeneratedDataModules.registerWorld(world);
     }
 
     @SuppressWarnings("unchecked")
@@ -18,6 +18,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+
 public abstract class ModularDataService<S extends ModularDataService<S>> extends AbstractService<ConfigurationNode> {
 
     protected static final Object[] VERSION_PATH = { "version" };
@@ -29,6 +31,10 @@ public abstract class ModularDataService<S extends ModularDataService<S>> extend
 
     private final Object lockingObject = new Object();
 
+    private volatile boolean dirty = false;
+    private volatile int weight = 1;
+    @Nullable private volatile Runnable dirtyListener = null;
+
     ModularDataService(DataProvider<ConfigurationNode> dataProvider) {
         super(dataProvider);
     }
@@ -91,7 +97,12 @@ public abstract class ModularDataService<S extends ModularDataService<S>> extend
                 }
 
                 dm.loadFrom(this.data);
-                set(dm);
+                cache(dm);
+                if (dm.isDirty()) {
+                    // Migrated on load.
+                    onModuleDirty();
+                }
+
                 return dm;
             } catch (IllegalAccessException | NoSuchMethodException | InvocationTargetException | InstantiationException e) {
                 e.printStackTrace();
@@ -106,33 +117,103 @@ public abstract class ModularDataService<S extends ModularDataService<S>> extend
 
     public <T extends DataModule<S>> void set(T dataModule) {
         synchronized (this.lockingObject) {
-            this.cached.put(dataModule.getClass(), dataModule);
+            cache(dataModule);
+            dataModule.markDirty();
+        }
+    }
+
+    private <T extends DataModule<S>> void cache(T dataModule) {
+        DataModule<S> previous = this.cached.put(dataModule.getClass(), dataModule);
+        if (previous != null && previous != dataModule) {
+            previous.setDirtyListener(null);
+        }
+
+        dataModule.setDirtyListener(this::onModuleDirty);
+    }
+
+    private void onModuleDirty() {
+        this.dirty = true;
+        Runnable listener = this.dirtyListener;
+        if (listener != null) {
+            listener.run();
         }
     }
 
+    @Override public boolean isDirty() {
+        return this.dirty;
+    }
+
+    @Override public void setDirtyListener(@Nullable Runnable listener) {
+        this.dirtyListener = listener;
+    }
+
     private <T extends TransientModule<S>> void setTransient(T dataModule) {
         this.transientCache.put(dataModule.getClass(), dataModule);
     }
 
     @Override public void loadInternal() throws Exception {
         super.loadInternal();
-        this.cached.clear(); // Only clear if no exception was caught.
+        synchronized (this.lockingObject) {
+            this.cached.values().forEach(x -> x.setDirtyListener(null));
+            this.cached.clear(); // Only clear if no exception was caught.
+        }
+
+        this.dirty = false;
+        this.weight = countNodes(this.data);
         int version = this.data.getNode(VERSION_PATH).getInt(-1);
         migrate();
         int newVersion = this.data.getNode(VERSION_PATH).getInt(-1);
         if (version != newVersion) {
+            this.dirty = true;
             saveInternal();
         }
     }
 
+    @Override public int getWeight() {
+        return this.weight;
+    }
+
+    private static int countNodes(@Nullable ConfigurationNode node) {
+        if (node == null) {
+            return 1;
+        }
+
+        int count = 1;
+        if (node.hasMapChildren()) {
+            for (ConfigurationNode child : node.getChildrenMap().values()) {
+                count += countNodes(child);
+            }
+        } else if (node.hasListChildren()) {
+            for (ConfigurationNode child : node.getChildrenList()) {
+                count += countNodes(child);
+            }
+        }
+
+        return count;
+    }
+
     @Override public void saveInternal() throws Exception {
         try {
             this.saveTimings.startTimingIfSync();
 
-            // If there is nothing in the cache, don't save (because we don't need to).
-            if (this.data != null && (!this.cached.isEmpty() || !(this.data.isVirtual() || this.data.getValue() == null))) {
-                ImmutableMap.copyOf(this.cached).values().forEach(x -> x.saveTo(this.data));
-                super.saveInternal();
+            // If nothing has changed since the last save, or there is nothing in the cache, don't save (because we don't need to).
+            if (this.dirty && this.data != null && (!this.cached.isEmpty() || !(this.data.isVirtual() || this.data.getValue() == null))) {
+                // Clear the flags first, so that anything that changes while we save is picked up next time.
+                this.dirty = false;
+                try {
+                    for (DataModule<S> module : ImmutableMap.copyOf(this.cached).values()) {
+                        if (module.isDirty()) {
+                            module.markClean();
+                            module.saveTo(this.data);
+                        }
+                    }
+
+                    super.saveInternal();
+                } catch (Exception e) {
+                    // Try again next time - the node has the changes in it, so we only need the flag.
+                    this.dirty = true;
+                    throw e;
+                }
             }
         } finally {
             this.saveTimings.stopTimingIfSync();
@@ -22,6 +22,7 @@ public class ModularUserService extends ModularDataService<ModularUserService> {
     private static UserStorageService uss = null;
 
     private final UUID uuid;
+    private final PlayerStatus status = new PlayerStatus();
     private static final ConfigurationTransformation V2_TRANSFORMER =
             ConfigurationTransformation.versionedBuilder()
                     .setVersionKey(ModularDataService.VERSION_PATH)
@@ -54,6 +55,16 @@ public class ModularUserService extends ModularDataService<ModularUserService> {
         return this.uuid;
     }
 
+    /**
+     * Gets the {@link PlayerStatus} flags for this user, which are kept up to
+     * date by the data modules that own them.
+     *
+     * @return The {@link PlayerStatus}
+     */
+    public PlayerStatus getStatus() {
+        return this.status;
+    }
+
     public User getUser() {
         if (uss == null) {
             uss = Sponge.getServiceManager().provideUnchecked(UserStorageService.class);
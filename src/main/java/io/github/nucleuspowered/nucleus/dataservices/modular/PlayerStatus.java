@@ -0,0 +1,75 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.dataservices.modular;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A set of status flags for a user, held in a single word so that event
+ * listeners that fire often can check them without going through the data
+ * modules.
+ *
+ * <p>The flags are written by the {@link DataModule}s that own the data, when
+ * they are loaded and whenever the data changes. A flag that has not been
+ * written yet is unknown, and callers must fall back to the data module in
+ * that case, which will then fill the flag in.</p>
+ */
+@ThreadSafe
+public final class PlayerStatus {
+
+    public static final int JAILED = 1;
+    public static final int MUTED = 1 << 1;
+    public static final int FROZEN = 1 << 2;
+    public static final int VANISHED = 1 << 3;
+    public static final int FLYING = 1 << 4;
+
+    // The lower half holds the values, the upper half whether each value has been set.
+    private static final int KNOWN_SHIFT = 16;
+    private static final AtomicIntegerFieldUpdater<PlayerStatus> FLAGS =
+            AtomicIntegerFieldUpdater.newUpdater(PlayerStatus.class, "flags");
+
+    private volatile int flags = 0;
+
+    PlayerStatus() {
+    }
+
+    public boolean isKnown(int flag) {
+        return (this.flags & (flag << KNOWN_SHIFT)) != 0;
+    }
+
+    /**
+     * Gets whether the flag is set. This will return false if the flag is not
+     * known, check {@link #isKnown(int)} first.
+     *
+     * @param flag The flag.
+     * @return Whether it is set.
+     */
+    public boolean is(int flag) {
+        return (this.flags & flag) != 0;
+    }
+
+    /**
+     * Returns true only if the flag is known and is not set, that is, the
+     * user definitely does not have that status.
+     *
+     * @param flag The flag.
+     * @return Whether the flag is known to be unset.
+     */
+    public boolean isKnownUnset(int flag) {
+        int current = this.flags;
+        return (current & (flag << KNOWN_SHIFT)) != 0 && (current & flag) == 0;
+    }
+
+    public void set(int flag, boolean value) {
+        int current;
+        int next;
+        do {
+            current = this.flags;
+            next = (value ? current | flag : current & ~flag) | (flag << KNOWN_SHIFT);
+        } while (current != next && !FLAGS.compareAndSet(this, current, next));
+    }
+}
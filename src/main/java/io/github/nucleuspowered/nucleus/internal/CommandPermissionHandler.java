@@ -7,15 +7,8 @@ package io.github.nucleuspowered.nucleus.internal;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import io.github.nucleuspowered.nucleus.Nucleus;
-import io.github.nucleuspowered.nucleus.internal.annotations.command.NoCooldown;
-import io.github.nucleuspowered.nucleus.internal.annotations.command.NoCost;
-import io.github.nucleuspowered.nucleus.internal.annotations.command.NoDocumentation;
-import io.github.nucleuspowered.nucleus.internal.annotations.command.NoModifiers;
-import io.github.nucleuspowered.nucleus.internal.annotations.command.NoPermissions;
-import io.github.nucleuspowered.nucleus.internal.annotations.command.NoWarmup;
-import io.github.nucleuspowered.nucleus.internal.annotations.command.Permissions;
-import io.github.nucleuspowered.nucleus.internal.annotations.command.RegisterCommand;
 import io.github.nucleuspowered.nucleus.internal.command.AbstractCommand;
+import io.github.nucleuspowered.nucleus.internal.command.CommandMetadata;
 import io.github.nucleuspowered.nucleus.internal.permissions.PermissionInformation;
 import io.github.nucleuspowered.nucleus.internal.permissions.SuggestedLevel;
 import io.github.nucleuspowered.nucleus.internal.traits.PermissionTrait;
@@ -28,7 +21,6 @@ import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.service.permission.Subject;
 
-import java.lang.annotation.Annotation;
 import java.util.Map;
 import java.util.function.Supplier;
 
@@ -51,7 +43,8 @@ public class CommandPermissionHandler implements PermissionTrait {
     private final boolean justReturnTrue;
 
     public CommandPermissionHandler(Class<? extends AbstractCommand> cab, Nucleus plugin) {
-        this.justReturnTrue = cab.isAnnotationPresent(NoPermissions.class);
+        CommandMetadata metadata = CommandMetadata.of(cab);
+        this.justReturnTrue = metadata.isNoPermissions();
 
         // If there are no permissions to assign, we just return true.
         if (this.justReturnTrue) {
@@ -64,75 +57,29 @@ public class CommandPermissionHandler implements PermissionTrait {
             return;
         }
 
-        Permissions c = cab.getAnnotation(Permissions.class);
-        if (c == null) {
-            c = new Permissions() {
-
-                @Override
-                public String[] value() {
-                    return new String[0];
-                }
-
-                @Override
-                public String mainOverride() {
-                    return "";
-                }
-
-                @Override
-                public String prefix() {
-                    return "";
-                }
-
-                @Override
-                public String suffix() {
-                    return "";
-                }
-
-                @Override
-                public boolean supportsSelectors() {
-                    return false;
-                }
-
-                @Override public boolean supportsOthers() {
-                    return false;
-                }
-
-                @Override
-                public SuggestedLevel suggestedLevel() {
-                    return SuggestedLevel.ADMIN;
-                }
-
-                @Override
-                public Class<? extends Annotation> annotationType() {
-                    return Permissions.class;
-                }
-            };
-        }
-
-        RegisterCommand co = cab.getAnnotation(RegisterCommand.class);
-        String command = co.value()[0];
+        String command = metadata.getAliases()[0];
         StringBuilder sb = new StringBuilder(PermissionRegistry.PERMISSIONS_PREFIX);
-        if (!c.prefix().isEmpty()) {
-            sb.append(c.prefix()).append(".");
+        if (!metadata.getPermissionPrefix().isEmpty()) {
+            sb.append(metadata.getPermissionPrefix()).append(".");
         }
 
-        if (c.mainOverride().isEmpty()) {
+        if (metadata.getPermissionMainOverride().isEmpty()) {
             sb.append(command);
         } else {
-            sb.append(c.mainOverride());
+            sb.append(metadata.getPermissionMainOverride());
         }
 
         sb.append(".");
-        if (!c.suffix().isEmpty()) {
-            sb.append(c.suffix()).append(".");
+        if (!metadata.getPermissionSuffix().isEmpty()) {
+            sb.append(metadata.getPermissionSuffix()).append(".");
         }
 
         this.prefix = sb.toString();
 
         this.base = this.prefix + "base";
 
-        if (co.subcommandOf() != AbstractCommand.class) {
-            command = String.format("%s %s", co.subcommandOf().getAnnotation(RegisterCommand.class).value()[0], command);
+        if (metadata.getSubcommandOf() != AbstractCommand.class) {
+            command = String.format("%s %s", CommandMetadata.of(metadata.getSubcommandOf()).getAliases()[0], command);
         }
 
         this.warmup = this.prefix + "exempt.warmup";
@@ -140,28 +87,28 @@ public class CommandPermissionHandler implements PermissionTrait {
         this.cost = this.prefix + "exempt.cost";
         this.others = this.prefix + "others";
 
-        if (!cab.isAnnotationPresent(NoDocumentation.class)) {
+        if (!metadata.isNoDocumentation()) {
             this.mssl.put(this.base,
-                new PermissionInformation(plugin.getMessageProvider().getMessageWithFormat("permission.base", command), c.suggestedLevel()));
+                new PermissionInformation(plugin.getMessageProvider().getMessageWithFormat("permission.base", command), metadata.getSuggestedLevel()));
 
-            if (c.supportsOthers()) {
-                this.mssl.put(this.others, new PermissionInformation(plugin.getMessageProvider().getMessageWithFormat("permission.others", co.value()[0]),
-                    SuggestedLevel.ADMIN));
+            if (metadata.isSupportsOthers()) {
+                this.mssl.put(this.others, new PermissionInformation(plugin.getMessageProvider().getMessageWithFormat("permission.others",
+                        metadata.getAliases()[0]), SuggestedLevel.ADMIN));
             }
 
-            if (!cab.isAnnotationPresent(NoModifiers.class)) {
-                if (!cab.isAnnotationPresent(NoWarmup.class) || cab.getAnnotation(NoWarmup.class).generatePermissionDocs()) {
+            if (!metadata.isNoModifiers()) {
+                if (!metadata.isNoWarmup() || metadata.isGenerateWarmupPermissionDocs()) {
                     this.mssl.put(this.warmup, new PermissionInformation(plugin.getMessageProvider().getMessageWithFormat("permission.exempt.warmup", command),
                             SuggestedLevel.ADMIN));
                 }
 
-                if (!cab.isAnnotationPresent(NoCooldown.class)) {
+                if (!metadata.isNoCooldown()) {
                     this.mssl.put(this.cooldown,
                             new PermissionInformation(plugin.getMessageProvider().getMessageWithFormat("permission.exempt.cooldown", command),
                                     SuggestedLevel.ADMIN));
                 }
 
-                if (!cab.isAnnotationPresent(NoCost.class)) {
+                if (!metadata.isNoCost()) {
                     this.mssl.put(this.cost, new PermissionInformation(plugin.getMessageProvider().getMessageWithFormat("permission.exempt.cost", command),
                             SuggestedLevel.ADMIN));
                 }
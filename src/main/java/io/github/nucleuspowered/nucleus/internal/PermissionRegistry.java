@@ -7,8 +7,8 @@ package io.github.nucleuspowered.nucleus.internal;
 import com.google.common.collect.Maps;
 import io.github.nucleuspowered.nucleus.Nucleus;
 import io.github.nucleuspowered.nucleus.PluginInfo;
-import io.github.nucleuspowered.nucleus.internal.annotations.command.PermissionsFrom;
 import io.github.nucleuspowered.nucleus.internal.command.AbstractCommand;
+import io.github.nucleuspowered.nucleus.internal.command.CommandMetadata;
 import io.github.nucleuspowered.nucleus.internal.permissions.PermissionInformation;
 import io.github.nucleuspowered.nucleus.internal.permissions.SuggestedLevel;
 
@@ -26,9 +26,9 @@ public class PermissionRegistry {
             return this.serviceRegistry.get(command);
         }
 
-        PermissionsFrom p = command.getAnnotation(PermissionsFrom.class);
-        if (p != null && p.value() != AbstractCommand.class) {
-            return getPermissionsForNucleusCommand(p.value());
+        Class<? extends AbstractCommand> permissionsFrom = CommandMetadata.of(command).getPermissionsFrom();
+        if (permissionsFrom != null) {
+            return getPermissionsForNucleusCommand(permissionsFrom);
         }
 
         CommandPermissionHandler handler = new CommandPermissionHandler(command, Nucleus.getNucleus());
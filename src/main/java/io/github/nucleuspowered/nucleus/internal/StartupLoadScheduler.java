@@ -0,0 +1,215 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.internal;
+
+import io.github.nucleuspowered.nucleus.util.ThrowableAction;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * Loads the files that Nucleus reads at startup but that do not belong to a
+ * module, such as items.conf, the data files and the custom message files, on
+ * a fork-join pool, so that they overlap with each other and with the work
+ * that has to happen on the main thread.
+ *
+ * <p>This does not schedule modules. QuickStart constructs and enables them
+ * one at a time on the main thread, and their configs are all sections of
+ * main.conf, which QuickStart reads once.</p>
+ *
+ * <p>Each task has a name, and may name tasks that it depends on. A task only
+ * starts once the tasks it depends on have completed, and fails if any of
+ * them failed. Dependencies must be scheduled before the tasks that depend on
+ * them, so the graph cannot contain cycles.</p>
+ *
+ * <p>Anything that touches the Sponge registries, event manager, service
+ * manager or command manager must be scheduled with
+ * {@link #main(String, ThrowableAction, String...)}, which runs the task on
+ * the calling thread.</p>
+ *
+ * <p>Once {@link #shutdown()} has been called, all tasks run on the calling
+ * thread, so code that is also run after startup (such as a reload) does not
+ * need to check whether the pool is still available.</p>
+ */
+public final class StartupLoadScheduler {
+
+    private final StartupTimings timings;
+    private final Map<String, CompletableFuture<?>> tasks = new HashMap<>();
+    @Nullable private ForkJoinPool pool;
+
+    public StartupLoadScheduler(StartupTimings timings) {
+        this.timings = timings;
+        AtomicInteger count = new AtomicInteger();
+        ClassLoader classLoader = getClass().getClassLoader();
+        this.pool = new ForkJoinPool(
+                Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1)),
+                p -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                    thread.setName("Nucleus Startup - " + count.getAndIncrement());
+                    thread.setDaemon(true);
+                    thread.setContextClassLoader(classLoader);
+                    return thread;
+                },
+                null,
+                false);
+    }
+
+    /**
+     * Schedules a task to run off the main thread once the tasks it depends
+     * on have completed.
+     *
+     * @param name The name of the task.
+     * @param task The task.
+     * @param dependsOn The names of the tasks that must complete first.
+     * @return The {@link CompletableFuture} that completes with the task.
+     */
+    public CompletableFuture<Void> async(String name, ThrowableAction<? extends Exception> task, String... dependsOn) {
+        return supply(name, () -> {
+            task.action();
+            return null;
+        }, dependsOn);
+    }
+
+    /**
+     * Schedules a task that returns a result to run off the main thread once
+     * the tasks it depends on have completed.
+     *
+     * @param name The name of the task.
+     * @param task The task.
+     * @param dependsOn The names of the tasks that must complete first.
+     * @param <T> The type of result.
+     * @return The {@link CompletableFuture} that completes with the result.
+     */
+    public synchronized <T> CompletableFuture<T> supply(String name, Callable<T> task, String... dependsOn) {
+        CompletableFuture<T> future;
+        if (this.pool == null) {
+            future = new CompletableFuture<>();
+            try {
+                future.complete(task.call());
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        } else {
+            future = getDependencies(dependsOn).thenApplyAsync(x -> run(name, task), this.pool);
+        }
+
+        this.tasks.put(name, future);
+        return future;
+    }
+
+    /**
+     * Waits for the tasks that this task depends on, then runs it on the
+     * calling thread.
+     *
+     * @param name The name of the task.
+     * @param task The task.
+     * @param dependsOn The names of the tasks that must complete first.
+     * @throws Exception if the task, or one of its dependencies, failed.
+     */
+    public void main(String name, ThrowableAction<? extends Exception> task, String... dependsOn) throws Exception {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        synchronized (this) {
+            this.tasks.put(name, future);
+        }
+
+        try {
+            await(dependsOn);
+            long start = System.nanoTime();
+            task.action();
+            addTiming(name, start);
+            future.complete(null);
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for the given tasks to complete.
+     *
+     * @param names The names of the tasks.
+     * @throws Exception if any of the tasks failed.
+     */
+    public void await(String... names) throws Exception {
+        join(getDependencies(names));
+    }
+
+    /**
+     * Waits for every task that has been scheduled to complete.
+     *
+     * @throws Exception if any of the tasks failed.
+     */
+    public void awaitAll() throws Exception {
+        CompletableFuture<?>[] futures;
+        synchronized (this) {
+            futures = this.tasks.values().toArray(new CompletableFuture<?>[0]);
+        }
+
+        join(CompletableFuture.allOf(futures));
+    }
+
+    /**
+     * Stops the pool. Tasks that are still running will complete, any tasks
+     * scheduled after this will run on the calling thread.
+     */
+    public synchronized void shutdown() {
+        if (this.pool != null) {
+            this.pool.shutdown();
+            this.pool = null;
+        }
+    }
+
+    private synchronized CompletableFuture<Void> getDependencies(String... names) {
+        return CompletableFuture.allOf(Arrays.stream(names).map(x -> {
+            CompletableFuture<?> future = this.tasks.get(x);
+            if (future == null) {
+                throw new IllegalArgumentException("The startup task " + x + " has not been scheduled.");
+            }
+
+            return future;
+        }).toArray(CompletableFuture<?>[]::new));
+    }
+
+    private <T> T run(String name, Callable<T> task) {
+        long start = System.nanoTime();
+        try {
+            return task.call();
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        } finally {
+            addTiming(name, start);
+        }
+    }
+
+    private synchronized void addTiming(String name, long start) {
+        if (this.pool != null) {
+            this.timings.addTask(name, start);
+        }
+    }
+
+    private static void join(CompletableFuture<?> future) throws Exception {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw e;
+        }
+    }
+}
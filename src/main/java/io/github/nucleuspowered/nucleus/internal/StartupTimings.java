@@ -0,0 +1,99 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.internal;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Records how long each phase of startup takes, how long each module takes
+ * to enable and how long each {@link StartupLoadScheduler} task takes, so that
+ * changes to the startup process can be measured.
+ *
+ * <p>Callers take {@link System#nanoTime()} at the start of the work and
+ * pass it in when the work is complete. Recording the same phase or module
+ * more than once adds to its total.</p>
+ */
+@ThreadSafe
+public final class StartupTimings {
+
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+    private final Map<String, Long> modules = new HashMap<>();
+    private final Map<String, Long> tasks = new HashMap<>();
+
+    public synchronized void addPhase(String phase, long start) {
+        this.phases.merge(phase, System.nanoTime() - start, Long::sum);
+    }
+
+    public synchronized void addModule(String moduleId, long start) {
+        this.modules.merge(moduleId, System.nanoTime() - start, Long::sum);
+    }
+
+    public synchronized void addTask(String task, long start) {
+        this.tasks.merge(task, System.nanoTime() - start, Long::sum);
+    }
+
+    /**
+     * Gets the phases in the order they were first recorded, with the time
+     * each took, for example {@code preinit 120ms, init 5ms}.
+     *
+     * @return The phases.
+     */
+    public synchronized String getPhaseReport() {
+        return this.phases.entrySet().stream()
+                .map(x -> x.getKey() + " " + toMillis(x.getValue()) + "ms")
+                .collect(Collectors.joining(", "));
+    }
+
+    public synchronized long getTotalMillis() {
+        return toMillis(this.phases.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    /**
+     * Gets the modules that took longest to enable, slowest first.
+     *
+     * @param limit The maximum number of modules to include.
+     * @return The modules.
+     */
+    public synchronized String getModuleReport(int limit) {
+        return getReport(this.modules, limit);
+    }
+
+    /**
+     * Gets the scheduled tasks that took longest, slowest first. As these run
+     * alongside the phases, they are not included in the phase totals.
+     *
+     * @param limit The maximum number of tasks to include.
+     * @return The tasks.
+     */
+    public synchronized String getTaskReport(int limit) {
+        return getReport(this.tasks, limit);
+    }
+
+    public synchronized boolean hasTasks() {
+        return !this.tasks.isEmpty();
+    }
+
+    public synchronized boolean isEmpty() {
+        return this.phases.isEmpty();
+    }
+
+    private static String getReport(Map<String, Long> timings, int limit) {
+        return timings.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(limit)
+                .map(x -> x.getKey() + " " + toMillis(x.getValue()) + "ms")
+                .collect(Collectors.joining(", "));
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -19,25 +19,12 @@ import io.github.nucleuspowered.nucleus.internal.CommandPermissionHandler;
 import io.github.nucleuspowered.nucleus.internal.Constants;
 import io.github.nucleuspowered.nucleus.internal.CostCancellableTask;
 import io.github.nucleuspowered.nucleus.internal.TimingsDummy;
-import io.github.nucleuspowered.nucleus.internal.annotations.RequiresEconomy;
-import io.github.nucleuspowered.nucleus.internal.annotations.RunAsync;
-import io.github.nucleuspowered.nucleus.internal.annotations.command.NoCommandPrefix;
-import io.github.nucleuspowered.nucleus.internal.annotations.command.NoCooldown;
-import io.github.nucleuspowered.nucleus.internal.annotations.command.NoCost;
 import io.github.nucleuspowered.nucleus.internal.annotations.command.NoHelpSubcommand;
-import io.github.nucleuspowered.nucleus.internal.annotations.command.NoModifiers;
-import io.github.nucleuspowered.nucleus.internal.annotations.command.NoTimings;
-import io.github.nucleuspowered.nucleus.internal.annotations.command.NoWarmup;
-import io.github.nucleuspowered.nucleus.internal.annotations.command.PermissionsFrom;
-import io.github.nucleuspowered.nucleus.internal.annotations.command.RedirectModifiers;
-import io.github.nucleuspowered.nucleus.internal.annotations.command.RegisterCommand;
-import io.github.nucleuspowered.nucleus.internal.annotations.command.SetCooldownManually;
 import io.github.nucleuspowered.nucleus.internal.permissions.PermissionInformation;
 import io.github.nucleuspowered.nucleus.internal.traits.InternalServiceManagerTrait;
 import io.github.nucleuspowered.nucleus.internal.traits.MessageProviderTrait;
 import io.github.nucleuspowered.nucleus.internal.traits.PermissionTrait;
 import io.github.nucleuspowered.nucleus.modules.core.config.WarmupConfig;
-import io.github.nucleuspowered.nucleus.util.ClassUtil;
 import ninja.leaping.configurate.commented.CommentedConfigurationNode;
 import ninja.leaping.configurate.commented.SimpleCommentedConfigurationNode;
 import org.apache.commons.lang3.ArrayUtils;
@@ -114,7 +101,8 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
         commandInterceptors.add(Preconditions.checkNotNull(interceptor));
     }
 
-    private final boolean isAsync = this.getClass().getAnnotation(RunAsync.class) != null;
+    private final CommandMetadata metadata = CommandMetadata.of(this.getClass());
+    private final boolean isAsync = this.metadata.isRunAsync();
 
     private Timing commandTimings = TimingsDummy.DUMMY;
     // A period separated list of parent commands, starting with the prefix. Period terminated.
@@ -163,8 +151,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
 
     @SuppressWarnings("unchecked")
     public AbstractCommand() {
-        List<Class<?>> types = ClassUtil.getActualTypeArguments(this.getClass(), AbstractCommand.class);
-        this.sourceType = types.isEmpty() ? (Class<T>) CommandSource.class : (Class<T>) types.get(0);
+        this.sourceType = (Class<T>) this.metadata.getSourceType();
 
         if (this.sourceType.getClass().isAssignableFrom(CommandSource.class)) {
             this.sourceTypePredicate = x -> true;
@@ -175,15 +162,13 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
         this.commandPath = getSubcommandOf();
 
         // Now, if this is
-        RegisterCommand rc = this.getClass().getAnnotation(RegisterCommand.class);
+        this.isRoot = this.metadata.getSubcommandOf().equals(AbstractCommand.class);
+        this.hasExecutor = this.metadata.hasExecutor();
 
-        this.isRoot = rc == null || rc.subcommandOf().equals(AbstractCommand.class);
-        this.hasExecutor = rc != null && rc.hasExecutor();
+        List<String> force = Lists.newArrayList(this.metadata.getRootAliasRegister());
 
-        List<String> force = rc == null ? Lists.newArrayList() : Lists.newArrayList(rc.rootAliasRegister());
-
-        List<String> a = rc == null ? Lists.newArrayList() : Lists.newArrayList(rc.value());
-        if (!this.getClass().isAnnotationPresent(NoCommandPrefix.class)
+        List<String> a = Lists.newArrayList(this.metadata.getAliases());
+        if (!this.metadata.isNoCommandPrefix()
             && !a.isEmpty() && this.isRoot) { // Testing might return a zero length.
 
             final String nPrimary = "n" + a.get(0).toLowerCase();
@@ -212,16 +197,17 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
         //
         // exempt.(cooldown|warmup|cost)
         this.permissions = Nucleus.getNucleus().getPermissionRegistry().getPermissionsForNucleusCommand(this.getClass());
-        if (getClass().isAnnotationPresent(PermissionsFrom.class)) {
+        String[] requiredSuffixes = this.metadata.getRequiredPermissionSuffixes();
+        if (requiredSuffixes != null) {
             this.additionalPermsToCheck = Lists.newArrayList();
-            for (String p : getClass().getAnnotation(PermissionsFrom.class).requiresSuffix()) {
+            for (String p : requiredSuffixes) {
                 this.additionalPermsToCheck.add(this.permissions.getPermissionWithSuffix(p));
             }
         } else {
             this.additionalPermsToCheck = null;
         }
 
-        if (this.getClass().isAnnotationPresent(NoModifiers.class)) {
+        if (this.metadata.isNoModifiers()) {
             this.bypassWarmup = true;
             this.generateWarmupAnyway = false;
             this.bypassCooldown = true;
@@ -231,34 +217,33 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
             // For these flags, we simply need to get whether the annotation was
             // declared. If they were not, we simply get back
             // a null - so the check is based around that.
-            NoWarmup w = this.getClass().getAnnotation(NoWarmup.class);
-            this.bypassWarmup = w != null;
-            this.generateWarmupAnyway = !this.bypassWarmup || w.generateConfigEntry();
+            this.bypassWarmup = this.metadata.isNoWarmup();
+            this.generateWarmupAnyway = !this.bypassWarmup || this.metadata.isGenerateWarmupConfigEntry();
 
-            this.bypassCooldown = this.getClass().getAnnotation(NoCooldown.class) != null;
-            this.bypassCost = this.getClass().getAnnotation(NoCost.class) != null;
-            this.manualCooldownOnly = this.getClass().getAnnotation(SetCooldownManually.class) != null;
+            this.bypassCooldown = this.metadata.isNoCooldown();
+            this.bypassCost = this.metadata.isNoCost();
+            this.manualCooldownOnly = this.metadata.isSetCooldownManually();
         }
 
-        RedirectModifiers cca = this.getClass().getAnnotation(RedirectModifiers.class);
+        String redirect = this.metadata.getRedirectModifiers();
         String configSect;
         if (this.commandPath.isEmpty() || !this.commandPath.contains(".")) {
             configSect = "";
         } else {
             configSect = this.commandPath.replaceAll("\\.[^.]+$", ".");
         }
-        generateConfigEntries = cca == null || cca.requireGeneration();
+        generateConfigEntries = redirect == null || this.metadata.isRedirectRequiresGeneration();
 
-        this.configSection = configSect + (cca == null ? getAliases()[0].toLowerCase() : cca.value().toLowerCase());
+        this.configSection = configSect + (redirect == null ? getAliases()[0].toLowerCase() : redirect.toLowerCase());
 
         this.warmupKey = "nucleus." + this.configSection + ".warmup";
         this.cooldownKey = "nucleus." + this.configSection + ".cooldown";
         this.costKey = "nucleus." + this.configSection + ".cost";
 
-        this.requiresEconomy = this.getClass().isAnnotationPresent(RequiresEconomy.class);
+        this.requiresEconomy = this.metadata.isRequiresEconomy();
 
         // Timings
-        if (!this.getClass().isAnnotationPresent(NoTimings.class)) {
+        if (!this.metadata.isNoTimings()) {
             try {
                 this.commandTimings =
                         Timings.of(Nucleus.getNucleus(), "Command - /" + (this.commandPath.replace(".", " ")));
@@ -291,12 +276,12 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
 
     private void getSubcommandOf(Class<? extends AbstractCommand> c, StringBuilder sb, boolean appendPeriod) {
         // Get subcommand alias, if any.
-        RegisterCommand rc = c.getAnnotation(RegisterCommand.class);
-        if (!Modifier.isAbstract( rc.subcommandOf().getModifiers()) && rc.subcommandOf() != this.getClass()) {
-            getSubcommandOf(rc.subcommandOf(), sb, true);
+        CommandMetadata md = c == this.getClass() ? this.metadata : CommandMetadata.of(c);
+        if (!Modifier.isAbstract(md.getSubcommandOf().getModifiers()) && md.getSubcommandOf() != this.getClass()) {
+            getSubcommandOf(md.getSubcommandOf(), sb, true);
         }
 
-        sb.append(rc.value()[0]);
+        sb.append(md.getAliases()[0]);
         if (appendPeriod) {
             sb.append(".");
         }
@@ -380,7 +365,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
 
             // Phase one: test for what is required
             if (this.requiresEconomy && !this.plugin.getEconHelper().economyServiceExists()) {
-                source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.economyrequired"));
+                source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.economyrequired"));
                 return CommandResult.empty();
             }
 
@@ -433,7 +418,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
 
             thrown.add(
                 Tuple.of(command, new CommandException(
-                    Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.exception.unexpected", m), throwable)));
+                    Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.exception.unexpected", m), throwable)));
             throwable.printStackTrace(); // this is on demand, so we should throw it.
             throw new NucleusCommandException(thrown, allowFallback(source, args, context));
         }
@@ -482,7 +467,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
             }
 
             source.sendMessage(
-                    this.plugin.getMessageProvider().getTextMessageWithTextFormat("command.exception.unexpected", ex.getText()));
+                    this.plugin.getMessageProvider(source).getTextMessageWithTextFormat("command.exception.unexpected", ex.getText()));
             return CommandResult.empty();
         } catch (Throwable throwable) {
             throwable.printStackTrace();
@@ -495,7 +480,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
             }
 
             source.sendMessage(
-                    this.plugin.getMessageProvider().getTextMessageWithFormat("command.exception.unexpected", m));
+                    this.plugin.getMessageProvider(source).getTextMessageWithFormat("command.exception.unexpected", m));
 
             return CommandResult.empty();
         }
@@ -516,8 +501,8 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
 
             isSuccess = cr.getSuccessCount().orElse(0) > 0;
         } catch (ReturnMessageException e) {
-            Text t = e.getText();
-            src.sendMessage((t == null) ? NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.error") : t);
+            Text t = e.getText(src);
+            src.sendMessage((t == null) ? NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.error") : t);
             cr = CommandResult.empty();
         } finally {
             if (src instanceof Player) {
@@ -799,7 +784,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
                     return Text.builder(x)
                             .onClick(TextActions.suggestCommand(toSuggest))
                             .onHover(TextActions.showText(Nucleus.getNucleus()
-                                    .getMessageProvider().getTextMessageWithFormat("command.usage.suggest", toSuggest)))
+                                    .getMessageProvider(source).getTextMessageWithFormat("command.usage.suggest", toSuggest)))
                             .onShiftClick(TextActions.insertText(toSuggest + " ?"))
                             .color(TextColors.AQUA)
                             .build();
@@ -889,18 +874,18 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
         }
 
         if (this.sourceType.equals(Player.class) && !(source instanceof Player)) {
-            throw getExceptionFromKey("command.playeronly");
+            throw getExceptionFromKey(source, "command.playeronly");
         } else if (this.sourceType.equals(ConsoleSource.class) && !(source instanceof ConsoleSource)) {
-            throw getExceptionFromKey("command.consoleonly");
+            throw getExceptionFromKey(source, "command.consoleonly");
         } else if (this.sourceType.equals(CommandBlockSource.class) && !(source instanceof CommandBlockSource)) {
-            throw getExceptionFromKey("command.commandblockonly");
+            throw getExceptionFromKey(source, "command.commandblockonly");
         }
 
-        throw getExceptionFromKey("command.unknownsource");
+        throw getExceptionFromKey(source, "command.unknownsource");
     }
 
-    private CommandException getExceptionFromKey(String key, String... subs) {
-        return new CommandException(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat(key, subs));
+    private CommandException getExceptionFromKey(CommandSource source, String key, String... subs) {
+        return new CommandException(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat(key, subs));
     }
 
     // -------------------------------------
@@ -949,7 +934,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
             return pr.get();
         }
 
-        src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("args.worldproperties.default"));
+        src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("args.worldproperties.default"));
         return Sponge.getServer().getDefaultWorld().get();
     }
 
@@ -997,7 +982,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
         } else if (clazz.isInstance(src)) {
             return clazz.cast(src);
         } else {
-            throw new ReturnMessageException(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat(failKey));
+            throw new ReturnMessageException(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat(failKey));
         }
     }
 
@@ -1020,10 +1005,10 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
             // If subject, get the item in hand, otherwise, we can't continue.
             if (src instanceof Player) {
                 return Util.getTypeFromItemInHand((Player)src)
-                    .orElseThrow(() -> new ReturnMessageException(this.plugin.getMessageProvider().getTextMessageWithFormat("command.noneinhand")));
+                    .orElseThrow(() -> new ReturnMessageException(this.plugin.getMessageProvider(src).getTextMessageWithFormat("command.noneinhand")));
             }
 
-            throw new ReturnMessageException(this.plugin.getMessageProvider().getTextMessageWithFormat("command.noitemconsole"));
+            throw new ReturnMessageException(this.plugin.getMessageProvider(src).getTextMessageWithFormat("command.noitemconsole"));
         }
     }
 
@@ -1062,7 +1047,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
 
                     @Override
                     public void accept(Task task) {
-                        src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("warmup.end"));
+                        src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("warmup.end"));
                         this.plugin.getWarmupManager().removeWarmup(src.getUniqueId());
                         onExecute((T) src, args, cause);
                     }
@@ -1077,16 +1062,16 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
         this.plugin.getWarmupManager().addWarmup(src.getUniqueId(), tb.submit(this.plugin));
 
         // Tell the user we're warming up.
-        src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("warmup.start",
+        src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("warmup.start",
                 Util.getTimeStringFromSeconds(warmupTime)));
 
         WarmupConfig wc = Nucleus.getNucleus().getWarmupConfig();
         if (wc.isOnMove() && wc.isOnCommand()) {
-            src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("warmup.both"));
+            src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("warmup.both"));
         } else if (wc.isOnMove()) {
-            src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("warmup.onMove"));
+            src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("warmup.onMove"));
         } else if (wc.isOnCommand()) {
-            src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("warmup.onCommand"));
+            src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("warmup.onCommand"));
         }
 
         // Sponge should think the command was run successfully.
@@ -1106,7 +1091,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
             !this.permissions.testCooldownExempt(src) && this.cooldownStore.containsKey(src.getUniqueId())) {
 
             Instant l = this.cooldownStore.get(src.getUniqueId());
-            src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("cooldown.message",
+            src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("cooldown.message",
                     Util.getTimeStringFromSeconds(l.until(Instant.now(), ChronoUnit.SECONDS))));
             return ContinueMode.STOP;
         }
@@ -1202,9 +1187,9 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
         Set<Class<? extends AbstractCommand<?>>> bases = null;
         if (this.moduleCommands != null) {
             bases = this.moduleCommands.stream().filter(x -> {
-                RegisterCommand r = x.getAnnotation(RegisterCommand.class);
+                CommandMetadata md = CommandMetadata.of(x);
                 // Only commands that are subcommands of this.
-                return r != null && r.subcommandOf().equals(this.getClass());
+                return md.isRegistered() && md.getSubcommandOf().equals(this.getClass());
             }).collect(Collectors.toSet());
         }
 
@@ -1249,7 +1234,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
 
         CommandResult process(CommandSource source, String arguments, @Nullable String previous) {
             if (!testPermission(source)) {
-                source.sendMessage(AbstractCommand.this.plugin.getMessageProvider().getTextMessageWithFormat("command.usage.nopermission"));
+                source.sendMessage(AbstractCommand.this.plugin.getMessageProvider(source).getTextMessageWithFormat("command.usage.nopermission"));
                 return CommandResult.empty();
             }
 
@@ -1258,7 +1243,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
 
                 // Header
                 String command = getCommandPath().replaceAll("\\.", " ");
-                Text header = plugin.getMessageProvider().getTextMessageWithFormat("command.usage.header", command);
+                Text header = plugin.getMessageProvider(source).getTextMessageWithFormat("command.usage.header", command);
 
                 PaginationService ps = Sponge.getServiceManager().provideUnchecked(PaginationService.class);
                 PaginationList.Builder builder = ps.builder().title(header).contents(textMessages);
@@ -1269,7 +1254,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
                 builder.sendTo(source);
                 return CommandResult.success();
             } catch (CommandPermissionException e) {
-                source.sendMessage(AbstractCommand.this.plugin.getMessageProvider().getTextMessageWithFormat("command.usage.nopermission"));
+                source.sendMessage(AbstractCommand.this.plugin.getMessageProvider(source).getTextMessageWithFormat("command.usage.nopermission"));
                 return CommandResult.empty();
             }
         }
@@ -1285,28 +1270,28 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
             List<Text> textMessages = Lists.newArrayList();
 
             if (previous != null) {
-                textMessages.add(plugin.getMessageProvider().getTextMessageWithFormat("command.usage.noexist", previous));
+                textMessages.add(plugin.getMessageProvider(source).getTextMessageWithFormat("command.usage.noexist", previous));
                 textMessages.add(Util.SPACE);
             }
 
             if (parent.sourceType == Player.class) {
-                textMessages.add(plugin.getMessageProvider().getTextMessageWithFormat("command.usage.playeronly"));
+                textMessages.add(plugin.getMessageProvider(source).getTextMessageWithFormat("command.usage.playeronly"));
             }
 
-            textMessages.add(plugin.getMessageProvider().getTextMessageWithFormat("command.usage.module", AbstractCommand.this.module,
+            textMessages.add(plugin.getMessageProvider(source).getTextMessageWithFormat("command.usage.module", AbstractCommand.this.module,
                     AbstractCommand.this.moduleId));
 
             String desc = getDescription();
             if (!desc.isEmpty()) {
                 textMessages.add(Util.SPACE);
-                textMessages.add(plugin.getMessageProvider().getTextMessageWithFormat("command.usage.summary"));
+                textMessages.add(plugin.getMessageProvider(source).getTextMessageWithFormat("command.usage.summary"));
                 textMessages.add(Text.of(desc));
             }
 
             String ext = getExtendedDescription();
             if (!ext.isEmpty()) {
                 textMessages.add(Util.SPACE);
-                textMessages.add(plugin.getMessageProvider().getTextMessageWithFormat("command.usage.description"));
+                textMessages.add(plugin.getMessageProvider(source).getTextMessageWithFormat("command.usage.description"));
                 String[] split = ext.split("(\\r|\\n|\\r\\n)");
                 for (String s : split) {
                     textMessages.add(Text.of(s));
@@ -1315,13 +1300,13 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
 
             if (AbstractCommand.this.hasExecutor) {
                 textMessages.add(Util.SPACE);
-                textMessages.add(plugin.getMessageProvider().getTextMessageWithFormat("command.usage.usage"));
+                textMessages.add(plugin.getMessageProvider(source).getTextMessageWithFormat("command.usage.usage"));
                 textMessages.add(Text.of(TextColors.WHITE, AbstractCommand.this.getSimpleUsage(source)));
             }
 
             getChildrenUsage(source).ifPresent(x -> {
                 textMessages.add(Util.SPACE);
-                textMessages.add(plugin.getMessageProvider().getTextMessageWithFormat("command.usage.subcommand"));
+                textMessages.add(plugin.getMessageProvider(source).getTextMessageWithFormat("command.usage.subcommand"));
                 textMessages.add(Text.of(TextColors.WHITE, x));
             });
 
@@ -10,6 +10,7 @@ import io.github.nucleuspowered.nucleus.NucleusPlugin;
 import io.github.nucleuspowered.nucleus.PluginInfo;
 import io.github.nucleuspowered.nucleus.internal.annotations.SkipOnError;
 import io.github.nucleuspowered.nucleus.internal.interfaces.Reloadable;
+import io.github.nucleuspowered.nucleus.internal.qsml.ModuleClassRegistry;
 import ninja.leaping.configurate.ConfigurationNode;
 import ninja.leaping.configurate.commented.CommentedConfigurationNode;
 import ninja.leaping.configurate.commented.SimpleCommentedConfigurationNode;
@@ -114,7 +115,7 @@ public class CommandBuilder {
 
     private <T extends AbstractCommand<?>> Optional<T> getInstance(Class<T> clazz) {
         try {
-            T instance = clazz.newInstance();
+            T instance = ModuleClassRegistry.getInstance().newInstance(clazz);
             if (instance.canLoad()) {
                 return Optional.of(instance);
             }
@@ -0,0 +1,461 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.internal.command;
+
+import io.github.nucleuspowered.nucleus.internal.annotations.RequiresEconomy;
+import io.github.nucleuspowered.nucleus.internal.annotations.RunAsync;
+import io.github.nucleuspowered.nucleus.internal.annotations.command.NoCommandPrefix;
+import io.github.nucleuspowered.nucleus.internal.annotations.command.NoCooldown;
+import io.github.nucleuspowered.nucleus.internal.annotations.command.NoCost;
+import io.github.nucleuspowered.nucleus.internal.annotations.command.NoDocumentation;
+import io.github.nucleuspowered.nucleus.internal.annotations.command.NoModifiers;
+import io.github.nucleuspowered.nucleus.internal.annotations.command.NoPermissions;
+import io.github.nucleuspowered.nucleus.internal.annotations.command.NoTimings;
+import io.github.nucleuspowered.nucleus.internal.annotations.command.NoWarmup;
+import io.github.nucleuspowered.nucleus.internal.annotations.command.Permissions;
+import io.github.nucleuspowered.nucleus.internal.annotations.command.PermissionsFrom;
+import io.github.nucleuspowered.nucleus.internal.annotations.command.RedirectModifiers;
+import io.github.nucleuspowered.nucleus.internal.annotations.command.RegisterCommand;
+import io.github.nucleuspowered.nucleus.internal.annotations.command.SetCooldownManually;
+import io.github.nucleuspowered.nucleus.internal.permissions.SuggestedLevel;
+import io.github.nucleuspowered.nucleus.util.ClassUtil;
+import org.spongepowered.api.command.CommandSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * The information that the annotations on a command class provide.
+ *
+ * <p>The annotation processor generates the metadata for each command at
+ * compile time, so that commands do not have to read their annotations and
+ * resolve their source type reflectively as they are constructed. Commands
+ * that the processor did not see have their metadata read from their
+ * annotations the first time it is requested.</p>
+ */
+public final class CommandMetadata {
+
+    private static final Map<Class<?>, CommandMetadata> metadata = new ConcurrentHashMap<>();
+
+    /**
+     * Adds the generated metadata for the commands in the given module. This
+     * is done as each module loads its classes, so that the command classes
+     * of disabled modules are not loaded.
+     *
+     * @param module The module.
+     */
+    public static void registerModule(Class<?> module) {
+        GeneratedCommandMetadata.register(module.getName(), metadata);
+    }
+
+    public static CommandMetadata of(Class<? extends AbstractCommand> command) {
+        return metadata.computeIfAbsent(command, CommandMetadata::fromAnnotations);
+    }
+
+    static Builder builder(Class<?> sourceType) {
+        return new Builder(sourceType);
+    }
+
+    private static CommandMetadata fromAnnotations(Class<?> command) {
+        @SuppressWarnings("unchecked")
+        List<Class<?>> types = ClassUtil.getActualTypeArguments((Class<? extends AbstractCommand>) command, AbstractCommand.class);
+        Builder builder = builder(types.isEmpty() ? CommandSource.class : types.get(0));
+
+        RegisterCommand rc = command.getAnnotation(RegisterCommand.class);
+        if (rc != null) {
+            builder.register(rc.value(), rc.subcommandOf(), rc.rootAliasRegister(), rc.hasExecutor());
+        }
+
+        NoWarmup noWarmup = command.getAnnotation(NoWarmup.class);
+        if (noWarmup != null) {
+            builder.noWarmup(noWarmup.generateConfigEntry(), noWarmup.generatePermissionDocs());
+        }
+
+        RedirectModifiers redirectModifiers = command.getAnnotation(RedirectModifiers.class);
+        if (redirectModifiers != null) {
+            builder.redirectModifiers(redirectModifiers.value(), redirectModifiers.requireGeneration());
+        }
+
+        Permissions permissions = command.getAnnotation(Permissions.class);
+        if (permissions != null) {
+            builder.permissions(permissions.prefix(), permissions.mainOverride(), permissions.suffix(), permissions.supportsOthers(),
+                    permissions.suggestedLevel());
+        }
+
+        PermissionsFrom permissionsFrom = command.getAnnotation(PermissionsFrom.class);
+        if (permissionsFrom != null) {
+            builder.permissionsFrom(permissionsFrom.value(), permissionsFrom.requiresSuffix());
+        }
+
+        if (command.isAnnotationPresent(NoCommandPrefix.class)) {
+            builder.noCommandPrefix();
+        }
+
+        if (command.isAnnotationPresent(NoModifiers.class)) {
+            builder.noModifiers();
+        }
+
+        if (command.isAnnotationPresent(NoCooldown.class)) {
+            builder.noCooldown();
+        }
+
+        if (command.isAnnotationPresent(NoCost.class)) {
+            builder.noCost();
+        }
+
+        if (command.isAnnotationPresent(SetCooldownManually.class)) {
+            builder.setCooldownManually();
+        }
+
+        if (command.isAnnotationPresent(RequiresEconomy.class)) {
+            builder.requiresEconomy();
+        }
+
+        if (command.isAnnotationPresent(NoTimings.class)) {
+            builder.noTimings();
+        }
+
+        if (command.isAnnotationPresent(RunAsync.class)) {
+            builder.runAsync();
+        }
+
+        if (command.isAnnotationPresent(NoPermissions.class)) {
+            builder.noPermissions();
+        }
+
+        if (command.isAnnotationPresent(NoDocumentation.class)) {
+            builder.noDocumentation();
+        }
+
+        return builder.build();
+    }
+
+    private final Class<?> sourceType;
+    private final boolean registered;
+    private final String[] aliases;
+    private final Class<? extends AbstractCommand> subcommandOf;
+    private final String[] rootAliasRegister;
+    private final boolean hasExecutor;
+    private final boolean noCommandPrefix;
+    private final boolean noModifiers;
+    private final boolean noWarmup;
+    private final boolean generateWarmupConfigEntry;
+    private final boolean generateWarmupPermissionDocs;
+    private final boolean noCooldown;
+    private final boolean noCost;
+    private final boolean setCooldownManually;
+    @Nullable private final String redirectModifiers;
+    private final boolean redirectRequiresGeneration;
+    private final boolean requiresEconomy;
+    private final boolean noTimings;
+    private final boolean runAsync;
+    private final boolean noPermissions;
+    private final boolean noDocumentation;
+    private final String permissionPrefix;
+    private final String permissionMainOverride;
+    private final String permissionSuffix;
+    private final boolean supportsOthers;
+    private final SuggestedLevel suggestedLevel;
+    @Nullable private final Class<? extends AbstractCommand> permissionsFrom;
+    @Nullable private final String[] requiredPermissionSuffixes;
+
+    private CommandMetadata(Builder builder) {
+        this.sourceType = builder.sourceType;
+        this.registered = builder.registered;
+        this.aliases = builder.aliases;
+        this.subcommandOf = builder.subcommandOf;
+        this.rootAliasRegister = builder.rootAliasRegister;
+        this.hasExecutor = builder.hasExecutor;
+        this.noCommandPrefix = builder.noCommandPrefix;
+        this.noModifiers = builder.noModifiers;
+        this.noWarmup = builder.noWarmup;
+        this.generateWarmupConfigEntry = builder.generateWarmupConfigEntry;
+        this.generateWarmupPermissionDocs = builder.generateWarmupPermissionDocs;
+        this.noCooldown = builder.noCooldown;
+        this.noCost = builder.noCost;
+        this.setCooldownManually = builder.setCooldownManually;
+        this.redirectModifiers = builder.redirectModifiers;
+        this.redirectRequiresGeneration = builder.redirectRequiresGeneration;
+        this.requiresEconomy = builder.requiresEconomy;
+        this.noTimings = builder.noTimings;
+        this.runAsync = builder.runAsync;
+        this.noPermissions = builder.noPermissions;
+        this.noDocumentation = builder.noDocumentation;
+        this.permissionPrefix = builder.permissionPrefix;
+        this.permissionMainOverride = builder.permissionMainOverride;
+        this.permissionSuffix = builder.permissionSuffix;
+        this.supportsOthers = builder.supportsOthers;
+        this.suggestedLevel = builder.suggestedLevel;
+        this.permissionsFrom = builder.permissionsFrom;
+        this.requiredPermissionSuffixes = builder.requiredPermissionSuffixes;
+    }
+
+    public Class<?> getSourceType() {
+        return this.sourceType;
+    }
+
+    /**
+     * Gets whether the command has a {@link RegisterCommand} annotation.
+     *
+     * @return Whether the command is registered.
+     */
+    public boolean isRegistered() {
+        return this.registered;
+    }
+
+    public String[] getAliases() {
+        return this.aliases.clone();
+    }
+
+    public Class<? extends AbstractCommand> getSubcommandOf() {
+        return this.subcommandOf;
+    }
+
+    public String[] getRootAliasRegister() {
+        return this.rootAliasRegister.clone();
+    }
+
+    public boolean hasExecutor() {
+        return this.hasExecutor;
+    }
+
+    public boolean isNoCommandPrefix() {
+        return this.noCommandPrefix;
+    }
+
+    public boolean isNoModifiers() {
+        return this.noModifiers;
+    }
+
+    public boolean isNoWarmup() {
+        return this.noWarmup;
+    }
+
+    public boolean isGenerateWarmupConfigEntry() {
+        return this.generateWarmupConfigEntry;
+    }
+
+    public boolean isGenerateWarmupPermissionDocs() {
+        return this.generateWarmupPermissionDocs;
+    }
+
+    public boolean isNoCooldown() {
+        return this.noCooldown;
+    }
+
+    public boolean isNoCost() {
+        return this.noCost;
+    }
+
+    public boolean isSetCooldownManually() {
+        return this.setCooldownManually;
+    }
+
+    @Nullable
+    public String getRedirectModifiers() {
+        return this.redirectModifiers;
+    }
+
+    public boolean isRedirectRequiresGeneration() {
+        return this.redirectRequiresGeneration;
+    }
+
+    public boolean isRequiresEconomy() {
+        return this.requiresEconomy;
+    }
+
+    public boolean isNoTimings() {
+        return this.noTimings;
+    }
+
+    public boolean isRunAsync() {
+        return this.runAsync;
+    }
+
+    public boolean isNoPermissions() {
+        return this.noPermissions;
+    }
+
+    public boolean isNoDocumentation() {
+        return this.noDocumentation;
+    }
+
+    public String getPermissionPrefix() {
+        return this.permissionPrefix;
+    }
+
+    public String getPermissionMainOverride() {
+        return this.permissionMainOverride;
+    }
+
+    public String getPermissionSuffix() {
+        return this.permissionSuffix;
+    }
+
+    public boolean isSupportsOthers() {
+        return this.supportsOthers;
+    }
+
+    public SuggestedLevel getSuggestedLevel() {
+        return this.suggestedLevel;
+    }
+
+    /**
+     * Gets the command that this command takes its permissions from, if
+     * {@link PermissionsFrom} is present and names a command.
+     *
+     * @return The command, or null.
+     */
+    @Nullable
+    public Class<? extends AbstractCommand> getPermissionsFrom() {
+        return this.permissionsFrom;
+    }
+
+    /**
+     * Gets the suffixes of the permissions that must be checked in addition
+     * to the base permission, from {@link PermissionsFrom#requiresSuffix()}.
+     *
+     * @return The suffixes, or null if {@link PermissionsFrom} is not present.
+     */
+    @Nullable
+    public String[] getRequiredPermissionSuffixes() {
+        return this.requiredPermissionSuffixes == null ? null : this.requiredPermissionSuffixes.clone();
+    }
+
+    /**
+     * Used by the generated metadata and when reading the annotations. Each
+     * method corresponds to one annotation, anything that is not set takes
+     * the annotation's default, or is treated as not present.
+     */
+    static final class Builder {
+
+        private final Class<?> sourceType;
+        private boolean registered = false;
+        private String[] aliases = new String[0];
+        private Class<? extends AbstractCommand> subcommandOf = AbstractCommand.class;
+        private String[] rootAliasRegister = new String[0];
+        private boolean hasExecutor = false;
+        private boolean noCommandPrefix = false;
+        private boolean noModifiers = false;
+        private boolean noWarmup = false;
+        private boolean generateWarmupConfigEntry = false;
+        private boolean generateWarmupPermissionDocs = false;
+        private boolean noCooldown = false;
+        private boolean noCost = false;
+        private boolean setCooldownManually = false;
+        @Nullable private String redirectModifiers = null;
+        private boolean redirectRequiresGeneration = false;
+        private boolean requiresEconomy = false;
+        private boolean noTimings = false;
+        private boolean runAsync = false;
+        private boolean noPermissions = false;
+        private boolean noDocumentation = false;
+        private String permissionPrefix = "";
+        private String permissionMainOverride = "";
+        private String permissionSuffix = "";
+        private boolean supportsOthers = false;
+        private SuggestedLevel suggestedLevel = SuggestedLevel.ADMIN;
+        @Nullable private Class<? extends AbstractCommand> permissionsFrom = null;
+        @Nullable private String[] requiredPermissionSuffixes = null;
+
+        private Builder(Class<?> sourceType) {
+            this.sourceType = sourceType;
+        }
+
+        Builder register(String[] aliases, Class<? extends AbstractCommand> subcommandOf, String[] rootAliasRegister, boolean hasExecutor) {
+            this.registered = true;
+            this.aliases = aliases;
+            this.subcommandOf = subcommandOf;
+            this.rootAliasRegister = rootAliasRegister;
+            this.hasExecutor = hasExecutor;
+            return this;
+        }
+
+        Builder noCommandPrefix() {
+            this.noCommandPrefix = true;
+            return this;
+        }
+
+        Builder noModifiers() {
+            this.noModifiers = true;
+            return this;
+        }
+
+        Builder noWarmup(boolean generateConfigEntry, boolean generatePermissionDocs) {
+            this.noWarmup = true;
+            this.generateWarmupConfigEntry = generateConfigEntry;
+            this.generateWarmupPermissionDocs = generatePermissionDocs;
+            return this;
+        }
+
+        Builder noCooldown() {
+            this.noCooldown = true;
+            return this;
+        }
+
+        Builder noCost() {
+            this.noCost = true;
+            return this;
+        }
+
+        Builder setCooldownManually() {
+            this.setCooldownManually = true;
+            return this;
+        }
+
+        Builder redirectModifiers(String value, boolean requireGeneration) {
+            this.redirectModifiers = value;
+            this.redirectRequiresGeneration = requireGeneration;
+            return this;
+        }
+
+        Builder requiresEconomy() {
+            this.requiresEconomy = true;
+            return this;
+        }
+
+        Builder noTimings() {
+            this.noTimings = true;
+            return this;
+        }
+
+        Builder runAsync() {
+            this.runAsync = true;
+            return this;
+        }
+
+        Builder noPermissions() {
+            this.noPermissions = true;
+            return this;
+        }
+
+        Builder noDocumentation() {
+            this.noDocumentation = true;
+            return this;
+        }
+
+        Builder permissions(String prefix, String mainOverride, String suffix, boolean supportsOthers, SuggestedLevel suggestedLevel) {
+            this.permissionPrefix = prefix;
+            this.permissionMainOverride = mainOverride;
+            this.permissionSuffix = suffix;
+            this.supportsOthers = supportsOthers;
+            this.suggestedLevel = suggestedLevel;
+            return this;
+        }
+
+        Builder permissionsFrom(Class<? extends AbstractCommand> value, String[] requiresSuffix) {
+            this.permissionsFrom = value == AbstractCommand.class ? null : value;
+            this.requiredPermissionSuffixes = requiresSuffix;
+            return this;
+        }
+
+        CommandMetadata build() {
+            return new CommandMetadata(this);
+        }
+    }
+}
@@ -9,25 +9,56 @@ import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.util.TextMessageException;
 
+import javax.annotation.Nullable;
+
 /**
  * Simple exception to only send back an error message to the user. Useful in optionals.
  */
 public class ReturnMessageException extends TextMessageException {
 
+    // Kept so that the message can be sent in the language of whoever ran the command.
+    @Nullable private final String key;
+    private final Object[] args;
+
     public ReturnMessageException(Text text) {
         super(text);
+        this.key = null;
+        this.args = new Object[0];
     }
 
     public ReturnMessageException(Text text, Throwable inner) {
         super(text, inner);
+        this.key = null;
+        this.args = new Object[0];
+    }
+
+    private ReturnMessageException(String key, Object... args) {
+        super(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(key, args));
+        this.key = key;
+        this.args = args;
+    }
+
+    /**
+     * Gets the message to send to the supplied {@link CommandSource}.
+     *
+     * @param source The {@link CommandSource}.
+     * @return The message.
+     */
+    @Nullable
+    public Text getText(CommandSource source) {
+        if (this.key == null) {
+            return getText();
+        }
+
+        return Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat(this.key, this.args);
     }
 
     public static ReturnMessageException fromKey(CommandSource source, String loc, Object... arg) {
-        return new ReturnMessageException(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(loc, arg));
+        return new ReturnMessageException(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat(loc, arg));
     }
 
     public static ReturnMessageException fromKey(String loc, Object... arg) {
-        return new ReturnMessageException(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(loc, arg));
+        return new ReturnMessageException(loc, arg);
     }
 
 }
@@ -0,0 +1,87 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.internal.messages;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.entity.living.player.Player;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Selects the {@link MessageProvider} to use for a player, based on the
+ * language their client is set to.
+ *
+ * <p>Each translation that is used gets its own provider, and so its own
+ * cache of compiled messages. Players whose language has not been translated,
+ * and anything that is not a player, such as the console, get the server's
+ * provider.</p>
+ *
+ * <p>Only messages that are built with the provider for the receiver are
+ * translated, so messages for a single receiver should be built with
+ * {@link #getMessageProvider(CommandSource)}. Broadcasts, and messages that
+ * are built once for several receivers, use the server's provider.</p>
+ */
+public final class MessageCatalog {
+
+    private final String bundle;
+    private final MessageProvider serverProvider;
+    private final boolean useClientLocale;
+
+    private final Cache<Locale, MessageProvider> localeToProvider = Caffeine.newBuilder().maximumSize(64).build();
+    private final Map<Locale, MessageProvider> bundleLocaleToProvider = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a catalog.
+     *
+     * @param bundle The name of the resource bundle that holds the translations.
+     * @param serverProvider The provider to use for the console, and when the
+     *                       client language is not used or not available.
+     * @param useClientLocale Whether to use the client language of players.
+     */
+    public MessageCatalog(String bundle, MessageProvider serverProvider, boolean useClientLocale) {
+        this.bundle = bundle;
+        this.serverProvider = serverProvider;
+        this.useClientLocale = useClientLocale;
+    }
+
+    public MessageProvider getMessageProvider(CommandSource source) {
+        if (source instanceof Player) {
+            return getMessageProvider(source.getLocale());
+        }
+
+        return this.serverProvider;
+    }
+
+    public MessageProvider getMessageProvider(Locale locale) {
+        if (!this.useClientLocale) {
+            return this.serverProvider;
+        }
+
+        return this.localeToProvider.get(locale, this::createProvider);
+    }
+
+    private MessageProvider createProvider(Locale locale) {
+        // The base bundle is in English. Asking for it directly avoids falling back to the system language.
+        boolean english = locale.getLanguage().equals(Locale.ENGLISH.getLanguage());
+        ResourceBundle rb = ResourceBundle.getBundle(this.bundle, english ? Locale.ROOT : locale, new UTF8Control());
+        Locale bundleLocale = rb.getLocale();
+        if (!english && !bundleLocale.getLanguage().equals(locale.getLanguage())) {
+            // This language has not been translated.
+            return this.serverProvider;
+        }
+
+        MessageProvider provider = this.bundleLocaleToProvider.computeIfAbsent(bundleLocale, x -> new ResourceMessageProvider(rb));
+        if (provider.getLocale().equals(this.serverProvider.getLocale())) {
+            return this.serverProvider;
+        }
+
+        return provider;
+    }
+}
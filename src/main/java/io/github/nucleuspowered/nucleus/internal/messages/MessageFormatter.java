@@ -0,0 +1,111 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.internal.messages;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+/**
+ * A message that has been split into its literal text and its {@code {0}}
+ * style arguments, so that it can be formatted without any parsing.
+ *
+ * <p>Braces that do not contain an argument number, such as
+ * {@code {{name}}}, and apostrophes are literal text, in the same way that
+ * they are escaped before being passed to {@link MessageFormat}. Messages
+ * that use a format type, such as {@code {0,number}}, are still formatted by
+ * {@link MessageFormat}.</p>
+ */
+public final class MessageFormatter {
+
+    private static final Pattern ARGUMENT = Pattern.compile("\\{(\\d+)}");
+    private static final Pattern FORMAT_TYPE = Pattern.compile("\\{\\d+\\s*,[^}]*}");
+    private static final Pattern STRING_REPLACER = Pattern.compile("\\{+[^0-9]+}+");
+
+    // There is always one more literal than there are arguments.
+    private final String[] literals;
+    private final int[] arguments;
+    private final int length;
+    @Nullable private final String pattern;
+
+    /**
+     * Compiles a message.
+     *
+     * @param message The message, as it appears in the messages file.
+     * @return The {@link MessageFormatter}.
+     */
+    public static MessageFormatter compile(String message) {
+        if (FORMAT_TYPE.matcher(message).find()) {
+            return new MessageFormatter(STRING_REPLACER.matcher(message.replaceAll("'", "''")).replaceAll("'$0'"));
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<Integer> arguments = new ArrayList<>();
+        Matcher matcher = ARGUMENT.matcher(message);
+        int last = 0;
+        while (matcher.find()) {
+            literals.add(message.substring(last, matcher.start()));
+            arguments.add(Integer.parseInt(matcher.group(1)));
+            last = matcher.end();
+        }
+
+        literals.add(message.substring(last));
+        return new MessageFormatter(literals.toArray(new String[0]), arguments.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private MessageFormatter(String[] literals, int[] arguments) {
+        this.literals = literals;
+        this.arguments = arguments;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+
+        this.length = length;
+        this.pattern = null;
+    }
+
+    private MessageFormatter(String pattern) {
+        this.literals = new String[0];
+        this.arguments = new int[0];
+        this.length = 0;
+        this.pattern = pattern;
+    }
+
+    /**
+     * Formats the message. Arguments that have not been supplied are left as
+     * they are, for example {@code {1}}.
+     *
+     * @param substitutions The arguments.
+     * @return The formatted message.
+     */
+    public String format(Object... substitutions) {
+        if (this.pattern != null) {
+            return MessageFormat.format(this.pattern, substitutions);
+        }
+
+        if (this.arguments.length == 0) {
+            return this.literals[0];
+        }
+
+        StringBuilder sb = new StringBuilder(this.length + 16 * this.arguments.length).append(this.literals[0]);
+        for (int i = 0; i < this.arguments.length; i++) {
+            int argument = this.arguments[i];
+            if (argument < substitutions.length) {
+                sb.append(substitutions[argument]);
+            } else {
+                sb.append('{').append(argument).append('}');
+            }
+
+            sb.append(this.literals[i + 1]);
+        }
+
+        return sb.toString();
+    }
+}
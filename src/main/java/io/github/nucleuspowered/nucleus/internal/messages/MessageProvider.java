@@ -4,6 +4,8 @@
  */
 package io.github.nucleuspowered.nucleus.internal.messages;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import io.github.nucleuspowered.nucleus.Nucleus;
@@ -14,12 +16,10 @@ import org.spongepowered.api.text.TextRepresentable;
 import org.spongepowered.api.text.TextTemplate;
 import org.spongepowered.api.text.translation.Translatable;
 
-import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -27,11 +27,16 @@ import java.util.stream.Collectors;
 
 public abstract class MessageProvider {
 
-    private final static Pattern STRING_REPLACER = Pattern.compile("\\{+[^0-9]+}+");
+    private final static Pattern ARGUMENT = Pattern.compile("\\{([\\d]+)}");
+    private final static int CACHE_SIZE = 1000;
+
     public abstract Locale getLocale();
 
     public abstract Optional<String> getMessageFromKey(String key);
-    private final Map<String, TextTemplate> textTemplateMap = Maps.newHashMap();
+
+    // Compiled messages for the keys in use, so that each message is only parsed once.
+    private final Cache<String, MessageFormatter> formatters = Caffeine.newBuilder().maximumSize(CACHE_SIZE).build();
+    private final Cache<String, TextTemplate> textTemplates = Caffeine.newBuilder().maximumSize(CACHE_SIZE).build();
 
     public Locale setLocale(String string) {
         return setLocale(Locale.forLanguageTag(string));
@@ -40,15 +45,18 @@ public abstract class MessageProvider {
     public abstract Locale setLocale(Locale locale);
 
     public String getMessageWithFormat(String key, String... substitutions) {
-        try {
-            String valueReplacement = STRING_REPLACER.matcher(getMessageFromKey(key)
-                    .orElseThrow(() -> new IllegalArgumentException("The key " + key + " does not exist!"))
-                    .replaceAll("'", "''")
-            ).replaceAll("'$0'");
-            return MessageFormat.format(valueReplacement, (Object[]) substitutions);
-        } catch (NoSuchElementException e) {
-            throw new IllegalArgumentException("The message key " + key + " does not exist!");
-        }
+        return this.formatters.get(key, k -> MessageFormatter.compile(getMessageFromKey(k)
+                .orElseThrow(() -> new IllegalArgumentException("The key " + k + " does not exist!"))))
+                .format((Object[]) substitutions);
+    }
+
+    /**
+     * Discards the compiled messages, for when the messages that back this
+     * provider have changed.
+     */
+    protected void clearCache() {
+        this.formatters.invalidateAll();
+        this.textTemplates.invalidateAll();
     }
 
     public final Text getTextMessageWithFormat(String key, Object... substitutions) {
@@ -76,7 +84,7 @@ public abstract class MessageProvider {
     }
 
     private Text getTextMessageWithTextFormat(String key, List<? extends TextRepresentable> textList) {
-        TextTemplate template = this.textTemplateMap.computeIfAbsent(key, k -> templateCreator(getMessageWithFormat(k)));
+        TextTemplate template = this.textTemplates.get(key, k -> templateCreator(getMessageWithFormat(k)));
         if (textList.isEmpty()) {
             return template.toText();
         }
@@ -91,14 +99,14 @@ public abstract class MessageProvider {
 
     private TextTemplate templateCreator(String string) {
         // regex!
-        Matcher mat = Pattern.compile("\\{([\\d]+)}").matcher(string);
+        Matcher mat = ARGUMENT.matcher(string);
         List<Integer> map = Lists.newArrayList();
 
         while (mat.find()) {
             map.add(Integer.parseInt(mat.group(1)));
         }
 
-        String[] s = string.split("\\{([\\d]+)}");
+        String[] s = ARGUMENT.split(string);
 
         List<Object> objects = Lists.newArrayList();
         Text t = TextParsingUtils.oldLegacy(s[0]);
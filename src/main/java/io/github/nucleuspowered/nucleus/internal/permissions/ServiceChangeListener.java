@@ -49,6 +49,7 @@ public class ServiceChangeListener {
     public void onServiceChange(ChangeServiceProviderEvent event) {
         if (event.getService().isInstance(PermissionService.class)) {
             this.isOpOnly = checkProvider(event.getNewProviderRegistration());
+            SubjectDecisionCache.getInstance().invalidateAll();
 
             for (ContextCalculator<Subject> contextCalculator : this.contextCalculators) {
                 ((PermissionService) event.getNewProvider()).registerContextCalculator(contextCalculator);
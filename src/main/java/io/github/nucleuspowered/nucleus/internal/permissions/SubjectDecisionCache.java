@@ -0,0 +1,201 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.internal.permissions;
+
+import co.aikar.timings.Timing;
+import co.aikar.timings.Timings;
+import io.github.nucleuspowered.nucleus.Nucleus;
+import io.github.nucleuspowered.nucleus.internal.TimingsDummy;
+import io.github.nucleuspowered.nucleus.internal.services.PermissionResolver;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.filter.cause.Root;
+import org.spongepowered.api.event.network.ClientConnectionEvent;
+import org.spongepowered.api.event.permission.SubjectDataUpdateEvent;
+import org.spongepowered.api.service.context.Context;
+import org.spongepowered.api.service.permission.Subject;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import javax.annotation.Nullable;
+
+/**
+ * Caches the results of permission checks and option lookups for online
+ * players, for the set of contexts that they were active in.
+ *
+ * <p>The cache is cleared when the permission service changes, or when the
+ * permission plugin reports that subject data has changed. Entries also
+ * expire after a short time, for permission plugins that do not report
+ * changes.</p>
+ */
+public class SubjectDecisionCache {
+
+    private static final SubjectDecisionCache INSTANCE = new SubjectDecisionCache();
+
+    public static SubjectDecisionCache getInstance() {
+        return INSTANCE;
+    }
+
+    private final Map<UUID, Decisions> decisions = new ConcurrentHashMap<>();
+    private final AtomicLong permissionHits = new AtomicLong();
+    private final AtomicLong permissionMisses = new AtomicLong();
+    private final AtomicLong optionHits = new AtomicLong();
+    private final AtomicLong optionMisses = new AtomicLong();
+
+    private volatile long expiry = 0;
+    private Timing uncachedTimings = TimingsDummy.DUMMY;
+
+    private SubjectDecisionCache() {}
+
+    /**
+     * Sets how long decisions are cached for. Zero or less disables the cache.
+     *
+     * @param seconds The number of seconds to cache decisions for.
+     */
+    public void setExpiry(long seconds) {
+        if (this.uncachedTimings == TimingsDummy.DUMMY) {
+            try {
+                this.uncachedTimings = Timings.of(Nucleus.getNucleus(), "Permission and Option Checks - Uncached");
+            } catch (Exception e) {
+                // ignored
+            }
+        }
+
+        this.expiry = seconds > 0 ? TimeUnit.SECONDS.toNanos(seconds) : 0;
+        invalidateAll();
+    }
+
+    /**
+     * Wraps a {@link PermissionResolver} so that its results are cached.
+     *
+     * @param resolver The {@link PermissionResolver} to wrap.
+     * @return The caching {@link PermissionResolver}
+     */
+    public PermissionResolver wrap(PermissionResolver resolver) {
+        return (subject, permission) -> hasPermission(subject, permission, resolver);
+    }
+
+    public boolean hasPermission(Subject subject, String permission, PermissionResolver resolver) {
+        Decisions d = getDecisions(subject);
+        if (d == null) {
+            return resolver.hasPermission(subject, permission);
+        }
+
+        Boolean result = d.permissions.get(permission);
+        if (result != null) {
+            this.permissionHits.incrementAndGet();
+            return result;
+        }
+
+        this.permissionMisses.incrementAndGet();
+        try {
+            this.uncachedTimings.startTimingIfSync();
+            result = resolver.hasPermission(subject, permission);
+        } finally {
+            this.uncachedTimings.stopTimingIfSync();
+        }
+
+        d.permissions.put(permission, result);
+        return result;
+    }
+
+    public Optional<String> getOption(Subject subject, String option, BiFunction<Subject, String, Optional<String>> lookup) {
+        Decisions d = getDecisions(subject);
+        if (d == null) {
+            return lookup.apply(subject, option);
+        }
+
+        Optional<String> result = d.options.get(option);
+        if (result != null) {
+            this.optionHits.incrementAndGet();
+            return result;
+        }
+
+        this.optionMisses.incrementAndGet();
+        try {
+            this.uncachedTimings.startTimingIfSync();
+            result = lookup.apply(subject, option);
+        } finally {
+            this.uncachedTimings.stopTimingIfSync();
+        }
+
+        d.options.put(option, result);
+        return result;
+    }
+
+    public void invalidate(UUID uuid) {
+        this.decisions.remove(uuid);
+    }
+
+    public void invalidateAll() {
+        this.decisions.clear();
+    }
+
+    public long getPermissionHits() {
+        return this.permissionHits.get();
+    }
+
+    public long getPermissionMisses() {
+        return this.permissionMisses.get();
+    }
+
+    public long getOptionHits() {
+        return this.optionHits.get();
+    }
+
+    public long getOptionMisses() {
+        return this.optionMisses.get();
+    }
+
+    @Listener(order = Order.POST)
+    public void onSubjectDataUpdate(SubjectDataUpdateEvent event) {
+        // We can't tell which players a group change affects.
+        invalidateAll();
+    }
+
+    @Listener(order = Order.POST)
+    public void onPlayerQuit(ClientConnectionEvent.Disconnect event, @Root Player player) {
+        invalidate(player.getUniqueId());
+    }
+
+    @Nullable
+    private Decisions getDecisions(Subject subject) {
+        if (this.expiry <= 0 || !(subject instanceof Player)) {
+            return null;
+        }
+
+        UUID uuid = ((Player) subject).getUniqueId();
+        Set<Context> contexts = subject.getActiveContexts();
+        long now = System.nanoTime();
+        Decisions d = this.decisions.get(uuid);
+        if (d == null || now - d.created > this.expiry || !d.contexts.equals(contexts)) {
+            d = new Decisions(contexts, now);
+            this.decisions.put(uuid, d);
+        }
+
+        return d;
+    }
+
+    private static final class Decisions {
+
+        private final Set<Context> contexts;
+        private final long created;
+        private final Map<String, Boolean> permissions = new ConcurrentHashMap<>();
+        private final Map<String, Optional<String>> options = new ConcurrentHashMap<>();
+
+        private Decisions(Set<Context> contexts, long created) {
+            this.contexts = contexts;
+            this.created = created;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.internal.qsml;
+
+import io.github.nucleuspowered.nucleus.internal.command.CommandMetadata;
+import uk.co.drnaylor.quickstart.Module;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+/**
+ * The modules, and the classes that each module loads, as found by the
+ * annotation processor at compile time. This replaces scanning the classpath
+ * and looking up classes by name at startup.
+ *
+ * <p>Where the processor could see a public no-args constructor, it also
+ * supplies a constructor reference, so that the class does not need to be
+ * instantiated reflectively.</p>
+ *
+ * <p>Only the modules themselves are registered up front. The classes of a
+ * module are registered the first time they are requested, so the classes of
+ * disabled modules are never loaded, and a class that fails to link only
+ * affects the module that it belongs to.</p>
+ */
+public final class ModuleClassRegistry {
+
+    private static final ModuleClassRegistry instance = new ModuleClassRegistry();
+
+    static {
+        GeneratedModuleClasses.register(instance);
+    }
+
+    public static ModuleClassRegistry getInstance() {
+        return instance;
+    }
+
+    private final Map<Class<? extends Module>, Consumer<ModuleClassRegistry>> registrations = new LinkedHashMap<>();
+    private final Map<Class<? extends Module>, Map<String, List<Class<?>>>> classes = new HashMap<>();
+    private final Map<Class<?>, Supplier<?>> constructors = new HashMap<>();
+
+    private ModuleClassRegistry() {
+    }
+
+    <T extends Module> void addModule(Class<T> module, @Nullable Supplier<T> constructor, Consumer<ModuleClassRegistry> registration) {
+        this.registrations.put(module, registration);
+        if (constructor != null) {
+            this.constructors.put(module, constructor);
+        }
+    }
+
+    <T> void add(Class<? extends Module> module, String key, Class<T> clazz, @Nullable Supplier<T> constructor) {
+        this.classes.get(module).computeIfAbsent(key, x -> new ArrayList<>()).add(clazz);
+        if (constructor != null) {
+            this.constructors.put(clazz, constructor);
+        }
+    }
+
+    // For classes that cannot be referenced from this package.
+    void add(Class<? extends Module> module, String key, String className) {
+        try {
+            add(module, key, Class.forName(className), null);
+        } catch (ClassNotFoundException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public boolean isEmpty() {
+        return this.registrations.isEmpty();
+    }
+
+    public Set<Class<? extends Module>> getModules() {
+        return Collections.unmodifiableSet(this.registrations.keySet());
+    }
+
+    /**
+     * Gets the classes that the given module will load, keyed on the type of
+     * class, as defined in {@link io.github.nucleuspowered.nucleus.internal.Constants}.
+     *
+     * <p>The first call for a module loads its classes and registers the
+     * metadata of its commands.</p>
+     *
+     * @param module The module.
+     * @return The classes, or null if the module is not known.
+     * @throws RuntimeException if one of the classes could not be loaded.
+     */
+    @Nullable
+    public synchronized Map<String, List<Class<?>>> getClasses(Class<? extends Module> module) {
+        Map<String, List<Class<?>>> moduleClasses = this.classes.get(module);
+        if (moduleClasses == null) {
+            Consumer<ModuleClassRegistry> registration = this.registrations.get(module);
+            if (registration == null) {
+                return null;
+            }
+
+            this.classes.put(module, new HashMap<>());
+            try {
+                registration.accept(this);
+                CommandMetadata.registerModule(module);
+            } catch (RuntimeException | LinkageError e) {
+                this.classes.remove(module);
+                throw new RuntimeException("Could not load the classes for " + module.getName(), e);
+            }
+
+            moduleClasses = this.classes.get(module);
+        }
+
+        return moduleClasses;
+    }
+
+    /**
+     * Creates an instance of the class, using the generated constructor
+     * reference if there is one.
+     *
+     * @param clazz The class.
+     * @param <T> The type of the class.
+     * @return The new instance.
+     * @throws InstantiationException if the class cannot be created reflectively.
+     * @throws IllegalAccessException if the constructor cannot be accessed reflectively.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T newInstance(Class<T> clazz) throws InstantiationException, IllegalAccessException {
+        Supplier<?> constructor = this.constructors.get(clazz);
+        if (constructor != null) {
+            return (T) constructor.get();
+        }
+
+        return clazz.newInstance();
+    }
+}
@@ -9,28 +9,28 @@ import uk.co.drnaylor.quickstart.Module;
 import uk.co.drnaylor.quickstart.exceptions.QuickStartModuleLoaderException;
 import uk.co.drnaylor.quickstart.loaders.ModuleConstructor;
 
-import java.util.List;
-import java.util.Map;
+import javax.annotation.Nullable;
 
 public class QuickStartModuleConstructor implements ModuleConstructor {
 
-    private final Map<String, Map<String, List<String>>> mm;
+    @Nullable private final ModuleClassRegistry registry;
 
-    public QuickStartModuleConstructor(Map<String, Map<String, List<String>>> m) {
-         this.mm = m;
+    public QuickStartModuleConstructor(@Nullable ModuleClassRegistry registry) {
+         this.registry = registry;
     }
 
     @Override
     public Module constructModule(Class<? extends Module> moduleClass) throws QuickStartModuleLoaderException.Construction {
         Module m;
         try {
-            m = moduleClass.newInstance();
+            m = this.registry == null ? moduleClass.newInstance() : this.registry.newInstance(moduleClass);
         } catch (InstantiationException | IllegalAccessException e) {
             throw new QuickStartModuleLoaderException.Construction(moduleClass, "Could not instantiate module!", e);
         }
 
-        if (m instanceof StandardModule) {
-            ((StandardModule) m).init(this.mm.get(moduleClass.getName()));
+        if (m instanceof StandardModule && this.registry != null) {
+            ModuleClassRegistry registry = this.registry;
+            ((StandardModule) m).init(() -> registry.getClasses(moduleClass));
         }
 
         return m;
@@ -23,6 +23,7 @@ import io.github.nucleuspowered.nucleus.internal.annotations.command.RegisterCom
 import io.github.nucleuspowered.nucleus.internal.annotations.command.Scan;
 import io.github.nucleuspowered.nucleus.internal.command.AbstractCommand;
 import io.github.nucleuspowered.nucleus.internal.command.CommandBuilder;
+import io.github.nucleuspowered.nucleus.internal.command.CommandMetadata;
 import io.github.nucleuspowered.nucleus.internal.command.ICommandInterceptor;
 import io.github.nucleuspowered.nucleus.internal.docgen.DocGenCache;
 import io.github.nucleuspowered.nucleus.internal.interfaces.ListenerBase;
@@ -30,6 +31,7 @@ import io.github.nucleuspowered.nucleus.internal.interfaces.Reloadable;
 import io.github.nucleuspowered.nucleus.internal.interfaces.ServiceBase;
 import io.github.nucleuspowered.nucleus.internal.interfaces.TaskBase;
 import io.github.nucleuspowered.nucleus.internal.permissions.ServiceChangeListener;
+import io.github.nucleuspowered.nucleus.internal.qsml.ModuleClassRegistry;
 import io.github.nucleuspowered.nucleus.internal.registry.NucleusRegistryModule;
 import io.github.nucleuspowered.nucleus.internal.services.CommandRemapperService;
 import io.github.nucleuspowered.nucleus.internal.text.Tokens;
@@ -68,6 +70,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -81,7 +84,7 @@ public abstract class StandardModule implements Module, InternalServiceManagerTr
     private String packageName;
     protected final Nucleus plugin;
     private final CommandsConfig commandsConfig;
-    @Nullable private Map<String, List<String>> objectTypesToClassListMap;
+    @Nullable private Supplier<Map<String, List<Class<?>>>> objectTypesToClassListMap;
     private final String message = NucleusPlugin.getNucleus().getMessageProvider().getMessageWithFormat("config.enabled");
 
     public StandardModule() {
@@ -92,7 +95,13 @@ public abstract class StandardModule implements Module, InternalServiceManagerTr
         this.commandsConfig = this.plugin.getCommandsConfig();
     }
 
-    public void init(Map<String, List<String>> m) {
+    /**
+     * Sets where the classes this module loads come from. The supplier is
+     * only called when the module is enabled.
+     *
+     * @param m The supplier of the classes, keyed on the type of class.
+     */
+    public void init(@Nullable Supplier<Map<String, List<Class<?>>>> m) {
         this.objectTypesToClassListMap = m;
     }
 
@@ -119,6 +128,7 @@ public abstract class StandardModule implements Module, InternalServiceManagerTr
 
     @Override
     public final void preEnable() {
+        long start = System.nanoTime();
         try {
             loadRegistries();
             loadServices();
@@ -127,6 +137,8 @@ public abstract class StandardModule implements Module, InternalServiceManagerTr
         } catch (Exception e) {
             e.printStackTrace();
             throw new RuntimeException("Cannot enable module!", e);
+        } finally {
+            this.plugin.getStartupTimings().addModule(this.moduleId, start);
         }
     }
 
@@ -228,6 +240,7 @@ public abstract class StandardModule implements Module, InternalServiceManagerTr
 
     @Override
     public final void onEnable() {
+        long start = System.nanoTime();
         this.packageName = this.getClass().getPackage().getName() + ".";
 
         // Construct commands
@@ -241,11 +254,14 @@ public abstract class StandardModule implements Module, InternalServiceManagerTr
         } catch (Exception e) {
             e.printStackTrace();
             throw new RuntimeException("Cannot enable module!", e);
+        } finally {
+            this.plugin.getStartupTimings().addModule(this.moduleId, start);
         }
     }
 
     @Override
     public final void postEnable() {
+        long start = System.nanoTime();
         loadTokens();
         setPermissionPredicates();
         configTasks();
@@ -254,6 +270,8 @@ public abstract class StandardModule implements Module, InternalServiceManagerTr
         } catch (Exception e) {
             e.printStackTrace();
             throw new RuntimeException("Cannot perform post enable on module!", e);
+        } finally {
+            this.plugin.getStartupTimings().addModule(this.moduleId, start);
         }
     }
 
@@ -282,8 +300,8 @@ public abstract class StandardModule implements Module, InternalServiceManagerTr
 
         // We all love the special injector. We just want to provide the module with more commands, in case it needs a child.
         Set<Class<? extends AbstractCommand>> commandBases =  cmds.stream().filter(x -> {
-            RegisterCommand rc = x.getAnnotation(RegisterCommand.class);
-            return (rc != null && rc.subcommandOf().equals(AbstractCommand.class));
+            CommandMetadata md = CommandMetadata.of(x);
+            return md.isRegistered() && md.getSubcommandOf().equals(AbstractCommand.class);
         }).collect(Collectors.toSet());
 
         CommandBuilder builder = new CommandBuilder(this.plugin, cmds, this.moduleId, this.moduleName);
@@ -538,7 +556,7 @@ public abstract class StandardModule implements Module, InternalServiceManagerTr
                 clazz.getDeclaredMethods();
             }
 
-            return clazz.newInstance();
+            return ModuleClassRegistry.getInstance().newInstance(clazz);
 
         // I can't believe I have to do this...
         } catch (IllegalAccessException | InstantiationException | RuntimeException | NoClassDefFoundError e) {
@@ -617,19 +635,17 @@ public abstract class StandardModule implements Module, InternalServiceManagerTr
         register(impl, object);
     }
 
+    @SuppressWarnings("unchecked")
     private <T> Set<Class<? extends T>> getClassesFromList(String key) {
-        List<String> list = this.objectTypesToClassListMap.get(key);
+        Map<String, List<Class<?>>> map = this.objectTypesToClassListMap.get();
+        List<Class<?>> list = map == null ? null : map.get(key);
         if (list == null) {
             return new HashSet<>();
         }
 
         Set<Class<? extends T>> classes = new HashSet<>();
-        for (String s : list) {
-            try {
-                checkPlatformOpt((Class<? extends T>) Class.forName(s)).ifPresent(classes::add);
-            } catch (ClassNotFoundException e) {
-                throw new RuntimeException(e);
-            }
+        for (Class<?> c : list) {
+            checkPlatformOpt((Class<? extends T>) c).ifPresent(classes::add);
         }
         return classes;
     }
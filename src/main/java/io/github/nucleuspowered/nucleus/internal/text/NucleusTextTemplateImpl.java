@@ -8,6 +8,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.reflect.TypeToken;
 import io.github.nucleuspowered.nucleus.Nucleus;
+import io.github.nucleuspowered.nucleus.api.service.NucleusMessageTokenService;
 import io.github.nucleuspowered.nucleus.api.text.NucleusTextTemplate;
 import io.github.nucleuspowered.nucleus.util.JsonConfigurateStringHelper;
 import io.github.nucleuspowered.nucleus.util.Tuples;
@@ -39,9 +40,11 @@ public abstract class NucleusTextTemplateImpl implements NucleusTextTemplate {
 
     @Nullable private final Text prefix;
     @Nullable private final Text suffix;
+    @Nullable private final TextParsingUtils.StyleTuple prefixStyle;
     private final String representation;
     private final TextTemplate textTemplate;
     private final Map<String, Function<CommandSource, Text>> tokenMap = Maps.newHashMap();
+    private final TokenPlan[] plan;
 
     public NucleusTextTemplateImpl(String representation, @Nullable Text prefix, @Nullable Text suffix) {
         this.representation = representation;
@@ -51,6 +54,16 @@ public abstract class NucleusTextTemplateImpl implements NucleusTextTemplate {
         this.tokenMap.putAll(t.getSecond());
         this.prefix = prefix;
         this.suffix = suffix;
+        this.prefixStyle = prefix == null ? null : TextParsingUtils.getLastColourAndStyle(prefix, null);
+
+        // Work out where each argument comes from now, rather than every time we render.
+        Map<String, TextTemplate.Arg> arguments = this.textTemplate.getArguments();
+        this.plan = new TokenPlan[arguments.size()];
+        int i = 0;
+        for (String argument : arguments.keySet()) {
+            String key = argument.toLowerCase();
+            this.plan[i++] = new TokenPlan(argument, key, this.tokenMap.get(key));
+        }
     }
 
     public NucleusTextTemplateImpl(String representation) {
@@ -89,31 +102,26 @@ public abstract class NucleusTextTemplateImpl implements NucleusTextTemplate {
             @Nullable Map<String, Object> variables) {
         final Map<String, Object> variables2 = variables == null ? emptyVariables : variables;
 
-        Map<String, TextTemplate.Arg> tokens = this.textTemplate.getArguments();
-        Map<String, Text> finalArgs = Maps.newHashMap();
-
-        tokens.forEach((k, v) -> {
-            String key = k.toLowerCase();
-
+        Map<String, Text> finalArgs = Maps.newHashMapWithExpectedSize(this.plan.length);
+        for (TokenPlan tokenPlan : this.plan) {
             Text t;
-            if (this.tokenMap.containsKey(key)) {
-                t = this.tokenMap.get(key).apply(source);
-            } else if (tokensArray != null && tokensArray.containsKey(key)) {
-                t = tokensArray.get(key).apply(source).orElse(null);
+            if (tokenPlan.local != null) {
+                t = tokenPlan.local.apply(source);
+            } else if (tokensArray != null && tokensArray.containsKey(tokenPlan.key)) {
+                t = tokensArray.get(tokenPlan.key).apply(source).orElse(null);
             } else {
-                t = Nucleus.getNucleus().getMessageTokenService().parseToken(key, source, variables2).orElse(null);
+                t = tokenPlan.parse(source, variables2);
             }
 
             if (t != null) {
-                finalArgs.put(k, t);
+                finalArgs.put(tokenPlan.argument, t);
             }
-        });
+        }
 
         Text.Builder builder = Text.builder();
-        TextParsingUtils.StyleTuple st = null;
+        TextParsingUtils.StyleTuple st = this.prefixStyle;
         if (this.prefix != null) {
             builder.append(this.prefix);
-            st = TextParsingUtils.getLastColourAndStyle(this.prefix, null);
         }
 
         Text finalText = this.textTemplate.apply(finalArgs).build();
@@ -138,6 +146,37 @@ public abstract class NucleusTextTemplateImpl implements NucleusTextTemplate {
         return this.textTemplate.toText();
     }
 
+    private static final class TokenPlan {
+
+        private final String argument;
+        private final String key;
+        @Nullable private final Function<CommandSource, Text> local;
+        @Nullable private volatile NucleusTokenServiceImpl.BoundToken bound = null;
+
+        private TokenPlan(String argument, String key, @Nullable Function<CommandSource, Text> local) {
+            this.argument = argument;
+            this.key = key;
+            this.local = local;
+        }
+
+        @Nullable
+        private Text parse(CommandSource source, Map<String, Object> variables) {
+            NucleusTokenServiceImpl.BoundToken b = this.bound;
+            if (b == null) {
+                NucleusMessageTokenService service = Nucleus.getNucleus().getMessageTokenService();
+                if (!(service instanceof NucleusTokenServiceImpl)) {
+                    return service.parseToken(this.key, source, variables).orElse(null);
+                }
+
+                // The token service is created after some templates, so bind on first use.
+                b = ((NucleusTokenServiceImpl) service).bind(this.key);
+                this.bound = b;
+            }
+
+            return b.apply(source, variables).orElse(null);
+        }
+    }
+
     /**
      * Creates a {@link TextTemplate} from an Ampersand encoded string.
      */
@@ -36,6 +36,9 @@ public class NucleusTokenServiceImpl implements NucleusMessageTokenService {
     private final Map<String, Tuple<TokenParser, String>> primaryTokenStore = Maps.newHashMap();
     private final NucleusPlugin plugin;
 
+    // Incremented whenever the registered tokens change, so that bound tokens know to look up their parser again.
+    private volatile int generation = 0;
+
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType") private final Optional<Text> EMPTY = Optional.empty();
 
     public NucleusTokenServiceImpl(NucleusPlugin plugin) {
@@ -58,6 +61,7 @@ public class NucleusTokenServiceImpl implements NucleusMessageTokenService {
         }
 
         this.tokenStore.put(pluginContainer.getId(), textFunction);
+        this.generation++;
     }
 
     @Override public boolean unregister(PluginContainer pluginContainer) {
@@ -66,6 +70,7 @@ public class NucleusTokenServiceImpl implements NucleusMessageTokenService {
         TokenParser parser = this.tokenStore.remove(pluginContainer.getId());
         if (parser != null) {
             this.primaryTokenStore.entrySet().removeIf(x -> x.getValue().getFirst().equals(parser));
+            this.generation++;
             return true;
         }
 
@@ -78,6 +83,7 @@ public class NucleusTokenServiceImpl implements NucleusMessageTokenService {
             // Register!
             this.primaryTokenStore.put(primaryIdentifier.toLowerCase(), Tuple.of(this.tokenStore.get(registeringPlugin.getId()),
                     identiferToMapTo.toLowerCase()));
+            this.generation++;
             return true;
         }
 
@@ -113,7 +119,18 @@ public class NucleusTokenServiceImpl implements NucleusMessageTokenService {
         }
     }
 
-    private Optional<Text> getTextFromToken(String token, CommandSource source, Map<String, Object> variables) {
+    private Optional<Text> getTextFromToken(String token, CommandSource source, @Nullable Map<String, Object> variables) {
+        return bind(token).apply(source, variables);
+    }
+
+    /**
+     * Parses a token once, so that it can be applied many times without
+     * parsing it again.
+     *
+     * @param token The token, with or without the delimiters.
+     * @return The {@link BoundToken}
+     */
+    public BoundToken bind(String token) {
         token = token.toLowerCase().trim().replace("{{", "").replace("}}", "");
         Matcher m = suffixPattern.matcher(token);
         boolean addSpace = false;
@@ -123,42 +140,24 @@ public class NucleusTokenServiceImpl implements NucleusMessageTokenService {
             addSpace = match.contains("s");
             prependSpace = match.contains("p");
 
-            token = token.replaceAll(":[sp]+$", "");
+            token = token.substring(0, m.start());
         }
 
-        try {
-            Optional<Text> toReturn;
-            if (token.startsWith("pl:") || token.startsWith("p:")) {
-                // Plugin identifiers are of the form pl:<pluginid>:<identifier>
-                String[] tokSplit = token.split(":", 3);
-                if (tokSplit.length < 3) {
-                    return this.EMPTY;
-                }
-
-                toReturn = applyToken(tokSplit[1], tokSplit[2], source, variables);
-            } else if (token.startsWith("o:")) { // Option identifier.
-                toReturn = getTextFromOption(source, token.substring(2));
-            } else {
-                // Standard.
-                toReturn = applyPrimaryToken(token, source, variables);
-            }
-
-            if (addSpace) {
-                toReturn = toReturn.map(x -> x.isEmpty() ? x : Text.join(x, Util.SPACE));
-            }
-
-            if (prependSpace) {
-                toReturn = toReturn.map(x -> x.isEmpty() ? x : Text.join(Util.SPACE, x));
-            }
-
-            return toReturn;
-        } catch (Exception e) {
-            if (this.plugin.isDebugMode()) {
-                e.printStackTrace();
+        if (token.startsWith("pl:") || token.startsWith("p:")) {
+            // Plugin identifiers are of the form pl:<pluginid>:<identifier>
+            String[] tokSplit = token.split(":", 3);
+            if (tokSplit.length < 3) {
+                return new BoundToken(TokenType.INVALID, "", null, addSpace, prependSpace);
             }
 
-            return this.EMPTY;
+            return new BoundToken(TokenType.PLUGIN, tokSplit[1], tokSplit[2], addSpace, prependSpace);
+        } else if (token.startsWith("o:")) { // Option identifier.
+            return new BoundToken(TokenType.OPTION, token.substring(2), null, addSpace, prependSpace);
         }
+
+        // Standard.
+        String[] tokenData = token.split("\\|", 2);
+        return new BoundToken(TokenType.PRIMARY, tokenData[0], tokenData.length == 2 ? tokenData[1] : null, addSpace, prependSpace);
     }
 
     private Optional<Text> getTextFromOption(CommandSource cs, String option) {
@@ -172,4 +171,111 @@ public class NucleusTokenServiceImpl implements NucleusMessageTokenService {
     public Tokens getNucleusTokenParser() {
         return ((Tokens) this.tokenStore.get("nucleus"));
     }
+
+    /**
+     * A token that has been parsed into the parser, identifier and spacing
+     * that it needs. The parser is looked up again only if the registered
+     * tokens change.
+     */
+    public final class BoundToken {
+
+        private final TokenType type;
+        private final String name;
+        @Nullable private final String argument;
+        private final boolean addSpace;
+        private final boolean prependSpace;
+
+        @Nullable private volatile Resolved resolved = null;
+
+        private BoundToken(TokenType type, String name, @Nullable String argument, boolean addSpace, boolean prependSpace) {
+            this.type = type;
+            this.name = name;
+            this.argument = argument;
+            this.addSpace = addSpace;
+            this.prependSpace = prependSpace;
+        }
+
+        public Optional<Text> apply(CommandSource source, @Nullable Map<String, Object> variables) {
+            try {
+                Optional<Text> toReturn;
+                switch (this.type) {
+                    case OPTION:
+                        toReturn = getTextFromOption(source, this.name);
+                        break;
+                    case PLUGIN:
+                    case PRIMARY:
+                        Resolved r = resolve();
+                        if (r.parser == null) {
+                            return NucleusTokenServiceImpl.this.EMPTY;
+                        }
+
+                        toReturn = r.parser.parse(r.identifier, source, variables);
+                        break;
+                    default:
+                        return NucleusTokenServiceImpl.this.EMPTY;
+                }
+
+                if (this.addSpace) {
+                    toReturn = toReturn.map(x -> x.isEmpty() ? x : Text.join(x, Util.SPACE));
+                }
+
+                if (this.prependSpace) {
+                    toReturn = toReturn.map(x -> x.isEmpty() ? x : Text.join(Util.SPACE, x));
+                }
+
+                return toReturn;
+            } catch (Exception e) {
+                if (NucleusTokenServiceImpl.this.plugin.isDebugMode()) {
+                    e.printStackTrace();
+                }
+
+                return NucleusTokenServiceImpl.this.EMPTY;
+            }
+        }
+
+        private Resolved resolve() {
+            int currentGeneration = NucleusTokenServiceImpl.this.generation;
+            Resolved r = this.resolved;
+            if (r != null && r.generation == currentGeneration) {
+                return r;
+            }
+
+            TokenParser parser = null;
+            String identifier = "";
+            if (this.type == TokenType.PLUGIN) {
+                parser = NucleusTokenServiceImpl.this.tokenStore.get(this.name);
+                identifier = this.argument == null ? "" : this.argument;
+            } else {
+                Tuple<TokenParser, String> primary = NucleusTokenServiceImpl.this.primaryTokenStore.get(this.name);
+                if (primary != null) {
+                    parser = primary.getFirst();
+                    identifier = this.argument == null ? primary.getSecond() : primary.getSecond() + "|" + this.argument;
+                }
+            }
+
+            r = new Resolved(parser, identifier, currentGeneration);
+            this.resolved = r;
+            return r;
+        }
+
+        private final class Resolved {
+
+            @Nullable private final TokenParser parser;
+            private final String identifier;
+            private final int generation;
+
+            private Resolved(@Nullable TokenParser parser, String identifier, int generation) {
+                this.parser = parser;
+                this.identifier = identifier;
+                this.generation = generation;
+            }
+        }
+    }
+
+    private enum TokenType {
+        PLUGIN,
+        OPTION,
+        PRIMARY,
+        INVALID
+    }
 }
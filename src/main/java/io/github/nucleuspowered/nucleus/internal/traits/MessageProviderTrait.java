@@ -37,53 +37,52 @@ public interface MessageProviderTrait {
         return getMessageProvider().getTextMessageWithFormat(key, replacements);
     }
 
-    // for future releases
     default Text getMessageFor(Locale locale, String key) {
-        return getMessage(key);
+        return Nucleus.getNucleus().getMessageProvider(locale).getTextMessageWithFormat(key);
     }
 
     default Text getMessageFor(Locale locale, String key, Object... replacements) {
-        return getMessage(key, replacements);
+        return Nucleus.getNucleus().getMessageProvider(locale).getTextMessageWithFormat(key, replacements);
     }
 
     default Text getMessageFor(Locale locale, String key, Text... replacements) {
-        return getMessage(key, replacements);
+        return Nucleus.getNucleus().getMessageProvider(locale).getTextMessageWithTextFormat(key, replacements);
     }
 
     default Text getMessageFor(Locale locale, String key, String... replacements) {
-        return getMessage(key, replacements);
+        return Nucleus.getNucleus().getMessageProvider(locale).getTextMessageWithFormat(key, replacements);
     }
 
     default Text getMessageFor(CommandSource source, String key) {
-        return getMessageFor(source.getLocale(), key);
+        return Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat(key);
     }
 
     default Text getMessageFor(CommandSource source, String key, Object... replacements) {
-        return getMessageFor(source.getLocale(), key, replacements);
+        return Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat(key, replacements);
     }
 
     default Text getMessageFor(CommandSource source, String key, Text... replacements) {
-        return getMessageFor(source.getLocale(), key, replacements);
+        return Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithTextFormat(key, replacements);
     }
 
     default Text getMessageFor(CommandSource source, String key, String... replacements) {
-        return getMessageFor(source.getLocale(), key, replacements);
+        return Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat(key, replacements);
     }
 
     default void sendMessageTo(CommandSource receiver, String key) {
-        receiver.sendMessage(getMessageFor(receiver.getLocale(), key));
+        receiver.sendMessage(getMessageFor(receiver, key));
     }
 
     default void sendMessageTo(CommandSource receiver, String key, Object... replacements) {
-        receiver.sendMessage(getMessageFor(receiver.getLocale(), key, replacements));
+        receiver.sendMessage(getMessageFor(receiver, key, replacements));
     }
 
     default void sendMessageTo(CommandSource receiver, String key, Text... replacements) {
-        receiver.sendMessage(getMessageFor(receiver.getLocale(), key, replacements));
+        receiver.sendMessage(getMessageFor(receiver, key, replacements));
     }
 
     default void sendMessageTo(CommandSource receiver, String key, String... replacements) {
-        receiver.sendMessage(getMessageFor(receiver.getLocale(), key, replacements));
+        receiver.sendMessage(getMessageFor(receiver, key, replacements));
     }
 
 }
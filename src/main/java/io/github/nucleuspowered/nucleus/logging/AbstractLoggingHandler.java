@@ -5,7 +5,6 @@
 package io.github.nucleuspowered.nucleus.logging;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Lists;
 import io.github.nucleuspowered.nucleus.Nucleus;
 import io.github.nucleuspowered.nucleus.NucleusPlugin;
 import org.spongepowered.api.GameState;
@@ -17,8 +16,11 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.inject.Inject;
 
@@ -26,12 +28,19 @@ public abstract class AbstractLoggingHandler {
 
     private static final DateTimeFormatter formatter = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.SHORT)
         .withLocale(Locale.getDefault()).withZone(ZoneId.systemDefault());
+
+    // Must be a power of two.
+    private static final int QUEUE_CAPACITY = 1 << 16;
+
     protected DateRotatableFileLogger logger;
-    private final List<String> queueEntry = Lists.newArrayList();
+    private final MpscRingBuffer<String> queue = new MpscRingBuffer<>(QUEUE_CAPACITY);
+    private final AtomicInteger dropped = new AtomicInteger();
+    private final AtomicBoolean writing = new AtomicBoolean(false);
     private final String directoryName;
     private final String filePrefix;
-    private final Object locking = new Object();
     private final Nucleus plugin = Nucleus.getNucleus();
+    private LogFileConfig logFileConfig = new LogFileConfig();
+    private long lastWrite = 0;
 
     @Inject
     public AbstractLoggingHandler(String directoryName, String filePrefix) {
@@ -41,14 +50,27 @@ public abstract class AbstractLoggingHandler {
 
     public void queueEntry(String s) {
         if (this.logger != null) {
-            synchronized (this.locking) {
-                this.queueEntry.add(s);
+            // Time stamp it now, it may not be written for a while.
+            if (!this.queue.offer("[" + formatter.format(Instant.now().atZone(ZoneOffset.systemDefault())) + "] " + s)) {
+                this.dropped.incrementAndGet();
             }
         }
     }
 
     public abstract void onReload() throws Exception;
 
+    /**
+     * Sets the options for the log files.
+     *
+     * @param logFileConfig The {@link LogFileConfig}
+     */
+    protected void setLogFileConfig(LogFileConfig logFileConfig) {
+        this.logFileConfig = logFileConfig;
+        if (this.logger != null) {
+            this.logger.setMaxFileSize(logFileConfig.getMaxFileSize());
+        }
+    }
+
     public void onServerShutdown() throws IOException {
         Preconditions.checkState(Sponge.getGame().getState().equals(GameState.SERVER_STOPPED));
         onShutdown();
@@ -56,6 +78,8 @@ public abstract class AbstractLoggingHandler {
 
     protected void onShutdown() throws IOException {
         if (this.logger != null) {
+            // Get what's left out first.
+            write(true);
             this.logger.close();
             this.logger = null;
         }
@@ -64,14 +88,53 @@ public abstract class AbstractLoggingHandler {
     protected abstract boolean enabledLog();
 
     public void onTick() {
-        if (this.queueEntry.isEmpty()) {
+        write(false);
+    }
+
+    private void write(boolean force) {
+        if (!force && this.queue.isEmpty()) {
+            return;
+        }
+
+        // Only wait for the flush interval if the queue isn't filling up.
+        long now = System.currentTimeMillis();
+        if (!force && now - this.lastWrite < this.logFileConfig.getFlushInterval() * 1000L && this.queue.size() < QUEUE_CAPACITY / 2) {
+            return;
+        }
+
+        // Only one thread may take from the queue. A forced write happens before the logger is closed, so it must wait
+        // for any write that is in progress to finish rather than skip what is left in the queue.
+        if (force) {
+            while (!this.writing.compareAndSet(false, true)) {
+                Thread.yield();
+            }
+        } else if (!this.writing.compareAndSet(false, true)) {
             return;
         }
 
-        List<String> l;
-        synchronized (this.locking) {
-            l = Lists.newArrayList(this.queueEntry);
-            this.queueEntry.clear();
+        try {
+            this.lastWrite = now;
+            do {
+                if (!writeQueued()) {
+                    return;
+                }
+            } while (force && !this.queue.isEmpty());
+        } finally {
+            this.writing.set(false);
+        }
+    }
+
+    private boolean writeQueued() {
+        List<String> l = new ArrayList<>(Math.min(this.queue.size(), QUEUE_CAPACITY));
+        this.queue.drain(l::add, QUEUE_CAPACITY);
+        int droppedCount = this.dropped.getAndSet(0);
+        if (droppedCount > 0) {
+            this.plugin.getLogger().warn(NucleusPlugin.getNucleus().getMessageProvider().getMessageWithFormat("commandlog.dropped",
+                    String.valueOf(droppedCount)));
+        }
+
+        if (l.isEmpty()) {
+            return true;
         }
 
         if (this.logger == null) {
@@ -84,10 +147,10 @@ public abstract class AbstractLoggingHandler {
                         e.printStackTrace();
                     }
 
-                    return;
+                    return false;
                 }
             } else {
-                return;
+                return false;
             }
         }
 
@@ -98,13 +161,16 @@ public abstract class AbstractLoggingHandler {
             if (this.plugin.isDebugMode()) {
                 e.printStackTrace();
             }
+
+            return false;
         }
+
+        return true;
     }
 
     protected void createLogger() throws IOException {
-        this.logger = new DateRotatableFileLogger(this.directoryName, this.filePrefix, s -> "[" +
-            formatter.format(Instant.now().atZone(ZoneOffset.systemDefault())) +
-            "] " + s);
+        // Entries are time stamped as they are queued.
+        this.logger = new DateRotatableFileLogger(this.directoryName, this.filePrefix, s -> s, this.logFileConfig.getMaxFileSize());
     }
 
     private void writeEntry(Iterable<String> entry) throws IOException {
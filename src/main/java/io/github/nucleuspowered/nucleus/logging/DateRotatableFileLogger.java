@@ -6,7 +6,6 @@ package io.github.nucleuspowered.nucleus.logging;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
-import io.github.nucleuspowered.nucleus.Util;
 
 import java.io.Closeable;
 import java.io.IOException;
@@ -17,7 +16,6 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
-import java.util.Iterator;
 import java.util.function.Function;
 
 public class DateRotatableFileLogger implements Closeable {
@@ -29,18 +27,39 @@ public class DateRotatableFileLogger implements Closeable {
     private Instant currentDate;
     private LogFile file;
     private final Function<String, String> formatter;
+    private long maxFileSize;
     private boolean isClosed = false;
 
     public DateRotatableFileLogger(String directory, String filenamePrefix, Function<String, String> formatter) throws IOException {
+        this(directory, filenamePrefix, formatter, 0);
+    }
+
+    /**
+     * Creates a logger that starts a new file each day, and when the current
+     * file reaches the given size.
+     *
+     * @param directory The directory under logs/nucleus to write to.
+     * @param filenamePrefix The prefix for each file name.
+     * @param formatter The formatter to apply to each line.
+     * @param maxFileSize The size, in bytes, at which a new file is started, or zero to only start new files daily.
+     * @throws IOException if the directory could not be created.
+     */
+    public DateRotatableFileLogger(String directory, String filenamePrefix, Function<String, String> formatter, long maxFileSize)
+            throws IOException {
         Preconditions.checkNotNull(directory);
         Preconditions.checkNotNull(filenamePrefix);
 
         this.directory = nucleusBase.resolve(directory);
         this.filenamePrefix = filenamePrefix;
         this.formatter = formatter == null ? s -> s : formatter;
+        this.maxFileSize = Math.max(0, maxFileSize);
         Files.createDirectories(this.directory);
     }
 
+    public void setMaxFileSize(long maxFileSize) {
+        this.maxFileSize = Math.max(0, maxFileSize);
+    }
+
     private void openFile() throws IOException {
         if (this.isClosed) {
             throw new IllegalStateException();
@@ -48,7 +67,7 @@ public class DateRotatableFileLogger implements Closeable {
 
         if (this.file != null && !this.file.isClosed()) {
             try {
-                this.file.close();
+                this.file.close(true);
             } finally {
                 this.file = null;
             }
@@ -62,11 +81,8 @@ public class DateRotatableFileLogger implements Closeable {
             fileName = this.directory.toString() + "/" + this.filenamePrefix + "-" + DateTimeFormatter.ofPattern("yyyy-MM-dd").format(Instant.now().atZone(ZoneId.systemDefault())) + "-" + count + ".log";
             Path nextFile = Paths.get(fileName);
             if (Files.exists(nextFile)) {
-                try {
-                    Util.compressAndDeleteFile(nextFile);
-                } catch (IOException e) {
-                    e.printStackTrace();
-                }
+                // Left over from before, probably from a shutdown before it could be compressed.
+                LogCompressor.compress(nextFile);
             } else if (!Files.exists(Paths.get(fileName + ".gz"))) {
                 this.file = new LogFile(nextFile, this.formatter);
                 go = true;
@@ -93,17 +109,19 @@ public class DateRotatableFileLogger implements Closeable {
     }
 
     private void logEntry(Iterable<String> entry, boolean retryOnError) throws IOException {
-        if (this.file == null || this.file.isClosed() || Instant.now().truncatedTo(ChronoUnit.DAYS).isAfter(this.currentDate)) {
+        if (this.file == null || this.file.isClosed() || Instant.now().truncatedTo(ChronoUnit.DAYS).isAfter(this.currentDate)
+                || (this.maxFileSize > 0 && this.file.getSize() >= this.maxFileSize)) {
             openFile();
         }
 
         try {
-            Iterator<String> iterator = entry.iterator();
-            while (iterator.hasNext()) {
-                this.file.writeLine(iterator.next());
-                iterator.remove();
+            // Build the batch up and write it in one go.
+            StringBuilder sb = new StringBuilder();
+            for (String line : entry) {
+                this.file.appendLine(sb, line);
             }
 
+            this.file.write(sb);
             this.file.flush();
         } catch (IOException e) {
             if (retryOnError) {
@@ -121,7 +139,8 @@ public class DateRotatableFileLogger implements Closeable {
         }
 
         if (this.file != null && !this.file.isClosed()) {
-            this.file.close();
+            // Compress on this thread, the server may be stopping.
+            this.file.close(false);
             this.file = null;
             this.isClosed = true;
         }
@@ -0,0 +1,40 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.logging;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.github.nucleuspowered.nucleus.Nucleus;
+import io.github.nucleuspowered.nucleus.Util;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Compresses log files that have been rotated away from on a background
+ * thread, so that rotating a log never waits on gzip.
+ *
+ * <p>If the server stops before a file has been compressed, it will be
+ * compressed the next time a log file is opened in that directory.</p>
+ */
+final class LogCompressor {
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Nucleus Log Compressor - %d").build());
+
+    private LogCompressor() {}
+
+    static void compress(Path file) {
+        executor.execute(() -> {
+            try {
+                Util.compressAndDeleteFile(file);
+            } catch (IOException e) {
+                Nucleus.getNucleus().getLogger().warn("Could not compress the log file " + file.toString());
+                Nucleus.getNucleus().printStackTraceIfDebugMode(e);
+            }
+        });
+    }
+}
@@ -19,6 +19,7 @@ class LogFile implements Closeable {
     private final Path location;
     private final Function<String, String> formatter;
     private final BufferedWriter outputStream;
+    private long size;
     private boolean isClosed = false;
 
     LogFile(final Path location, Function<String, String> stringFormatter) throws IOException {
@@ -28,12 +29,31 @@ class LogFile implements Closeable {
         this.location = location;
         this.outputStream = Files.newBufferedWriter(location);
         this.formatter = stringFormatter;
+        this.size = Files.size(location);
     }
 
     void writeLine(String line) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        appendLine(sb, line);
+        write(sb);
+    }
+
+    /**
+     * Appends the formatted line to the supplied {@link StringBuilder}, so
+     * that a batch of lines can be written with {@link #write(CharSequence)}.
+     *
+     * @param sb The {@link StringBuilder} to append to.
+     * @param line The line to format and append.
+     */
+    void appendLine(StringBuilder sb, String line) {
+        sb.append(this.formatter.apply(line)).append(System.lineSeparator());
+    }
+
+    void write(CharSequence block) throws IOException {
         try {
-            this.outputStream.write(this.formatter.apply(line));
-            this.outputStream.newLine();
+            this.outputStream.append(block);
+            // Close enough - most log lines are ASCII.
+            this.size += block.length();
         } catch (IOException e) {
             close();
             throw e;
@@ -44,12 +64,28 @@ class LogFile implements Closeable {
         this.outputStream.flush();
     }
 
+    long getSize() {
+        return this.size;
+    }
+
     boolean isClosed() {
         return this.isClosed;
     }
 
     @Override
     public void close() throws IOException {
+        close(false);
+    }
+
+    /**
+     * Closes the file and compresses it.
+     *
+     * @param compressInBackground Whether to compress the file on the
+     *                             {@link LogCompressor} thread, rather than
+     *                             on this one.
+     * @throws IOException if the file could not be closed or compressed.
+     */
+    void close(boolean compressInBackground) throws IOException {
         if (this.isClosed) {
             return;
         }
@@ -59,7 +95,11 @@ class LogFile implements Closeable {
         } finally {
             this.isClosed = true;
 
-            Util.compressAndDeleteFile(this.location);
+            if (compressInBackground) {
+                LogCompressor.compress(this.location);
+            } else {
+                Util.compressAndDeleteFile(this.location);
+            }
         }
     }
 }
@@ -0,0 +1,32 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.logging;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class LogFileConfig {
+
+    @Setting(value = "flush-interval-seconds", comment = "config.logfile.flushinterval")
+    private int flushInterval = 1;
+
+    @Setting(value = "maximum-file-size-kb", comment = "config.logfile.maxsize")
+    private long maxFileSize = 16384;
+
+    public int getFlushInterval() {
+        return Math.max(1, this.flushInterval);
+    }
+
+    /**
+     * Gets the size, in bytes, that a log file can reach before a new file
+     * is started, or zero if files should only be rotated daily.
+     *
+     * @return The size.
+     */
+    public long getMaxFileSize() {
+        return Math.max(0, this.maxFileSize) * 1024;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.logging;
+
+import com.google.common.base.Preconditions;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * A bounded, lock free queue that any number of threads may add to, but only
+ * one thread may take from at a time.
+ *
+ * <p>Each slot has a sequence number. A producer claims a slot by moving the
+ * tail on, writes the element and then publishes the slot by moving its
+ * sequence on, so the consumer never sees a slot that is half written.</p>
+ *
+ * @param <T> The type of element.
+ */
+public class MpscRingBuffer<T> {
+
+    private final int mask;
+    private final AtomicReferenceArray<T> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head = 0;
+
+    /**
+     * Creates a ring buffer.
+     *
+     * @param capacity The capacity, which must be a power of two.
+     */
+    public MpscRingBuffer(int capacity) {
+        Preconditions.checkArgument(capacity > 0 && Integer.bitCount(capacity) == 1, "capacity must be a power of two");
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            this.sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an element, if there is space.
+     *
+     * @param element The element.
+     * @return Whether the element was added.
+     */
+    public boolean offer(T element) {
+        Preconditions.checkNotNull(element);
+        while (true) {
+            long position = this.tail.get();
+            int index = (int) position & this.mask;
+            long difference = this.sequences.get(index) - position;
+            if (difference == 0) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    this.elements.lazySet(index, element);
+                    this.sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                // The consumer has not freed this slot yet, so we're full.
+                return false;
+            }
+
+            // Otherwise, another producer claimed this slot first, try again.
+        }
+    }
+
+    /**
+     * Takes the next element. Must only be called by one thread at a time.
+     *
+     * @return The element, or null if there are no published elements.
+     */
+    @Nullable
+    public T poll() {
+        long position = this.head;
+        int index = (int) position & this.mask;
+        if (this.sequences.get(index) != position + 1) {
+            return null;
+        }
+
+        T element = this.elements.get(index);
+        this.elements.lazySet(index, null);
+        this.sequences.set(index, position + this.mask + 1);
+        this.head = position + 1;
+        return element;
+    }
+
+    /**
+     * Takes elements until there are none left or the limit is reached. Must
+     * only be called by one thread at a time.
+     *
+     * @param consumer The {@link Consumer} to pass each element to.
+     * @param limit The maximum number of elements to take.
+     * @return The number of elements taken.
+     */
+    public int drain(Consumer<T> consumer, int limit) {
+        int count = 0;
+        T element;
+        while (count < limit && (element = poll()) != null) {
+            consumer.accept(element);
+            count++;
+        }
+
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return this.sequences.get((int) this.head & this.mask) != this.head + 1;
+    }
+
+    /**
+     * Gets the approximate number of elements in the buffer.
+     *
+     * @return The number of elements.
+     */
+    public int size() {
+        return (int) Math.max(0, this.tail.get() - this.head);
+    }
+}
@@ -56,7 +56,7 @@ public class ExperienceCommand extends AbstractCommand<CommandSource> {
 
     public static CommandResult tellUserAboutExperience(CommandSource src, Player pl, boolean isSuccess) {
         if (!isSuccess) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.exp.set.error"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.exp.set.error"));
             return CommandResult.empty();
         }
 
@@ -64,17 +64,17 @@ public class ExperienceCommand extends AbstractCommand<CommandSource> {
         int newLvl = pl.get(Keys.EXPERIENCE_LEVEL).get();
 
         if (!src.equals(pl)) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.exp.set.new.other", pl.getName(), String.valueOf(exp), String.valueOf(newLvl)));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.exp.set.new.other", pl.getName(), String.valueOf(exp), String.valueOf(newLvl)));
         }
 
-        pl.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.exp.set.new.self", String.valueOf(exp), String.valueOf(newLvl)));
+        pl.sendMessage(Nucleus.getNucleus().getMessageProvider(pl).getTextMessageWithFormat("command.exp.set.new.self", String.valueOf(exp), String.valueOf(newLvl)));
         return CommandResult.success();
     }
 
     public static boolean checkGameMode(Player pl, CommandSource src) {
         GameMode gm = pl.get(Keys.GAME_MODE).orElse(GameModes.SURVIVAL);
         if (gm == GameModes.CREATIVE || gm == GameModes.SPECTATOR) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.exp.gamemode", pl.getName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.exp.gamemode", pl.getName()));
             return false;
         }
 
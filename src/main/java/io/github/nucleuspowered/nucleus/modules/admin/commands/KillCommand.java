@@ -53,14 +53,14 @@ public class KillCommand extends AbstractCommand<CommandSource> {
 
             if (x instanceof Player) {
                 playerKillCount++;
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.kill.killed",
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.kill.killed",
                         Nucleus.getNucleus().getNameUtil().getSerialisedName((Player)x)));
                 ((Player)x).sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.kill.killedby", src.getName()));
             }
         }
 
         if (entityKillCount > playerKillCount) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.kill.overall", String.valueOf(entityKillCount),
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.kill.overall", String.valueOf(entityKillCount),
                     String.valueOf(playerKillCount)));
         }
 
@@ -108,7 +108,7 @@ public class KillEntityCommand extends AbstractCommand<CommandSource> {
             x.remove();
         });
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.killentity.success", String.valueOf(killCount)));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.killentity.success", String.valueOf(killCount)));
         return CommandResult.affectedEntities(killCount);
     }
 }
@@ -58,13 +58,13 @@ public class SudoCommand extends AbstractCommand<CommandSource> {
         Player pl = args.<Player>getOne(NucleusParameters.Keys.PLAYER).get();
         String cmd = args.<String>getOne(NucleusParameters.Keys.COMMAND).get();
         if (pl.equals(src) || this.permissions.testSuffix(pl, "exempt.target", src, false)) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.sudo.noperms"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.sudo.noperms"));
             return CommandResult.empty();
         }
 
         if (cmd.startsWith("c:")) {
             if (cmd.equals("c:")) {
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.sudo.chatfail"));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.sudo.chatfail"));
                 return CommandResult.empty();
             }
 
@@ -81,7 +81,7 @@ public class SudoCommand extends AbstractCommand<CommandSource> {
             return CommandResult.success();
         }
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.sudo.force", pl.getName(), cmd));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.sudo.force", pl.getName(), cmd));
         Sponge.getCommandManager().process(pl, cmd);
         return CommandResult.success();
     }
@@ -44,10 +44,10 @@ abstract class GamemodeBase<T extends CommandSource> extends AbstractCommand<T>
         DataTransactionResult dtr = user.offer(Keys.GAME_MODE, gm);
         if (dtr.isSuccessful()) {
             if (!src.equals(user)) {
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.gamemode.set.other", user.getName(), gm.getName()));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.gamemode.set.other", user.getName(), gm.getName()));
             }
 
-            user.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.gamemode.set.base", gm.getName()));
+            user.sendMessage(Nucleus.getNucleus().getMessageProvider(user).getTextMessageWithFormat("command.gamemode.set.base", gm.getName()));
             return CommandResult.success();
         }
 
@@ -79,9 +79,9 @@ public class GamemodeCommand extends GamemodeBase<CommandSource> {
         if (!ogm.isPresent()) {
             String mode = user.get(Keys.GAME_MODE).orElse(GameModes.SURVIVAL).getName();
             if (src.equals(user)) {
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.gamemode.get.base", mode));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.gamemode.get.base", mode));
             } else {
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.gamemode.get.other", user.getName(), mode));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.gamemode.get.other", user.getName(), mode));
             }
 
             return CommandResult.success();
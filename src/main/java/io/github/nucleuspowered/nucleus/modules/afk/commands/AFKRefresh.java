@@ -24,7 +24,7 @@ public class AFKRefresh extends AbstractCommand<CommandSource> {
 
     @Override public CommandResult executeCommand(CommandSource src, CommandContext args, Cause cause) {
         this.handler.invalidateAfkCache();
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.afkrefresh.complete"));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.afkrefresh.complete"));
         return CommandResult.success();
     }
 }
@@ -7,14 +7,20 @@ package io.github.nucleuspowered.nucleus.modules.afk.listeners;
 import io.github.nucleuspowered.nucleus.Util;
 import io.github.nucleuspowered.nucleus.internal.interfaces.ListenerBase;
 import io.github.nucleuspowered.nucleus.modules.afk.config.AFKConfig;
+import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.message.MessageChannelEvent;
 
+import java.util.function.BiConsumer;
+
 public class AFKChatListener extends AbstractAFKListener implements ListenerBase.Conditional {
 
+    // Created once, rather than for each message.
+    private final BiConsumer<MessageChannelEvent.Chat, Player> onChat = (e, p) -> update(p);
+
     @Listener
     public void onPlayerChat(final MessageChannelEvent.Chat event) {
-        Util.onPlayerSimulatedOrPlayer(event, (e, p) -> update(p));
+        Util.onPlayerSimulatedOrPlayer(event, this.onChat);
     }
 
     @Override
@@ -13,23 +13,29 @@ import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.command.SendCommandEvent;
 import org.spongepowered.api.event.filter.cause.Root;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
-
 public class AFKCommandListener extends AbstractAFKListener implements ListenerBase.Conditional {
-    private final List<String> commands =
-            Arrays.stream(AFKCommand.class.getAnnotation(RegisterCommand.class).value()).map(String::toLowerCase).collect(Collectors.toList());
+    private final String[] commands = AFKCommand.class.getAnnotation(RegisterCommand.class).value();
 
     @Listener
     public void onPlayerCommand(final SendCommandEvent event, @Root Player player) {
         // Did the subject run /afk? Then don't do anything, we'll toggle it
         // anyway.
-        if (!this.commands.contains(event.getCommand().toLowerCase())) {
+        if (!isAfkCommand(event.getCommand())) {
             update(player);
         }
     }
 
+    // Avoids creating a lower case copy of every command.
+    private boolean isAfkCommand(String command) {
+        for (String afkCommand : this.commands) {
+            if (afkCommand.equalsIgnoreCase(command)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     @Override
     public boolean shouldEnable() {
         return getTriggerConfigEntry(AFKConfig.Triggers::isOnCommand);
@@ -6,6 +6,7 @@ package io.github.nucleuspowered.nucleus.modules.afk.services;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
@@ -46,6 +47,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
@@ -62,13 +64,20 @@ public class AFKHandler implements NucleusAFKService, Reloadable, ServiceBase, M
     private final CommandPermissionHandler afkPermissionHandler;
     private AFKConfig config;
 
-    @GuardedBy("lock")
-    private final Set<UUID> activity = Sets.newHashSet();
+    // The players that are AFK, checked each tick for activity.
+    private final Set<AFKData> afk = Sets.newConcurrentHashSet();
 
-    @GuardedBy("lock2")
+    @GuardedBy("disabledTracking")
     private final Multimap<UUID, UUID> disabledTracking = HashMultimap.create();
-    private final Object lock = new Object();
-    private final Object lock2 = new Object();
+
+    // A copy of the keys of disabledTracking, replaced whenever it changes, so
+    // that recording activity doesn't need to take a lock.
+    private volatile ImmutableSet<UUID> disabledTrackingSnapshot = ImmutableSet.of();
+
+    // The next time each player needs to be checked. Activity doesn't move a
+    // deadline, instead the player is rescheduled when the deadline is reached.
+    @GuardedBy("deadlines")
+    private final PriorityQueue<Deadline> deadlines = new PriorityQueue<>();
 
     private final String exempttoggle = "exempt.toggle";
     private final String exemptkick = "exempt.kick";
@@ -87,79 +96,175 @@ public class AFKHandler implements NucleusAFKService, Reloadable, ServiceBase, M
         }
     }
 
+    /**
+     * Records activity for a player. This is called from the event listeners
+     * for every move, so it only writes the time of the activity. Players
+     * that return from being AFK are picked up on the next tick.
+     *
+     * @param uuid The {@link UUID} of the player.
+     */
     private void stageUserActivityUpdate(UUID uuid) {
-        synchronized (this.lock) {
-            synchronized (this.lock2) {
-                if (this.disabledTracking.containsKey(uuid)) {
-                    return;
-                }
-            }
+        if (this.disabledTrackingSnapshot.contains(uuid)) {
+            return;
+        }
 
-            this.activity.add(uuid);
+        AFKData afkData = this.data.get(uuid);
+        if (afkData == null) {
+            // Only on the first activity after joining.
+            afkData = this.data.computeIfAbsent(uuid, this::newData);
         }
+
+        afkData.lastActivityTime = System.currentTimeMillis();
     }
 
     public void onTick() {
-        synchronized (this.lock) {
-            this.activity.forEach(u -> this.data.compute(u, ((uuid, afkData) -> afkData == null ? new AFKData(uuid) : updateActivity(uuid, afkData))));
-            this.activity.clear();
+        // Only AFK players need to know about activity straight away, everyone
+        // else is rescheduled when their deadline is reached.
+        for (AFKData afkData : this.afk) {
+            if (afkData.lastActivityTime > afkData.afkSince) {
+                updateActivity(afkData.uuid, afkData);
+            }
         }
 
-        List<UUID> uuidList = Sponge.getServer().getOnlinePlayers().stream().map(Player::getUniqueId).collect(Collectors.toList());
+        // Only look at the players whose next deadline has passed.
+        long now = System.currentTimeMillis();
+        AFKData due;
+        while ((due = pollDue(now)) != null) {
+            check(due, now);
+        }
+    }
 
-        // Remove all offline players.
-        Set<Map.Entry<UUID, AFKData>> entries = this.data.entrySet();
-        entries.removeIf(refactor -> !uuidList.contains(refactor.getKey()));
-        entries.stream().filter(x -> !x.getValue().cacheValid).forEach(x -> x.getValue().updateFromPermissions());
+    /**
+     * Removes a player's data when they leave the server.
+     *
+     * @param uuid The {@link UUID} of the player.
+     */
+    public void onDisconnect(UUID uuid) {
+        AFKData removed = this.data.remove(uuid);
+        if (removed != null) {
+            this.afk.remove(removed);
+            // Any deadline left in the queue will be ignored.
+            synchronized (this.deadlines) {
+                removed.deadline = null;
+            }
+        }
+    }
 
-        long now = System.currentTimeMillis();
+    private void check(AFKData data, long now) {
+        if (!Sponge.getServer().getPlayer(data.uuid).isPresent()) {
+            // Activity can be recorded after the player has disconnected, such as from async chat. Every new entry has a
+            // deadline, so this is where it is cleaned up.
+            this.data.remove(data.uuid, data);
+            this.afk.remove(data);
+            return;
+        }
 
-        // Check AFK status.
-        entries.stream().filter(x -> x.getValue().isKnownAfk && !x.getValue().willKick && x.getValue().timeToKick > 0).forEach(e -> {
-            if (now - e.getValue().lastActivityTime > e.getValue().timeToKick) {
-                // Kick them
-                e.getValue().willKick = true;
-                NucleusTextTemplateImpl message = this.config.getMessages().getKickMessage();
-                TextRepresentable t;
-                if (message == null || message.isEmpty()) {
-                    t = Nucleus.getNucleus().getMessageProvider().getTextMessageWithTextFormat("afk.kickreason");
+        data.updateFromPermissions();
+        if (!data.isKnownAfk) {
+            if (data.timeToAfk > 0) {
+                long deadline = data.lastActivityTime + data.timeToAfk;
+                if (deadline > now) {
+                    schedule(data, deadline);
                 } else {
-                    t = message;
+                    // Going AFK schedules the kick check.
+                    Sponge.getServer().getPlayer(data.uuid).ifPresent(this::setAfkInternal);
                 }
+            }
 
-                final NucleusTextTemplateImpl messageToServer = this.config.getMessages().getOnKick();
-
-                Sponge.getServer().getPlayer(e.getKey()).ifPresent(player -> {
-                    MessageChannel mc;
-                    if (this.config.isBroadcastOnKick()) {
-                        mc = MessageChannel.TO_ALL;
-                    } else {
-                        mc = MessageChannel.permission(this.afkPermissionHandler.getPermissionWithSuffix("notify"));
-                    }
-
-                    AFKEvents.Kick events = new AFKEvents.Kick(player, messageToServer.getForCommandSource(player), mc);
-                    if (Sponge.getEventManager().post(events)) {
-                        // Cancelled.
-                        return;
-                    }
-
-                    Text toSend = t instanceof NucleusTextTemplateImpl ? ((NucleusTextTemplateImpl) t).getForCommandSource(player) : t.toText();
-                    Sponge.getScheduler().createSyncExecutor(Nucleus.getNucleus()).execute(() -> player.kick(toSend));
-                    events.getMessage().ifPresent(m -> events.getChannel().send(player, m, ChatTypes.SYSTEM));
-                });
+            // Otherwise, exempt until their permissions are refreshed.
+        } else if (!data.willKick && data.timeToKick > 0) {
+            long deadline = data.lastActivityTime + data.timeToKick;
+            if (deadline > now) {
+                schedule(data, deadline);
+            } else {
+                kick(data);
             }
-        });
+        }
+    }
 
-        // Check AFK status.
-        entries.stream().filter(x -> !x.getValue().isKnownAfk && x.getValue().timeToAfk > 0).forEach(e -> {
-            if (now - e.getValue().lastActivityTime  > e.getValue().timeToAfk) {
-                Sponge.getServer().getPlayer(e.getKey()).ifPresent(this::setAfkInternal);
+    private void kick(AFKData data) {
+        data.willKick = true;
+        NucleusTextTemplateImpl message = this.config.getMessages().getKickMessage();
+        TextRepresentable t;
+        if (message == null || message.isEmpty()) {
+            t = Nucleus.getNucleus().getMessageProvider().getTextMessageWithTextFormat("afk.kickreason");
+        } else {
+            t = message;
+        }
+
+        final NucleusTextTemplateImpl messageToServer = this.config.getMessages().getOnKick();
+
+        Sponge.getServer().getPlayer(data.uuid).ifPresent(player -> {
+            MessageChannel mc;
+            if (this.config.isBroadcastOnKick()) {
+                mc = MessageChannel.TO_ALL;
+            } else {
+                mc = MessageChannel.permission(this.afkPermissionHandler.getPermissionWithSuffix("notify"));
             }
+
+            AFKEvents.Kick events = new AFKEvents.Kick(player, messageToServer.getForCommandSource(player), mc);
+            if (Sponge.getEventManager().post(events)) {
+                // Cancelled.
+                return;
+            }
+
+            Text toSend = t instanceof NucleusTextTemplateImpl ? ((NucleusTextTemplateImpl) t).getForCommandSource(player) : t.toText();
+            Sponge.getScheduler().createSyncExecutor(Nucleus.getNucleus()).execute(() -> player.kick(toSend));
+            events.getMessage().ifPresent(m -> events.getChannel().send(player, m, ChatTypes.SYSTEM));
         });
     }
 
+    private AFKData newData(UUID uuid) {
+        // Permissions are checked when the player is first due, off the main thread.
+        AFKData data = new AFKData(uuid, false);
+        schedule(data, data.lastActivityTime);
+        return data;
+    }
+
+    /**
+     * Sets when the player should next be checked, replacing any previous
+     * deadline for the player.
+     *
+     * @param data The {@link AFKData} for the player.
+     * @param time The time to check the player at.
+     */
+    private void schedule(AFKData data, long time) {
+        Deadline deadline = new Deadline(time, data);
+        synchronized (this.deadlines) {
+            data.deadline = deadline;
+            this.deadlines.add(deadline);
+        }
+    }
+
+    @Nullable
+    private AFKData pollDue(long now) {
+        synchronized (this.deadlines) {
+            Deadline next;
+            while ((next = this.deadlines.peek()) != null && next.time <= now) {
+                this.deadlines.poll();
+
+                // Deadlines that have been replaced, or whose player has gone, are skipped.
+                if (next.data.deadline == next) {
+                    next.data.deadline = null;
+                    return next.data;
+                }
+            }
+        }
+
+        return null;
+    }
+
     public void invalidateAfkCache() {
-        this.data.forEach((k, v) -> v.cacheValid = false);
+        // The times may have changed, so check everyone again on the next tick. This
+        // also clears out any deadlines that have been replaced.
+        long now = System.currentTimeMillis();
+        synchronized (this.deadlines) {
+            this.deadlines.clear();
+            this.data.forEach((k, v) -> {
+                v.cacheValid = false;
+                schedule(v, now);
+            });
+        }
     }
 
     public boolean isAFK(UUID uuid) {
@@ -176,7 +281,7 @@ public class AFKHandler implements NucleusAFKService, Reloadable, ServiceBase, M
         }
 
         UUID uuid = player.getUniqueId();
-        AFKData a = this.data.compute(uuid, ((u, afkData) -> afkData == null ? new AFKData(u) : afkData));
+        AFKData a = this.data.computeIfAbsent(uuid, this::newData);
         if (force) {
             a.isKnownAfk = false;
         } else if (a.isKnownAfk) {
@@ -184,10 +289,8 @@ public class AFKHandler implements NucleusAFKService, Reloadable, ServiceBase, M
         }
 
         if (a.canGoAfk()) {
-            // Don't accident undo setting AFK, remove any activity from the list.
-            synchronized (this.lock) {
-                this.activity.remove(uuid);
-            }
+            // Don't accidentally undo setting AFK, ignore any activity up to now.
+            a.afkSince = System.currentTimeMillis();
 
             Tuples.NullableTuple<Text, MessageChannel> ttmc = getAFKMessage(player, true);
             AFKEvents.To event = new AFKEvents.To(player, ttmc.getFirstUnwrapped(), ttmc.getSecondUnwrapped(), cause);
@@ -195,6 +298,8 @@ public class AFKHandler implements NucleusAFKService, Reloadable, ServiceBase, M
             actionEvent(event, "command.afk.to.nobc", "command.afk.to.console");
 
             a.isKnownAfk = true;
+            this.afk.add(a);
+            schedule(a, System.currentTimeMillis());
             return true;
         }
 
@@ -204,6 +309,7 @@ public class AFKHandler implements NucleusAFKService, Reloadable, ServiceBase, M
     @Override
     public void onReload() {
         this.config = this.afkConfigAdapter.getNodeOrDefault();
+        invalidateAfkCache();
     }
 
     private AFKData updateActivity(UUID uuid, AFKData data) {
@@ -217,6 +323,8 @@ public class AFKHandler implements NucleusAFKService, Reloadable, ServiceBase, M
         if (data.isKnownAfk) {
             data.isKnownAfk = false;
             data.willKick = false;
+            this.afk.remove(data);
+            schedule(data, data.lastActivityTime);
             Sponge.getServer().getPlayer(uuid).ifPresent(x -> {
                 Tuples.NullableTuple<Text, MessageChannel> ttmc = getAFKMessage(x, false);
                 AFKEvents.From event = new AFKEvents.From(x, ttmc.getFirstUnwrapped(), ttmc.getSecondUnwrapped(), cause);
@@ -261,7 +369,7 @@ public class AFKHandler implements NucleusAFKService, Reloadable, ServiceBase, M
 
     @Override public boolean setAFK(Cause cause, Player player, boolean isAfk) {
         Preconditions.checkArgument(cause.root() instanceof PluginContainer, "The root object MUST be a plugin container.");
-        AFKData data = this.data.computeIfAbsent(player.getUniqueId(), AFKData::new);
+        AFKData data = getData(player.getUniqueId());
         if (data.isKnownAfk == isAfk) {
             // Already AFK
             return false;
@@ -279,7 +387,7 @@ public class AFKHandler implements NucleusAFKService, Reloadable, ServiceBase, M
     }
 
     @Override public Instant lastActivity(Player player) {
-        return Instant.ofEpochMilli(this.data.computeIfAbsent(player.getUniqueId(), AFKData::new).lastActivityTime);
+        return Instant.ofEpochMilli(getData(player.getUniqueId()).lastActivityTime);
     }
 
     @Override public Optional<Duration> timeForInactivity(User user) {
@@ -311,13 +419,15 @@ public class AFKHandler implements NucleusAFKService, Reloadable, ServiceBase, M
     @Override public NoExceptionAutoClosable disableTrackingForPlayer(final Player player, int ticks) {
         // Disable tracking now with a new UUID.
         Task n = Task.builder().execute(t -> {
-            synchronized (this.lock2) {
+            synchronized (this.disabledTracking) {
                 this.disabledTracking.remove(player.getUniqueId(), t.getUniqueId());
+                this.disabledTrackingSnapshot = ImmutableSet.copyOf(this.disabledTracking.keySet());
             }
         }).delayTicks(ticks).submit(Nucleus.getNucleus());
 
-        synchronized (this.lock2) {
+        synchronized (this.disabledTracking) {
             this.disabledTracking.put(player.getUniqueId(), n.getUniqueId());
+            this.disabledTrackingSnapshot = ImmutableSet.copyOf(this.disabledTracking.keySet());
         }
 
         return () -> {
@@ -354,17 +464,18 @@ public class AFKHandler implements NucleusAFKService, Reloadable, ServiceBase, M
 
         private final UUID uuid;
 
-        private long lastActivityTime = System.currentTimeMillis();
-        boolean isKnownAfk = false;
+        // Written by the event listeners on any thread.
+        private volatile long lastActivityTime = System.currentTimeMillis();
+        private long afkSince = 0;
+        volatile boolean isKnownAfk = false;
         private boolean willKick = false;
 
         private boolean cacheValid = false;
         private long timeToAfk = -1;
         private long timeToKick = -1;
 
-        private AFKData(UUID uuid) {
-            this(uuid, true);
-        }
+        @GuardedBy("AFKHandler.this.deadlines")
+        @Nullable private Deadline deadline = null;
 
         private AFKData(UUID uuid, boolean permCheck) {
             this.uuid = uuid;
@@ -410,4 +521,20 @@ public class AFKHandler implements NucleusAFKService, Reloadable, ServiceBase, M
             }
         }
     }
+
+    private static final class Deadline implements Comparable<Deadline> {
+
+        private final long time;
+        private final AFKData data;
+
+        private Deadline(long time, AFKData data) {
+            this.time = time;
+            this.data = data;
+        }
+
+        @Override
+        public int compareTo(Deadline o) {
+            return Long.compare(this.time, o.time);
+        }
+    }
 }
@@ -80,7 +80,7 @@ public class BackCommand extends AbstractCommand<Player> implements Reloadable {
                 Nucleus.getNucleus().getTeleportHandler()
                     .teleportPlayer(src, loc, !args.hasAny("f"), !args.hasAny("b"));
         if (result.isSuccess()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.back.success"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.back.success"));
             return CommandResult.success();
         } else if (result == NucleusTeleportHandler.TeleportResult.FAILED_NO_LOCATION) {
             throw ReturnMessageException.fromKey("command.back.nosafe");
@@ -115,7 +115,7 @@ public class BanCommand extends AbstractCommand<CommandSource> {
                     // Create the user.
                     UserStorageService uss = Sponge.getServiceManager().provideUnchecked(UserStorageService.class);
                     User user = uss.getOrCreate(gp);
-                    src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("gameprofile.new", user.getName()));
+                    src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("gameprofile.new", user.getName()));
 
                     try {
                         executeBan(src, gp, r);
@@ -126,7 +126,7 @@ public class BanCommand extends AbstractCommand<CommandSource> {
             } catch (Exception e) {
                 Nucleus.getNucleus().printStackTraceIfDebugMode(e);
 
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.ban.profileerror", userToFind));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.ban.profileerror", userToFind));
             }
         });
 
@@ -139,12 +139,12 @@ public class BanCommand extends AbstractCommand<CommandSource> {
         UserStorageService uss = Sponge.getServiceManager().provideUnchecked(UserStorageService.class);
         User user = uss.get(u).get();
         if (!user.isOnline() && !this.permissions.testSuffix(src, "offline")) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.ban.offline.noperms"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.ban.offline.noperms"));
             return CommandResult.empty();
         }
 
         if (service.isBanned(u)) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.ban.alreadyset", u.getName().orElse(
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.ban.alreadyset", u.getName().orElse(
                     Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("standard.unknown"))));
             return CommandResult.empty();
         }
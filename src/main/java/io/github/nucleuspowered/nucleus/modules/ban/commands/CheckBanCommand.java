@@ -58,7 +58,7 @@ public class CheckBanCommand extends AbstractCommand<CommandSource> {
 
         Optional<Ban.Profile> obp = service.getBanFor(gp);
         if (!obp.isPresent()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.checkban.notset", gp.getName().orElse(
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.checkban.notset", gp.getName().orElse(
                     Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("standard.unknown"))));
             return CommandResult.success();
         }
@@ -73,15 +73,15 @@ public class CheckBanCommand extends AbstractCommand<CommandSource> {
         }
 
         if (bp.getExpirationDate().isPresent()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.checkban.bannedfor",
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.checkban.bannedfor",
                     gp.getName().orElse(Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("standard.unknown")), name,
                     Util.getTimeToNow(bp.getExpirationDate().get())));
         } else {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.checkban.bannedperm",
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.checkban.bannedperm",
                     gp.getName().orElse(Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("standard.unknown")), name));
         }
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.checkban.created", Util.FULL_TIME_FORMATTER.withLocale(src.getLocale())
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.checkban.created", Util.FULL_TIME_FORMATTER.withLocale(src.getLocale())
                 .format(bp.getCreationDate()
         )));
         src.sendMessage(Nucleus.getNucleus()
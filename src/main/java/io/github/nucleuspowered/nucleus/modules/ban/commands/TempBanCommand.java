@@ -86,7 +86,7 @@ public class TempBanCommand extends AbstractCommand<CommandSource> implements Re
 
         if (time > this.banConfig.getMaximumTempBanLength() && this.banConfig.getMaximumTempBanLength() != -1 &&
                 !this.permissions.testSuffix(src, "exempt.length")) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.tempban.length.toolong",
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.tempban.length.toolong",
                     Util.getTimeStringFromSeconds(this.banConfig.getMaximumTempBanLength())));
             return CommandResult.success();
         }
@@ -94,7 +94,7 @@ public class TempBanCommand extends AbstractCommand<CommandSource> implements Re
         BanService service = Sponge.getServiceManager().provideUnchecked(BanService.class);
 
         if (service.isBanned(u.getProfile())) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.ban.alreadyset", u.getName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.ban.alreadyset", u.getName()));
             return CommandResult.empty();
         }
 
@@ -4,6 +4,8 @@
  */
 package io.github.nucleuspowered.nucleus.modules.chat.listeners;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.collect.Maps;
 import io.github.nucleuspowered.nucleus.NameUtil;
 import io.github.nucleuspowered.nucleus.Nucleus;
@@ -27,22 +29,29 @@ import io.github.nucleuspowered.nucleus.modules.chat.util.TemplateUtil;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.filter.cause.Root;
 import org.spongepowered.api.event.message.MessageChannelEvent;
 import org.spongepowered.api.event.message.MessageEvent;
+import org.spongepowered.api.event.network.ClientConnectionEvent;
+import org.spongepowered.api.event.permission.SubjectDataUpdateEvent;
 import org.spongepowered.api.service.permission.Subject;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.TextTemplate;
 import org.spongepowered.api.text.channel.MessageChannel;
+import org.spongepowered.api.text.format.TextColor;
+import org.spongepowered.api.text.format.TextStyle;
 import org.spongepowered.api.text.serializer.TextSerializers;
 import org.spongepowered.api.text.transform.SimpleTextFormatter;
 import org.spongepowered.api.text.transform.SimpleTextTemplateApplier;
-import org.spongepowered.api.util.Tuple;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.function.BiFunction;
-import java.util.function.Function;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 import javax.annotation.Nullable;
 
@@ -54,56 +63,119 @@ import javax.annotation.Nullable;
 public class ChatListener implements Reloadable, ListenerBase.Conditional {
 
     private static final String prefix = PermissionRegistry.PERMISSIONS_PREFIX + "chat.";
+    private static final Pattern BLUE_UNDERLINE = Pattern.compile("&9&n([A-Za-z0-9-.]+)(&r)?");
 
-    // Order is important here!
+    // Index of each formatting code into the permitted codes bitmask, -1 if the code is not permission controlled.
+    private static final int[] codeIndex = new int[128];
+    private static final List<String[]> codePermissions = new ArrayList<>();
     private static final Map<String, String> permissionToDesc = Maps.newHashMap();
-    private static final Map<String, Tuple<String[], Function<String, String>>> replacements = createReplacements();
-
-    private static Map<String, Tuple<String[], Function<String, String>>> createReplacements() {
-        Map<String, Tuple<String[], Function<String, String>>> t = new HashMap<>();
 
+    static {
+        Arrays.fill(codeIndex, -1);
         MessageProvider mp = Nucleus.getNucleus().getMessageProvider();
-
-        BiFunction<String, String, String> fss = (key, s) -> s.replaceAll("[&]+[" + key.toLowerCase() + key.toUpperCase() + "]", "");
         NameUtil.getColours().forEach((key, value) -> {
-            t.put("&" + key, Tuple.of(
-                new String[]{ prefix + "colour." + value.getName(), prefix + "color." + value.getName() },
-                s -> fss.apply(key.toString(), s)));
-
+            registerCode(key, prefix + "colour." + value.getName(), prefix + "color." + value.getName());
             permissionToDesc.put(prefix + "colour." + value.getName(), mp.getMessageWithFormat("permission.chat.colourspec", value.getName().toLowerCase(), key.toString()));
             permissionToDesc.put(prefix + "color." + value.getName(), mp.getMessageWithFormat("permission.chat.colorspec", value.getName().toLowerCase(), key.toString()));
         });
 
         NameUtil.getStyleKeys().entrySet().stream().filter(x -> x.getKey() != 'k').forEach((k) -> {
-            t.put("&" + k.getKey(), Tuple.of(new String[] { prefix + "style." + k.getValue().toLowerCase() },
-                    s -> fss.apply(k.getKey().toString(), s)));
+            registerCode(k.getKey(), prefix + "style." + k.getValue().toLowerCase());
             permissionToDesc.put(prefix + "style." + k.getValue().toLowerCase(),
                 mp.getMessageWithFormat("permission.chat.stylespec", k.getValue().toLowerCase(), k.getKey().toString()));
         });
 
-        t.put("&k", Tuple.of(new String[] { prefix + "magic" }, s -> s.replaceAll("[&]+[kK]", "")));
+        registerCode('k', prefix + "magic");
+    }
+
+    private static void registerCode(char code, String... permissions) {
+        int index = codePermissions.size();
+        codePermissions.add(permissions);
+        codeIndex[Character.toLowerCase(code)] = index;
+        codeIndex[Character.toUpperCase(code)] = index;
+    }
+
+    /**
+     * Gets a bitmask of the formatting codes that the {@link Subject} may use,
+     * for use with {@link #stripPermissionless(String, long)}.
+     *
+     * @param source The {@link Subject}
+     * @return The bitmask
+     */
+    public static long getPermittedCodes(Subject source) {
+        PermissionResolver resolver = Nucleus.getNucleus().getPermissionResolver();
+        long permitted = 0;
+        for (int i = 0; i < codePermissions.size(); i++) {
+            for (String permission : codePermissions.get(i)) {
+                if (resolver.hasPermission(source, permission)) {
+                    permitted |= 1L << i;
+                    break;
+                }
+            }
+        }
 
-        return t;
+        return permitted;
     }
 
     public static String stripPermissionless(Subject source, String message) {
-        if (message.contains("&")) {
-            String m = message.toLowerCase();
-            PermissionResolver resolver = Nucleus.getNucleus().getPermissionResolver();
-            for (Map.Entry<String, Tuple<String[], Function<String, String>>> r : replacements.entrySet()) {
-                if (m.contains(r.getKey()) && Arrays.stream(r.getValue().getFirst()).noneMatch(x -> resolver.hasPermission(source, x))) {
-                    message = r.getValue().getSecond().apply(message);
+        if (message.indexOf('&') == -1) {
+            return message;
+        }
+
+        return stripPermissionless(message, getPermittedCodes(source));
+    }
+
+    /**
+     * Removes any formatting codes that are not in the permitted bitmask, in
+     * a single pass over the message.
+     *
+     * @param message The message to strip
+     * @param permitted The bitmask from {@link #getPermittedCodes(Subject)}
+     * @return The stripped message
+     */
+    public static String stripPermissionless(String message, long permitted) {
+        int length = message.length();
+        StringBuilder sb = null;
+        int copied = 0;
+        int i = message.indexOf('&');
+        while (i != -1) {
+            // A run of ampersands followed by a code is removed as a whole.
+            int end = i;
+            while (end < length && message.charAt(end) == '&') {
+                end++;
+            }
+
+            if (end < length) {
+                char code = message.charAt(end);
+                int index = code < codeIndex.length ? codeIndex[code] : -1;
+                if (index != -1 && (permitted & (1L << index)) == 0) {
+                    if (sb == null) {
+                        sb = new StringBuilder(length);
+                    }
+
+                    sb.append(message, copied, i);
+                    copied = end + 1;
+                    end++;
                 }
             }
+
+            i = message.indexOf('&', end);
+        }
+
+        if (sb == null) {
+            return message;
         }
 
-        return message;
+        return sb.append(message, copied, length).toString();
     }
 
     // --- Listener Proper
     private ChatConfig chatConfig = null;
     private final TemplateUtil templateUtil = Nucleus.getNucleus().getInternalServiceManager().getServiceUnchecked(TemplateUtil.class);
 
+    // Resolving templates, options and permissions is expensive, so they are only done when a player's permissions might have changed.
+    private final Cache<UUID, PlayerChatFormat> formatCache = Caffeine.newBuilder().expireAfterWrite(1, TimeUnit.MINUTES).build();
+
     @Override
     public Map<String, PermissionInformation> getPermissions() {
         Map<String, PermissionInformation> mp = new HashMap<>();
@@ -176,12 +248,8 @@ public class ChatListener implements Reloadable, ListenerBase.Conditional {
             footerFormatter.clear();
         }
 
-        final ChatTemplateConfig ctc;
-        if (this.chatConfig.isUseGroupTemplates()) {
-            ctc = this.templateUtil.getTemplateNow(player);
-        } else {
-            ctc = this.chatConfig.getDefaultTemplate();
-        }
+        final PlayerChatFormat format = this.formatCache.get(player.getUniqueId(), x -> new PlayerChatFormat(player));
+        final ChatTemplateConfig ctc = format.template;
 
         if (!ctc.getPrefix().isEmpty()) {
             SimpleTextTemplateApplier headerApplier = new SimpleTextTemplateApplier();
@@ -195,36 +263,76 @@ public class ChatListener implements Reloadable, ListenerBase.Conditional {
             event.getFormatter().getFooter().add(footerApplier);
         }
 
-        event.getFormatter().setBody(this.chatConfig.isModifyMainMessage() ? useMessage(player, rawMessage, ctc) : rawMessage);
+        event.getFormatter().setBody(this.chatConfig.isModifyMainMessage() ? useMessage(rawMessage, format) : rawMessage);
+    }
+
+    @Listener
+    public void onSubjectDataUpdate(SubjectDataUpdateEvent event) {
+        // Group changes can affect many players, so start again.
+        this.formatCache.invalidateAll();
+    }
+
+    @Listener
+    public void onPlayerQuit(ClientConnectionEvent.Disconnect event, @Root Player player) {
+        this.formatCache.invalidate(player.getUniqueId());
     }
 
     @Override public boolean shouldEnable() {
         return Nucleus.getNucleus().getConfigValue(ChatModule.ID, ChatConfigAdapter.class, ChatConfig::isModifychat).orElse(false);
     }
 
-    private Text useMessage(Player player, Text rawMessage, ChatTemplateConfig chatTemplateConfig) {
+    private Text useMessage(Text rawMessage, PlayerChatFormat format) {
         String m = TextSerializers.FORMATTING_CODE.serialize(rawMessage);
-        if (this.chatConfig.isRemoveBlueUnderline()) {
-            m = m.replaceAll("&9&n([A-Za-z0-9-.]+)(&r)?", "$1");
-        }
+        if (m.indexOf('&') != -1) {
+            if (this.chatConfig.isRemoveBlueUnderline()) {
+                m = BLUE_UNDERLINE.matcher(m).replaceAll("$1");
+            }
 
-        m = stripPermissionless(player, m);
+            m = stripPermissionless(m, format.permittedCodes);
+        }
 
         Text result;
-        if (hasPermission(player, prefix + "url")) {
+        if (format.urls) {
             result = TextParsingUtils.addUrls(m, !this.chatConfig.isRemoveBlueUnderline());
         } else {
             result = TextSerializers.FORMATTING_CODE.deserialize(m);
         }
 
-        String chatcol = Util.getOptionFromSubject(player, "chatcolour", "chatcolor").orElseGet(chatTemplateConfig::getChatcolour);
-        String chatstyle = Util.getOptionFromSubject(player, "chatstyle").orElseGet(chatTemplateConfig::getChatstyle);
-
-        NameUtil nu = Nucleus.getNucleus().getNameUtil();
-        return Text.of(nu.getColourFromString(chatcol), nu.getTextStyleFromString(chatstyle), result);
+        return Text.of(format.colour, format.style, result);
     }
 
     @Override public void onReload() {
         this.chatConfig = Nucleus.getNucleus().getInternalServiceManager().getServiceUnchecked(ChatConfigAdapter.class).getNodeOrDefault();
+        this.formatCache.invalidateAll();
+    }
+
+    /**
+     * The parts of the chat format that only depend on the player's
+     * permissions and options.
+     */
+    private final class PlayerChatFormat {
+
+        private final ChatTemplateConfig template;
+        private final long permittedCodes;
+        private final boolean urls;
+        private final TextColor colour;
+        private final TextStyle style;
+
+        private PlayerChatFormat(Player player) {
+            if (ChatListener.this.chatConfig.isUseGroupTemplates()) {
+                this.template = ChatListener.this.templateUtil.getTemplateNow(player);
+            } else {
+                this.template = ChatListener.this.chatConfig.getDefaultTemplate();
+            }
+
+            this.permittedCodes = getPermittedCodes(player);
+            this.urls = hasPermission(player, prefix + "url");
+
+            NameUtil nu = Nucleus.getNucleus().getNameUtil();
+            this.colour = nu.getColourFromString(
+                    Util.getOptionFromSubject(player, "chatcolour", "chatcolor").orElseGet(this.template::getChatcolour));
+            this.style = nu.getTextStyleFromString(
+                    Util.getOptionFromSubject(player, "chatstyle").orElseGet(this.template::getChatstyle));
+        }
     }
 }
@@ -0,0 +1,26 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.chatlogger.commands;
+
+import io.github.nucleuspowered.nucleus.internal.annotations.command.Permissions;
+import io.github.nucleuspowered.nucleus.internal.annotations.command.RegisterCommand;
+import io.github.nucleuspowered.nucleus.internal.command.AbstractCommand;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.CommandContext;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.util.annotation.NonnullByDefault;
+
+@Permissions
+@NonnullByDefault
+@RegisterCommand(value = "chatlog", hasExecutor = false)
+public class ChatLogCommand extends AbstractCommand<CommandSource> {
+
+    // Not executed.
+    @Override
+    public CommandResult executeCommand(CommandSource src, CommandContext args, Cause cause) {
+        return CommandResult.empty();
+    }
+}
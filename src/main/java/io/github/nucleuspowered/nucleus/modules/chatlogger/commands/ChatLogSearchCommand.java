@@ -0,0 +1,119 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.chatlogger.commands;
+
+import io.github.nucleuspowered.nucleus.Nucleus;
+import io.github.nucleuspowered.nucleus.Util;
+import io.github.nucleuspowered.nucleus.argumentparsers.TimespanArgument;
+import io.github.nucleuspowered.nucleus.internal.annotations.RunAsync;
+import io.github.nucleuspowered.nucleus.internal.annotations.command.NoModifiers;
+import io.github.nucleuspowered.nucleus.internal.annotations.command.Permissions;
+import io.github.nucleuspowered.nucleus.internal.annotations.command.RegisterCommand;
+import io.github.nucleuspowered.nucleus.internal.command.AbstractCommand;
+import io.github.nucleuspowered.nucleus.internal.command.ReturnMessageException;
+import io.github.nucleuspowered.nucleus.internal.messages.MessageProvider;
+import io.github.nucleuspowered.nucleus.modules.chatlogger.services.ChatLogStore;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.CommandContext;
+import org.spongepowered.api.command.args.CommandElement;
+import org.spongepowered.api.command.args.GenericArguments;
+import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.util.annotation.NonnullByDefault;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Searches the {@link ChatLogStore} for what a player said between two
+ * times, which are given as how long ago they were.
+ */
+@Permissions(prefix = "chatlog")
+@RunAsync
+@NoModifiers
+@NonnullByDefault
+@RegisterCommand(value = "search", subcommandOf = ChatLogCommand.class)
+public class ChatLogSearchCommand extends AbstractCommand<CommandSource> {
+
+    private static final DateTimeFormatter formatter = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.SHORT)
+            .withLocale(Locale.getDefault()).withZone(ZoneId.systemDefault());
+
+    private final String playerKey = "player";
+    private final String fromKey = "from";
+    private final String toKey = "to";
+    private final String textKey = "text";
+
+    private final ChatLogStore store = getServiceUnchecked(ChatLogStore.class);
+
+    @Override
+    public CommandElement[] getArguments() {
+        return new CommandElement[] {
+                GenericArguments.onlyOne(GenericArguments.user(Text.of(this.playerKey))),
+                GenericArguments.onlyOne(new TimespanArgument(Text.of(this.fromKey))),
+                GenericArguments.onlyOne(new TimespanArgument(Text.of(this.toKey))),
+                GenericArguments.optional(GenericArguments.remainingJoinedStrings(Text.of(this.textKey)))
+        };
+    }
+
+    @Override
+    protected CommandResult executeCommand(CommandSource src, CommandContext args, Cause cause) throws Exception {
+        if (!this.store.isEnabled()) {
+            throw ReturnMessageException.fromKey("command.chatlog.search.disabled");
+        }
+
+        User user = args.<User>getOne(this.playerKey).get();
+        long fromAgo = args.<Long>getOne(this.fromKey).get();
+        long toAgo = args.<Long>getOne(this.toKey).get();
+        String text = args.<String>getOne(this.textKey).map(String::toLowerCase).orElse(null);
+
+        // Either order will do.
+        Instant now = Instant.now();
+        Instant from = now.minusSeconds(Math.max(fromAgo, toAgo));
+        Instant to = now.minusSeconds(Math.min(fromAgo, toAgo));
+
+        // Stop one past the limit, so we know if there are more.
+        MessageProvider provider = Nucleus.getNucleus().getMessageProvider(src);
+        int limit = this.store.getMaxResults();
+        List<Text> results = new ArrayList<>();
+        try {
+            this.store.search(user.getUniqueId(), from, to, entry -> {
+                if (text == null || entry.getMessage().toLowerCase().contains(text)) {
+                    results.add(Text.of("[", formatter.format(Instant.ofEpochMilli(entry.getTimestamp())), "] ", entry.format(provider)));
+                }
+
+                return results.size() <= limit;
+            });
+        } catch (IOException e) {
+            Nucleus.getNucleus().printStackTraceIfDebugMode(e);
+            throw ReturnMessageException.fromKey("command.chatlog.search.error");
+        }
+
+        if (results.isEmpty()) {
+            src.sendMessage(provider.getTextMessageWithFormat("command.chatlog.search.none", user.getName()));
+            return CommandResult.success();
+        }
+
+        boolean truncated = results.size() > limit;
+        if (truncated) {
+            results.remove(limit);
+        }
+
+        Util.getPaginationBuilder(src)
+                .title(provider.getTextMessageWithFormat("command.chatlog.search.title", user.getName(),
+                        formatter.format(from), formatter.format(to)))
+                .footer(truncated ? provider.getTextMessageWithFormat("command.chatlog.search.truncated", String.valueOf(limit)) : null)
+                .contents(results)
+                .sendTo(src);
+        return CommandResult.successCount(results.size());
+    }
+}
@@ -4,6 +4,7 @@
  */
 package io.github.nucleuspowered.nucleus.modules.chatlogger.config;
 
+import io.github.nucleuspowered.nucleus.logging.LogFileConfig;
 import ninja.leaping.configurate.objectmapping.Setting;
 import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
 
@@ -22,6 +23,12 @@ public class ChatLoggingConfig {
     @Setting(value = "log-mail", comment = "config.chatlog.mail")
     private boolean logMail = false;
 
+    @Setting(value = "log-file", comment = "config.chatlog.logfile")
+    private LogFileConfig logFile = new LogFileConfig();
+
+    @Setting(value = "search-store", comment = "config.chatlog.searchstore")
+    private SearchStoreConfig searchStore = new SearchStoreConfig();
+
     public boolean isEnableLog() {
         return this.enableLog;
     }
@@ -37,4 +44,12 @@ public class ChatLoggingConfig {
     public boolean isLogMail() {
         return this.logMail;
     }
+
+    public LogFileConfig getLogFile() {
+        return this.logFile;
+    }
+
+    public SearchStoreConfig getSearchStore() {
+        return this.searchStore;
+    }
 }
@@ -0,0 +1,39 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.chatlogger.config;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class SearchStoreConfig {
+
+    @Setting(value = "enable", comment = "config.chatlog.store.enable")
+    private boolean enabled = false;
+
+    @Setting(value = "maximum-segment-size-kb", comment = "config.chatlog.store.segmentsize")
+    private long maxSegmentSize = 16384;
+
+    @Setting(value = "maximum-search-results", comment = "config.chatlog.store.maxresults")
+    private int maxResults = 500;
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Gets the size, in bytes, that a segment can reach before a new segment
+     * is started. A new segment is always started each day.
+     *
+     * @return The size.
+     */
+    public long getMaxSegmentSize() {
+        return Math.max(64, this.maxSegmentSize) * 1024;
+    }
+
+    public int getMaxResults() {
+        return Math.max(1, this.maxResults);
+    }
+}
@@ -6,10 +6,12 @@ package io.github.nucleuspowered.nucleus.modules.chatlogger.listeners;
 
 import io.github.nucleuspowered.nucleus.Nucleus;
 import io.github.nucleuspowered.nucleus.internal.interfaces.ListenerBase;
+import io.github.nucleuspowered.nucleus.modules.chatlogger.services.ChatLogStore;
 import io.github.nucleuspowered.nucleus.modules.chatlogger.services.ChatLoggerHandler;
 
 public abstract class AbstractLoggerListener implements ListenerBase.Conditional {
 
     final ChatLoggerHandler handler = Nucleus.getNucleus().getInternalServiceManager().getServiceUnchecked(ChatLoggerHandler.class);
+    final ChatLogStore store = Nucleus.getNucleus().getInternalServiceManager().getServiceUnchecked(ChatLogStore.class);
 
 }
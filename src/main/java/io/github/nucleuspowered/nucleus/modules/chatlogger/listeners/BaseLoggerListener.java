@@ -22,6 +22,8 @@ public class BaseLoggerListener extends AbstractLoggerListener {
         } catch (IOException e) {
             e.printStackTrace();
         }
+
+        this.store.onServerShutdown();
     }
 
     @Override
@@ -8,6 +8,7 @@ import io.github.nucleuspowered.nucleus.Nucleus;
 import io.github.nucleuspowered.nucleus.Util;
 import io.github.nucleuspowered.nucleus.modules.chatlogger.ChatLoggerModule;
 import io.github.nucleuspowered.nucleus.modules.chatlogger.config.ChatLoggingConfigAdapter;
+import io.github.nucleuspowered.nucleus.modules.chatlogger.services.ChatLogEntry;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.Listener;
@@ -42,6 +43,7 @@ public class ChatLoggingListener extends AbstractLoggerListener {
     private void log(String s, CommandSource source) {
         String message = Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("chatlog.chat", source.getName(), s);
         this.handler.queueEntry(message);
+        this.store.record(ChatLogEntry.Type.CHAT, source, null, s);
     }
 
     @Override public boolean shouldEnable() {
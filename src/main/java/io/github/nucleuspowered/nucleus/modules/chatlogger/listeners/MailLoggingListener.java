@@ -8,6 +8,7 @@ import io.github.nucleuspowered.nucleus.Nucleus;
 import io.github.nucleuspowered.nucleus.api.events.NucleusMailEvent;
 import io.github.nucleuspowered.nucleus.modules.chatlogger.ChatLoggerModule;
 import io.github.nucleuspowered.nucleus.modules.chatlogger.config.ChatLoggingConfigAdapter;
+import io.github.nucleuspowered.nucleus.modules.chatlogger.services.ChatLogEntry;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.Order;
@@ -20,6 +21,7 @@ public class MailLoggingListener extends AbstractLoggerListener {
         String message = Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("chatlog.mail",
             source.getName(), event.getRecipient().getName(), event.getMessage());
         this.handler.queueEntry(message);
+        this.store.record(ChatLogEntry.Type.MAIL, source, event.getRecipient().getName(), event.getMessage());
     }
 
     @Override public boolean shouldEnable() {
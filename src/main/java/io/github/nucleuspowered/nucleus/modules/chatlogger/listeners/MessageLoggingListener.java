@@ -8,6 +8,7 @@ import io.github.nucleuspowered.nucleus.Nucleus;
 import io.github.nucleuspowered.nucleus.api.events.NucleusMessageEvent;
 import io.github.nucleuspowered.nucleus.modules.chatlogger.ChatLoggerModule;
 import io.github.nucleuspowered.nucleus.modules.chatlogger.config.ChatLoggingConfigAdapter;
+import io.github.nucleuspowered.nucleus.modules.chatlogger.services.ChatLogEntry;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.Order;
 
@@ -18,6 +19,7 @@ public class MessageLoggingListener extends AbstractLoggerListener {
         String message = Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("chatlog.message",
             event.getSender().getName(), event.getRecipient().getName(), event.getMessage());
         this.handler.queueEntry(message);
+        this.store.record(ChatLogEntry.Type.MESSAGE, event.getSender(), event.getRecipient().getName(), event.getMessage());
     }
 
     @Override public boolean shouldEnable() {
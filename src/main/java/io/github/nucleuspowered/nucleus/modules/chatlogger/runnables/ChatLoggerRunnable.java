@@ -9,6 +9,7 @@ import io.github.nucleuspowered.nucleus.internal.interfaces.Reloadable;
 import io.github.nucleuspowered.nucleus.internal.interfaces.TaskBase;
 import io.github.nucleuspowered.nucleus.modules.chatlogger.config.ChatLoggingConfig;
 import io.github.nucleuspowered.nucleus.modules.chatlogger.config.ChatLoggingConfigAdapter;
+import io.github.nucleuspowered.nucleus.modules.chatlogger.services.ChatLogStore;
 import io.github.nucleuspowered.nucleus.modules.chatlogger.services.ChatLoggerHandler;
 import org.spongepowered.api.GameState;
 import org.spongepowered.api.Sponge;
@@ -22,6 +23,7 @@ import java.time.temporal.ChronoUnit;
 public class ChatLoggerRunnable implements TaskBase, Reloadable {
 
     private final ChatLoggerHandler handler = Nucleus.getNucleus().getInternalServiceManager().getServiceUnchecked(ChatLoggerHandler.class);
+    private final ChatLogStore store = Nucleus.getNucleus().getInternalServiceManager().getServiceUnchecked(ChatLogStore.class);
     private ChatLoggingConfig config = new ChatLoggingConfig();
 
     @Override
@@ -43,6 +45,7 @@ public class ChatLoggerRunnable implements TaskBase, Reloadable {
 
         if (this.config.isEnableLog()) {
             this.handler.onTick();
+            this.store.onTick();
         }
     }
 
@@ -0,0 +1,133 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.chatlogger.services;
+
+import com.google.common.base.Preconditions;
+import io.github.nucleuspowered.nucleus.internal.messages.MessageProvider;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.annotation.Nullable;
+
+/**
+ * An entry in the {@link ChatLogStore}.
+ */
+public final class ChatLogEntry {
+
+    private final long timestamp;
+    private final Type type;
+    private final UUID sender;
+    private final String senderName;
+    @Nullable private final String recipientName;
+    private final String message;
+
+    public ChatLogEntry(long timestamp, Type type, UUID sender, String senderName, @Nullable String recipientName, String message) {
+        this.timestamp = timestamp;
+        this.type = Preconditions.checkNotNull(type);
+        this.sender = Preconditions.checkNotNull(sender);
+        this.senderName = Preconditions.checkNotNull(senderName);
+        this.recipientName = recipientName;
+        this.message = Preconditions.checkNotNull(message);
+    }
+
+    public long getTimestamp() {
+        return this.timestamp;
+    }
+
+    public Type getType() {
+        return this.type;
+    }
+
+    public UUID getSender() {
+        return this.sender;
+    }
+
+    public String getSenderName() {
+        return this.senderName;
+    }
+
+    public Optional<String> getRecipientName() {
+        return Optional.ofNullable(this.recipientName);
+    }
+
+    public String getMessage() {
+        return this.message;
+    }
+
+    /**
+     * Gets the entry as it would be written to the plain text chat log,
+     * without the time stamp.
+     *
+     * @param provider The {@link MessageProvider} to use.
+     * @return The formatted entry.
+     */
+    public String format(MessageProvider provider) {
+        if (this.type == Type.CHAT) {
+            return provider.getMessageWithFormat(this.type.key, this.senderName, this.message);
+        }
+
+        return provider.getMessageWithFormat(this.type.key, this.senderName, this.recipientName == null ? "" : this.recipientName, this.message);
+    }
+
+    void writeTo(DataOutput output) throws IOException {
+        output.writeLong(this.timestamp);
+        output.writeByte(this.type.ordinal());
+        output.writeLong(this.sender.getMostSignificantBits());
+        output.writeLong(this.sender.getLeastSignificantBits());
+        writeString(output, this.senderName);
+        writeString(output, this.recipientName == null ? "" : this.recipientName);
+        writeString(output, this.message);
+    }
+
+    static ChatLogEntry readFrom(DataInput input) throws IOException {
+        long timestamp = input.readLong();
+        int type = input.readUnsignedByte();
+        if (type >= Type.values().length) {
+            throw new IOException("Unknown chat log entry type " + type);
+        }
+
+        UUID sender = new UUID(input.readLong(), input.readLong());
+        String senderName = readString(input);
+        String recipientName = readString(input);
+        String message = readString(input);
+        return new ChatLogEntry(timestamp, Type.values()[type], sender, senderName, recipientName.isEmpty() ? null : recipientName, message);
+    }
+
+    // DataOutput#writeUTF is limited to 64k, which a mail message could exceed.
+    private static void writeString(DataOutput output, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInput input) throws IOException {
+        int length = input.readInt();
+        if (length < 0) {
+            throw new IOException("Negative string length");
+        }
+
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public enum Type {
+        // The order of these is written to disk, only add to the end.
+        CHAT("chatlog.chat"),
+        MESSAGE("chatlog.message"),
+        MAIL("chatlog.mail");
+
+        private final String key;
+
+        Type(String key) {
+            this.key = key;
+        }
+    }
+}
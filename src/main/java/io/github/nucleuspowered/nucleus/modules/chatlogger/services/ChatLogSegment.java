@@ -0,0 +1,454 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.chatlogger.services;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+/**
+ * A single, append only segment of the {@link ChatLogStore}. A segment is
+ * made up of three files, each named after the time the segment was started:
+ *
+ * <ul>
+ *     <li>{@code .seg}, the entries, each prefixed by its length;</li>
+ *     <li>{@code .tix}, a sparse time index holding the time and offset of
+ *     every {@link #TIME_INDEX_INTERVAL}th entry;</li>
+ *     <li>{@code .uix}, the posting list, which holds the offsets of the
+ *     entries sent by each player. This is written when the segment is
+ *     sealed, until then the postings are held in memory.</li>
+ * </ul>
+ *
+ * <p>A segment without a posting list that is not being written to was not
+ * sealed properly, and should be {@link #recover() recovered}.</p>
+ */
+final class ChatLogSegment {
+
+    static final String SEGMENT_EXTENSION = ".seg";
+    private static final String TIME_INDEX_EXTENSION = ".tix";
+    private static final String POSTINGS_EXTENSION = ".uix";
+    private static final int TIME_INDEX_INTERVAL = 64;
+    private static final int TIME_INDEX_ENTRY_SIZE = 16;
+
+    // Guards against reading garbage as a length.
+    private static final int MAXIMUM_ENTRY_SIZE = 4 * 1024 * 1024;
+
+    private final long start;
+    private final Path segmentFile;
+    private final Path timeIndexFile;
+    private final Path postingsFile;
+
+    // The length of the segment that readers may see.
+    private volatile long committed;
+
+    // Only set while the segment is being written to.
+    @Nullable private Writer writer = null;
+
+    ChatLogSegment(Path directory, long start) throws IOException {
+        this.start = start;
+        this.segmentFile = directory.resolve(start + SEGMENT_EXTENSION);
+        this.timeIndexFile = directory.resolve(start + TIME_INDEX_EXTENSION);
+        this.postingsFile = directory.resolve(start + POSTINGS_EXTENSION);
+        this.committed = Files.exists(this.segmentFile) ? Files.size(this.segmentFile) : 0;
+    }
+
+    /**
+     * Gets the start time of the segment with the given file name, if it is
+     * a segment.
+     *
+     * @param fileName The file name.
+     * @return The start time, if the file is a segment.
+     */
+    static Optional<Long> getStart(String fileName) {
+        if (!fileName.endsWith(SEGMENT_EXTENSION)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_EXTENSION.length())));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    long getStart() {
+        return this.start;
+    }
+
+    long getSize() {
+        return this.committed;
+    }
+
+    boolean needsRecovery() {
+        return this.writer == null && !Files.exists(this.postingsFile);
+    }
+
+    // -- Writing, only one thread may write at a time.
+
+    synchronized void openForWriting() throws IOException {
+        if (this.writer == null) {
+            this.writer = new Writer();
+        }
+    }
+
+    void append(ChatLogEntry entry) throws IOException {
+        Writer w = this.writer;
+        if (w == null) {
+            throw new IllegalStateException("The segment is sealed");
+        }
+
+        w.append(entry);
+    }
+
+    void flush() throws IOException {
+        Writer w = this.writer;
+        if (w != null) {
+            w.segment.flush();
+            w.timeIndex.flush();
+            this.committed = w.length;
+        }
+    }
+
+    /**
+     * Writes the posting list and closes the segment, after which it cannot
+     * be written to.
+     *
+     * @throws IOException if the segment could not be written.
+     */
+    void seal() throws IOException {
+        Writer w = this.writer;
+        if (w == null) {
+            return;
+        }
+
+        try {
+            flush();
+            writePostings(w.postings);
+        } finally {
+            synchronized (this) {
+                this.writer = null;
+            }
+
+            w.close();
+        }
+    }
+
+    /**
+     * Rebuilds the indexes for a segment that was not sealed, discarding any
+     * entry at the end of the segment that was only partly written.
+     *
+     * @throws IOException if the segment could not be read or written.
+     */
+    void recover() throws IOException {
+        Map<UUID, Offsets> postings = new HashMap<>();
+        long length = 0;
+        int count = 0;
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.segmentFile)));
+                DataOutputStream timeIndex = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(this.timeIndexFile)))) {
+            while (true) {
+                ChatLogEntry entry;
+                int size;
+                try {
+                    size = input.readInt();
+                    if (size < 0 || size > MAXIMUM_ENTRY_SIZE) {
+                        break;
+                    }
+
+                    byte[] bytes = new byte[size];
+                    input.readFully(bytes);
+                    entry = ChatLogEntry.readFrom(new DataInputStream(new ByteArrayInputStream(bytes)));
+                } catch (EOFException e) {
+                    break;
+                }
+
+                if (count++ % TIME_INDEX_INTERVAL == 0) {
+                    timeIndex.writeLong(entry.getTimestamp());
+                    timeIndex.writeLong(length);
+                }
+
+                postings.computeIfAbsent(entry.getSender(), x -> new Offsets()).add(length);
+                length += 4 + size;
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(this.segmentFile, StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+        }
+
+        this.committed = length;
+        writePostings(postings);
+    }
+
+    // -- Reading, any thread.
+
+    /**
+     * Reads the entries in this segment in the order they were written,
+     * stopping at the first entry after {@code to}.
+     *
+     * @param sender The sender to read entries for, or {@code null} for all entries.
+     * @param from The time, in milliseconds, of the earliest entry to read.
+     * @param to The time, in milliseconds, of the latest entry to read.
+     * @param visitor Accepts each entry, returning {@code false} to stop reading.
+     * @return {@code false} if the visitor asked to stop.
+     * @throws IOException if the segment could not be read.
+     */
+    boolean read(@Nullable UUID sender, long from, long to, Predicate<ChatLogEntry> visitor) throws IOException {
+        long limit = this.committed;
+        long startOffset = findStartOffset(from);
+        long[] offsets = sender == null ? null : getPostings(sender);
+        if (offsets == null) {
+            return scan(sender, startOffset, limit, from, to, visitor);
+        }
+
+        int first = Arrays.binarySearch(offsets, startOffset);
+        if (first < 0) {
+            first = -first - 1;
+        }
+
+        if (first == offsets.length) {
+            return true;
+        }
+
+        try (RandomAccessFile file = new RandomAccessFile(this.segmentFile.toFile(), "r")) {
+            for (int i = first; i < offsets.length && offsets[i] < limit; i++) {
+                file.seek(offsets[i]);
+                int size = file.readInt();
+                if (size < 0 || size > MAXIMUM_ENTRY_SIZE) {
+                    throw new IOException("Corrupt entry in " + this.segmentFile);
+                }
+
+                byte[] bytes = new byte[size];
+                file.readFully(bytes);
+                ChatLogEntry entry = ChatLogEntry.readFrom(new DataInputStream(new ByteArrayInputStream(bytes)));
+                if (entry.getTimestamp() > to) {
+                    return true;
+                }
+
+                if (entry.getTimestamp() >= from && !visitor.test(entry)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private boolean scan(@Nullable UUID sender, long startOffset, long limit, long from, long to, Predicate<ChatLogEntry> visitor)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(this.segmentFile, StandardOpenOption.READ)) {
+            channel.position(startOffset);
+            DataInputStream input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            long position = startOffset;
+            while (position < limit) {
+                int size = input.readInt();
+                if (size < 0 || size > MAXIMUM_ENTRY_SIZE) {
+                    throw new IOException("Corrupt entry in " + this.segmentFile);
+                }
+
+                byte[] bytes = new byte[size];
+                input.readFully(bytes);
+                position += 4 + size;
+                ChatLogEntry entry = ChatLogEntry.readFrom(new DataInputStream(new ByteArrayInputStream(bytes)));
+                if (entry.getTimestamp() > to) {
+                    return true;
+                }
+
+                if (entry.getTimestamp() >= from && (sender == null || sender.equals(entry.getSender())) && !visitor.test(entry)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Finds the offset of the last indexed entry before the given time, using
+     * a binary search over the time index on disk. All entries before that
+     * offset are known to be earlier than the given time.
+     *
+     * @param from The time.
+     * @return The offset to start reading from.
+     * @throws IOException if the index could not be read.
+     */
+    private long findStartOffset(long from) throws IOException {
+        if (!Files.exists(this.timeIndexFile)) {
+            return 0;
+        }
+
+        try (RandomAccessFile index = new RandomAccessFile(this.timeIndexFile.toFile(), "r")) {
+            // Ignore any entry that is partly written.
+            long low = 0;
+            long high = index.length() / TIME_INDEX_ENTRY_SIZE - 1;
+            long result = 0;
+            while (low <= high) {
+                long mid = (low + high) >>> 1;
+                index.seek(mid * TIME_INDEX_ENTRY_SIZE);
+                if (index.readLong() < from) {
+                    result = index.readLong();
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * Gets the offsets of the entries that the sender wrote, in order.
+     *
+     * @param sender The sender.
+     * @return The offsets, or {@code null} if there is no posting list.
+     * @throws IOException if the posting list could not be read.
+     */
+    @Nullable
+    private long[] getPostings(UUID sender) throws IOException {
+        synchronized (this) {
+            if (this.writer != null) {
+                Offsets offsets = this.writer.postings.get(sender);
+                return offsets == null ? new long[0] : offsets.toArray();
+            }
+        }
+
+        if (!Files.exists(this.postingsFile)) {
+            return null;
+        }
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.postingsFile)))) {
+            int players = input.readInt();
+            for (int i = 0; i < players; i++) {
+                long most = input.readLong();
+                long least = input.readLong();
+                int count = input.readInt();
+                if (most == sender.getMostSignificantBits() && least == sender.getLeastSignificantBits()) {
+                    long[] result = new long[count];
+                    for (int j = 0; j < count; j++) {
+                        result[j] = input.readLong();
+                    }
+
+                    return result;
+                }
+
+                long toSkip = count * 8L;
+                while (toSkip > 0) {
+                    long skipped = input.skip(toSkip);
+                    if (skipped <= 0) {
+                        throw new EOFException();
+                    }
+
+                    toSkip -= skipped;
+                }
+            }
+        }
+
+        return new long[0];
+    }
+
+    private void writePostings(Map<UUID, Offsets> postings) throws IOException {
+        Path temp = this.postingsFile.resolveSibling(this.postingsFile.getFileName() + ".tmp");
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            output.writeInt(postings.size());
+            for (Map.Entry<UUID, Offsets> entry : postings.entrySet()) {
+                output.writeLong(entry.getKey().getMostSignificantBits());
+                output.writeLong(entry.getKey().getLeastSignificantBits());
+                Offsets offsets = entry.getValue();
+                output.writeInt(offsets.size);
+                for (int i = 0; i < offsets.size; i++) {
+                    output.writeLong(offsets.values[i]);
+                }
+            }
+        }
+
+        Files.move(temp, this.postingsFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private final class Writer {
+
+        private final DataOutputStream segment;
+        private final DataOutputStream timeIndex;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+        private final DataOutputStream bufferOutput = new DataOutputStream(this.buffer);
+
+        // Guarded by the segment.
+        private final Map<UUID, Offsets> postings = new HashMap<>();
+        private long length;
+        private int count = 0;
+
+        private Writer() throws IOException {
+            this.length = Files.exists(ChatLogSegment.this.segmentFile) ? Files.size(ChatLogSegment.this.segmentFile) : 0;
+            this.segment = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(ChatLogSegment.this.segmentFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+            this.timeIndex = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(ChatLogSegment.this.timeIndexFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+        }
+
+        private void append(ChatLogEntry entry) throws IOException {
+            this.buffer.reset();
+            entry.writeTo(this.bufferOutput);
+            this.segment.writeInt(this.buffer.size());
+            this.buffer.writeTo(this.segment);
+
+            if (this.count++ % TIME_INDEX_INTERVAL == 0) {
+                this.timeIndex.writeLong(entry.getTimestamp());
+                this.timeIndex.writeLong(this.length);
+            }
+
+            synchronized (ChatLogSegment.this) {
+                this.postings.computeIfAbsent(entry.getSender(), x -> new Offsets()).add(this.length);
+            }
+
+            this.length += 4 + this.buffer.size();
+        }
+
+        private void close() throws IOException {
+            try {
+                this.segment.close();
+            } finally {
+                this.timeIndex.close();
+            }
+        }
+    }
+
+    // A growable list of offsets, to avoid boxing each one.
+    private static final class Offsets {
+
+        private long[] values = new long[16];
+        private int size = 0;
+
+        private void add(long value) {
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, this.size * 2);
+            }
+
+            this.values[this.size++] = value;
+        }
+
+        private long[] toArray() {
+            return Arrays.copyOf(this.values, this.size);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.chatlogger.services;
+
+import io.github.nucleuspowered.nucleus.Nucleus;
+import io.github.nucleuspowered.nucleus.Util;
+import io.github.nucleuspowered.nucleus.internal.interfaces.Reloadable;
+import io.github.nucleuspowered.nucleus.internal.interfaces.ServiceBase;
+import io.github.nucleuspowered.nucleus.logging.MpscRingBuffer;
+import io.github.nucleuspowered.nucleus.modules.chatlogger.config.ChatLoggingConfig;
+import io.github.nucleuspowered.nucleus.modules.chatlogger.config.ChatLoggingConfigAdapter;
+import io.github.nucleuspowered.nucleus.modules.chatlogger.config.SearchStoreConfig;
+import org.spongepowered.api.command.CommandSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+/**
+ * A store of chat log entries that can be searched by player and time,
+ * alongside the plain text chat logs.
+ *
+ * <p>Entries are written to append only {@link ChatLogSegment segments}
+ * under {@code logs/nucleus/chatstore}. A new segment is started each day,
+ * and when the current segment gets too big, so a search only has to open
+ * the segments that cover the time it is searching, and then only read the
+ * entries that the posting list for the player points to.</p>
+ */
+public class ChatLogStore implements Reloadable, ServiceBase {
+
+    private static final Path DIRECTORY = Paths.get("logs/nucleus/chatstore");
+
+    // Must be a power of two.
+    private static final int QUEUE_CAPACITY = 1 << 14;
+
+    private final Path directory;
+    private final MpscRingBuffer<ChatLogEntry> queue = new MpscRingBuffer<>(QUEUE_CAPACITY);
+    private final AtomicInteger dropped = new AtomicInteger();
+
+    // Guarded by this.
+    private final TreeMap<Long, ChatLogSegment> segments = new TreeMap<>();
+    @Nullable private ChatLogSegment active = null;
+    private boolean loaded = false;
+
+    private volatile boolean enabled = false;
+    private volatile SearchStoreConfig config = new SearchStoreConfig();
+
+    public ChatLogStore() {
+        this(DIRECTORY);
+    }
+
+    ChatLogStore(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public void onReload() throws Exception {
+        ChatLoggingConfig chatLoggingConfig =
+                Nucleus.getNucleus().getInternalServiceManager().getServiceUnchecked(ChatLoggingConfigAdapter.class).getNodeOrDefault();
+        this.config = chatLoggingConfig.getSearchStore();
+        this.enabled = chatLoggingConfig.isEnableLog() && this.config.isEnabled();
+        if (!this.enabled) {
+            onShutdown();
+        }
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getMaxResults() {
+        return this.config.getMaxResults();
+    }
+
+    /**
+     * Queues an entry to be written to the store, if the store is enabled.
+     *
+     * @param type The type of entry.
+     * @param sender The sender.
+     * @param recipientName The name of the recipient, if any.
+     * @param message The message.
+     */
+    public void record(ChatLogEntry.Type type, CommandSource sender, @Nullable String recipientName, String message) {
+        if (this.enabled) {
+            ChatLogEntry entry = new ChatLogEntry(System.currentTimeMillis(), type, Util.getUUID(sender), sender.getName(), recipientName, message);
+            if (!this.queue.offer(entry)) {
+                this.dropped.incrementAndGet();
+            }
+        }
+    }
+
+    public void onTick() {
+        if (!this.queue.isEmpty()) {
+            write();
+        }
+    }
+
+    public void onServerShutdown() {
+        onShutdown();
+    }
+
+    /**
+     * Reads the entries that the given player sent between the given times,
+     * in the order they were sent. Only the segments that cover the times are
+     * read, and entries are passed to the visitor as they are read, so the
+     * visitor decides how many entries are held in memory.
+     *
+     * @param sender The {@link UUID} of the sender.
+     * @param from The earliest time to get entries for.
+     * @param to The latest time to get entries for.
+     * @param visitor Accepts each entry, returning {@code false} to stop the search.
+     * @throws IOException if the store could not be read.
+     */
+    public void search(UUID sender, Instant from, Instant to, Predicate<ChatLogEntry> visitor) throws IOException {
+        long fromMillis = from.toEpochMilli();
+        long toMillis = to.toEpochMilli();
+        if (fromMillis > toMillis) {
+            return;
+        }
+
+        List<ChatLogSegment> toSearch;
+        synchronized (this) {
+            load();
+
+            // The segment that was being written to at the start time, and all those started before the end time.
+            Long first = this.segments.floorKey(fromMillis);
+            toSearch = new ArrayList<>(this.segments.subMap(first == null ? Long.MIN_VALUE : first, true, toMillis, true).values());
+        }
+
+        for (ChatLogSegment segment : toSearch) {
+            if (!segment.read(sender, fromMillis, toMillis, visitor)) {
+                return;
+            }
+        }
+    }
+
+    private synchronized void write() {
+        List<ChatLogEntry> entries = new ArrayList<>(this.queue.size());
+        this.queue.drain(entries::add, QUEUE_CAPACITY);
+        int droppedCount = this.dropped.getAndSet(0);
+        if (droppedCount > 0) {
+            Nucleus.getNucleus().getLogger().warn(Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("commandlog.dropped",
+                    String.valueOf(droppedCount)));
+        }
+
+        try {
+            load();
+            for (ChatLogEntry entry : entries) {
+                getSegmentFor(entry).append(entry);
+            }
+
+            if (this.active != null) {
+                this.active.flush();
+            }
+        } catch (IOException e) {
+            Nucleus.getNucleus().getLogger().warn(Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("chatlog.store.couldnotwrite"));
+            Nucleus.getNucleus().printStackTraceIfDebugMode(e);
+        }
+    }
+
+    private synchronized void onShutdown() {
+        if (!this.queue.isEmpty()) {
+            write();
+        }
+
+        if (this.active != null) {
+            try {
+                this.active.seal();
+            } catch (IOException e) {
+                Nucleus.getNucleus().getLogger().warn(Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("chatlog.store.couldnotwrite"));
+                Nucleus.getNucleus().printStackTraceIfDebugMode(e);
+            } finally {
+                this.active = null;
+            }
+        }
+    }
+
+    private ChatLogSegment getSegmentFor(ChatLogEntry entry) throws IOException {
+        if (this.active != null && (this.active.getSize() >= this.config.getMaxSegmentSize()
+                || !getDate(this.active.getStart()).equals(getDate(entry.getTimestamp())))) {
+            ChatLogSegment toSeal = this.active;
+            this.active = null;
+            toSeal.seal();
+        }
+
+        if (this.active == null) {
+            long start = Math.max(entry.getTimestamp(), this.segments.isEmpty() ? 0 : this.segments.lastKey() + 1);
+            ChatLogSegment segment = new ChatLogSegment(this.directory, start);
+            segment.openForWriting();
+            this.segments.put(start, segment);
+            this.active = segment;
+        }
+
+        return this.active;
+    }
+
+    private void load() throws IOException {
+        if (this.loaded) {
+            return;
+        }
+
+        Files.createDirectories(this.directory);
+        try (Stream<Path> files = Files.list(this.directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Optional<Long> start = ChatLogSegment.getStart(file.getFileName().toString());
+                if (start.isPresent()) {
+                    ChatLogSegment segment = new ChatLogSegment(this.directory, start.get());
+                    if (segment.needsRecovery()) {
+                        try {
+                            segment.recover();
+                        } catch (IOException e) {
+                            // Still searchable, just without the posting list.
+                            Nucleus.getNucleus().getLogger().warn(Nucleus.getNucleus().getMessageProvider()
+                                    .getMessageWithFormat("chatlog.store.couldnotrecover", file.getFileName().toString()));
+                            Nucleus.getNucleus().printStackTraceIfDebugMode(e);
+                        }
+                    }
+
+                    this.segments.put(start.get(), segment);
+                }
+            }
+        }
+
+        this.loaded = true;
+    }
+
+    private static LocalDate getDate(long millis) {
+        return Instant.ofEpochMilli(millis).atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+}
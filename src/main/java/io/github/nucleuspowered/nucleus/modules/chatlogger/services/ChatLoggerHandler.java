@@ -22,6 +22,7 @@ public class ChatLoggerHandler extends AbstractLoggingHandler implements Reloada
     public void onReload() throws Exception {
         ChatLoggingConfigAdapter clca = Nucleus.getNucleus().getInternalServiceManager().getServiceUnchecked(ChatLoggingConfigAdapter.class);
         this.enabled = clca.getNodeOrDefault().isEnableLog();
+        setLogFileConfig(clca.getNodeOrDefault().getLogFile());
         if (this.enabled && this.logger == null) {
             this.createLogger();
         } else if (!this.enabled && this.logger != null) {
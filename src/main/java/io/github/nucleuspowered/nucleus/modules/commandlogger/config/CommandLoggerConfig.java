@@ -5,6 +5,7 @@
 package io.github.nucleuspowered.nucleus.modules.commandlogger.config;
 
 import com.google.common.collect.ImmutableList;
+import io.github.nucleuspowered.nucleus.logging.LogFileConfig;
 import ninja.leaping.configurate.objectmapping.Setting;
 import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
 
@@ -26,6 +27,9 @@ public class CommandLoggerConfig {
     @Setting(value = "log-to-file", comment = "config.commandlogger.file")
     private boolean logToFile = false;
 
+    @Setting(value = "log-file", comment = "config.commandlogger.logfile")
+    private LogFileConfig logFile = new LogFileConfig();
+
     public LoggerTargetConfig getLoggerTarget() {
         return this.loggerTarget;
     }
@@ -41,4 +45,8 @@ public class CommandLoggerConfig {
     public boolean isLogToFile() {
         return this.logToFile;
     }
+
+    public LogFileConfig getLogFile() {
+        return this.logFile;
+    }
 }
@@ -24,6 +24,7 @@ public class CommandLoggerHandler extends AbstractLoggingHandler implements Relo
     @Override
     public void onReload() throws Exception {
         this.config = this.clca.getNodeOrDefault();
+        setLogFileConfig(this.config.getLogFile());
         if (this.config.isLogToFile() && this.logger == null) {
             this.createLogger();
         } else if (!this.config.isLogToFile() && this.logger != null) {
@@ -46,7 +46,7 @@ public class CommandSpyCommand extends AbstractCommand<Player> {
                 .orElseGet(() -> !ups.getUnwrapped(src.getUniqueId(), CommandSpyUserPrefKeys.COMMAND_SPY));
         ups.set(src.getUniqueId(), CommandSpyUserPrefKeys.COMMAND_SPY, to);
 
-        MessageProvider mp = Nucleus.getNucleus().getMessageProvider();
+        MessageProvider mp = Nucleus.getNucleus().getMessageProvider(src);
         src.sendMessage(mp.getTextMessageWithFormat("command.commandspy.success", mp.getMessageWithFormat(to ? "standard.enabled" : "standard.disabled")));
         return CommandResult.success();
     }
@@ -0,0 +1,68 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.core.commands;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.github.nucleuspowered.nucleus.Nucleus;
+import io.github.nucleuspowered.nucleus.dataservices.loaders.DataManager;
+import io.github.nucleuspowered.nucleus.internal.annotations.RunAsync;
+import io.github.nucleuspowered.nucleus.internal.annotations.command.NoModifiers;
+import io.github.nucleuspowered.nucleus.internal.annotations.command.Permissions;
+import io.github.nucleuspowered.nucleus.internal.annotations.command.RegisterCommand;
+import io.github.nucleuspowered.nucleus.internal.command.AbstractCommand;
+import io.github.nucleuspowered.nucleus.internal.messages.MessageProvider;
+import io.github.nucleuspowered.nucleus.internal.permissions.SubjectDecisionCache;
+import io.github.nucleuspowered.nucleus.internal.permissions.SuggestedLevel;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.CommandContext;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.util.annotation.NonnullByDefault;
+
+import java.util.concurrent.TimeUnit;
+
+@Permissions(prefix = "nucleus", suggestedLevel = SuggestedLevel.OWNER)
+@RunAsync
+@NoModifiers
+@RegisterCommand(value = "cachestats", subcommandOf = NucleusCommand.class)
+@NonnullByDefault
+public class CacheStatsCommand extends AbstractCommand<CommandSource> {
+
+    @Override protected CommandResult executeCommand(CommandSource src, CommandContext args, Cause cause) throws Exception {
+        MessageProvider mp = Nucleus.getNucleus().getMessageProvider(src);
+        src.sendMessage(mp.getTextMessageWithFormat("command.nucleus.cachestats.title"));
+        sendStats(src, mp, mp.getMessageWithFormat("command.nucleus.cachestats.user"), Nucleus.getNucleus().getUserDataManager());
+        sendStats(src, mp, mp.getMessageWithFormat("command.nucleus.cachestats.world"), Nucleus.getNucleus().getWorldDataManager());
+
+        SubjectDecisionCache decisionCache = SubjectDecisionCache.getInstance();
+        sendHitRate(src, mp, "command.nucleus.cachestats.permissions", decisionCache.getPermissionHits(), decisionCache.getPermissionMisses());
+        sendHitRate(src, mp, "command.nucleus.cachestats.options", decisionCache.getOptionHits(), decisionCache.getOptionMisses());
+        return CommandResult.success();
+    }
+
+    private void sendHitRate(CommandSource src, MessageProvider mp, String key, long hits, long misses) {
+        long total = hits + misses;
+        src.sendMessage(mp.getTextMessageWithFormat(key,
+                String.format("%.1f", total == 0 ? 100.0 : hits * 100.0 / total),
+                String.valueOf(hits),
+                String.valueOf(misses)));
+    }
+
+    private void sendStats(CommandSource src, MessageProvider mp, String name, DataManager<?, ?, ?> manager) {
+        CacheStats stats = manager.getCacheStats();
+        src.sendMessage(mp.getTextMessageWithFormat("command.nucleus.cachestats.entry",
+                name,
+                String.valueOf(manager.getCacheSize()),
+                String.format("%.1f", stats.hitRate() * 100),
+                String.valueOf(stats.hitCount()),
+                String.valueOf(stats.missCount())));
+        src.sendMessage(mp.getTextMessageWithFormat("command.nucleus.cachestats.load",
+                String.format("%.2f", stats.averageLoadPenalty() / TimeUnit.MILLISECONDS.toNanos(1)),
+                String.valueOf(stats.loadFailureCount())));
+        src.sendMessage(mp.getTextMessageWithFormat("command.nucleus.cachestats.eviction",
+                String.valueOf(stats.evictionCount()),
+                String.valueOf(stats.evictionWeight())));
+    }
+}
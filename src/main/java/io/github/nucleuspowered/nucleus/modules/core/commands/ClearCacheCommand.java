@@ -29,7 +29,7 @@ public class ClearCacheCommand extends AbstractCommand<CommandSource> {
     @Override
     public CommandResult executeCommand(CommandSource src, CommandContext args, Cause cause) throws Exception {
         Nucleus.getNucleus().getUserDataManager().invalidateOld();
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.clearcache.success"));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.clearcache.success"));
         return CommandResult.success();
     }
 }
\ No newline at end of file
@@ -54,7 +54,7 @@ public class CommandInfoCommand extends AbstractCommand<CommandSource> {
         // we have the command, get the mapping
         CommandMapping mapping = args.<CommandMapping>getOne(this.commandKey).get();
 
-        MessageProvider provider = Nucleus.getNucleus().getMessageProvider();
+        MessageProvider provider = Nucleus.getNucleus().getMessageProvider(src);
         Text header = provider.getTextMessageWithFormat("command.commandinfo.title", mapping.getPrimaryAlias());
 
         List<Text> content = Lists.newArrayList();
@@ -53,8 +53,8 @@ public class DebugCommand extends AbstractCommand<CommandSource> {
         @Override protected CommandResult executeCommand(CommandSource src, CommandContext args, Cause cause) {
             boolean set = args.<Boolean>getOne(NucleusParameters.Keys.BOOL).orElseGet(() -> !Nucleus.getNucleus().isSessionDebug());
             Nucleus.getNucleus().setSessionDebug(set);
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.debug.setsession", String.valueOf(set)));
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.debug.setsession2"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.debug.setsession", String.valueOf(set)));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.debug.setsession2"));
             return CommandResult.success();
         }
     }
@@ -76,7 +76,7 @@ public class DebugCommand extends AbstractCommand<CommandSource> {
                 throw ReturnMessageException.fromKey("command.nucleus.debug.uuid.none");
             }
 
-            MessageProvider provider = Nucleus.getNucleus().getMessageProvider();
+            MessageProvider provider = Nucleus.getNucleus().getMessageProvider(src);
             Util.getPaginationBuilder(src)
                 .title(provider.getTextMessageWithFormat("command.nucleus.debug.uuid.title", users.iterator().next().getName()))
                 .header(provider.getTextMessageWithFormat("command.nucleus.debug.uuid.header"))
@@ -101,10 +101,10 @@ public class DebugCommand extends AbstractCommand<CommandSource> {
     public static class RefreshUniqueVisitors extends AbstractCommand<CommandSource> {
 
         @Override protected CommandResult executeCommand(CommandSource src, CommandContext args, Cause cause) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.debug.refreshuniquevisitors.started",
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.debug.refreshuniquevisitors.started",
                 String.valueOf(Nucleus.getNucleus().getGeneralService().getTransient(UniqueUserCountTransientModule.class).getUniqueUserCount())));
             Nucleus.getNucleus().getGeneralService().getTransient(UniqueUserCountTransientModule.class).resetUniqueUserCount(l ->
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.debug.refreshuniquevisitors.done", String.valueOf(l))));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.debug.refreshuniquevisitors.done", String.valueOf(l))));
             return CommandResult.success();
         }
     }
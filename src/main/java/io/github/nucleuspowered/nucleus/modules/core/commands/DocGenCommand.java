@@ -58,7 +58,7 @@ public class DocGenCommand extends AbstractCommand<CommandSource> {
 
     @Override
     public CommandResult executeCommand(CommandSource src, CommandContext args, Cause cause) throws Exception {
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.docgen.start"));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.docgen.start"));
         DocGenCache genCache = Nucleus.getNucleus().getDocGenCache().get();
 
         // Generate command file.
@@ -122,7 +122,7 @@ public class DocGenCommand extends AbstractCommand<CommandSource> {
         configurationConfigurationLoader.save(configurationConfigurationNode);
 
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.docgen.complete"));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.docgen.complete"));
         return CommandResult.success();
     }
 
@@ -60,7 +60,7 @@ public class GetUserCommand extends AbstractCommand<CommandSource> {
             profile = manager.get(toGet, false);
         }
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.getuser.starting", toGet));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.getuser.starting", toGet));
 
         profile.handle((gp, th) -> {
             if (th != null || gp == null) {
@@ -68,13 +68,13 @@ public class GetUserCommand extends AbstractCommand<CommandSource> {
                     th.printStackTrace();
                 }
 
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.getuser.failed", toGet));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.getuser.failed", toGet));
                 return 0; // I have to return something, even though I don't care about it.
             }
 
             // We have a game profile, it's been added to the cache. Create the user too, just in case.
             Sponge.getServiceManager().provideUnchecked(UserStorageService.class).getOrCreate(gp);
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.getuser.success",
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.getuser.success",
                     gp.getUniqueId().toString(), gp.getName().orElse("unknown")));
 
             return 0;
@@ -142,7 +142,7 @@ public class InfoCommand extends AbstractCommand<CommandSource> {
             throw new TextMessageException(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.info.fileerror"), e);
         }
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.info.saved", fileName));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.info.saved", fileName));
         return CommandResult.success();
     }
 }
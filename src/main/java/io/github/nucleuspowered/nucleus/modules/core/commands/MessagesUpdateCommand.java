@@ -49,7 +49,7 @@ public class MessagesUpdateCommand extends AbstractCommand<CommandSource> {
             throw ReturnMessageException.fromKey("command.nucleus.messageupdate.couldnotload");
         }
 
-        MessageProvider messageProvider = Nucleus.getNucleus().getMessageProvider();
+        MessageProvider messageProvider = Nucleus.getNucleus().getMessageProvider(src);
         if (!(messageProvider instanceof ConfigMessageProvider)) {
             throw new ReturnMessageException(messageProvider.getTextMessageWithFormat("command.nucleus.messageupdate.notfile"));
         }
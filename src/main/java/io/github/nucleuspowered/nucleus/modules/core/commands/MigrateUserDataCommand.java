@@ -0,0 +1,46 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.core.commands;
+
+import io.github.nucleuspowered.nucleus.Nucleus;
+import io.github.nucleuspowered.nucleus.dataservices.dataproviders.DataProviders;
+import io.github.nucleuspowered.nucleus.internal.annotations.RunAsync;
+import io.github.nucleuspowered.nucleus.internal.annotations.command.NoModifiers;
+import io.github.nucleuspowered.nucleus.internal.annotations.command.Permissions;
+import io.github.nucleuspowered.nucleus.internal.annotations.command.RegisterCommand;
+import io.github.nucleuspowered.nucleus.internal.command.AbstractCommand;
+import io.github.nucleuspowered.nucleus.internal.command.ReturnMessageException;
+import io.github.nucleuspowered.nucleus.internal.permissions.SuggestedLevel;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.CommandContext;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.util.annotation.NonnullByDefault;
+
+@Permissions(prefix = "nucleus", suggestedLevel = SuggestedLevel.OWNER)
+@RunAsync
+@NoModifiers
+@RegisterCommand(value = "migrateuserdata", subcommandOf = NucleusCommand.class)
+@NonnullByDefault
+public class MigrateUserDataCommand extends AbstractCommand<CommandSource> {
+
+    @Override protected CommandResult executeCommand(CommandSource src, CommandContext args, Cause cause) throws Exception {
+        DataProviders dataProviders = Nucleus.getNucleus().getInternalServiceManager().getServiceUnchecked(DataProviders.class);
+        if (dataProviders.getUserDataStorage() != DataProviders.UserDataStorage.H2) {
+            throw ReturnMessageException.fromKey("command.nucleus.migrateuserdata.notdatabase");
+        }
+
+        // The data of online and cached users has already been loaded from the database, and would overwrite anything
+        // that is migrated now when it is next saved. The migration is run on the next startup, before any user is loaded.
+        try {
+            dataProviders.requestUserDataMigration();
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.migrateuserdata.scheduled"));
+            return CommandResult.success();
+        } catch (Exception e) {
+            Nucleus.getNucleus().printStackTraceIfDebugMode(e);
+            throw ReturnMessageException.fromKey("command.nucleus.migrateuserdata.error", e.getMessage());
+        }
+    }
+}
@@ -90,7 +90,7 @@ public class PrintPermsCommand extends AbstractCommand<CommandSource> {
         f.flush();
         f.close();
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.printperms", file));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.printperms", file));
         return CommandResult.success();
     }
 }
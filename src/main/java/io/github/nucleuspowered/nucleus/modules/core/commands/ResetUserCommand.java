@@ -108,7 +108,7 @@ public class ResetUserCommand extends AbstractCommand<CommandSource> {
                 return;
             }
 
-            source.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.reset.starting", this.user.getName()));
+            source.sendMessage(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.nucleus.reset.starting", this.user.getName()));
 
             // Ban temporarily.
             final BanService bss = Sponge.getServiceManager().provideUnchecked(BanService.class);
@@ -116,7 +116,7 @@ public class ResetUserCommand extends AbstractCommand<CommandSource> {
             bss.addBan(Ban.builder().type(BanTypes.PROFILE).expirationDate(Instant.now().plus(30, ChronoUnit.SECONDS)).profile(this.user.getProfile())
                     .build());
 
-            final MessageProvider messageProvider = NucleusPlugin.getNucleus().getMessageProvider();
+            final MessageProvider messageProvider = NucleusPlugin.getNucleus().getMessageProvider(source);
 
             // Unload the player in a second, just to let events fire.
             Sponge.getScheduler().createAsyncExecutor(Nucleus.getNucleus()).schedule(() -> {
@@ -25,7 +25,7 @@ public class SaveCommand extends AbstractCommand<CommandSource> {
 
     @Override
     public CommandResult executeCommand(CommandSource src, CommandContext args, Cause cause) {
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.save.start"));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.save.start"));
         Nucleus.getNucleus().saveData();
         return CommandResult.success();
     }
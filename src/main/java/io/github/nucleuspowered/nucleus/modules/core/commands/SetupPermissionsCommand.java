@@ -86,7 +86,7 @@ public class SetupPermissionsCommand extends AbstractCommand<CommandSource> {
             if (args.hasAny(this.acceptGroupKey)) {
                 setupGroups(src);
             } else {
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.permission.groups.info"));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.permission.groups.info"));
                 src.sendMessage(
                         Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.permission.groups.info2")
                             .toBuilder().onClick(TextActions.runCommand("/nucleus:nucleus setupperms -g -y"))
@@ -48,7 +48,7 @@ public class ClearItemAliasesCommand extends AbstractCommand<CommandSource> {
         node.clearAliases();
         this.itemDataService.setDataForItem(id, node);
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.removeitemalias.cleared", id));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.removeitemalias.cleared", id));
         return CommandResult.success();
     }
 }
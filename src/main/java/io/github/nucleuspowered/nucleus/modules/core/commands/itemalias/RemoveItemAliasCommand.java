@@ -49,7 +49,7 @@ public class RemoveItemAliasCommand extends AbstractCommand<CommandSource> {
         node.removeAlias(al);
         this.itemDataService.setDataForItem(id, node);
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.removeitemalias.removed", al, id));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.removeitemalias.removed", al, id));
         return CommandResult.success();
     }
 }
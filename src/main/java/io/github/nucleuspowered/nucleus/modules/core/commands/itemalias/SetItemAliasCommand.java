@@ -48,12 +48,12 @@ public class SetItemAliasCommand extends AbstractCommand<CommandSource> {
         // Do we have an item or blockstate?
         String a = args.<String>getOne(this.alias).get().toLowerCase();
         if (this.itemDataService.getIdFromAlias(a).isPresent()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.setitemalias.inuse", a));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.setitemalias.inuse", a));
             return CommandResult.empty();
         }
 
         if (!ItemDataNode.ALIAS_PATTERN.matcher(a).matches()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.setitemalias.notvalid", a));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.setitemalias.notvalid", a));
             return CommandResult.empty();
         }
 
@@ -66,7 +66,7 @@ public class SetItemAliasCommand extends AbstractCommand<CommandSource> {
         this.itemDataService.setDataForItem(id, idn);
 
         // Tell the user
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.setitemalias.success", a, id));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.setitemalias.success", a, id));
         return CommandResult.success();
     }
 }
@@ -6,6 +6,7 @@ package io.github.nucleuspowered.nucleus.modules.core.config;
 
 import com.google.common.collect.Maps;
 import io.github.nucleuspowered.neutrino.annotations.DoNotGenerate;
+import io.github.nucleuspowered.nucleus.dataservices.dataproviders.DataProviders;
 import io.github.nucleuspowered.nucleus.internal.text.NucleusTextTemplateImpl;
 import ninja.leaping.configurate.objectmapping.Setting;
 import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
@@ -73,9 +74,21 @@ public class CoreConfig {
     @Setting(value = "override-language", comment = "config.core.language")
     private String serverLocale = "default";
 
+    @Setting(value = "use-client-locale", comment = "config.core.clientlocale")
+    private boolean useClientLocale = false;
+
     @Setting(value = "data-file-location", comment = "config.core.datafilelocation")
     private String dataFileLocation = "default";
 
+    @Setting(value = "user-data-storage", comment = "config.core.userdatastorage")
+    private String userDataStorage = "json";
+
+    @Setting(value = "user-data-cache", comment = "config.core.usercache")
+    private DataCacheConfig userDataCache = new DataCacheConfig();
+
+    @Setting(value = "world-data-cache", comment = "config.core.worldcache")
+    private DataCacheConfig worldDataCache = new DataCacheConfig();
+
     @Setting(value = "offline-user-tab-limit", comment = "config.core.offlineusertablimit")
     private int nicknameArgOfflineLimit = 20;
 
@@ -85,6 +98,9 @@ public class CoreConfig {
     @Setting(value = "enable-partial-name-matching", comment = "config.core.partialname")
     private boolean partialMatch = true;
 
+    @Setting(value = "permission-cache-seconds", comment = "config.core.permissioncache")
+    private int permissionCacheSeconds = 10;
+
     @Setting(value = "print-message-when-permission-isnt-registered", comment = "config.core.printMissingPerms")
     private boolean printWhenPermissionIsntRegistered = false;
 
@@ -164,6 +180,22 @@ public class CoreConfig {
         return this.serverLocale;
     }
 
+    public boolean isUseClientLocale() {
+        return this.useClientLocale;
+    }
+
+    public DataProviders.UserDataStorage getUserDataStorage() {
+        return DataProviders.UserDataStorage.fromConfig(this.userDataStorage);
+    }
+
+    public DataCacheConfig getUserDataCache() {
+        return this.userDataCache;
+    }
+
+    public DataCacheConfig getWorldDataCache() {
+        return this.worldDataCache;
+    }
+
     public int getNicknameArgOfflineLimit() {
         return this.nicknameArgOfflineLimit;
     }
@@ -176,6 +208,10 @@ public class CoreConfig {
         return this.partialMatch;
     }
 
+    public int getPermissionCacheSeconds() {
+        return this.permissionCacheSeconds;
+    }
+
     public boolean isPrintWhenPermissionIsntRegistered() {
         return this.printWhenPermissionIsntRegistered;
     }
@@ -0,0 +1,40 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.core.config;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class DataCacheConfig {
+
+    @Setting(value = "maximum-entries", comment = "config.core.datacache.maxentries")
+    private int maximumEntries = 500;
+
+    @Setting(value = "maximum-weight", comment = "config.core.datacache.maxweight")
+    private long maximumWeight = -1;
+
+    @Setting(value = "expire-after-access-seconds", comment = "config.core.datacache.expire")
+    private long expireAfterAccess = -1;
+
+    @Setting(value = "soft-values", comment = "config.core.datacache.softvalues")
+    private boolean softValues = false;
+
+    public int getMaximumEntries() {
+        return Math.max(1, this.maximumEntries);
+    }
+
+    public long getMaximumWeight() {
+        return this.maximumWeight;
+    }
+
+    public long getExpireAfterAccess() {
+        return this.expireAfterAccess;
+    }
+
+    public boolean isSoftValues() {
+        return this.softValues;
+    }
+}
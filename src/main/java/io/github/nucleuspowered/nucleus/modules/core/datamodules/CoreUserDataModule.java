@@ -22,36 +22,41 @@ import javax.annotation.Nullable;
 
 public class CoreUserDataModule extends DataModule<ModularUserService> {
 
+    // Also read directly by the user cache rebuild.
+    public static final String LAST_LOGIN_KEY = "lastLogin";
+    public static final String LAST_LOGOUT_KEY = "lastLogout";
+    public static final String LAST_IP_KEY = "lastIP";
+
     @DataKey("lastKnownName")
-    private String lastKnownName;
+    String lastKnownName;
 
     @DataKey("locationOnLogin")
     @Nullable
-    private LocationNode locationOnLogin;
+    LocationNode locationOnLogin;
 
     @DataKey("lastLocation")
     @Nullable
-    private LocationNode lastLocation;
+    LocationNode lastLocation;
 
-    @DataKey("lastLogin")
-    private long login;
+    @DataKey(LAST_LOGIN_KEY)
+    long login;
 
-    @DataKey("lastLogout")
-    private long logout;
+    @DataKey(LAST_LOGOUT_KEY)
+    long logout;
 
-    @DataKey("lastIP")
+    @DataKey(LAST_IP_KEY)
     @Nullable
-    private String ipaddress;
+    String ipaddress;
 
     @DataKey("firstJoin")
-    private long firstJoin = 0;
+    long firstJoin = 0;
 
     // This is required as if a player joins during whitelist, Sponge logs it as a first join.
     // This means they lose out on all first join stuff, like first join kits.
     // We log a first join during a Login event that is cancelled, and then read if this
     // is true later (along with the last logout).
     @DataKey("startedFirstJoin")
-    private boolean startedFirstJoin = false;
+    boolean startedFirstJoin = false;
 
     public Optional<Instant> getLastLogin() {
         if (this.login == 0) {
@@ -63,6 +68,7 @@ public class CoreUserDataModule extends DataModule<ModularUserService> {
 
     public void setLastLogin(Instant login) {
         this.login = login.toEpochMilli();
+        markDirty();
     }
 
     public Optional<Instant> getLastLogout() {
@@ -76,6 +82,7 @@ public class CoreUserDataModule extends DataModule<ModularUserService> {
     public void setLastLogout(Location<World> location) {
         this.logout = System.currentTimeMillis();
         this.lastLocation = new LocationNode(location);
+        markDirty();
     }
 
     public Optional<LocationNode> getLogoutLocationSafe() {
@@ -109,10 +116,12 @@ public class CoreUserDataModule extends DataModule<ModularUserService> {
     public void sendToLocationOnLogin(@Nonnull Location<World> worldLocation) {
         Preconditions.checkNotNull(worldLocation);
         this.locationOnLogin = new LocationNode(worldLocation);
+        markDirty();
     }
 
     public void removeLocationOnLogin() {
         this.locationOnLogin = null;
+        markDirty();
     }
 
     public Optional<String> getLastIp() {
@@ -121,6 +130,7 @@ public class CoreUserDataModule extends DataModule<ModularUserService> {
 
     public void setLastIp(InetAddress address) {
         this.ipaddress = address.toString();
+        markDirty();
     }
 
     public Optional<String> getLastKnownName() {
@@ -129,6 +139,7 @@ public class CoreUserDataModule extends DataModule<ModularUserService> {
 
     public void setLastKnownName(String lastKnownName) {
         this.lastKnownName = lastKnownName;
+        markDirty();
     }
 
     public Optional<Instant> getFirstJoin() {
@@ -141,6 +152,7 @@ public class CoreUserDataModule extends DataModule<ModularUserService> {
 
     public void setFirstJoin(Instant firstJoin) {
         this.firstJoin = firstJoin.toEpochMilli();
+        markDirty();
     }
 
 }
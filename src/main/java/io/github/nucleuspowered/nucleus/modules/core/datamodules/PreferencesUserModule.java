@@ -18,10 +18,11 @@ import javax.annotation.Nullable;
 public class PreferencesUserModule extends DataModule<ModularUserService> {
 
     @DataKey("user-prefs")
-    private Map<String, Object> prefs = new HashMap<>();
+    Map<String, Object> prefs = new HashMap<>();
 
     public void set(String key, Object value) {
         this.prefs.put(key, value);
+        markDirty();
     }
 
     @Nullable public Object get(String key) {
@@ -29,7 +30,9 @@ public class PreferencesUserModule extends DataModule<ModularUserService> {
     }
 
     public void remove(String key) {
-        this.prefs.remove(key);
+        if (this.prefs.remove(key) != null) {
+            markDirty();
+        }
     }
 
     @Override protected void saveTo(ConfigurationNode node) {
@@ -64,6 +64,15 @@ public class CoreListener implements Reloadable, ListenerBase {
         this.url = u;
     }
 
+    /* (non-Javadoc)
+     * Auth is fired off the main thread, so we start loading the user's data now. This means that the
+     * Login and Join handlers, which run on the main thread, should not have to wait for the file.
+     */
+    @Listener(order = Order.LAST)
+    public void onPlayerAuth(final ClientConnectionEvent.Auth event, @Getter("getProfile") GameProfile profile) {
+        Nucleus.getNucleus().getUserDataManager().prefetch(profile.getUniqueId());
+    }
+
     /* (non-Javadoc)
      * We do this last to avoid interfering with other modules.
      */
@@ -104,6 +113,7 @@ public class CoreListener implements Reloadable, ListenerBase {
     @Listener(order = Order.FIRST)
     public void onPlayerJoinFirst(final ClientConnectionEvent.Join event, @Getter("getTargetEntity") final Player player) {
         try {
+            Nucleus.getNucleus().getUserDataManager().onPlayerJoin(player.getUniqueId());
             ModularUserService qsu = Nucleus.getNucleus().getUserDataManager().getUnchecked(player);
             CoreUserDataModule c = qsu.get(CoreUserDataModule.class);
             c.setLastLogin(Instant.now());
@@ -168,6 +178,8 @@ public class CoreListener implements Reloadable, ListenerBase {
 
     @Listener(order = Order.LAST)
     public void onPlayerQuit(final ClientConnectionEvent.Disconnect event, @Getter("getTargetEntity") final Player player) {
+        Nucleus.getNucleus().getUserDataManager().onPlayerQuit(player.getUniqueId());
+
         // There is an issue in Sponge where the connection may not even exist, because they were disconnected before the connection was
         // completely established.
         //noinspection ConstantConditions
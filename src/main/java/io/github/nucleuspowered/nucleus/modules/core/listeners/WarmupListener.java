@@ -45,7 +45,7 @@ public class WarmupListener implements Reloadable, ListenerBase {
     private void cancelWarmup(Player player) {
         this.service.cleanup();
         if (this.service.removeWarmup(player.getUniqueId()) && player.isOnline()) {
-            player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("warmup.cancel"));
+            player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("warmup.cancel"));
         }
     }
 
@@ -5,6 +5,7 @@
 package io.github.nucleuspowered.nucleus.modules.core.runnables;
 
 import io.github.nucleuspowered.nucleus.Nucleus;
+import io.github.nucleuspowered.nucleus.dataservices.loaders.DataManager;
 import io.github.nucleuspowered.nucleus.internal.interfaces.Reloadable;
 import io.github.nucleuspowered.nucleus.internal.interfaces.TaskBase;
 import io.github.nucleuspowered.nucleus.modules.core.CoreModule;
@@ -47,9 +48,19 @@ public class CoreTask implements TaskBase, Reloadable {
 
         if (this.printSave || Nucleus.getNucleus().isDebugMode()) {
             plugin.getLogger().info(plugin.getMessageProvider().getMessageWithFormat("core.savetask.complete"));
+            printStatistics(plugin, "User data", plugin.getUserDataManager().getAndResetSaveStatistics());
+            printStatistics(plugin, "World data", plugin.getWorldDataManager().getAndResetSaveStatistics());
         }
     }
 
+    private void printStatistics(Nucleus plugin, String name, DataManager.SaveStatistics statistics) {
+        plugin.getLogger().info(plugin.getMessageProvider().getMessageWithFormat("core.savetask.stats",
+                name,
+                String.valueOf(statistics.getWritten()),
+                String.valueOf(statistics.getSkipped()),
+                String.valueOf(statistics.getCoalesced())));
+    }
+
     @Override
     public void onReload() {
         this.printSave = Nucleus.getNucleus().getConfigValue(CoreModule.ID, CoreConfigAdapter.class, CoreConfig::isPrintOnAutosave)
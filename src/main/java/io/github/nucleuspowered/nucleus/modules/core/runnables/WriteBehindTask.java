@@ -0,0 +1,38 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.core.runnables;
+
+import io.github.nucleuspowered.nucleus.Nucleus;
+import io.github.nucleuspowered.nucleus.internal.interfaces.TaskBase;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.annotation.NonnullByDefault;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Writes user and world data that has changed since the last run, so that
+ * changes are persisted without waiting for the full save.
+ */
+@NonnullByDefault
+public class WriteBehindTask implements TaskBase {
+
+    @Override
+    public boolean isAsync() {
+        return true;
+    }
+
+    @Override
+    public Duration interval() {
+        return Duration.of(30, ChronoUnit.SECONDS);
+    }
+
+    @Override
+    public void accept(Task task) {
+        Nucleus plugin = Nucleus.getNucleus();
+        plugin.getUserDataManager().flushWriteBehind();
+        plugin.getWorldDataManager().flushWriteBehind();
+    }
+}
@@ -49,14 +49,14 @@ public class LockWeatherCommand extends AbstractCommand<CommandSource> {
     public CommandResult executeCommand(CommandSource src, CommandContext args, Cause cause) {
         Optional<WorldProperties> world = getWorldProperties(src, this.worldKey, args);
         if (!world.isPresent()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.specifyworld"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.specifyworld"));
             return CommandResult.empty();
         }
 
         WorldProperties wp = world.get();
         Optional<ModularWorldService> ws = this.loader.getWorld(wp.getUniqueId());
         if (!ws.isPresent()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.noworld", wp.getWorldName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.noworld", wp.getWorldName()));
             return CommandResult.empty();
         }
 
@@ -66,9 +66,9 @@ public class LockWeatherCommand extends AbstractCommand<CommandSource> {
         environmentWorldDataModule.setLockWeather(toggle);
         ws.get().set(environmentWorldDataModule);
         if (toggle) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.lockweather.locked", wp.getWorldName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.lockweather.locked", wp.getWorldName()));
         } else {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.lockweather.unlocked", wp.getWorldName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.lockweather.unlocked", wp.getWorldName()));
         }
 
         return CommandResult.success();
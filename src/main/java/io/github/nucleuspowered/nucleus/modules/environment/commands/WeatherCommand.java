@@ -95,11 +95,11 @@ public class WeatherCommand extends AbstractCommand<CommandSource> implements Re
         if (oi.isPresent()) {
             // YES! I should get a job at the weather service and show them how it's done!
             w.setWeather(we, oi.get() * 20L);
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.weather.time", we.getName(), w.getName(), Util.getTimeStringFromSeconds(oi.get())));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.weather.time", we.getName(), w.getName(), Util.getTimeStringFromSeconds(oi.get())));
         } else {
             // No, probably because I've already gotten a job at the weather service...
             w.setWeather(we);
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.weather.set", we.getName(), w.getName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.weather.set", we.getName(), w.getName()));
         }
 
         // The weather control device has been activated!
@@ -58,7 +58,7 @@ public class FlyCommand extends AbstractCommand.SimpleTargetOtherPlayer {
                     Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(fly ? "command.fly.player.on" : "command.fly.player.off", pl.getName()));
         }
 
-        pl.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(fly ? "command.fly.on" : "command.fly.off"));
+        pl.sendMessage(Nucleus.getNucleus().getMessageProvider(pl).getTextMessageWithFormat(fly ? "command.fly.on" : "command.fly.off"));
         return CommandResult.success();
     }
 
@@ -7,19 +7,33 @@ package io.github.nucleuspowered.nucleus.modules.fly.datamodules;
 import io.github.nucleuspowered.nucleus.dataservices.modular.DataKey;
 import io.github.nucleuspowered.nucleus.dataservices.modular.DataModule;
 import io.github.nucleuspowered.nucleus.dataservices.modular.ModularUserService;
+import io.github.nucleuspowered.nucleus.dataservices.modular.PlayerStatus;
+import ninja.leaping.configurate.ConfigurationNode;
 import org.spongepowered.api.data.key.Keys;
 
 public class FlyUserDataModule extends DataModule.ReferenceService<ModularUserService> {
 
     @DataKey("fly")
-    private boolean fly = false;
+    boolean fly = false;
 
     public FlyUserDataModule(ModularUserService modularDataService) {
         super(modularDataService);
     }
 
+    @Override
+    protected void loadFrom(ConfigurationNode node) {
+        super.loadFrom(node);
+        getService().getStatus().set(PlayerStatus.FLYING, this.fly);
+    }
+
     public boolean isFlying() {
-        getService().getPlayer().ifPresent(player -> this.fly = player.get(Keys.CAN_FLY).orElse(false));
+        getService().getPlayer().ifPresent(player -> {
+            boolean canFly = player.get(Keys.CAN_FLY).orElse(false);
+            if (canFly != this.fly) {
+                setFlying(canFly);
+            }
+        });
+
         return this.fly;
     }
 
@@ -29,5 +43,7 @@ public class FlyUserDataModule extends DataModule.ReferenceService<ModularUserSe
 
     public void setFlying(boolean fly) {
         this.fly = fly;
+        getService().getStatus().set(PlayerStatus.FLYING, fly);
+        markDirty();
     }
 }
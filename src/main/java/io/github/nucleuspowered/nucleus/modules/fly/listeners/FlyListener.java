@@ -6,6 +6,7 @@ package io.github.nucleuspowered.nucleus.modules.fly.listeners;
 
 import io.github.nucleuspowered.nucleus.Nucleus;
 import io.github.nucleuspowered.nucleus.dataservices.modular.ModularUserService;
+import io.github.nucleuspowered.nucleus.dataservices.modular.PlayerStatus;
 import io.github.nucleuspowered.nucleus.internal.CommandPermissionHandler;
 import io.github.nucleuspowered.nucleus.internal.interfaces.ListenerBase;
 import io.github.nucleuspowered.nucleus.internal.interfaces.Reloadable;
@@ -101,16 +102,23 @@ public class FlyListener implements Reloadable, ListenerBase {
             return;
         }
 
-        ModularUserService uc;
-        try {
-            uc = Nucleus.getNucleus().getUserDataManager().getUnchecked(pl);
-            if (!uc.get(FlyUserDataModule.class).isFlying()) {
+        // Skip the data module if the flag already matches the player, isFlying would only confirm it.
+        boolean canFly = pl.get(Keys.CAN_FLY).orElse(false);
+        PlayerStatus status = Nucleus.getNucleus().getUserDataManager().getOnlineStatus(pl.getUniqueId());
+        if (status != null && status.isKnown(PlayerStatus.FLYING) && status.is(PlayerStatus.FLYING) == canFly) {
+            if (!canFly) {
                 return;
             }
-        } catch (Exception e) {
-            Nucleus.getNucleus().printStackTraceIfDebugMode(e);
+        } else {
+            try {
+                if (!Nucleus.getNucleus().getUserDataManager().getUnchecked(pl).get(FlyUserDataModule.class).isFlying()) {
+                    return;
+                }
+            } catch (Exception e) {
+                Nucleus.getNucleus().printStackTraceIfDebugMode(e);
 
-            return;
+                return;
+            }
         }
 
         // If we have a subject, and this happens...
@@ -126,7 +134,7 @@ public class FlyListener implements Reloadable, ListenerBase {
                         target.offer(Keys.IS_FLYING, true);
                     }
                 } else {
-                    uc.get(FlyUserDataModule.class).setFlying(false);
+                    Nucleus.getNucleus().getUserDataManager().get(pl).ifPresent(x -> x.get(FlyUserDataModule.class).setFlying(false));
                     target.offer(Keys.CAN_FLY, false);
                     target.offer(Keys.IS_FLYING, false);
                 }
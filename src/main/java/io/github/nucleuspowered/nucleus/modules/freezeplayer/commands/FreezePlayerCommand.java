@@ -41,7 +41,7 @@ public class FreezePlayerCommand extends AbstractCommand<CommandSource> {
         User pl = this.getUserFromArgs(User.class, src, NucleusParameters.Keys.PLAYER, args);
         final boolean f = args.<Boolean>getOne(NucleusParameters.Keys.BOOL).orElseGet(() -> !this.service.isFrozen(pl));
         this.service.setFrozen(pl, f);
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat(
             f ? "command.freezeplayer.success.frozen" : "command.freezeplayer.success.unfrozen",
                 Nucleus.getNucleus().getNameUtil().getName(pl)));
         return CommandResult.success();
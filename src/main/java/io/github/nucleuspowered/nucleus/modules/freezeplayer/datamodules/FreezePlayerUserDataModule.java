@@ -7,11 +7,23 @@ package io.github.nucleuspowered.nucleus.modules.freezeplayer.datamodules;
 import io.github.nucleuspowered.nucleus.dataservices.modular.DataKey;
 import io.github.nucleuspowered.nucleus.dataservices.modular.DataModule;
 import io.github.nucleuspowered.nucleus.dataservices.modular.ModularUserService;
+import io.github.nucleuspowered.nucleus.dataservices.modular.PlayerStatus;
+import ninja.leaping.configurate.ConfigurationNode;
 
-public class FreezePlayerUserDataModule extends DataModule<ModularUserService> {
+public class FreezePlayerUserDataModule extends DataModule.ReferenceService<ModularUserService> {
 
     @DataKey("isFrozen")
-    private boolean isFrozen = false;
+    boolean isFrozen = false;
+
+    public FreezePlayerUserDataModule(ModularUserService modularDataService) {
+        super(modularDataService);
+    }
+
+    @Override
+    protected void loadFrom(ConfigurationNode node) {
+        super.loadFrom(node);
+        getService().getStatus().set(PlayerStatus.FROZEN, this.isFrozen);
+    }
 
     public boolean isFrozen() {
         return this.isFrozen;
@@ -19,6 +31,8 @@ public class FreezePlayerUserDataModule extends DataModule<ModularUserService> {
 
     public void setFrozen(boolean value) {
         this.isFrozen = value;
+        getService().getStatus().set(PlayerStatus.FROZEN, value);
+        markDirty();
     }
 
 }
@@ -52,7 +52,7 @@ public class FreezePlayerListener implements ListenerBase {
         if (this.service.isFrozen(player)) {
             Instant now = Instant.now();
             if (this.lastFreezeNotification.getOrDefault(player.getUniqueId(), now).isBefore(now)) {
-                player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(message));
+                player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat(message));
                 this.lastFreezeNotification.put(player.getUniqueId(), now.plus(2, ChronoUnit.SECONDS));
             }
 
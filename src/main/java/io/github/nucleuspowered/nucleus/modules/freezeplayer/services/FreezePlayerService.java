@@ -6,6 +6,7 @@ package io.github.nucleuspowered.nucleus.modules.freezeplayer.services;
 
 import io.github.nucleuspowered.nucleus.Nucleus;
 import io.github.nucleuspowered.nucleus.api.service.NucleusFreezePlayerService;
+import io.github.nucleuspowered.nucleus.dataservices.modular.PlayerStatus;
 import io.github.nucleuspowered.nucleus.internal.annotations.APIService;
 import io.github.nucleuspowered.nucleus.internal.interfaces.ServiceBase;
 import io.github.nucleuspowered.nucleus.modules.freezeplayer.datamodules.FreezePlayerUserDataModule;
@@ -29,6 +30,11 @@ public class FreezePlayerService implements ServiceBase, NucleusFreezePlayerServ
 
     @Override
     public boolean isFrozen(UUID uuid) {
+        PlayerStatus status = Nucleus.getNucleus().getUserDataManager().getOnlineStatus(uuid);
+        if (status != null && status.isKnown(PlayerStatus.FROZEN)) {
+            return status.is(PlayerStatus.FROZEN);
+        }
+
         return this.cache.computeIfAbsent(uuid, key ->
                 Nucleus.getNucleus().getUserDataManager().get(uuid)
                         .map(x ->
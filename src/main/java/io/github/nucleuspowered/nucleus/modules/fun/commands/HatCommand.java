@@ -62,7 +62,7 @@ public class HatCommand extends AbstractCommand.SimpleTargetOtherPlayer {
                     .getMessageProvider().getTextMessageWithTextFormat("command.hat.success", Nucleus.getNucleus().getNameUtil().getName(pl), itemName));
         }
 
-        pl.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithTextFormat("command.hat.successself", itemName));
+        pl.sendMessage(Nucleus.getNucleus().getMessageProvider(pl).getTextMessageWithTextFormat("command.hat.successself", itemName));
         return CommandResult.success();
     }
 }
\ No newline at end of file
@@ -51,7 +51,7 @@ public class IgniteCommand extends AbstractCommand.SimpleTargetOtherPlayer {
         int ticksInput = args.<Integer>getOne(this.ticks).get();
         GameMode gm = target.get(Keys.GAME_MODE).orElse(GameModes.SURVIVAL);
         if (gm == GameModes.CREATIVE || gm == GameModes.SPECTATOR) {
-            pl.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.ignite.gamemode", target.getName()));
+            pl.sendMessage(Nucleus.getNucleus().getMessageProvider(pl).getTextMessageWithFormat("command.ignite.gamemode", target.getName()));
             return CommandResult.empty();
         }
 
@@ -60,7 +60,7 @@ public class IgniteCommand extends AbstractCommand.SimpleTargetOtherPlayer {
                     Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.ignite.success", target.getName(), String.valueOf(ticksInput)));
             return CommandResult.success();
         } else {
-            pl.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.ignite.error", target.getName()));
+            pl.sendMessage(Nucleus.getNucleus().getMessageProvider(pl).getTextMessageWithFormat("command.ignite.error", target.getName()));
             return CommandResult.empty();
         }
     }
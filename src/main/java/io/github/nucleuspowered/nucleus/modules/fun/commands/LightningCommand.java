@@ -55,7 +55,7 @@ public class LightningCommand extends AbstractCommand<CommandSource> {
         // No argument, let's not smite the subject.
         if (playerCollection.isEmpty()) {
             if (!(src instanceof Player)) {
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.playeronly"));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.playeronly"));
                 return CommandResult.empty();
             }
 
@@ -89,7 +89,7 @@ public class LightningCommand extends AbstractCommand<CommandSource> {
 
         if (CauseStackHelper.createFrameWithCausesWithReturn(c -> world.spawnEntity(bolt), src)) {
             if (target != null) {
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithTextFormat("command.lightning.success.other", Nucleus.getNucleus().getNameUtil()
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithTextFormat("command.lightning.success.other", Nucleus.getNucleus().getNameUtil()
                         .getName(target)));
             }
 
@@ -86,11 +86,11 @@ public class RocketCommand extends AbstractCommand<CommandSource> {
         Vector3d velocity = new Vector3d(0, v, 0);
         target.offer(Keys.VELOCITY, velocity);
         if (!args.hasAny("s")) {
-            target.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.rocket.self"));
+            target.sendMessage(Nucleus.getNucleus().getMessageProvider(target).getTextMessageWithFormat("command.rocket.self"));
         }
 
         if (!isSelf) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.rocket.other", target.getName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.rocket.other", target.getName()));
         }
 
         return CommandResult.success();
@@ -45,7 +45,7 @@ public class DeleteHomeCommand extends AbstractCommand<Player> {
         Home wl = args.<Home>getOne(this.homeKey).get();
 
         CauseStackHelper.createFrameWithCausesWithConsumer(c -> this.homeHandler.removeHomeInternal(c, wl), src);
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.home.delete.success", wl.getName()));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.home.delete.success", wl.getName()));
         return CommandResult.success();
     }
 }
@@ -89,7 +89,7 @@ public class ListHomeCommand extends AbstractCommand<CommandSource> implements R
 
         List<Home> msw = this.homeHandler.getHomes(user);
         if (msw.isEmpty()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.home.nohomes"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.home.nohomes"));
             return CommandResult.empty();
         }
 
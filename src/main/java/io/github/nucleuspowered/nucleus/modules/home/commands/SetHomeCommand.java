@@ -80,8 +80,8 @@ public class SetHomeCommand extends AbstractCommand<Player> implements Reloadabl
         Optional<Home> currentHome = homeHandler.getHome(src, home);
         boolean overwrite = currentHome.isPresent() && args.hasAny("o");
         if (currentHome.isPresent() && !overwrite) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.sethome.seterror", home));
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.sethome.tooverwrite", home).toBuilder()
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.sethome.seterror", home));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.sethome.tooverwrite", home).toBuilder()
                 .onClick(TextActions.runCommand("/sethome " + home + " -o")).build());
             return CommandResult.empty();
         }
@@ -97,7 +97,7 @@ public class SetHomeCommand extends AbstractCommand<Player> implements Reloadabl
 
                 Home current = currentHome.get();
                 homeHandler.modifyHomeInternal(cause, current, src.getLocation(), src.getRotation());
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.sethome.overwrite", home));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.sethome.overwrite", home));
             } else {
                 homeHandler.createHomeInternal(cause, src, home, src.getLocation(), src.getRotation());
             }
@@ -105,7 +105,7 @@ public class SetHomeCommand extends AbstractCommand<Player> implements Reloadabl
             throw new ReturnMessageException(e.getText(), e);
         }
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.sethome.set", home));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.sethome.set", home));
         return CommandResult.success();
     }
 }
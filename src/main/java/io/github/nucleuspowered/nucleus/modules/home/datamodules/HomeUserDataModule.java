@@ -13,9 +13,12 @@ import io.github.nucleuspowered.nucleus.dataservices.modular.DataKey;
 import io.github.nucleuspowered.nucleus.dataservices.modular.DataModule;
 import io.github.nucleuspowered.nucleus.dataservices.modular.ModularUserService;
 import io.github.nucleuspowered.nucleus.internal.LocationData;
+import io.github.nucleuspowered.nucleus.util.CompletionIndex;
+import ninja.leaping.configurate.ConfigurationNode;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,12 +28,28 @@ import java.util.stream.Collectors;
 public class HomeUserDataModule extends DataModule.ReferenceService<ModularUserService> {
 
     @DataKey("homes")
-    private Map<String, LocationNode> homeData = Maps.newHashMap();
+    Map<String, LocationNode> homeData = Maps.newHashMap();
+
+    private final CompletionIndex<String> homeNames = new CompletionIndex<>();
 
     public HomeUserDataModule(ModularUserService modularDataService) {
         super(modularDataService);
     }
 
+    @Override
+    protected void loadFrom(ConfigurationNode node) {
+        super.loadFrom(node);
+        if (this.homeData == null) {
+            this.homeData = Maps.newHashMap();
+        }
+
+        this.homeNames.rebuild(this.homeData.keySet(), x -> x);
+    }
+
+    public List<String> getHomeNamesStartingWith(String prefix, int limit) {
+        return this.homeNames.completeNames(prefix, limit);
+    }
+
     public Optional<Home> getHome(String home) {
         if (this.homeData == null) {
             return Optional.empty();
@@ -74,6 +93,8 @@ public class HomeUserDataModule extends DataModule.ReferenceService<ModularUserS
         }
 
         this.homeData.put(home, new LocationNode(location, rotation));
+        this.homeNames.put(home, home);
+        markDirty();
         return true;
     }
 
@@ -85,6 +106,8 @@ public class HomeUserDataModule extends DataModule.ReferenceService<ModularUserS
         Optional<String> os = Util.getKeyIgnoreCase(this.homeData, home);
         if (os.isPresent()) {
             this.homeData.remove(os.get());
+            this.homeNames.remove(os.get());
+            markDirty();
             return true;
         }
 
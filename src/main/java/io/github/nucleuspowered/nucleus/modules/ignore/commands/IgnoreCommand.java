@@ -55,7 +55,7 @@ public class IgnoreCommand extends AbstractCommand<Player> {
         User target = args.<User>getOne(NucleusParameters.Keys.USER).get();
 
         if (target.equals(src)) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.ignore.self"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.ignore.self"));
             return CommandResult.empty();
         }
 
@@ -64,7 +64,7 @@ public class IgnoreCommand extends AbstractCommand<Player> {
         if (this.permissions.testSuffix(target, "exempt.chat")) {
             // Make sure they are removed.
             inu.removeFromIgnoreList(target.getUniqueId());
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.ignore.exempt", target.getName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.ignore.exempt", target.getName()));
             return CommandResult.empty();
         }
 
@@ -73,10 +73,10 @@ public class IgnoreCommand extends AbstractCommand<Player> {
 
         if (ignore) {
             inu.addToIgnoreList(target.getUniqueId());
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.ignore.added", target.getName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.ignore.added", target.getName()));
         } else {
             inu.removeFromIgnoreList(target.getUniqueId());
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.ignore.remove", target.getName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.ignore.remove", target.getName()));
         }
 
         return CommandResult.success();
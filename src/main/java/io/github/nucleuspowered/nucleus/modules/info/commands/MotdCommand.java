@@ -42,7 +42,7 @@ public class MotdCommand extends AbstractCommand<CommandSource> implements Reloa
     public CommandResult executeCommand(CommandSource src, CommandContext args, Cause cause) {
         Optional<TextFileController> otfc = Nucleus.getNucleus().getTextFileController(InfoModule.MOTD_KEY);
         if (!otfc.isPresent()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.motd.nocontroller"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.motd.nocontroller"));
             return CommandResult.empty();
         }
 
@@ -51,7 +51,7 @@ public class ClearInventoryCommand extends AbstractCommand<CommandSource> {
         if (user.getPlayer().isPresent()) {
             Player target = user.getPlayer().get();
             if (Sponge.getEventManager().post(new ClearInventoryEvent.Pre(Sponge.getCauseStackManager().getCurrentCause(), target, all))) {
-                source.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.clearinventory.cancelled", target.getName()));
+                source.sendMessage(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.clearinventory.cancelled", target.getName()));
                 return CommandResult.empty();
             }
             if (all) {
@@ -60,12 +60,12 @@ public class ClearInventoryCommand extends AbstractCommand<CommandSource> {
                 Util.getStandardInventory(target).clear();
             }
             Sponge.getEventManager().post(new ClearInventoryEvent.Post(Sponge.getCauseStackManager().getCurrentCause(), target, all));
-            source.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.clearinventory.success", target.getName()));
+            source.sendMessage(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.clearinventory.success", target.getName()));
             return CommandResult.success();
         } else {
             try {
                 if (Sponge.getEventManager().post(new ClearInventoryEvent.Pre(Sponge.getCauseStackManager().getCurrentCause(), user, all))) {
-                    source.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.clearinventory.cancelled", user.getName()));
+                    source.sendMessage(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.clearinventory.cancelled", user.getName()));
                     return CommandResult.empty();
                 }
                 if (all) {
@@ -74,7 +74,7 @@ public class ClearInventoryCommand extends AbstractCommand<CommandSource> {
                     Util.getStandardInventory(user).clear();
                 }
                 Sponge.getEventManager().post(new ClearInventoryEvent.Post(Sponge.getCauseStackManager().getCurrentCause(), user, all));
-                source.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.clearinventory.success", user.getName()));
+                source.sendMessage(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.clearinventory.success", user.getName()));
                 return CommandResult.success();
             } catch (UnsupportedOperationException e) {
                 throw ReturnMessageException.fromKey("command.clearinventory.offlinenotsupported");
@@ -65,7 +65,7 @@ public class GodCommand extends AbstractCommand<CommandSource> {
                     .getNucleus().getMessageProvider().getTextMessageWithFormat(god ? "command.god.player.on" : "command.god.player.off", pl.getName()));
         }
 
-        pl.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(god ? "command.god.on" : "command.god.off"));
+        pl.sendMessage(Nucleus.getNucleus().getMessageProvider(pl).getTextMessageWithFormat(god ? "command.god.on" : "command.god.off"));
         return CommandResult.success();
     }
 }
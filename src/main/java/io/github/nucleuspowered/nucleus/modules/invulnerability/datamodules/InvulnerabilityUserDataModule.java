@@ -15,7 +15,7 @@ public class InvulnerabilityUserDataModule extends DataModule.ReferenceService<M
     private int previousHungerValue = 20;
 
     @DataKey("invulnerable")
-    private boolean invulnerable = false;
+    boolean invulnerable = false;
 
     public InvulnerabilityUserDataModule(ModularUserService modularDataService) {
         super(modularDataService);
@@ -27,6 +27,7 @@ public class InvulnerabilityUserDataModule extends DataModule.ReferenceService<M
 
     public void setInvulnerable(boolean invulnerable) {
         this.invulnerable = invulnerable;
+        markDirty();
 
         if (invulnerable) {
             getService().getPlayer().ifPresent(x -> this.previousHungerValue = x.get(Keys.FOOD_LEVEL).orElse(20));
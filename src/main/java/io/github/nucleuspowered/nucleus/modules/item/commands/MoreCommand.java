@@ -30,12 +30,12 @@ public class MoreCommand extends AbstractCommand<Player> {
             ItemStack stack = player.getItemInHand(HandTypes.MAIN_HAND).get();
             stack.setQuantity(stack.getMaxStackQuantity());
             player.setItemInHand(HandTypes.MAIN_HAND, stack);
-            player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.more.success", stack.getType().getName(),
+            player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.more.success", stack.getType().getName(),
                     String.valueOf(stack.getType().getMaxStackQuantity())));
             return CommandResult.success();
         }
 
-        player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.more.none"));
+        player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.more.none"));
         return CommandResult.empty();
     }
 }
@@ -154,7 +154,7 @@ public class RepairCommand extends AbstractCommand<Player> implements Reloadable
                     && resultCount.get(ResultType.ERROR) == 0 && resultCount.get(ResultType.RESTRICTED) == 0) {
                 if (resultCount.get(ResultType.NO_DURABILITY) == 1) {
                     ItemStackSnapshot item = lastItem.get(ResultType.NO_DURABILITY);
-                    pl.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithTextFormat(
+                    pl.sendMessage(Nucleus.getNucleus().getMessageProvider(pl).getTextMessageWithTextFormat(
                             "command.repair.nodurability.single",
                             item.get(Keys.DISPLAY_NAME).orElse(Text.of(item.getTranslation().get())).toBuilder()
                                     .onHover(TextActions.showItem(item))
@@ -163,7 +163,7 @@ public class RepairCommand extends AbstractCommand<Player> implements Reloadable
                             Text.of(location)
                     ));
                 } else {
-                    pl.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(
+                    pl.sendMessage(Nucleus.getNucleus().getMessageProvider(pl).getTextMessageWithFormat(
                             "command.repair.nodurability.multiple",
                             resultCount.get(ResultType.NO_DURABILITY).toString(), pl.getName(), location
                     ));
@@ -173,7 +173,7 @@ public class RepairCommand extends AbstractCommand<Player> implements Reloadable
             // Success Message
             if (resultCount.get(ResultType.SUCCESS) == 1) {
                 ItemStackSnapshot item = lastItem.get(ResultType.SUCCESS);
-                pl.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithTextFormat(
+                pl.sendMessage(Nucleus.getNucleus().getMessageProvider(pl).getTextMessageWithTextFormat(
                         "command.repair.success.single",
                         item.get(Keys.DISPLAY_NAME).orElse(Text.of(item.getTranslation().get())).toBuilder()
                                 .onHover(TextActions.showItem(item))
@@ -182,7 +182,7 @@ public class RepairCommand extends AbstractCommand<Player> implements Reloadable
                         Text.of(location)
                 ));
             } else if (resultCount.get(ResultType.SUCCESS) > 1) {
-                pl.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(
+                pl.sendMessage(Nucleus.getNucleus().getMessageProvider(pl).getTextMessageWithFormat(
                         "command.repair.success.multiple",
                         resultCount.get(ResultType.SUCCESS).toString(), pl.getName(), location
                 ));
@@ -191,7 +191,7 @@ public class RepairCommand extends AbstractCommand<Player> implements Reloadable
             // Error Message
             if (resultCount.get(ResultType.ERROR) == 1) {
                 ItemStackSnapshot item = lastItem.get(ResultType.ERROR);
-                pl.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithTextFormat(
+                pl.sendMessage(Nucleus.getNucleus().getMessageProvider(pl).getTextMessageWithTextFormat(
                         "command.repair.error.single",
                         item.get(Keys.DISPLAY_NAME).orElse(Text.of(item.getTranslation().get())).toBuilder()
                                 .onHover(TextActions.showItem(item))
@@ -200,7 +200,7 @@ public class RepairCommand extends AbstractCommand<Player> implements Reloadable
                         Text.of(location)
                 ));
             } else if (resultCount.get(ResultType.ERROR) > 1) {
-                pl.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(
+                pl.sendMessage(Nucleus.getNucleus().getMessageProvider(pl).getTextMessageWithFormat(
                         "command.repair.error.multiple",
                         resultCount.get(ResultType.ERROR).toString(), pl.getName(), location
                 ));
@@ -209,7 +209,7 @@ public class RepairCommand extends AbstractCommand<Player> implements Reloadable
             // Restriction Message
             if (resultCount.get(ResultType.RESTRICTED) == 1) {
                 ItemStackSnapshot item = lastItem.get(ResultType.RESTRICTED);
-                pl.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithTextFormat(
+                pl.sendMessage(Nucleus.getNucleus().getMessageProvider(pl).getTextMessageWithTextFormat(
                         "command.repair.restricted.single",
                         item.get(Keys.DISPLAY_NAME).orElse(Text.of(item.getTranslation().get())).toBuilder()
                                 .onHover(TextActions.showItem(item))
@@ -218,7 +218,7 @@ public class RepairCommand extends AbstractCommand<Player> implements Reloadable
                         Text.of(location)
                 ));
             } else if (resultCount.get(ResultType.RESTRICTED) > 1) {
-                pl.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(
+                pl.sendMessage(Nucleus.getNucleus().getMessageProvider(pl).getTextMessageWithFormat(
                         "command.repair.restricted.multiple",
                         resultCount.get(ResultType.RESTRICTED).toString(), pl.getName(), location
                 ));
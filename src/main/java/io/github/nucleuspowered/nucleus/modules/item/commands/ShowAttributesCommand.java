@@ -43,8 +43,8 @@ public class ShowAttributesCommand extends AbstractCommand<Player> {
         itemStack.offer(Keys.HIDE_ATTRIBUTES, !b);
         src.setItemInHand(HandTypes.MAIN_HAND, itemStack);
 
-        MessageProvider mp = Nucleus.getNucleus().getMessageProvider();
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithTextFormat("command.showitemattributes.success." + String.valueOf(b),
+        MessageProvider mp = Nucleus.getNucleus().getMessageProvider(src);
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithTextFormat("command.showitemattributes.success." + String.valueOf(b),
                 Text.of(itemStack)));
 
         return CommandResult.success();
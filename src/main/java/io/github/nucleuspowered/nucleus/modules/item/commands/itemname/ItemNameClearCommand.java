@@ -29,7 +29,7 @@ public class ItemNameClearCommand extends AbstractCommand<Player> {
 
     @Override
     public CommandResult executeCommand(Player src, CommandContext args, Cause cause) throws Exception {
-        MessageProvider provider = Nucleus.getNucleus().getMessageProvider();
+        MessageProvider provider = Nucleus.getNucleus().getMessageProvider(src);
         if (!src.getItemInHand(HandTypes.MAIN_HAND).isPresent()) {
             throw ReturnMessageException.fromKey("command.itemname.clear.noitem");
         }
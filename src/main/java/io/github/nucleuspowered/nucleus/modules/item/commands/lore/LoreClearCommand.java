@@ -37,7 +37,7 @@ public class LoreClearCommand extends AbstractCommand<Player> {
 
         if (stack.remove(LoreData.class).isSuccessful()) {
             src.setItemInHand(HandTypes.MAIN_HAND, stack);
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.lore.clear.success"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.lore.clear.success"));
             return CommandResult.success();
         }
 
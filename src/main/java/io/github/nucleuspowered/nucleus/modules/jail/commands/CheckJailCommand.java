@@ -7,16 +7,14 @@ package io.github.nucleuspowered.nucleus.modules.jail.commands;
 import io.github.nucleuspowered.nucleus.Nucleus;
 import io.github.nucleuspowered.nucleus.Util;
 import io.github.nucleuspowered.nucleus.argumentparsers.UUIDArgument;
-import io.github.nucleuspowered.nucleus.internal.annotations.RunAsync;
 import io.github.nucleuspowered.nucleus.internal.annotations.command.NoModifiers;
 import io.github.nucleuspowered.nucleus.internal.annotations.command.Permissions;
 import io.github.nucleuspowered.nucleus.internal.annotations.command.RegisterCommand;
 import io.github.nucleuspowered.nucleus.internal.command.AbstractCommand;
-import io.github.nucleuspowered.nucleus.internal.command.ReturnMessageException;
 import io.github.nucleuspowered.nucleus.internal.messages.MessageProvider;
 import io.github.nucleuspowered.nucleus.internal.permissions.SuggestedLevel;
 import io.github.nucleuspowered.nucleus.modules.jail.data.JailData;
-import io.github.nucleuspowered.nucleus.modules.jail.services.JailHandler;
+import io.github.nucleuspowered.nucleus.modules.jail.datamodules.JailUserDataModule;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandResult;
 import org.spongepowered.api.command.CommandSource;
@@ -33,14 +31,12 @@ import java.time.Instant;
 import java.util.Optional;
 
 @Permissions(prefix = "jail", suggestedLevel = SuggestedLevel.MOD)
-@RunAsync
 @NoModifiers
 @NonnullByDefault
 @RegisterCommand({"checkjail"})
 public class CheckJailCommand extends AbstractCommand<CommandSource> {
 
     private final String playerKey = "user/UUID";
-    private final JailHandler handler = Nucleus.getNucleus().getInternalServiceManager().getServiceUnchecked(JailHandler.class);
 
     @Override
     public CommandElement[] getArguments() {
@@ -55,11 +51,19 @@ public class CheckJailCommand extends AbstractCommand<CommandSource> {
     @Override
     public CommandResult executeCommand(CommandSource src, CommandContext args, Cause cause) throws Exception {
         User user = args.<User>getOne(this.playerKey).get();
-        Optional<JailData> jail = this.handler.getPlayerJailDataInternal(user);
-        MessageProvider mp = Nucleus.getNucleus().getMessageProvider();
 
+        // Offline players may have to be loaded from disk, so do that off the main thread.
+        Nucleus.getNucleus().getUserDataManager().getAsync(user.getUniqueId(), false)
+                .thenAcceptAsync(x -> sendJailInformation(src, user, x.flatMap(y -> y.get(JailUserDataModule.class).getJailData())),
+                        Sponge.getScheduler().createSyncExecutor(Nucleus.getNucleus()));
+        return CommandResult.success();
+    }
+
+    private void sendJailInformation(CommandSource src, User user, Optional<JailData> jail) {
+        MessageProvider mp = Nucleus.getNucleus().getMessageProvider(src);
         if (!jail.isPresent()) {
-            throw ReturnMessageException.fromKey("command.checkjail.nojail", user.getName());
+            src.sendMessage(mp.getTextMessageWithFormat("command.checkjail.nojail", user.getName()));
+            return;
         }
 
         JailData md = jail.get();
@@ -87,6 +91,5 @@ public class CheckJailCommand extends AbstractCommand<CommandSource> {
         }
 
         src.sendMessage(mp.getTextMessageWithFormat("standard.reasoncoloured", md.getReason()));
-        return CommandResult.success();
     }
 }
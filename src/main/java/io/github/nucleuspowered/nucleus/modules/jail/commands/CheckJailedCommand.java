@@ -43,7 +43,7 @@ public class CheckJailedCommand extends AbstractCommand<CommandSource> {
 
     @Override protected CommandResult executeCommand(CommandSource src, CommandContext args, Cause cause) {
         // Using the cache, tell us who is jailed.
-        MessageProvider provider = Nucleus.getNucleus().getMessageProvider();
+        MessageProvider provider = Nucleus.getNucleus().getMessageProvider(src);
         Optional<NamedLocation> jail = args.getOne(JailParameters.JAIL_KEY);
         List<UUID> usersInJail = jail.map(x -> Nucleus.getNucleus().getUserCacheService().getJailedIn(x.getName()))
                 .orElseGet(() -> Nucleus.getNucleus().getUserCacheService().getJailed());
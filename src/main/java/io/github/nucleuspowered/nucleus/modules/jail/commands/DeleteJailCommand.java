@@ -42,11 +42,11 @@ public class DeleteJailCommand extends AbstractCommand<CommandSource> {
     public CommandResult executeCommand(CommandSource src, CommandContext args, Cause cause) {
         LocationData wl = args.<LocationData>getOne(JailParameters.JAIL_KEY).get();
         if (this.handler.removeJail(wl.getName())) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.jails.del.success", wl.getName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.jails.del.success", wl.getName()));
             return CommandResult.success();
         }
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.jails.del.error", wl.getName()));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.jails.del.error", wl.getName()));
         return CommandResult.empty();
     }
 }
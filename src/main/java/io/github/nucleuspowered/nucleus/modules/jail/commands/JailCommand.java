@@ -79,7 +79,7 @@ public class JailCommand extends AbstractCommand<CommandSource> implements Reloa
         // Get the subject.
         User pl = args.<User>getOne(NucleusParameters.Keys.USER).get();
         if (!pl.isOnline() && !this.permissions.testSuffix(src, "offline")) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.jail.offline.noperms"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.jail.offline.noperms"));
             return CommandResult.empty();
         }
 
@@ -100,7 +100,7 @@ public class JailCommand extends AbstractCommand<CommandSource> implements Reloa
 
     private CommandResult onUnjail(CommandSource src, CommandContext args, User user) throws ReturnMessageException {
         if (CauseStackHelper.createFrameWithCausesWithReturn(c -> this.handler.unjailPlayer(user), src)) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.jail.unjail.success", user.getName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.jail.unjail.success", user.getName()));
             return CommandResult.success();
         } else {
             throw ReturnMessageException.fromKey("command.jail.unjail.fail", user.getName());
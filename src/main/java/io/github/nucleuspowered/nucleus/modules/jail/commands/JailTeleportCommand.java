@@ -43,7 +43,7 @@ public class JailTeleportCommand extends AbstractCommand<Player> {
         );
 
         src.setTransform(location1);
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.jails.tp.success", location.getName()));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.jails.tp.success", location.getName()));
         return CommandResult.success();
     }
 }
@@ -47,7 +47,7 @@ public class JailsCommand extends AbstractCommand<CommandSource> {
     public CommandResult executeCommand(CommandSource src, CommandContext args, Cause cause) {
         Map<String, NamedLocation> mjs = this.handler.getJails();
         if (mjs.isEmpty()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.jails.nojails"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.jails.nojails"));
             return CommandResult.empty();
         }
 
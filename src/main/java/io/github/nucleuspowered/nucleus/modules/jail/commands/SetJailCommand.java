@@ -41,15 +41,15 @@ public class SetJailCommand extends AbstractCommand<Player> {
     public CommandResult executeCommand(Player src, CommandContext args, Cause cause) {
         String name = args.<String>getOne(this.jailName).get().toLowerCase();
         if (this.handler.getJail(name).isPresent()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.jails.set.exists", name));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.jails.set.exists", name));
             return CommandResult.empty();
         }
 
         if (this.handler.setJail(name, src.getLocation(), src.getRotation())) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.jails.set.success", name));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.jails.set.success", name));
             return CommandResult.success();
         } else {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.jails.set.error", name));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.jails.set.error", name));
             return CommandResult.empty();
         }
     }
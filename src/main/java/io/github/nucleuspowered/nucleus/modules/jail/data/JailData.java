@@ -21,10 +21,13 @@ import java.util.UUID;
 @ConfigSerializable
 public final class JailData extends EndTimestamp implements Inmate {
 
+    // Also read directly by the user cache rebuild.
+    public static final String JAIL_NAME_KEY = "jailName";
+
     @Setting
     private UUID jailer;
 
-    @Setting
+    @Setting(JAIL_NAME_KEY)
     private String jailName;
 
     @Setting
@@ -6,21 +6,37 @@ package io.github.nucleuspowered.nucleus.modules.jail.datamodules;
 
 import com.flowpowered.math.vector.Vector3d;
 import com.google.common.collect.Maps;
+import io.github.nucleuspowered.nucleus.Util;
 import io.github.nucleuspowered.nucleus.api.nucleusdata.NamedLocation;
 import io.github.nucleuspowered.nucleus.configurate.datatypes.LocationNode;
 import io.github.nucleuspowered.nucleus.dataservices.modular.DataKey;
 import io.github.nucleuspowered.nucleus.dataservices.modular.LocationDataModule;
 import io.github.nucleuspowered.nucleus.dataservices.modular.ModularGeneralService;
+import io.github.nucleuspowered.nucleus.util.CompletionIndex;
+import ninja.leaping.configurate.ConfigurationNode;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 public class JailGeneralDataModule extends LocationDataModule<ModularGeneralService> {
 
     @DataKey("jails")
-    private Map<String, LocationNode> jails = Maps.newHashMap();
+    Map<String, LocationNode> jails = Maps.newHashMap();
+
+    private final CompletionIndex<String> jailNames = new CompletionIndex<>();
+
+    @Override
+    protected void loadFrom(ConfigurationNode node) {
+        super.loadFrom(node);
+        this.jailNames.rebuild(this.jails.keySet(), x -> x);
+    }
+
+    public List<String> getJailNamesStartingWith(String prefix, int limit) {
+        return this.jailNames.completeNames(prefix, limit);
+    }
 
     public Optional<NamedLocation> getJailLocation(String name) {
         return get(this.jails, this.getLocationData, name);
@@ -31,11 +47,22 @@ public class JailGeneralDataModule extends LocationDataModule<ModularGeneralServ
     }
 
     public boolean addJail(String name, Location<World> loc, Vector3d rot) {
-        return addLocation(name, loc, rot, this.jails);
+        if (addLocation(name, loc, rot, this.jails)) {
+            this.jailNames.put(name, name);
+            return true;
+        }
+
+        return false;
     }
 
     public boolean removeJail(String name) {
-        return removeLocation(name, this.jails);
+        Optional<String> key = Util.getKeyIgnoreCase(this.jails, name);
+        if (key.isPresent() && removeLocation(key.get(), this.jails)) {
+            this.jailNames.remove(key.get());
+            return true;
+        }
+
+        return false;
     }
 
 }
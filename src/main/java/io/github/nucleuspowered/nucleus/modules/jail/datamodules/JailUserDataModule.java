@@ -7,7 +7,9 @@ package io.github.nucleuspowered.nucleus.modules.jail.datamodules;
 import io.github.nucleuspowered.nucleus.dataservices.modular.DataKey;
 import io.github.nucleuspowered.nucleus.dataservices.modular.DataModule;
 import io.github.nucleuspowered.nucleus.dataservices.modular.ModularUserService;
+import io.github.nucleuspowered.nucleus.dataservices.modular.PlayerStatus;
 import io.github.nucleuspowered.nucleus.modules.jail.data.JailData;
+import ninja.leaping.configurate.ConfigurationNode;
 
 import java.util.Optional;
 
@@ -15,23 +17,48 @@ import javax.annotation.Nullable;
 
 public class JailUserDataModule extends DataModule.ReferenceService<ModularUserService> {
 
-    @DataKey("jailData")
+    // Also read directly by the user cache rebuild.
+    public static final String JAIL_DATA_KEY = "jailData";
+
+    @DataKey(JAIL_DATA_KEY)
     @Nullable
-    private JailData jailData;
+    JailData jailData;
 
     @DataKey("jailOnNextLogin")
-    private boolean jailOnNextLogin = false;
+    boolean jailOnNextLogin = false;
 
     public JailUserDataModule(ModularUserService modularDataService) {
         super(modularDataService);
     }
 
+    @Override
+    protected void loadFrom(ConfigurationNode node) {
+        super.loadFrom(node);
+        getService().getStatus().set(PlayerStatus.JAILED, this.jailData != null);
+    }
+
     public Optional<JailData> getJailData() {
         return Optional.ofNullable(this.jailData);
     }
 
+    /**
+     * Starts the jail timer if it was waiting for the player to log in.
+     *
+     * @return The jail data, if the player is jailed.
+     */
+    public Optional<JailData> convertNextLoginToTimestamp() {
+        if (this.jailData != null && this.jailData.getTimeFromNextLogin().isPresent()) {
+            this.jailData.nextLoginToTimestamp();
+            markDirty();
+        }
+
+        return Optional.ofNullable(this.jailData);
+    }
+
     public void setJailData(@Nullable JailData jailData) {
         this.jailData = jailData;
+        getService().getStatus().set(PlayerStatus.JAILED, jailData != null);
+        markDirty();
     }
 
     public boolean jailOnNextLogin() {
@@ -40,6 +67,7 @@ public class JailUserDataModule extends DataModule.ReferenceService<ModularUserS
 
     public void setJailOnNextLogin(boolean set) {
         this.jailOnNextLogin = set && !getService().getPlayer().isPresent();
+        markDirty();
     }
 
     public void removeJailData() {
@@ -27,7 +27,7 @@ public class ChatJailListener implements ListenerBase.Conditional {
 
     private void onChat(MessageChannelEvent.Chat event, Player player) {
         if (this.handler.checkJail(player, false)) {
-            player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("jail.muteonchat"));
+            player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("jail.muteonchat"));
             event.setCancelled(true);
         }
     }
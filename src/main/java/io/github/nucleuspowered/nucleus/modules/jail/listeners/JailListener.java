@@ -126,18 +126,16 @@ public class JailListener implements Reloadable, ListenerBase {
                         ""));
 
             user.sendMessage(message);
-            user.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("standard.reasoncoloured", jd.getReason()));
+            user.sendMessage(Nucleus.getNucleus().getMessageProvider(user).getTextMessageWithFormat("standard.reasoncoloured", jd.getReason()));
         }
 
         qs.setJailOnNextLogin(false);
 
         // Kick off a scheduled task to do jail time checks.
         Sponge.getScheduler().createTaskBuilder().async().delay(500, TimeUnit.MILLISECONDS).execute(() -> {
-            Optional<JailData> omd = qs.getJailData();
+            Optional<JailData> omd = qs.convertNextLoginToTimestamp();
             if (omd.isPresent()) {
                 JailData md = omd.get();
-                md.nextLoginToTimestamp();
-
                 if (md.expired()) {
                     // free.
                     this.handler.unjailPlayer(user);
@@ -16,6 +16,7 @@ import io.github.nucleuspowered.nucleus.api.nucleusdata.NamedLocation;
 import io.github.nucleuspowered.nucleus.api.service.NucleusJailService;
 import io.github.nucleuspowered.nucleus.dataservices.modular.ModularGeneralService;
 import io.github.nucleuspowered.nucleus.dataservices.modular.ModularUserService;
+import io.github.nucleuspowered.nucleus.dataservices.modular.PlayerStatus;
 import io.github.nucleuspowered.nucleus.internal.annotations.APIService;
 import io.github.nucleuspowered.nucleus.internal.data.EndTimestamp;
 import io.github.nucleuspowered.nucleus.internal.interfaces.ServiceBase;
@@ -45,6 +46,7 @@ import org.spongepowered.api.world.World;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -84,13 +86,17 @@ public class JailHandler implements NucleusJailService, ContextCalculator<Subjec
         return getModule().getJails();
     }
 
+    public List<String> getJailNamesStartingWith(String prefix) {
+        return getModule().getJailNamesStartingWith(prefix, -1);
+    }
+
     public boolean isPlayerJailedCached(User user) {
         return this.jailDataCache.containsKey(user.getUniqueId());
     }
 
     @Override
     public boolean isPlayerJailed(User user) {
-        return getPlayerJailDataInternal(user).isPresent();
+        return !isKnownNotJailed(user) && getPlayerJailDataInternal(user).isPresent();
     }
 
     @Override
@@ -102,10 +108,16 @@ public class JailHandler implements NucleusJailService, ContextCalculator<Subjec
         try {
             Optional<JailData> data = Nucleus.getNucleus().getUserDataManager().get(user, false)
                     .map(y -> y.get(JailUserDataModule.class).getJailData().orElse(null));
+            UUID uuid = user.getUniqueId();
             if (data.isPresent()) {
-                this.jailDataCache.put(user.getUniqueId(), new Context(NucleusJailService.JAIL_CONTEXT, data.get().getJailName()));
+                // Only create a new context if the jail has changed, this is called for every checked event.
+                Context cached = this.jailDataCache.get(uuid);
+                String jailName = data.get().getJailName();
+                if (cached == null || !cached.getValue().equals(jailName)) {
+                    this.jailDataCache.put(uuid, new Context(NucleusJailService.JAIL_CONTEXT, jailName));
+                }
             } else {
-                this.jailDataCache.put(user.getUniqueId(), null);
+                this.jailDataCache.put(uuid, null);
             }
 
             return data;
@@ -152,6 +164,7 @@ public class JailHandler implements NucleusJailService, ContextCalculator<Subjec
         }
 
         jailUserDataModule.setJailData(data);
+        Nucleus.getNucleus().getUserCacheService().updateCacheForPlayer(modularUserService);
         if (user.isOnline()) {
             Sponge.getScheduler().createSyncExecutor(Nucleus.getNucleus()).execute(() -> {
                 Player player = user.getPlayer().get();
@@ -198,12 +211,14 @@ public class JailHandler implements NucleusJailService, ContextCalculator<Subjec
 
                 // Remove after the teleport for the back data.
                 jailUserDataModule.removeJailData();
+                Nucleus.getNucleus().getUserCacheService().updateCacheForPlayer(modularUserService);
             });
         } else {
             modularUserService.get(CoreUserDataModule.class).sendToLocationOnLogin(
                     ow.orElseGet(() -> new Location<>(Sponge.getServer().getWorld(Sponge.getServer().getDefaultWorld().get().getUniqueId()).get(),
                             Sponge.getServer().getDefaultWorld().get().getSpawnPosition())));
             jailUserDataModule.removeJailData();
+            Nucleus.getNucleus().getUserCacheService().updateCacheForPlayer(modularUserService);
         }
 
         Sponge.getEventManager().post(new JailEvent.Unjailed(user, cause));
@@ -260,6 +275,10 @@ public class JailHandler implements NucleusJailService, ContextCalculator<Subjec
     }
 
     public boolean checkJail(final User player, boolean sendMessage) {
+        if (isKnownNotJailed(player)) {
+            return false;
+        }
+
         // if the jail doesn't exist, treat it as expired.
         if (!getPlayerJailDataInternal(player).map(EndTimestamp::expired).orElse(true)) {
             if (sendMessage) {
@@ -273,6 +292,12 @@ public class JailHandler implements NucleusJailService, ContextCalculator<Subjec
         return false;
     }
 
+    // True only if the player is online and their status flags say they are not jailed.
+    private boolean isKnownNotJailed(User user) {
+        PlayerStatus status = Nucleus.getNucleus().getUserDataManager().getOnlineStatus(user.getUniqueId());
+        return status != null && status.isKnownUnset(PlayerStatus.JAILED);
+    }
+
     private void onJail(Player user) {
         getPlayerJailDataInternal(user).ifPresent(x -> onJail(x, user));
     }
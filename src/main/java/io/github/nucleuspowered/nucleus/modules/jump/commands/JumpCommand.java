@@ -77,7 +77,7 @@ public class JumpCommand extends AbstractCommand<Player> implements Reloadable {
         }
 
         if (Nucleus.getNucleus().getTeleportHandler().teleportPlayer(player, finalLocation, NucleusTeleportHandler.StandardTeleportMode.SAFE_TELEPORT).isSuccess()) {
-            player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.jump.success"));
+            player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.jump.success"));
             return CommandResult.success();
         }
 
@@ -46,7 +46,7 @@ public class ThruCommand extends AbstractCommand<Player> implements Reloadable {
 
         // Even if we did find a wall, no good if we are at the end of the ray.
         if (!playerBlockRay.hasNext()) {
-            player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.thru.nowall"));
+            player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.thru.nowall"));
             return CommandResult.empty();
         }
 
@@ -54,23 +54,23 @@ public class ThruCommand extends AbstractCommand<Player> implements Reloadable {
             BlockRayHit<World> b = playerBlockRay.next();
             if (player.getWorld().getBlockType(b.getBlockPosition()).equals(BlockTypes.AIR)) {
                 if (!Util.isLocationInWorldBorder(b.getLocation())) {
-                    player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.jump.outsideborder"));
+                    player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.jump.outsideborder"));
                     return CommandResult.empty();
                 }
 
                 // If we can go, do so.
                 if (Nucleus.getNucleus().getTeleportHandler()
                         .teleportPlayer(player, b.getLocation(), NucleusTeleportHandler.StandardTeleportMode.SAFE_TELEPORT).isSuccess()) {
-                    player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.thru.success"));
+                    player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.thru.success"));
                     return CommandResult.success();
                 } else {
-                    player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.thru.notsafe"));
+                    player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.thru.notsafe"));
                     return CommandResult.empty();
                 }
             }
         } while (playerBlockRay.hasNext());
 
-        player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.thru.nospot"));
+        player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.thru.nospot"));
         return CommandResult.empty();
     }
 
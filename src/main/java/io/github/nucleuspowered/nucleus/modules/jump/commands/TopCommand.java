@@ -66,11 +66,11 @@ public class TopCommand extends AbstractCommand<CommandSource> {
         if (result.isSuccess()) {
             // OK
             if (!playerToTeleport.equals(src)) {
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.top.success.other",
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.top.success.other",
                         Nucleus.getNucleus().getNameUtil().getSerialisedName(playerToTeleport)));
             }
 
-            playerToTeleport.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.top.success.self"));
+            playerToTeleport.sendMessage(Nucleus.getNucleus().getMessageProvider(playerToTeleport).getTextMessageWithFormat("command.top.success.self"));
             return CommandResult.success();
         }
 
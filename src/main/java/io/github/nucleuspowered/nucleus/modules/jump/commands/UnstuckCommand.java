@@ -45,7 +45,7 @@ public class UnstuckCommand extends AbstractCommand<Player> implements Reloadabl
         }
 
         if (NucleusTeleportHandler.setLocation(src, location)) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithTextFormat("command.unstuck.success"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithTextFormat("command.unstuck.success"));
             return CommandResult.success();
         }
 
@@ -53,7 +53,7 @@ public class KitAddCommand extends KitFallbackBase<Player> {
 
         if (KIT_HANDLER.getKitNames().stream().noneMatch(kitName::equalsIgnoreCase)) {
             KIT_HANDLER.saveKit(KIT_HANDLER.createKit(kitName).updateKitInventory(player));
-            player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.kit.add.success", kitName));
+            player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.kit.add.success", kitName));
             return CommandResult.success();
         } else {
             throw ReturnMessageException.fromKey("command.kit.add.alreadyexists", kitName);
@@ -100,15 +100,15 @@ public class KitCommand extends KitFallbackBase<Player> implements Reloadable {
             if (!redeemResult.rejected().isEmpty()) {
                 // If we drop them, tell the user
                 if (this.isDrop) {
-                    player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.kit.itemsdropped"));
+                    player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.kit.itemsdropped"));
                     redeemResult.rejected().forEach(x -> Util.dropItemOnFloorAtLocation(x, player.getLocation()));
                 } else {
-                    player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.kit.fullinventory"));
+                    player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.kit.fullinventory"));
                 }
             }
 
             if (kit.isDisplayMessageOnRedeem()) {
-                player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.kit.spawned", kit.getName()));
+                player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.kit.spawned", kit.getName()));
             }
 
             // Charge, if necessary
@@ -52,7 +52,7 @@ public class KitCostCommand extends KitFallbackBase<CommandSource> {
 
         kit.setCost(cost);
         KIT_HANDLER.saveKit(kit);
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.kit.cost.success", kit.getName(), String.valueOf(cost)));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.kit.cost.success", kit.getName(), String.valueOf(cost)));
         return CommandResult.success();
     }
 }
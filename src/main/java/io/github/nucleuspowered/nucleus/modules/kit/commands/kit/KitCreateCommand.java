@@ -77,7 +77,7 @@ public class KitCreateCommand extends KitFallbackBase<CommandSource> {
         } else {
             try {
                 KIT_HANDLER.saveKit(KIT_HANDLER.createKit(kitName));
-                source.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.kit.addempty.success", kitName));
+                source.sendMessage(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.kit.addempty.success", kitName));
             } catch (IllegalArgumentException ex) {
                 throw ReturnMessageException.fromKey("command.kit.create.failed", kitName);
             }
@@ -75,16 +75,16 @@ public class KitGiveCommand extends KitFallbackBase<CommandSource> implements Re
             if (!redeemResult.rejected().isEmpty()) {
                 // If we drop them, tell the user
                 if (this.isDrop) {
-                    player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithTextFormat("command.kit.give.itemsdropped", playerName));
+                    player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithTextFormat("command.kit.give.itemsdropped", playerName));
                     redeemResult.rejected().forEach(x -> Util.dropItemOnFloorAtLocation(x, player.getLocation()));
                 } else {
-                    player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithTextFormat("command.kit.give.fullinventory", playerName));
+                    player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithTextFormat("command.kit.give.fullinventory", playerName));
                 }
             }
 
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithTextFormat("command.kit.give.spawned", playerName, kitName));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithTextFormat("command.kit.give.spawned", playerName, kitName));
             if (kit.isDisplayMessageOnRedeem()) {
-                player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.kit.spawned", kit.getName()));
+                player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.kit.spawned", kit.getName()));
             }
 
             return CommandResult.success();
@@ -41,7 +41,7 @@ public class KitInfoCommand extends KitFallbackBase<CommandSource> {
     @Override
     protected CommandResult executeCommand(CommandSource src, CommandContext args, Cause cause) {
         Kit kit = args.<Kit>getOne(KIT_PARAMETER_KEY).get();
-        MessageProvider mp = Nucleus.getNucleus().getMessageProvider();
+        MessageProvider mp = Nucleus.getNucleus().getMessageProvider(src);
         Util.getPaginationBuilder(src).title(mp.getTextMessageWithFormat("command.kit.info.title", kit.getName()))
                 .contents(
                         addViewHover(mp, kit),
@@ -52,7 +52,7 @@ public class KitListCommand extends KitFallbackBase<CommandSource> {
     public CommandResult executeCommand(final CommandSource src, CommandContext args, Cause cause) {
         Set<String> kits = KIT_HANDLER.getKitNames();
         if (kits.isEmpty()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.kit.list.empty"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.kit.list.empty"));
             return CommandResult.empty();
         }
 
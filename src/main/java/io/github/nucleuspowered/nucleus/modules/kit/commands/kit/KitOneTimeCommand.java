@@ -47,7 +47,7 @@ public class KitOneTimeCommand extends KitFallbackBase<CommandSource> {
         // to update it explicitly
         kitInfo.setOneTime(b);
         KIT_HANDLER.saveKit(kitInfo);
-        player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(b ? "command.kit.onetime.on" : "command.kit.onetime.off",
+        player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat(b ? "command.kit.onetime.on" : "command.kit.onetime.off",
                 kitInfo.getName()));
 
         return CommandResult.success();
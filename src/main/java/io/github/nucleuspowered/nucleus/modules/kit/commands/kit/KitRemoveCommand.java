@@ -42,7 +42,7 @@ public class KitRemoveCommand extends KitFallbackBase<CommandSource> {
     public CommandResult executeCommand(final CommandSource player, CommandContext args, Cause cause) {
         Kit kitName = args.<Kit>getOne(KIT_PARAMETER_KEY).get();
         KIT_HANDLER.removeKit(kitName.getName());
-        player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.kit.remove.success", kitName.getName()));
+        player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.kit.remove.success", kitName.getName()));
         return CommandResult.success();
     }
 }
@@ -41,7 +41,7 @@ public class KitSetCommand extends KitFallbackBase<Player> {
         Kit kitInfo = args.<Kit>getOne(KIT_PARAMETER_KEY).get();
         kitInfo.updateKitInventory(player);
         KIT_HANDLER.saveKit(kitInfo);
-        player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.kit.set.success", kitInfo.getName()));
+        player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.kit.set.success", kitInfo.getName()));
         return CommandResult.success();
     }
 }
@@ -45,7 +45,7 @@ public class KitSetCooldownCommand extends KitFallbackBase<CommandSource> {
 
         kitInfo.setCooldown(Duration.ofSeconds(seconds));
         KIT_HANDLER.saveKit(kitInfo);
-        player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.kit.setcooldown.success",
+        player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.kit.setcooldown.success",
                 kitInfo.getName(), Util.getTimeStringFromSeconds(seconds)));
         return CommandResult.success();
     }
@@ -44,7 +44,7 @@ public class KitSetFirstJoinCommand extends KitFallbackBase<CommandSource> {
         // to update it explicitly
         kitInfo.setFirstJoinKit(b);
         KIT_HANDLER.saveKit(kitInfo);
-        player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(
+        player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat(
                 b ? "command.kit.setfirstjoin.on" : "command.kit.setfirstjoin.off",
                 kitInfo.getName()));
 
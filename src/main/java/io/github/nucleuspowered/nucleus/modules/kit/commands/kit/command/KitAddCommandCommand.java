@@ -41,7 +41,7 @@ public class KitAddCommandCommand extends KitFallbackBase<CommandSource> {
         kitInfo.addCommand(c);
         KIT_HANDLER.saveKit(kitInfo);
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.kit.command.add.command", c, kitInfo.getName()));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.kit.command.add.command", c, kitInfo.getName()));
         return CommandResult.success();
     }
 }
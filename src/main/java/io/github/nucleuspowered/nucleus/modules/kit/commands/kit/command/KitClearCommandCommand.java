@@ -38,7 +38,7 @@ public class KitClearCommandCommand extends KitFallbackBase<CommandSource> {
         kitInfo.setCommands(Lists.newArrayList());
         KIT_HANDLER.saveKit(kitInfo);
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.kit.command.clear.command", kitInfo.getName()));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.kit.command.clear.command", kitInfo.getName()));
         return CommandResult.success();
     }
 }
@@ -49,7 +49,7 @@ public class KitCommandCommand extends KitFallbackBase<CommandSource> {
         List<String> commands = kit.getCommands();
 
         if (commands.isEmpty()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.kit.command.nocommands", kit.getName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.kit.command.nocommands", kit.getName()));
         } else {
             List<Text> cc = Lists.newArrayList();
             for (int i = 0; i < commands.size(); i++) {
@@ -70,7 +70,7 @@ public class KitRemoveCommandCommand extends KitFallbackBase<CommandSource> {
 
         kitInfo.setCommands(commands);
         KIT_HANDLER.saveKit(kitInfo);
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.kit.command.remove.success", cmd, kitInfo.getName()));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.kit.command.remove.success", cmd, kitInfo.getName()));
         return CommandResult.success();
     }
 }
@@ -17,7 +17,7 @@ import javax.annotation.Nullable;
 public class KitUserDataModule extends DataModule<ModularUserService> {
 
     @DataKey("kitLastUsedTime")
-    private Map<String, Long> kitLastUsedTime = Maps.newHashMap();
+    Map<String, Long> kitLastUsedTime = Maps.newHashMap();
 
     @Nullable
     public Instant getLastRedeemedTime(String name) {
@@ -30,9 +30,12 @@ public class KitUserDataModule extends DataModule<ModularUserService> {
 
     public void addKitLastUsedTime(String kitName, Instant lastTime) {
         this.kitLastUsedTime.put(kitName.toLowerCase(), lastTime.getEpochSecond());
+        markDirty();
     }
 
     public void removeKitLastUsedTime(String kitName) {
-        this.kitLastUsedTime.remove(kitName.toLowerCase());
+        if (this.kitLastUsedTime.remove(kitName.toLowerCase()) != null) {
+            markDirty();
+        }
     }
 }
@@ -50,7 +50,7 @@ public class KitListener implements ListenerBase {
 
                 if (event instanceof InteractInventoryEvent.Close) {
                     gds.save();
-                    player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.kit.edit.success", x.getFirst().getName()));
+                    player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.kit.edit.success", x.getFirst().getName()));
                     handler.removeKitInventoryFromListener(inventory);
                 }
             } catch (Exception e) {
@@ -58,7 +58,7 @@ public class KitListener implements ListenerBase {
                     e.printStackTrace();
                 }
 
-                player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.kit.edit.error", x.getFirst().getName()));
+                player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.kit.edit.error", x.getFirst().getName()));
             }
         });
 
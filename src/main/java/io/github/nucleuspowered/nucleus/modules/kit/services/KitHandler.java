@@ -20,7 +20,7 @@ import io.github.nucleuspowered.nucleus.internal.PermissionRegistry;
 import io.github.nucleuspowered.nucleus.internal.annotations.APIService;
 import io.github.nucleuspowered.nucleus.internal.interfaces.Reloadable;
 import io.github.nucleuspowered.nucleus.internal.interfaces.ServiceBase;
-import io.github.nucleuspowered.nucleus.internal.text.NucleusTextTemplateFactory;
+import io.github.nucleuspowered.nucleus.internal.text.NucleusTextTemplateImpl;
 import io.github.nucleuspowered.nucleus.internal.traits.InternalServiceManagerTrait;
 import io.github.nucleuspowered.nucleus.internal.traits.MessageProviderTrait;
 import io.github.nucleuspowered.nucleus.internal.traits.PermissionTrait;
@@ -43,20 +43,18 @@ import org.spongepowered.api.item.inventory.ItemStack;
 import org.spongepowered.api.item.inventory.ItemStackSnapshot;
 import org.spongepowered.api.item.inventory.transaction.InventoryTransactionResult;
 import org.spongepowered.api.text.Text;
-import org.spongepowered.api.text.serializer.TextSerializers;
 import org.spongepowered.api.util.Tristate;
 import org.spongepowered.api.util.Tuple;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -67,8 +65,6 @@ public class KitHandler implements NucleusKitService, Reloadable, InternalServic
     private static final InventoryTransactionResult EMPTY_ITR =
             InventoryTransactionResult.builder().type(InventoryTransactionResult.Type.SUCCESS).build();
 
-    private static final Pattern inventory = Pattern.compile("\\{\\{.+?}}");
-
     public static String getPermissionForKit(String kitName) {
         return PermissionRegistry.PERMISSIONS_PREFIX + "kits." + kitName.toLowerCase();
     }
@@ -97,6 +93,10 @@ public class KitHandler implements NucleusKitService, Reloadable, InternalServic
         return this.store.getKitNames(showHidden);
     }
 
+    public List<String> getKitNamesStartingWith(String prefix, int limit) {
+        return this.store.getKitNamesStartingWith(prefix, limit);
+    }
+
     @Override
     public Optional<Kit> getKit(String name) {
         return this.store.getKit(name).map(x -> new SingleKit(name, x));
@@ -350,22 +350,25 @@ public class KitHandler implements NucleusKitService, Reloadable, InternalServic
     }
 
     public void processTokensInItemStacks(Player player, Collection<ItemStack> stacks) {
-        final Matcher m = inventory.matcher("");
         for (ItemStack x : stacks) {
-            x.get(Keys.DISPLAY_NAME).ifPresent(text -> {
-                if (m.reset(text.toPlain()).find()) {
-                    x.offer(Keys.DISPLAY_NAME,
-                            NucleusTextTemplateFactory.createFromAmpersandString(TextSerializers.FORMATTING_CODE.serialize(text))
-                                    .getForCommandSource(player, null, null));
+            x.get(Keys.DISPLAY_NAME).flatMap(this.store::getItemTemplate)
+                    .ifPresent(template -> x.offer(Keys.DISPLAY_NAME, template.getForCommandSource(player)));
+
+            x.get(Keys.ITEM_LORE).ifPresent(lore -> {
+                List<Text> processed = null;
+                for (int i = 0; i < lore.size(); i++) {
+                    Optional<NucleusTextTemplateImpl> template = this.store.getItemTemplate(lore.get(i));
+                    if (template.isPresent()) {
+                        if (processed == null) {
+                            processed = new ArrayList<>(lore);
+                        }
+
+                        processed.set(i, template.get().getForCommandSource(player));
+                    }
                 }
-            });
 
-            x.get(Keys.ITEM_LORE).ifPresent(text -> {
-                if (text.stream().map(Text::toPlain).anyMatch(y -> m.reset(y).find())) {
-                    x.offer(Keys.ITEM_LORE,
-                            text.stream().map(y ->
-                                    NucleusTextTemplateFactory.createFromAmpersandString(TextSerializers.FORMATTING_CODE.serialize(y))
-                                            .getForCommandSource(player, null, null)).collect(Collectors.toList()));
+                if (processed != null) {
+                    x.offer(Keys.ITEM_LORE, processed);
                 }
             });
         }
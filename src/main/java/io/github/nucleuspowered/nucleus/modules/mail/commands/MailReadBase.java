@@ -10,6 +10,7 @@ import io.github.nucleuspowered.nucleus.api.nucleusdata.MailMessage;
 import io.github.nucleuspowered.nucleus.api.service.NucleusMailService;
 import io.github.nucleuspowered.nucleus.internal.traits.InternalServiceManagerTrait;
 import io.github.nucleuspowered.nucleus.modules.mail.data.MailData;
+import io.github.nucleuspowered.nucleus.modules.mail.datamodules.MailUserDataModule;
 import io.github.nucleuspowered.nucleus.modules.mail.services.MailHandler;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandResult;
@@ -40,21 +41,27 @@ public class MailReadBase implements InternalServiceManagerTrait {
     static final String filters = "filters";
 
     public CommandResult executeCommand(CommandSource src, final User target, Collection<NucleusMailService.MailFilter> lmf) {
-        List<MailData> lmd;
-        if (!lmf.isEmpty()) {
-            lmd = this.handler.getMailInternal(target, lmf.toArray(new NucleusMailService.MailFilter[0]));
-        } else {
-            lmd = this.handler.getMailInternal(target);
-        }
+        // The target may be offline and have to be loaded from disk, so do that off the main thread.
+        Nucleus.getNucleus().getUserDataManager().getAsync(target).thenAcceptAsync(x -> {
+            if (x.isPresent()) {
+                sendMail(src, target, lmf, this.handler.getMailInternal(x.get().get(MailUserDataModule.class),
+                        lmf.toArray(new NucleusMailService.MailFilter[0])));
+            } else {
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("standard.error.nouser"));
+            }
+        }, Sponge.getScheduler().createSyncExecutor(Nucleus.getNucleus()));
+        return CommandResult.success();
+    }
 
+    private void sendMail(CommandSource src, User target, Collection<NucleusMailService.MailFilter> lmf, List<MailData> lmd) {
         if (lmd.isEmpty()) {
             if (src instanceof Player && target.getUniqueId().equals(((Player) src).getUniqueId())) {
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(!lmf.isEmpty() ? "command.mail.none.filter" : "command.mail.none.normal.self"));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat(!lmf.isEmpty() ? "command.mail.none.filter" : "command.mail.none.normal.self"));
             } else {
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(!lmf.isEmpty() ? "command.mail.none.filter" : "command.mail.none.normal.other", target.getName()));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat(!lmf.isEmpty() ? "command.mail.none.filter" : "command.mail.none.normal.other", target.getName()));
             }
 
-            return CommandResult.success();
+            return;
         }
 
         List<Text> mails = lmd.stream().sorted(Comparator.comparing(MailMessage::getDate)).map(x -> createMessage(x, target)).collect(Collectors.toList());
@@ -69,7 +76,6 @@ public class MailReadBase implements InternalServiceManagerTrait {
         }
 
         b.sendTo(src);
-        return CommandResult.success();
     }
 
     private Text getHeader(CommandSource src, User user, boolean isFiltered) {
@@ -45,7 +45,7 @@ public class SendMailCommand extends AbstractCommand<CommandSource> {
 
         // Only send mails to players that can read them.
         if (!hasPermission(pl, this.perm)) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.mail.send.error", pl.getName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.mail.send.error", pl.getName()));
             return CommandResult.empty();
         }
 
@@ -58,7 +58,7 @@ public class SendMailCommand extends AbstractCommand<CommandSource> {
             this.handler.sendMailFromConsole(pl, m);
         }
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.mail.send.successful", pl.getName()));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.mail.send.successful", pl.getName()));
         return CommandResult.success();
     }
 }
@@ -35,8 +35,10 @@ public class MailHandler implements NucleusMailService, ServiceBase {
     }
 
     public final List<MailData> getMailInternal(User player, MailFilter... filters) {
-        MailUserDataModule iqsu = Nucleus.getNucleus().getUserDataManager().getUnchecked(player).get(MailUserDataModule.class);
+        return getMailInternal(Nucleus.getNucleus().getUserDataManager().getUnchecked(player).get(MailUserDataModule.class), filters);
+    }
 
+    public final List<MailData> getMailInternal(MailUserDataModule iqsu, MailFilter... filters) {
         List<MailData> lmd = iqsu.getMail();
         if (filters.length == 0 || lmd.isEmpty()) {
             return Lists.newArrayList(lmd);
@@ -63,7 +63,7 @@ public class HelpOpCommand extends AbstractCommand<Player> implements Reloadable
         // Message is about to be sent. Send the event out. If canceled, then
         // that's that.
         if (Sponge.getEventManager().post(new InternalNucleusHelpOpEvent(src, message))) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("message.cancel"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("message.cancel"));
             return CommandResult.empty();
         }
 
@@ -71,7 +71,7 @@ public class HelpOpCommand extends AbstractCommand<Player> implements Reloadable
 
         HelpOpMessageChannel.INSTANCE.send(src, TextParsingUtils.joinTextsWithColoursFlowing(prefix, Text.of(message)));
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.helpop.success"));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.helpop.success"));
 
         return CommandResult.success();
     }
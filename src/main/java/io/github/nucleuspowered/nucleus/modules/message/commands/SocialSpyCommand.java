@@ -63,7 +63,7 @@ public class SocialSpyCommand extends AbstractCommand<Player> {
             return CommandResult.success();
         }
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.socialspy.unable"));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.socialspy.unable"));
         return CommandResult.empty();
     }
 }
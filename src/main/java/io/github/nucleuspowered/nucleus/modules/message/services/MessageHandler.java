@@ -218,7 +218,7 @@ public class MessageHandler implements NucleusPrivateMessagingService, Reloadabl
         boolean isBlocked = false;
         boolean isCancelled = Sponge.getEventManager().post(new InternalNucleusMessageEvent(sender, receiver, message));
         if (isCancelled) {
-            sender.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("message.cancel"));
+            sender.sendMessage(Nucleus.getNucleus().getMessageProvider(sender).getTextMessageWithFormat("message.cancel"));
 
             // Only continue to show Social Spy messages if the subject is muted.
             if (!this.messageConfig.isShowMessagesInSocialSpyWhileMuted()) {
@@ -309,7 +309,7 @@ public class MessageHandler implements NucleusPrivateMessagingService, Reloadabl
             return sendMessage(sender, cs.get(), message);
         }
 
-        sender.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("message.noreply"));
+        sender.sendMessage(Nucleus.getNucleus().getMessageProvider(sender).getTextMessageWithFormat("message.noreply"));
         return false;
     }
 
@@ -126,7 +126,7 @@ public class EntityInfoCommand extends AbstractCommand<Player> {
             }
         }
 
-        player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.entityinfo.none"));
+        player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.entityinfo.none"));
         return CommandResult.empty();
     }
 }
@@ -89,7 +89,7 @@ public class ItemInfoCommand extends AbstractCommand<Player> {
         } else if (player.getItemInHand(HandTypes.MAIN_HAND).isPresent()) {
             it = player.getItemInHand(HandTypes.MAIN_HAND).get();
         } else {
-            player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.iteminfo.none"));
+            player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.iteminfo.none"));
             return CommandResult.empty();
         }
 
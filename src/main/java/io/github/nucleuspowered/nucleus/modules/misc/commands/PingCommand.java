@@ -25,10 +25,10 @@ public class PingCommand extends AbstractCommand.SimpleTargetOtherPlayer {
 
     @Override protected CommandResult executeWithPlayer(CommandSource source, Player target, CommandContext args, boolean isSelf) {
         if (isSelf) {
-            source.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.ping.current.self",
+            source.sendMessage(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.ping.current.self",
                 String.valueOf(target.getConnection().getLatency())));
         } else {
-            source.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.ping.current.other",
+            source.sendMessage(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.ping.current.other",
                 target.getName(), String.valueOf(target.getConnection().getLatency())));
         }
 
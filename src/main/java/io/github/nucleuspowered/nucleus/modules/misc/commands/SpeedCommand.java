@@ -109,19 +109,19 @@ public class SpeedCommand extends AbstractCommand.SimpleTargetOtherPlayer implem
         }
 
         if (speed < 0) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.speed.negative"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.speed.negative"));
             return CommandResult.empty();
         }
 
         if (!this.permissions.testSuffix(src, "exempt.max", src, true) && this.maxSpeed < speed) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.speed.max", String.valueOf(this.maxSpeed)));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.speed.max", String.valueOf(this.maxSpeed)));
             return CommandResult.empty();
         }
 
         DataTransactionResult dtr = pl.offer(key.speedKey, (double) speed / (double) multiplier);
 
         if (dtr.isSuccessful()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.speed.success.base", key.name, String.valueOf(speed)));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.speed.success.base", key.name, String.valueOf(speed)));
 
             if (!isSelf) {
                 src.sendMessages(
@@ -131,7 +131,7 @@ public class SpeedCommand extends AbstractCommand.SimpleTargetOtherPlayer implem
             return CommandResult.success();
         }
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.speed.fail", key.name));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.speed.fail", key.name));
         return CommandResult.empty();
     }
 
@@ -92,7 +92,7 @@ public class SpawnMobCommand extends AbstractCommand.SimpleTargetOtherPlayer imp
 
         Location<World> loc = pl.getLocation();
         World w = loc.getExtent();
-        MessageProvider mp = Nucleus.getNucleus().getMessageProvider();
+        MessageProvider mp = Nucleus.getNucleus().getMessageProvider(src);
 
         // Count the number of entities spawned.
         int i = 0;
@@ -57,7 +57,7 @@ public class CheckMuteCommand extends AbstractCommand<CommandSource> {
 
         Optional<MuteData> omd = this.handler.getPlayerMuteData(user);
         if (!omd.isPresent()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.checkmute.none", user.getName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.checkmute.none", user.getName()));
             return CommandResult.success();
         }
 
@@ -73,22 +73,22 @@ public class CheckMuteCommand extends AbstractCommand<CommandSource> {
         }
 
         if (md.getRemainingTime().isPresent()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.checkmute.mutedfor", user.getName(),
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.checkmute.mutedfor", user.getName(),
                     name, Util.getTimeStringFromSeconds(md.getRemainingTime().get().getSeconds())));
         } else {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.checkmute.mutedperm", user.getName(),
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.checkmute.mutedperm", user.getName(),
                     name));
         }
 
         if (md.getCreationTime() > 0) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.checkmute.created",
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.checkmute.created",
                     Util.FULL_TIME_FORMATTER.withLocale(src.getLocale()).format(Instant.ofEpochSecond(md.getCreationTime()))));
         } else {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.checkmute.created",
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.checkmute.created",
                     Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("standard.unknown")));
         }
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("standard.reasoncoloured", md.getReason()));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("standard.reasoncoloured", md.getReason()));
         return CommandResult.success();
     }
 }
@@ -34,7 +34,7 @@ public class CheckMutedCommand extends AbstractCommand<CommandSource> {
     @Override
     protected CommandResult executeCommand(CommandSource src, CommandContext args, Cause cause) {
         // Using the cache, tell us who is jailed.
-        MessageProvider provider = Nucleus.getNucleus().getMessageProvider();
+        MessageProvider provider = Nucleus.getNucleus().getMessageProvider(src);
         List<UUID> usersInMute = Nucleus.getNucleus().getUserCacheService().getMuted();
 
         if (usersInMute.isEmpty()) {
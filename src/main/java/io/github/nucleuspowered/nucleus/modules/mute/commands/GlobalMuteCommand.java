@@ -42,7 +42,7 @@ public class GlobalMuteCommand extends AbstractCommand<CommandSource> {
 
         this.muteHandler.setGlobalMuteEnabled(turnOn);
         String onOff = Nucleus.getNucleus().getMessageProvider().getMessageFromKey(turnOn ? "standard.enabled" : "standard.disabled").get();
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.globalmute.status", onOff));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.globalmute.status", onOff));
         MessageChannel.TO_ALL.send(
                 Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.globalmute.broadcast." + (turnOn ? "enabled" : "disabled")));
 
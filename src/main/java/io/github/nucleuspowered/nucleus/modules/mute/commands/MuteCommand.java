@@ -100,7 +100,7 @@ public class MuteCommand extends AbstractCommand<CommandSource> implements Reloa
             if (!this.requireUnmutePermission || this.permissions.testSuffix(src, "unmute")) {
                 // Unmute.
                 this.handler.unmutePlayer(user, CauseStackHelper.createCause(src), false);
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.unmute.success", user.getName(), src.getName()));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.unmute.success", user.getName(), src.getName()));
                 return CommandResult.success();
             }
 
@@ -144,7 +144,7 @@ public class MuteCommand extends AbstractCommand<CommandSource> implements Reloa
             return CommandResult.success();
         }
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.mute.fail", user.getName()));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.mute.fail", user.getName()));
         return CommandResult.empty();
     }
 
@@ -55,13 +55,13 @@ public class VoiceCommand extends AbstractCommand<CommandSource> {
     @Override
     public CommandResult executeCommand(CommandSource src, CommandContext args, Cause cause) {
         if (!this.muteHandler.isGlobalMuteEnabled()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.voice.globaloff"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.voice.globaloff"));
             return CommandResult.empty();
         }
 
         Player pl = args.<Player>getOne(NucleusParameters.Keys.PLAYER).get();
         if (this.permissions.testSuffix(pl, "auto")) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.voice.autovoice", pl.getName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.voice.autovoice", pl.getName()));
             return CommandResult.empty();
         }
 
@@ -70,9 +70,9 @@ public class VoiceCommand extends AbstractCommand<CommandSource> {
         UUID voice = pl.getUniqueId();
         if (turnOn == this.muteHandler.isVoiced(voice)) {
             if (turnOn) {
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.voice.alreadyvoiced", pl.getName()));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.voice.alreadyvoiced", pl.getName()));
             } else {
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.voice.alreadynotvoiced", pl.getName()));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.voice.alreadynotvoiced", pl.getName()));
             }
 
             return CommandResult.empty();
@@ -83,11 +83,11 @@ public class VoiceCommand extends AbstractCommand<CommandSource> {
         if (turnOn) {
             this.muteHandler.addVoice(pl.getUniqueId());
             mmc.send(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.voice.voiced.source", pl.getName()));
-            pl.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.voice.voiced.target"));
+            pl.sendMessage(Nucleus.getNucleus().getMessageProvider(pl).getTextMessageWithFormat("command.voice.voiced.target"));
         } else {
             this.muteHandler.removeVoice(pl.getUniqueId());
             mmc.send(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.voice.voiced.source", pl.getName()));
-            pl.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.voice.voiced.target"));
+            pl.sendMessage(Nucleus.getNucleus().getMessageProvider(pl).getTextMessageWithFormat("command.voice.voiced.target"));
         }
 
         return CommandResult.success();
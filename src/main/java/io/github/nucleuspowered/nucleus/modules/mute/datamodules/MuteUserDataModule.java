@@ -7,27 +7,58 @@ package io.github.nucleuspowered.nucleus.modules.mute.datamodules;
 import io.github.nucleuspowered.nucleus.dataservices.modular.DataKey;
 import io.github.nucleuspowered.nucleus.dataservices.modular.DataModule;
 import io.github.nucleuspowered.nucleus.dataservices.modular.ModularUserService;
+import io.github.nucleuspowered.nucleus.dataservices.modular.PlayerStatus;
 import io.github.nucleuspowered.nucleus.modules.mute.data.MuteData;
+import ninja.leaping.configurate.ConfigurationNode;
 
 import java.util.Optional;
 
 import javax.annotation.Nullable;
 
-public class MuteUserDataModule extends DataModule<ModularUserService> {
+public class MuteUserDataModule extends DataModule.ReferenceService<ModularUserService> {
 
-    @DataKey("muteData")
+    // Also read directly by the user cache rebuild.
+    public static final String MUTE_DATA_KEY = "muteData";
+
+    @DataKey(MUTE_DATA_KEY)
     @Nullable
-    private MuteData muteData;
+    MuteData muteData;
+
+    public MuteUserDataModule(ModularUserService modularDataService) {
+        super(modularDataService);
+    }
+
+    @Override
+    protected void loadFrom(ConfigurationNode node) {
+        super.loadFrom(node);
+        getService().getStatus().set(PlayerStatus.MUTED, this.muteData != null);
+    }
 
     public Optional<MuteData> getMuteData() {
         return Optional.ofNullable(this.muteData);
     }
 
+    /**
+     * Starts the mute timer if it was waiting for the player to log in.
+     *
+     * @return The mute data, if the player is muted.
+     */
+    public Optional<MuteData> convertNextLoginToTimestamp() {
+        if (this.muteData != null && this.muteData.getTimeFromNextLogin().isPresent()) {
+            this.muteData.nextLoginToTimestamp();
+            markDirty();
+        }
+
+        return Optional.ofNullable(this.muteData);
+    }
+
     public void setMuteData(@Nullable MuteData mData) {
         this.muteData = mData;
+        getService().getStatus().set(PlayerStatus.MUTED, mData != null);
+        markDirty();
     }
 
     public void removeMuteData() {
-        this.muteData = null;
+        setMuteData(null);
     }
 }
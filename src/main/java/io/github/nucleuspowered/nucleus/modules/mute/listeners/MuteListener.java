@@ -7,6 +7,7 @@ package io.github.nucleuspowered.nucleus.modules.mute.listeners;
 import io.github.nucleuspowered.nucleus.Nucleus;
 import io.github.nucleuspowered.nucleus.Util;
 import io.github.nucleuspowered.nucleus.api.events.NucleusMessageEvent;
+import io.github.nucleuspowered.nucleus.dataservices.modular.PlayerStatus;
 import io.github.nucleuspowered.nucleus.internal.data.EndTimestamp;
 import io.github.nucleuspowered.nucleus.internal.interfaces.ListenerBase;
 import io.github.nucleuspowered.nucleus.internal.interfaces.Reloadable;
@@ -50,11 +51,9 @@ public class MuteListener implements Reloadable, ListenerBase {
         // Kick off a scheduled task.
         Sponge.getScheduler().createTaskBuilder().async().delay(500, TimeUnit.MILLISECONDS).execute(() -> {
             Player user = event.getTargetEntity();
-            Optional<MuteData> omd = this.handler.getPlayerMuteData(user);
+            Optional<MuteData> omd = this.handler.convertNextLoginToTimestamp(user);
             if (omd.isPresent()) {
                 MuteData md = omd.get();
-                md.nextLoginToTimestamp();
-
                 if (isMuted(user)) {
                     this.handler.onMute(md, event.getTargetEntity());
                 }
@@ -138,7 +137,7 @@ public class MuteListener implements Reloadable, ListenerBase {
             return false;
         }
 
-        player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("globalmute.novoice"));
+        player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("globalmute.novoice"));
         return true;
     }
 
@@ -148,7 +147,10 @@ public class MuteListener implements Reloadable, ListenerBase {
     }
 
     private boolean isMuted(Player player) {
-        if (!this.handler.isMutedCached(player)) {
+        PlayerStatus status = Nucleus.getNucleus().getUserDataManager().getOnlineStatus(player.getUniqueId());
+        if (status != null && status.isKnownUnset(PlayerStatus.MUTED)) {
+            return false;
+        } else if (!this.handler.isMutedCached(player)) {
             return false;
         } else if (this.handler.getPlayerMuteData(player).map(EndTimestamp::expired).orElse(true)) { // true indicates expiry
             this.handler.unmutePlayer(player);
@@ -84,6 +84,12 @@ public class MuteHandler implements ContextCalculator<Subject>, NucleusMuteServi
         return nu;
     }
 
+    public Optional<MuteData> convertNextLoginToTimestamp(User user) {
+        Optional<MuteData> nu = this.ucl.get(user, false).flatMap(x -> x.get(MuteUserDataModule.class).convertNextLoginToTimestamp());
+        this.muteContextCache.put(user.getUniqueId(), nu.isPresent());
+        return nu;
+    }
+
     @Override public boolean mutePlayer(User user, String reason, @Nullable Duration duration, Cause cause) {
         UUID first = cause.first(User.class).map(Identifiable::getUniqueId).orElse(Util.consoleFakeUUID);
         return mutePlayer(user, new MuteData(first, reason, duration), cause);
@@ -110,6 +116,7 @@ public class MuteHandler implements ContextCalculator<Subject>, NucleusMuteServi
         }
 
         u.get(MuteUserDataModule.class).setMuteData(data);
+        Nucleus.getNucleus().getUserCacheService().updateCacheForPlayer(u);
         this.muteContextCache.put(u.getUniqueId(), true);
         Sponge.getEventManager().post(new MuteEvent.Muted(
                 cause,
@@ -132,6 +139,7 @@ public class MuteHandler implements ContextCalculator<Subject>, NucleusMuteServi
             Optional<ModularUserService> o = this.ucl.get(user);
             if (o.isPresent()) {
                 o.get().get(MuteUserDataModule.class).removeMuteData();
+                Nucleus.getNucleus().getUserCacheService().updateCacheForPlayer(o.get());
                 this.muteContextCache.put(user.getUniqueId(), false);
                 Sponge.getEventManager().post(new MuteEvent.Unmuted(
                         cause,
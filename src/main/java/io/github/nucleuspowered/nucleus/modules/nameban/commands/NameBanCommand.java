@@ -64,7 +64,7 @@ public class NameBanCommand extends AbstractCommand<CommandSource> implements Re
         String reason = args.<String>getOne(NucleusParameters.Keys.REASON).orElse(this.defaultReason);
 
         if (this.handler.addName(name, reason, CauseStackHelper.createCause(src))) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nameban.success", name));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nameban.success", name));
             return CommandResult.success();
         }
 
@@ -43,7 +43,7 @@ public class NameUnbanCommand extends AbstractCommand<CommandSource> {
         String name = args.<String>getOne(this.nameKey).get().toLowerCase();
 
         if (this.handler.removeName(name, CauseStackHelper.createCause(src))) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nameban.pardon.success", name));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nameban.pardon.success", name));
             return CommandResult.success();
         }
 
@@ -40,7 +40,7 @@ public class DelNickCommand extends AbstractCommand<CommandSource> {
         this.nicknameService.removeNick(pl, src);
 
         if (!src.equals(pl)) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.delnick.success.other", pl.getName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.delnick.success.other", pl.getName()));
         }
 
         return CommandResult.success();
@@ -74,7 +74,7 @@ public class RealnameCommand extends AbstractCommand<CommandSource> {
                 .collect(Collectors.toList());
 
         if (realNames.isEmpty()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.realname.nonames", argname));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.realname.nonames", argname));
         } else {
             PaginationList.Builder plb = Sponge.getServiceManager().provideUnchecked(PaginationService.class).builder()
                     .contents(realNames)
@@ -5,8 +5,8 @@
 package io.github.nucleuspowered.nucleus.modules.nickname.datamodules;
 
 import com.google.common.base.Preconditions;
-import com.google.common.reflect.TypeToken;
 import io.github.nucleuspowered.nucleus.dataservices.modular.DataKey;
+import io.github.nucleuspowered.nucleus.dataservices.modular.DataKeyField;
 import io.github.nucleuspowered.nucleus.dataservices.modular.DataModule;
 import io.github.nucleuspowered.nucleus.dataservices.modular.ModularUserService;
 import io.github.nucleuspowered.nucleus.internal.traits.InternalServiceManagerTrait;
@@ -26,7 +26,7 @@ public class NicknameUserDataModule extends DataModule.ReferenceService<ModularU
 
     @DataKey("nickname-text")
     @Nullable
-    private Text nickname = null;
+    Text nickname = null;
 
     public NicknameUserDataModule(ModularUserService modularDataService) {
         super(modularDataService);
@@ -42,6 +42,7 @@ public class NicknameUserDataModule extends DataModule.ReferenceService<ModularU
 
     public void setNickname(Text nickname) {
         this.nickname = Preconditions.checkNotNull(nickname);
+        markDirty();
 
         getService().getPlayer().ifPresent(x -> {
             Text p = getServiceUnchecked(NicknameService.class).getNickPrefix();
@@ -51,14 +52,15 @@ public class NicknameUserDataModule extends DataModule.ReferenceService<ModularU
 
     public void removeNickname() {
         this.nickname = null;
+        markDirty();
         getService().getPlayer().ifPresent(x -> x.offer(Keys.DISPLAY_NAME, Text.of(x.getName())));
     }
 
     @Override
     @SuppressWarnings("unchecked")
-    protected <T> Optional<T> getValue(TypeToken<T> token, String path, ConfigurationNode node) {
-        if (TextRepresentable.class.isAssignableFrom(token.getRawType())) {
-            String str = node.getNode(path).getString();
+    protected <T> Optional<T> getValue(DataKeyField<?, T> field, ConfigurationNode node) {
+        if (TextRepresentable.class.isAssignableFrom(field.getTypeToken().getRawType())) {
+            String str = node.getNode(field.getPath()).getString();
             if (str == null || str.isEmpty()) {
                 return Optional.empty();
             }
@@ -70,22 +72,22 @@ public class NicknameUserDataModule extends DataModule.ReferenceService<ModularU
             }
         }
 
-        return super.getValue(token, path, node);
+        return super.getValue(field, node);
     }
 
     @Override
-    protected <T> void saveNode(TypeToken<T> typeToken, T value, String path, ConfigurationNode node) throws ObjectMappingException {
+    protected <T> void saveNode(DataKeyField<?, T> field, @Nullable T value, ConfigurationNode node) throws ObjectMappingException {
         if (value == null) {
-            node.getNode(path).setValue(null);
+            node.getNode(field.getPath()).setValue(null);
             return;
         }
 
         if (value instanceof TextRepresentable) {
-            node.getNode(path).setValue(TextSerializers.JSON.serialize(((TextRepresentable) value).toText()));
+            node.getNode(field.getPath()).setValue(TextSerializers.JSON.serialize(((TextRepresentable) value).toText()));
             return;
         }
 
-        super.saveNode(typeToken, value, path, node);
+        super.saveNode(field, value, node);
     }
 
 }
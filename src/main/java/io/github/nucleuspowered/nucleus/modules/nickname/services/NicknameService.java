@@ -26,6 +26,7 @@ import io.github.nucleuspowered.nucleus.modules.nickname.datamodules.NicknameUse
 import io.github.nucleuspowered.nucleus.modules.nickname.events.ChangeNicknameEventPost;
 import io.github.nucleuspowered.nucleus.modules.nickname.events.ChangeNicknameEventPre;
 import io.github.nucleuspowered.nucleus.util.CauseStackHelper;
+import io.github.nucleuspowered.nucleus.util.CompletionIndex;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.entity.living.player.Player;
@@ -39,13 +40,13 @@ import org.spongepowered.api.text.serializer.TextSerializers;
 import org.spongepowered.api.util.Tuple;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -60,10 +61,13 @@ public class NicknameService implements NucleusNicknameService, Reloadable, Perm
     private boolean registered = false;
     private final BiMap<UUID, String> cache = HashBiMap.create();
     private final BiMap<UUID, Text> textCache = HashBiMap.create();
+    private final CompletionIndex<UUID> completions = new CompletionIndex<>();
 
     public void updateCache(UUID player, Text text) {
-        this.cache.put(player, text.toPlain());
+        String plain = text.toPlain();
+        this.cache.put(player, plain);
         this.textCache.put(player, text);
+        this.completions.put(plain, player);
     }
 
     public Optional<Player> getFromCache(String text) {
@@ -72,6 +76,7 @@ public class NicknameService implements NucleusNicknameService, Reloadable, Perm
             Optional<Player> ret = Sponge.getServer().getPlayer(u);
             if (!ret.isPresent()) {
                 this.cache.remove(u);
+                this.completions.remove(u);
             }
 
             return ret;
@@ -85,19 +90,22 @@ public class NicknameService implements NucleusNicknameService, Reloadable, Perm
     }
 
     public Map<String, UUID> startsWithGetMap(String text) {
-        return this.cache.inverse().entrySet().stream().filter(x -> x.getKey().startsWith(text.toLowerCase()))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        Map<String, UUID> result = new LinkedHashMap<>();
+        for (UUID uuid : this.completions.complete(text, -1)) {
+            this.completions.getName(uuid).ifPresent(x -> result.put(x, uuid));
+        }
+
+        return result;
     }
 
     public List<UUID> startsWith(String text) {
-        return this.cache.inverse().entrySet().stream().filter(x -> x.getKey().startsWith(text.toLowerCase()))
-                .map(Map.Entry::getValue)
-                .collect(Collectors.toList());
+        return this.completions.complete(text, -1);
     }
 
     public void removeFromCache(UUID player) {
         this.cache.remove(player);
         this.textCache.remove(player);
+        this.completions.remove(player);
     }
 
     public void register() {
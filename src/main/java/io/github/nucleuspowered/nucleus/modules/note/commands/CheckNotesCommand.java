@@ -65,7 +65,7 @@ public class CheckNotesCommand extends AbstractCommand<CommandSource> {
 
         List<NoteData> notes = this.handler.getNotesInternal(user);
         if (notes.isEmpty()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.checknotes.none", user.getName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.checknotes.none", user.getName()));
             return CommandResult.success();
         }
 
@@ -46,16 +46,16 @@ public class ClearNotesCommand extends AbstractCommand<CommandSource> {
 
         List<NoteData> notes = this.handler.getNotesInternal(user);
         if (notes.isEmpty()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.checknotes.none", user.getName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.checknotes.none", user.getName()));
             return CommandResult.success();
         }
 
         if (this.handler.clearNotes(user)) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.clearnotes.success", user.getName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.clearnotes.success", user.getName()));
             return CommandResult.success();
         }
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.clearnotes.failure", user.getName()));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.clearnotes.failure", user.getName()));
         return CommandResult.empty();
     }
 }
\ No newline at end of file
@@ -8,9 +8,7 @@ import com.flowpowered.math.vector.Vector3d;
 import com.google.common.collect.ImmutableMap;
 import io.github.nucleuspowered.nucleus.Nucleus;
 import io.github.nucleuspowered.nucleus.Util;
-import io.github.nucleuspowered.nucleus.dataservices.modular.ModularUserService;
 import io.github.nucleuspowered.nucleus.internal.PermissionRegistry;
-import io.github.nucleuspowered.nucleus.internal.annotations.RunAsync;
 import io.github.nucleuspowered.nucleus.internal.annotations.command.Permissions;
 import io.github.nucleuspowered.nucleus.internal.annotations.command.RegisterCommand;
 import io.github.nucleuspowered.nucleus.internal.command.AbstractCommand;
@@ -63,7 +61,6 @@ import javax.annotation.Nullable;
 
 // TODO: 7.1 cleanup
 @Permissions
-@RunAsync
 @RegisterCommand({"seen", "seenplayer", "lookup"})
 @EssentialsEquivalent("seen")
 @NonnullByDefault
@@ -233,11 +230,22 @@ public class SeenCommand extends AbstractCommand<CommandSource> {
         // Get the player in case the User is displaying the wrong name.
         user = user.getPlayer().map(x -> (User) x).orElse(user);
 
-        ModularUserService iqsu = Nucleus.getNucleus().getUserDataManager().getUnchecked(user);
-        CoreUserDataModule coreUserDataModule = iqsu.get(CoreUserDataModule.class);
+        // Offline players may have to be loaded from disk, so do that off the main thread and send the
+        // information when it has been loaded.
+        final User target = user;
+        Nucleus.getNucleus().getUserDataManager().getAsync(target).thenAcceptAsync(iqsu -> {
+            if (iqsu.isPresent()) {
+                sendInformation(src, target, iqsu.get().get(CoreUserDataModule.class));
+            } else {
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("standard.error.nouser"));
+            }
+        }, Sponge.getScheduler().createSyncExecutor(Nucleus.getNucleus()));
+        return CommandResult.success();
+    }
 
+    private void sendInformation(CommandSource src, User user, CoreUserDataModule coreUserDataModule) {
         List<Text> messages = new ArrayList<>();
-        final MessageProvider messageProvider = Nucleus.getNucleus().getMessageProvider();
+        final MessageProvider messageProvider = Nucleus.getNucleus().getMessageProvider(src);
 
         // Everyone gets the last online time.
         PlayerOnlineService playerOnlineService = getServiceManager().getServiceUnchecked(PlayerOnlineService.class);
@@ -269,7 +277,6 @@ public class SeenCommand extends AbstractCommand<CommandSource> {
 
         Util.getPaginationBuilder(src).contents(messages).padding(Text.of(TextColors.GREEN, "-"))
                 .title(messageProvider.getTextMessageWithFormat("command.seen.title", user.getName())).sendTo(src);
-        return CommandResult.success();
     }
 
     private Text getLocationString(String key, Location<World> lw, CommandSource source) {
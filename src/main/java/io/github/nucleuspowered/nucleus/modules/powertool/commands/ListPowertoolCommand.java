@@ -50,7 +50,7 @@ public class ListPowertoolCommand extends AbstractCommand<Player> {
         Map<String, List<String>> powertools = inu.getPowertools();
 
         if (powertools.isEmpty()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.powertool.list.none"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.powertool.list.none"));
             return CommandResult.success();
         }
 
@@ -69,7 +69,7 @@ public class ListPowertoolCommand extends AbstractCommand<Player> {
     private Text from(final PowertoolUserDataModule inu, Player src, String powertool, List<String> commands) {
         Optional<ItemType> oit = Sponge.getRegistry().getType(ItemType.class, powertool);
 
-        MessageProvider mp = Nucleus.getNucleus().getMessageProvider();
+        MessageProvider mp = Nucleus.getNucleus().getMessageProvider(src);
 
         // Create the click actions.
         ClickAction viewAction = TextActions.executeCallback(pl -> Util.getPaginationBuilder(src)
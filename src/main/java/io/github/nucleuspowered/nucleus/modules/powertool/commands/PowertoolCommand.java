@@ -61,7 +61,7 @@ public class PowertoolCommand extends AbstractCommand<Player> {
 
     private CommandResult viewPowertool(Player src, PowertoolUserDataModule user, ItemStack item) {
         Optional<List<String>> cmds = user.getPowertoolForItem(item.getType());
-        MessageProvider mp = Nucleus.getNucleus().getMessageProvider();
+        MessageProvider mp = Nucleus.getNucleus().getMessageProvider(src);
         if (cmds.isPresent() && !cmds.get().isEmpty()) {
             Util.getPaginationBuilder(src)
                     .contents(cmds.get().stream().map(f -> Text.of(TextColors.YELLOW, f)).collect(Collectors.toList()))
@@ -82,7 +82,7 @@ public class PowertoolCommand extends AbstractCommand<Player> {
         }
 
         user.setPowertool(item, Lists.newArrayList(command));
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.powertool.set", item.getId(), command));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.powertool.set", item.getId(), command));
         return CommandResult.success();
     }
 }
@@ -19,7 +19,7 @@ import java.util.Optional;
 public class PowertoolUserDataModule extends DataModule<ModularUserService> {
 
     @DataKey("powertools")
-    private Map<String, List<String>> powertools = Maps.newHashMap();
+    Map<String, List<String>> powertools = Maps.newHashMap();
 
     public Map<String, List<String>> getPowertools() {
         return ImmutableMap.copyOf(this.powertools);
@@ -36,14 +36,17 @@ public class PowertoolUserDataModule extends DataModule<ModularUserService> {
 
     public void setPowertool(ItemType type, List<String> commands) {
         this.powertools.put(type.getId(), commands);
+        markDirty();
     }
 
     public void clearPowertool(ItemType type) {
-        this.powertools.remove(type.getId());
+        clearPowertool(type.getId());
     }
 
     public void clearPowertool(String type) {
-        this.powertools.remove(type);
+        if (this.powertools.remove(type) != null) {
+            markDirty();
+        }
     }
 
 }
@@ -25,6 +25,7 @@ import io.github.nucleuspowered.nucleus.modules.rtp.config.RTPConfig;
 import io.github.nucleuspowered.nucleus.modules.rtp.config.RTPConfigAdapter;
 import io.github.nucleuspowered.nucleus.modules.rtp.events.RTPSelectedLocationEvent;
 import io.github.nucleuspowered.nucleus.modules.rtp.options.RTPOptions;
+import io.github.nucleuspowered.nucleus.modules.rtp.services.RTPLocationPool;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandResult;
 import org.spongepowered.api.command.CommandSource;
@@ -54,6 +55,7 @@ import java.util.WeakHashMap;
 public class RandomTeleportCommand extends AbstractCommand.SimpleTargetOtherPlayer implements Reloadable {
 
     private RTPConfig rc = new RTPConfig();
+    private final RTPLocationPool pool = getServiceUnchecked(RTPLocationPool.class);
     private final Map<Task, UUID> cachedTasks = new WeakHashMap<>();
 
     private final Timing TIMINGS = Timings.of(Nucleus.getNucleus(), "RTP task");
@@ -137,6 +139,7 @@ public class RandomTeleportCommand extends AbstractCommand.SimpleTargetOtherPlay
         private final int maxCount;
         private final NucleusRTPService.RTPOptions options;
         private final RTPKernel kernel;
+        private final Timing kernelTiming;
 
         private RTPTask(World target, CommandSource source, Player target1, int maxCount, NucleusRTPService.RTPOptions options,
                 RTPKernel kernel, double cost) {
@@ -150,6 +153,7 @@ public class RandomTeleportCommand extends AbstractCommand.SimpleTargetOtherPlay
             this.count = maxCount;
             this.options = options;
             this.kernel = kernel;
+            this.kernelTiming = Timings.of(Nucleus.getNucleus(), "RTP kernel: " + kernel.getId(), TIMINGS);
         }
 
         @Override public void accept(Task task) {
@@ -167,8 +171,21 @@ public class RandomTeleportCommand extends AbstractCommand.SimpleTargetOtherPlay
                 int counter = 0;
                 while (++counter <= 10) {
                     try {
-                        Optional<Location<World>> optionalLocation =
-                                this.kernel.getLocation(this.target.getLocation(), this.targetWorld, this.options);
+                        // Use a location that has already been found if we can.
+                        Optional<Location<World>> optionalLocation = RandomTeleportCommand.this.pool.take(this.targetWorld, this.kernel);
+                        if (!optionalLocation.isPresent()) {
+                            long start = System.nanoTime();
+                            try (Timing kernelTimer = this.kernelTiming.startTiming()) {
+                                optionalLocation = this.kernel.getLocation(this.target.getLocation(), this.targetWorld, this.options);
+                            } finally {
+                                if (Nucleus.getNucleus().isDebugMode()) {
+                                    Nucleus.getNucleus().getLogger().debug(String.format("RTP kernel %s attempt took %sus, location found: %s",
+                                            this.kernel.getId(), String.valueOf((System.nanoTime() - start) / 1000),
+                                            String.valueOf(optionalLocation.isPresent())));
+                                }
+                            }
+                        }
+
                         if (optionalLocation.isPresent()) {
                             Location<World> targetLocation = optionalLocation.get();
                             if (Sponge.getEventManager().post(new RTPSelectedLocationEvent(
@@ -73,6 +73,9 @@ public class RTPConfig {
 
     private ImmutableSet<BiomeType> lazyLoadProhbitedBiomes;
 
+    @Setting(value = "location-pool", comment = "config.rtp.pool")
+    private PoolConfig pool = new PoolConfig();
+
     public int getNoOfAttempts() {
         return this.noOfAttempts;
     }
@@ -126,6 +129,10 @@ public class RTPConfig {
         return this.lazyLoadProhbitedBiomes;
     }
 
+    public PoolConfig getPool() {
+        return this.pool;
+    }
+
     public RTPKernel getKernel() {
         if (this.lazyLoadedKernel == null) {
             // does the kernel exist?
@@ -163,6 +170,38 @@ public class RTPConfig {
         }).orElseGet(this::getKernel);
     }
 
+    @ConfigSerializable
+    public static class PoolConfig {
+
+        @Setting(value = "enable", comment = "config.rtp.poolenable")
+        private boolean enabled = false;
+
+        @Setting(value = "locations-per-world", comment = "config.rtp.poolsize")
+        private int size = 10;
+
+        @Setting(value = "maximum-milliseconds-per-refill", comment = "config.rtp.pooltime")
+        private int maxTime = 5;
+
+        @Setting(value = "location-expiry-seconds", comment = "config.rtp.poolexpiry")
+        private int expiry = 300;
+
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        public int getSize() {
+            return Math.max(1, this.size);
+        }
+
+        public long getMaxTimeNanos() {
+            return Math.max(1, this.maxTime) * 1000000L;
+        }
+
+        public long getExpiryMillis() {
+            return Math.max(1, this.expiry) * 1000L;
+        }
+    }
+
     @ConfigSerializable
     public static class PerWorldRTPConfig {
         @Setting(value = "radius")
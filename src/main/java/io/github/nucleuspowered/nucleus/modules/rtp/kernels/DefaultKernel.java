@@ -37,9 +37,21 @@ public class DefaultKernel implements RTPKernel {
             }
 
             location = KernelHelper.getLocationWithOffset(getCentralLocation(currentLocation, target), options);
-        } while (!Util.isLocationInWorldBorder(location.toDouble(), target));
+        } while (!Util.isLocationInWorldBorder(location.toDouble(), target) || !isCandidateAllowed(location, target, options));
 
-        Location<World> worldLocation = getStartingLocation(new Location<>(target, location));
+        return getLocationFrom(new Location<>(target, location), options);
+    }
+
+    /**
+     * Finds a safe location near the given candidate location, using the
+     * rules of this kernel.
+     *
+     * @param candidate The location to start the search from.
+     * @param options The {@link NucleusRTPService.RTPOptions} to use.
+     * @return The location, if a safe one could be found.
+     */
+    public Optional<Location<World>> getLocationFrom(Location<World> candidate, NucleusRTPService.RTPOptions options) {
+        Location<World> worldLocation = getStartingLocation(candidate);
         if (worldLocation == null) {
             return Optional.empty();
         }
@@ -65,6 +77,50 @@ public class DefaultKernel implements RTPKernel {
         return Optional.empty();
     }
 
+    /**
+     * Checks that a location that this kernel selected earlier is still safe,
+     * only checking the block column at the location.
+     *
+     * @param location The location.
+     * @return Whether the location is still safe.
+     */
+    public boolean isStillSafe(Location<World> location) {
+        return Sponge.getTeleportHelper().getSafeLocation(location, 1, 0, TeleportHelper.DEFAULT_FLOOR_CHECK_DISTANCE,
+                    TeleportHelperFilters.CONFIG, filterToUse())
+                .filter(x -> x.getBlockPosition().equals(location.getBlockPosition()))
+                .filter(this::verifyLocation)
+                .isPresent();
+    }
+
+    /**
+     * Gets whether the locations that this kernel selects depend on where the
+     * player is. If not, locations can be selected before they are needed.
+     *
+     * @return Whether the locations depend on the player.
+     */
+    public boolean isRelativeToPlayer() {
+        return false;
+    }
+
+    /**
+     * Gets the centre of the area that this kernel selects locations from,
+     * when it is not selecting for a player.
+     *
+     * @param world The world.
+     * @return The centre.
+     */
+    public Vector3i getCentre(World world) {
+        return getCentralLocation(null, world);
+    }
+
+    /**
+     * A cheap check on a randomly selected position, made before any blocks
+     * are looked at. Rejected positions do not count as an attempt.
+     */
+    boolean isCandidateAllowed(Vector3d location, World world, NucleusRTPService.RTPOptions options) {
+        return true;
+    }
+
     TeleportHelperFilter filterToUse() {
         return TeleportHelperFilters.DEFAULT;
     }
@@ -0,0 +1,78 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.rtp.kernels;
+
+import com.flowpowered.math.vector.Vector3d;
+import com.flowpowered.math.vector.Vector3i;
+import io.github.nucleuspowered.nucleus.Nucleus;
+import io.github.nucleuspowered.nucleus.api.service.NucleusRTPService;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+import org.spongepowered.api.world.biome.BiomeType;
+import org.spongepowered.api.world.extent.MutableBiomeVolume;
+
+import javax.annotation.Nullable;
+
+/**
+ * A surface only kernel that finds the surface of a column from the height
+ * map, rather than stepping down from the top of the world one block at a
+ * time.
+ *
+ * <p>Candidate columns are also checked against the prohibited biomes before
+ * the chunk is loaded. If the chunk is not loaded, the biome is sampled from
+ * the world's biome generator, which does not need the chunk.</p>
+ */
+public class HeightmapKernel extends SurfaceKernel {
+
+    private static final Vector3i SAMPLE_SIZE = Vector3i.ONE;
+
+    @Override
+    boolean isCandidateAllowed(Vector3d location, World world, NucleusRTPService.RTPOptions options) {
+        if (options.prohibitedBiomes().isEmpty()) {
+            return true;
+        }
+
+        BiomeType biome = sampleBiome(world, location.getFloorX(), location.getFloorZ());
+        return biome == null || !options.prohibitedBiomes().contains(biome);
+    }
+
+    @Nullable
+    @Override
+    Location<World> getStartingLocation(Location<World> world) {
+        // The height map holds the first air block above the highest block.
+        int y = world.getExtent().getHighestYAt(world.getBlockX(), world.getBlockZ()) - 1;
+        if (y < 1) {
+            return null;
+        }
+
+        return new Location<>(world.getExtent(), world.getBlockX(), y, world.getBlockZ());
+    }
+
+    @Nullable
+    private BiomeType sampleBiome(World world, int x, int z) {
+        if (world.getChunk(x >> 4, 0, z >> 4).isPresent()) {
+            return world.getBiome(x, 0, z);
+        }
+
+        try {
+            MutableBiomeVolume buffer = Sponge.getRegistry().getExtentBufferFactory().createBiomeBuffer(new Vector3i(x, 0, z), SAMPLE_SIZE);
+            world.getWorldGenerator().getBiomeGenerator().generateBiomes(buffer);
+            return buffer.getBiome(x, 0, z);
+        } catch (Exception e) {
+            // Can't tell, so let the full check decide.
+            Nucleus.getNucleus().printStackTraceIfDebugMode(e);
+            return null;
+        }
+    }
+
+    @Override public String getId() {
+        return "nucleus:heightmap_surface";
+    }
+
+    @Override public String getName() {
+        return "Heightmap Surface Kernel";
+    }
+}
@@ -11,6 +11,7 @@ import io.github.nucleuspowered.nucleus.internal.registry.NucleusRegistryModule;
 import io.github.nucleuspowered.nucleus.modules.rtp.kernels.AroundPlayerAndSurfaceKernel;
 import io.github.nucleuspowered.nucleus.modules.rtp.kernels.AroundPlayerKernel;
 import io.github.nucleuspowered.nucleus.modules.rtp.kernels.DefaultKernel;
+import io.github.nucleuspowered.nucleus.modules.rtp.kernels.HeightmapKernel;
 import io.github.nucleuspowered.nucleus.modules.rtp.kernels.SurfaceKernel;
 
 import javax.inject.Singleton;
@@ -46,5 +47,6 @@ public class RTPRegistryModule extends NucleusRegistryModule<RTPKernel> {
         this.registerAdditionalCatalog(new AroundPlayerAndSurfaceKernel());
         this.registerAdditionalCatalog(new AroundPlayerKernel());
         this.registerAdditionalCatalog(new SurfaceKernel());
+        this.registerAdditionalCatalog(new HeightmapKernel());
     }
 }
@@ -0,0 +1,36 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.rtp.runnables;
+
+import io.github.nucleuspowered.nucleus.Nucleus;
+import io.github.nucleuspowered.nucleus.internal.interfaces.TaskBase;
+import io.github.nucleuspowered.nucleus.modules.rtp.services.RTPLocationPool;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.annotation.NonnullByDefault;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+@NonnullByDefault
+public class RTPPoolRefillTask implements TaskBase {
+
+    private final RTPLocationPool pool = Nucleus.getNucleus().getInternalServiceManager().getServiceUnchecked(RTPLocationPool.class);
+
+    @Override
+    public void accept(Task task) {
+        this.pool.refill();
+    }
+
+    // World access must be on the main thread, the pool limits how long each run takes.
+    @Override
+    public boolean isAsync() {
+        return false;
+    }
+
+    @Override
+    public Duration interval() {
+        return Duration.of(1, ChronoUnit.SECONDS);
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.rtp.services;
+
+import com.flowpowered.math.vector.Vector3d;
+import com.flowpowered.math.vector.Vector3i;
+import io.github.nucleuspowered.nucleus.Util;
+import io.github.nucleuspowered.nucleus.api.rtp.RTPKernel;
+import io.github.nucleuspowered.nucleus.internal.interfaces.Reloadable;
+import io.github.nucleuspowered.nucleus.internal.interfaces.ServiceBase;
+import io.github.nucleuspowered.nucleus.internal.traits.InternalServiceManagerTrait;
+import io.github.nucleuspowered.nucleus.modules.rtp.config.RTPConfig;
+import io.github.nucleuspowered.nucleus.modules.rtp.config.RTPConfigAdapter;
+import io.github.nucleuspowered.nucleus.modules.rtp.kernels.DefaultKernel;
+import io.github.nucleuspowered.nucleus.modules.rtp.options.RTPOptions;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.util.PositionOutOfBoundsException;
+import org.spongepowered.api.world.Chunk;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Keeps a pool of safe locations for each world and kernel, so that /rtp can
+ * use a location straight away rather than searching for one.
+ *
+ * <p>The pools are refilled on the main thread, for a limited time each run.
+ * Candidates are only taken from chunks that are loaded, and whose
+ * neighbours are loaded, so that searching for a safe spot around a
+ * candidate does not load chunks. Only kernels that extend
+ * {@link DefaultKernel} and do not depend on the player can be pooled.</p>
+ */
+public class RTPLocationPool implements Reloadable, ServiceBase, InternalServiceManagerTrait {
+
+    private final Map<Key, Deque<Entry>> pools = new ConcurrentHashMap<>();
+    private RTPConfig config = new RTPConfig();
+
+    @Override
+    public void onReload() {
+        this.config = getServiceUnchecked(RTPConfigAdapter.class).getNodeOrDefault();
+
+        // The options may have changed.
+        this.pools.clear();
+    }
+
+    /**
+     * Takes a location from the pool for the given world and kernel, if
+     * there is one that is still safe. Must be called on the main thread.
+     *
+     * @param world The world.
+     * @param kernel The kernel.
+     * @return The location, if there is one.
+     */
+    public Optional<Location<World>> take(World world, RTPKernel kernel) {
+        if (!this.config.getPool().isEnabled() || !canPool(kernel)) {
+            return Optional.empty();
+        }
+
+        Deque<Entry> pool = this.pools.get(new Key(world.getUniqueId(), kernel.getId()));
+        if (pool == null) {
+            return Optional.empty();
+        }
+
+        long expiry = System.currentTimeMillis() - this.config.getPool().getExpiryMillis();
+        Entry entry;
+        while ((entry = pool.poll()) != null) {
+            if (entry.created < expiry) {
+                continue;
+            }
+
+            // Don't load the chunk to check it, just get another.
+            Location<World> location = new Location<>(world, entry.position);
+            if (world.getChunk(location.getChunkPosition()).isPresent() && ((DefaultKernel) kernel).isStillSafe(location)) {
+                return Optional.of(location);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Tops up the pools for the loaded worlds, for at most the configured
+     * time. Must be called on the main thread.
+     */
+    public void refill() {
+        RTPConfig.PoolConfig poolConfig = this.config.getPool();
+        if (!poolConfig.isEnabled()) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + poolConfig.getMaxTimeNanos();
+        long expiry = System.currentTimeMillis() - poolConfig.getExpiryMillis();
+        for (World world : Sponge.getServer().getWorlds()) {
+            RTPKernel kernel = this.config.getKernel(world.getName());
+            if (!canPool(kernel)) {
+                continue;
+            }
+
+            Deque<Entry> pool = this.pools.computeIfAbsent(new Key(world.getUniqueId(), kernel.getId()), k -> new ConcurrentLinkedDeque<>());
+            pool.removeIf(x -> x.created < expiry);
+            if (pool.size() < poolConfig.getSize()) {
+                fill(world, (DefaultKernel) kernel, pool, poolConfig.getSize(), deadline);
+            }
+
+            if (System.nanoTime() >= deadline) {
+                return;
+            }
+        }
+    }
+
+    private void fill(World world, DefaultKernel kernel, Deque<Entry> pool, int size, long deadline) {
+        RTPOptions options = new RTPOptions(this.config, world.getName());
+        List<Vector3i> chunks = getCandidateChunks(world, kernel.getCentre(world), options);
+        if (chunks.isEmpty()) {
+            return;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int minY = options.minHeight();
+        int yRange = Math.max(1, options.maxHeight() - minY);
+        while (pool.size() < size && System.nanoTime() < deadline) {
+            Vector3i chunk = chunks.get(random.nextInt(chunks.size()));
+            Location<World> candidate = new Location<>(world,
+                    (chunk.getX() << 4) + random.nextInt(16),
+                    minY + random.nextInt(yRange),
+                    (chunk.getZ() << 4) + random.nextInt(16));
+            if (!Util.isLocationInWorldBorder(candidate)) {
+                continue;
+            }
+
+            try {
+                kernel.getLocationFrom(candidate, options).ifPresent(x -> pool.add(new Entry(x.getPosition())));
+            } catch (PositionOutOfBoundsException ignored) {
+                // treat as fail.
+            }
+        }
+    }
+
+    /**
+     * Gets the positions of the loaded chunks that are within the radius of
+     * the options, and whose neighbours are all loaded.
+     */
+    private List<Vector3i> getCandidateChunks(World world, Vector3i centre, RTPOptions options) {
+        Set<Vector3i> loaded = new HashSet<>();
+        for (Chunk chunk : world.getLoadedChunks()) {
+            loaded.add(chunk.getPosition());
+        }
+
+        List<Vector3i> result = new ArrayList<>();
+        int min = options.minRadius();
+        int max = options.maxRadius();
+        for (Vector3i chunk : loaded) {
+            int dx = Math.abs((chunk.getX() << 4) + 8 - centre.getX());
+            int dz = Math.abs((chunk.getZ() << 4) + 8 - centre.getZ());
+            if (dx > max || dz > max || (dx < min && dz < min)) {
+                continue;
+            }
+
+            if (areNeighboursLoaded(chunk, loaded)) {
+                result.add(chunk);
+            }
+        }
+
+        return result;
+    }
+
+    private static boolean areNeighboursLoaded(Vector3i chunk, Set<Vector3i> loaded) {
+        for (int x = -1; x <= 1; x++) {
+            for (int z = -1; z <= 1; z++) {
+                if ((x != 0 || z != 0) && !loaded.contains(chunk.add(x, 0, z))) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean canPool(RTPKernel kernel) {
+        return kernel instanceof DefaultKernel && !((DefaultKernel) kernel).isRelativeToPlayer();
+    }
+
+    private static final class Key {
+
+        private final UUID world;
+        private final String kernel;
+
+        private Key(UUID world, String kernel) {
+            this.world = world;
+            this.kernel = kernel;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            Key key = (Key) o;
+            return this.world.equals(key.world) && this.kernel.equals(key.kernel);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.world, this.kernel);
+        }
+    }
+
+    private static final class Entry {
+
+        private final Vector3d position;
+        private final long created = System.currentTimeMillis();
+
+        private Entry(Vector3d position) {
+            this.position = position;
+        }
+    }
+}
@@ -57,7 +57,7 @@ public class ServerListCommand extends AbstractCommand<CommandSource> implements
             return CommandResult.success();
         }
 
-        MessageProvider messageProvider = Nucleus.getNucleus().getMessageProvider();
+        MessageProvider messageProvider = Nucleus.getNucleus().getMessageProvider(src);
 
         if (this.slc.isModifyServerList()) {
             src.sendMessage(messageProvider.getTextMessageWithFormat("command.serverlist.modify.true"));
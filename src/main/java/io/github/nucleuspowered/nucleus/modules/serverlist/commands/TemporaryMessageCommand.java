@@ -55,7 +55,7 @@ public class TemporaryMessageCommand extends AbstractCommand<CommandSource> {
                 mod.remove();
 
                 // Send message.
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.serverlist.message.removed"));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.serverlist.message.removed"));
                 return CommandResult.success();
             }
 
@@ -83,10 +83,10 @@ public class TemporaryMessageCommand extends AbstractCommand<CommandSource> {
 
             if (newMessage.isPresent()) {
                 // Send message
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.serverlist.message.set"));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.serverlist.message.set"));
                 src.sendMessage(newMessage.get());
             } else {
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.serverlist.message.empty"));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.serverlist.message.empty"));
             }
 
             return CommandResult.success();
@@ -111,7 +111,7 @@ public class TemporaryMessageCommand extends AbstractCommand<CommandSource> {
 
         if (newMessage.isPresent()) {
             // Send message
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.serverlist.message.set"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.serverlist.message.set"));
             src.sendMessage(newMessage.get());
             src.sendMessage(Nucleus.getNucleus().getMessageProvider()
                     .getTextMessageWithFormat("command.serverlist.message.expiry", Util.getTimeToNow(endTime)));
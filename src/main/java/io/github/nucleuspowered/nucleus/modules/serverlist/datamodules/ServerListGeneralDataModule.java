@@ -19,15 +19,15 @@ public class ServerListGeneralDataModule extends DataModule<ModularGeneralServic
 
     @Nullable
     @DataKey("lineone")
-    private String lineOne = null;
+    String lineOne = null;
 
     @Nullable
     @DataKey("linetwo")
-    private String lineTwo = null;
+    String lineTwo = null;
 
     @Nullable
     @DataKey("expiry")
-    private Instant expiry = null;
+    Instant expiry = null;
 
     private Text messageCache;
 
@@ -38,6 +38,7 @@ public class ServerListGeneralDataModule extends DataModule<ModularGeneralServic
     public void setLineOne(@Nullable String lineOne) {
         this.lineOne = lineOne;
         this.messageCache = null;
+        markDirty();
     }
 
     public Optional<String> getLineTwo() {
@@ -47,6 +48,7 @@ public class ServerListGeneralDataModule extends DataModule<ModularGeneralServic
     public void setLineTwo(@Nullable String lineTwo) {
         this.lineTwo = lineTwo;
         this.messageCache = null;
+        markDirty();
     }
 
     public Optional<Instant> getExpiry() {
@@ -60,6 +62,7 @@ public class ServerListGeneralDataModule extends DataModule<ModularGeneralServic
     public void setExpiry(@Nullable Instant expiry) {
         this.expiry = expiry;
         this.messageCache = null;
+        markDirty();
     }
 
     public Optional<Text> getMessage() {
@@ -78,8 +81,13 @@ public class ServerListGeneralDataModule extends DataModule<ModularGeneralServic
     }
 
     public void remove() {
+        if (this.lineOne == null && this.lineTwo == null && this.expiry == null) {
+            return;
+        }
+
         this.lineOne = null;
         this.lineTwo = null;
         this.expiry = null;
+        markDirty();
     }
 }
@@ -74,13 +74,13 @@ public class BuyCommand extends AbstractCommand<Player> implements Reloadable {
 
         ItemDataNode node = this.itemDataService.getDataForItem(ct.getId());
         if (node.getServerBuyPrice() < 0) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.itembuy.notforsale"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.itembuy.notforsale"));
             return CommandResult.empty();
         }
 
         if (amount > this.max) {
             amount = this.max;
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.itembuy.maximum", String.valueOf(amount)));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.itembuy.maximum", String.valueOf(amount)));
         }
 
         final ItemStack created;
@@ -94,7 +94,7 @@ public class BuyCommand extends AbstractCommand<Player> implements Reloadable {
         final double perUnitCost = node.getServerBuyPrice();
         final int unitCount = amount;
         final double overallCost = perUnitCost * unitCount;
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithTextFormat("command.itembuy.summary",
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithTextFormat("command.itembuy.summary",
                 Text.of(String.valueOf(amount)), Text.of(created),
                 Text.of(this.econHelper.getCurrencySymbol(overallCost))));
 
@@ -146,22 +146,22 @@ public class BuyCommand extends AbstractCommand<Player> implements Reloadable {
                 Text name = Text.of(this.created);
                 InventoryTransactionResult itr = target.offer(this.created);
                 if (itr.getRejectedItems().isEmpty()) {
-                    this.src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithTextFormat("command.itembuy.transactionsuccess",
+                    this.src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithTextFormat("command.itembuy.transactionsuccess",
                             Text.of(this.unitCount), name, Text.of(BuyCommand.this.econHelper.getCurrencySymbol(this.overallCost))));
                 } else {
                     Collection<ItemStackSnapshot> iss = itr.getRejectedItems();
                     int rejected = iss.stream().mapToInt(ItemStackSnapshot::getQuantity).sum();
                     double refund = rejected * this.perUnitCost;
                     BuyCommand.this.econHelper.depositInPlayer(this.src, refund, false);
-                    this.src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithTextFormat("command.itembuy.transactionpartial",
+                    this.src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithTextFormat("command.itembuy.transactionpartial",
                             Text.of(rejected), name));
-                    this.src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithTextFormat("command.itembuy.transactionsuccess",
+                    this.src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithTextFormat("command.itembuy.transactionsuccess",
                             Text.of(String.valueOf(this.unitCount - rejected)), name,
                             Text.of(BuyCommand.this.econHelper.getCurrencySymbol(this.overallCost - refund))));
                 }
             } else {
                 // No funds.
-                this.src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.itembuy.nofunds"));
+                this.src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.itembuy.nofunds"));
             }
         }
     }
@@ -100,7 +100,7 @@ public class SellAllCommand extends AbstractCommand<Player> {
         if (accepted) {
             if (this.econHelper.depositInPlayer(src, overallCost, false)) {
                 slots.forEach(Inventory::clear);
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithTextFormat("command.itemsell.summary",
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithTextFormat("command.itemsell.summary",
                         Text.of(amt), Text.of(name), Text.of(this.econHelper.getCurrencySymbol(overallCost))));
                 return CommandResult.success();
             }
@@ -54,7 +54,7 @@ public class SellCommand extends AbstractCommand<Player> {
         ItemDataNode node = this.itemDataService.getDataForItem(id);
         final double sellPrice = node.getServerSellPrice();
         if (sellPrice < 0) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.itemsell.notforselling"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.itemsell.notforselling"));
             return CommandResult.empty();
         }
 
@@ -69,7 +69,7 @@ public class SellCommand extends AbstractCommand<Player> {
             return CommandResult.success();
         }
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithTextFormat("command.itemsell.error", Text.of(is)));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithTextFormat("command.itemsell.error", Text.of(is)));
         return CommandResult.empty();
     }
 }
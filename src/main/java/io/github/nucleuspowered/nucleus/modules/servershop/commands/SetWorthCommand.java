@@ -78,7 +78,7 @@ public class SetWorthCommand extends AbstractCommand<CommandSource> {
             worth = this.econHelper.getCurrencySymbol(currentWorth);
             newWorth = this.econHelper.getCurrencySymbol(newCost);
         } else {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.setworth.noeconservice"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.setworth.noeconservice"));
             worth = String.valueOf(currentWorth);
             newWorth = String.valueOf(newCost);
         }
@@ -89,7 +89,7 @@ public class SetWorthCommand extends AbstractCommand<CommandSource> {
 
         if (currentWorth == newCost) {
             if (currentWorth < 0) {
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.setworth.alreadyunavailable", name, transactionType.getTranslation()));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.setworth.alreadyunavailable", name, transactionType.getTranslation()));
             } else {
                 src.sendMessage(Nucleus.getNucleus()
                         .getMessageProvider().getTextMessageWithFormat("command.setworth.samecost", transactionType.getTranslation(), name, worth));
@@ -110,7 +110,7 @@ public class SetWorthCommand extends AbstractCommand<CommandSource> {
             src.sendMessage(Nucleus.getNucleus()
                     .getMessageProvider().getTextMessageWithFormat("command.setworth.success.removed", name, transactionType.getTranslation(), worth));
         } else {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.setworth.success.changed", name, transactionType.getTranslation(), newWorth, worth));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.setworth.success.changed", name, transactionType.getTranslation(), newWorth, worth));
         }
 
         return CommandResult.success();
@@ -54,7 +54,7 @@ public class WorthCommand extends AbstractCommand<CommandSource> {
         ItemDataNode node = this.itemDataService.getDataForItem(id);
 
         // Get the current item worth.
-        MessageProvider provider = Nucleus.getNucleus().getMessageProvider();
+        MessageProvider provider = Nucleus.getNucleus().getMessageProvider(src);
         if (!this.econHelper.economyServiceExists()) {
             src.sendMessage(provider.getTextMessageWithFormat("command.setworth.noeconservice"));
         }
@@ -30,7 +30,7 @@ public class RemoveFirstSpawnCommand extends AbstractCommand<CommandSource> {
     @Override
     public CommandResult executeCommand(CommandSource src, CommandContext args, Cause cause) {
         Nucleus.getNucleus().getGeneralService().get(SpawnGeneralDataModule.class).removeFirstSpawn();
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.setfirstspawn.remove"));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.setfirstspawn.remove"));
         return CommandResult.success();
     }
 }
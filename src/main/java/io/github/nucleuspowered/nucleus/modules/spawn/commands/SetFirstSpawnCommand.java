@@ -27,8 +27,8 @@ public class SetFirstSpawnCommand extends AbstractCommand<Player> {
     @Override
     public CommandResult executeCommand(Player src, CommandContext args, Cause cause) {
         Nucleus.getNucleus().getGeneralService().get(SpawnGeneralDataModule.class).setFirstSpawn(src.getLocation(), src.getRotation());
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.setfirstspawn.success"));
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.setfirstspawn.success2"));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.setfirstspawn.success"));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.setfirstspawn.success2"));
 
         return CommandResult.success();
     }
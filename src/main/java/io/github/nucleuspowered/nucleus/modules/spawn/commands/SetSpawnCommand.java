@@ -34,7 +34,7 @@ public class SetSpawnCommand extends AbstractCommand<Player> {
         worldService.set(m);
 
         src.getWorld().getProperties().setSpawnPosition(src.getLocation().getBlockPosition());
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.setspawn.success", src.getWorld().getName()));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.setspawn.success", src.getWorld().getName()));
         return CommandResult.success();
     }
 }
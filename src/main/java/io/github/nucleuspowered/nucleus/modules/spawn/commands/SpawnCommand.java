@@ -102,7 +102,7 @@ public class SpawnCommand extends AbstractCommand<Player> implements Reloadable
                     event.getTransformTo(),
                     !force && this.sc.isSafeTeleport(), true);
         if (result.isSuccess()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.spawn.success", wp.getWorldName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.spawn.success", wp.getWorldName()));
             return CommandResult.success();
         }
 
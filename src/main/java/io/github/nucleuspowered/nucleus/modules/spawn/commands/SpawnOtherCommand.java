@@ -99,8 +99,8 @@ public class SpawnOtherCommand extends AbstractCommand<CommandSource> implements
         NucleusTeleportHandler.TeleportResult result = Nucleus.getNucleus().getTeleportHandler().teleportPlayer(player, event.getTransformTo(), this
                 .safeTeleport, true);
         if (result.isSuccess()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.spawnother.success.source", target.getName(), world.getWorldName()));
-            player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.spawnother.success.target", world.getWorldName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.spawnother.success.source", target.getName(), world.getWorldName()));
+            player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.spawnother.success.target", world.getWorldName()));
             return CommandResult.success();
         }
 
@@ -113,7 +113,7 @@ public class SpawnOtherCommand extends AbstractCommand<CommandSource> implements
         }
 
         Nucleus.getNucleus().getUserDataManager().get(user).get().get(CoreUserDataModule.class).sendToLocationOnLogin(worldTransform.getLocation());
-        source.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.spawnother.offline.sendonlogin", user.getName(), worldTransform.getExtent().getName()));
+        source.sendMessage(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.spawnother.offline.sendonlogin", user.getName(), worldTransform.getExtent().getName()));
         return CommandResult.success();
     }
 }
@@ -22,7 +22,7 @@ public class SpawnGeneralDataModule extends DataModule<ModularGeneralService> {
 
     @DataKey("firstspawn")
     @Nullable
-    private LocationNode firstspawn = null;
+    LocationNode firstspawn = null;
 
     public Optional<Transform<World>> getFirstSpawn() {
         if (this.firstspawn != null) {
@@ -40,9 +40,11 @@ public class SpawnGeneralDataModule extends DataModule<ModularGeneralService> {
 
     public void setFirstSpawn(Location<World> location, Vector3d rot) {
         this.firstspawn = new LocationNode(location, rot);
+        markDirty();
     }
 
     public void removeFirstSpawn() {
         this.firstspawn = null;
+        markDirty();
     }
 }
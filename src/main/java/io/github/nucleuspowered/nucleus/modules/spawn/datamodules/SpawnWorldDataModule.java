@@ -17,7 +17,7 @@ public class SpawnWorldDataModule extends DataModule<ModularWorldService> {
 
     @Nullable
     @DataKey("spawn-rotation")
-    private Vector3d spawnRotation;
+    Vector3d spawnRotation;
 
     public Optional<Vector3d> getSpawnRotation() {
         return Optional.ofNullable(this.spawnRotation);
@@ -25,5 +25,6 @@ public class SpawnWorldDataModule extends DataModule<ModularWorldService> {
 
     public void setSpawnRotation(@Nullable Vector3d spawnRotation) {
         this.spawnRotation = spawnRotation;
+        markDirty();
     }
 }
@@ -72,9 +72,9 @@ public class TeleportAskAllHereCommand extends AbstractCommand<Player> {
             this.tpHandler.getAcceptDenyMessage(src, tp).ifPresent(x::sendMessage);
         });
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.tpaall.success"));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.tpaall.success"));
         if (!cancelled.isEmpty()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.tpall.cancelled",
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.tpall.cancelled",
                 cancelled.stream().map(User::getName).collect(Collectors.joining(", "))));
         }
 
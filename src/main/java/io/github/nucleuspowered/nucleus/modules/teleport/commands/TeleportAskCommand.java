@@ -75,7 +75,7 @@ public class TeleportAskCommand extends AbstractCommand<Player> implements Reloa
     public CommandResult executeCommand(Player src, CommandContext args, Cause cause) throws Exception {
         Player target = args.requireOne(NucleusParameters.Keys.PLAYER);
         if (src.equals(target)) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.teleport.self"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.teleport.self"));
             return CommandResult.empty();
         }
 
@@ -105,10 +105,10 @@ public class TeleportAskCommand extends AbstractCommand<Player> implements Reloa
 
         TeleportHandler.TeleportPrep tp = new TeleportHandler.TeleportPrep(Instant.now().plus(30, ChronoUnit.SECONDS), src, cost, tb);
         this.tpHandler.addAskQuestion(target.getUniqueId(), tp);
-        target.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.tpa.question", src.getName()));
+        target.sendMessage(Nucleus.getNucleus().getMessageProvider(target).getTextMessageWithFormat("command.tpa.question", src.getName()));
         this.tpHandler.getAcceptDenyMessage(src, tp).ifPresent(target::sendMessage);
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.tpask.sent", target.getName()));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.tpask.sent", target.getName()));
         return CommandResult.success();
     }
 
@@ -69,7 +69,7 @@ public class TeleportAskHereCommand extends AbstractCommand<Player> {
     public CommandResult executeCommand(Player src, CommandContext args, Cause cause) throws Exception {
         Player target = args.<Player>getOne(NucleusParameters.Keys.PLAYER).get();
         if (src.equals(target)) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.teleport.self"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.teleport.self"));
             return CommandResult.empty();
         }
 
@@ -94,10 +94,10 @@ public class TeleportAskHereCommand extends AbstractCommand<Player> {
         // The question needs to be asked of the target
         TeleportHandler.TeleportPrep tp = new TeleportHandler.TeleportPrep(Instant.now().plus(30, ChronoUnit.SECONDS), src, cost, tb);
         this.tpHandler.addAskQuestion(target.getUniqueId(), tp);
-        target.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.tpahere.question", src.getName()));
+        target.sendMessage(Nucleus.getNucleus().getMessageProvider(target).getTextMessageWithFormat("command.tpahere.question", src.getName()));
         this.tpHandler.getAcceptDenyMessage(src, tp).ifPresent(target::sendMessage);
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.tpask.sent", target.getName()));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.tpask.sent", target.getName()));
         return CommandResult.success();
     }
 }
@@ -85,7 +85,7 @@ public class TeleportHereCommand extends AbstractCommand<Player> implements Relo
             mus.get(CoreUserDataModule.class).sendToLocationOnLogin(src.getLocation());
             mus.save();
 
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.tphere.offlinesuccess", target.getName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.tphere.offlinesuccess", target.getName()));
         }
 
         return CommandResult.success();
@@ -87,7 +87,7 @@ public class TeleportPositionCommand extends AbstractCommand<CommandSource> {
         double  zz = location.getZ();
         double  yy = location.getY();
         if (yy < 0) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.tppos.ysmall"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.tppos.ysmall"));
             return CommandResult.empty();
         }
 
@@ -96,7 +96,7 @@ public class TeleportPositionCommand extends AbstractCommand<CommandSource> {
             xx = xx * 16 + 8;
             yy = yy * 16 + 8;
             zz = zz * 16 + 8;
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.tppos.fromchunk",
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.tppos.fromchunk",
                     String.valueOf(xx), String.valueOf(yy), String.valueOf(zz)));
         }
 
@@ -114,9 +114,9 @@ public class TeleportPositionCommand extends AbstractCommand<CommandSource> {
         if (args.<Boolean>getOne("f").orElse(false)) {
             if (teleportHandler.teleportPlayer(pl, loc, pl.getRotation(),
                     NucleusTeleportHandler.StandardTeleportMode.NO_CHECK, cause, false, !args.hasAny("b")).isSuccess()) {
-                pl.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.tppos.success.self"));
+                pl.sendMessage(Nucleus.getNucleus().getMessageProvider(pl).getTextMessageWithFormat("command.tppos.success.self"));
                 if (!src.equals(pl)) {
-                    src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.tppos.success.other", pl.getName()));
+                    src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.tppos.success.other", pl.getName()));
                 }
 
                 return CommandResult.success();
@@ -141,9 +141,9 @@ public class TeleportPositionCommand extends AbstractCommand<CommandSource> {
                             args.<Double>getOne(this.yaw).orElse(rotation.getY()),
                             0d)
             );*/
-            pl.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.tppos.success.self"));
+            pl.sendMessage(Nucleus.getNucleus().getMessageProvider(pl).getTextMessageWithFormat("command.tppos.success.self"));
             if (!src.equals(pl)) {
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.tppos.success.other", pl.getName()));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.tppos.success.other", pl.getName()));
             }
 
             return CommandResult.success();
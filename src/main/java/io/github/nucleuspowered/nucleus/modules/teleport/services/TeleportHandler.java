@@ -77,7 +77,7 @@ public class TeleportHandler implements MessageProviderTrait, InternalServiceMan
         if (source instanceof Player && !TeleportHandler.canBypassTpToggle(source)) {
             UserPreferenceService ups = Nucleus.getNucleus().getInternalServiceManager().getServiceUnchecked(UserPreferenceService.class);
             if (!ups.get(to.getUniqueId(), TeleportUserPrefKeys.TELEPORT_TARGETABLE).orElse(true)) {
-                source.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("teleport.fail.targettoggle", to.getName()));
+                source.sendMessage(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("teleport.fail.targettoggle", to.getName()));
                 return false;
             }
         }
@@ -85,7 +85,7 @@ public class TeleportHandler implements MessageProviderTrait, InternalServiceMan
         if (isOnlySameDimension && source instanceof Player) {
             if (!to.getWorldUniqueId().orElse(UUID.randomUUID()).equals(((Player) source).getWorldUniqueId().orElse(UUID.randomUUID()))) {
                 if (!permissions.testSuffix(source, "exempt.samedimension", source, true)) {
-                    source.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("teleport.fail.samedimension", to.getName()));
+                    source.sendMessage(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("teleport.fail.samedimension", to.getName()));
                     return false;
                 }
             }
@@ -78,7 +78,7 @@ public class VanishCommand extends AbstractCommand<CommandSource> {
             getServiceUnchecked(VanishService.class).unvanishPlayer(ou);
         }
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.vanish.successuser",
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.vanish.successuser",
             ou.getName(),
             uss.isVanished() ? Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("command.vanish.vanished") :
                     Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("command.vanish.visible")));
@@ -99,12 +99,12 @@ public class VanishCommand extends AbstractCommand<CommandSource> {
             getServiceUnchecked(VanishService.class).unvanishPlayer(playerToVanish);
         }
 
-        playerToVanish.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.vanish.success",
+        playerToVanish.sendMessage(Nucleus.getNucleus().getMessageProvider(playerToVanish).getTextMessageWithFormat("command.vanish.success",
             toVanish ? Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("command.vanish.vanished") :
                     Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("command.vanish.visible")));
 
         if (!(src instanceof Player) || !(((Player) src).getUniqueId().equals(playerToVanish.getUniqueId()))) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.vanish.successplayer",
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.vanish.successplayer",
                 TextSerializers.FORMATTING_CODE.serialize(Nucleus.getNucleus().getNameUtil().getName(playerToVanish)),
                 toVanish ? Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("command.vanish.vanished") :
                         Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("command.vanish.visible")));
@@ -7,11 +7,23 @@ package io.github.nucleuspowered.nucleus.modules.vanish.datamodules;
 import io.github.nucleuspowered.nucleus.dataservices.modular.DataKey;
 import io.github.nucleuspowered.nucleus.dataservices.modular.DataModule;
 import io.github.nucleuspowered.nucleus.dataservices.modular.ModularUserService;
+import io.github.nucleuspowered.nucleus.dataservices.modular.PlayerStatus;
+import ninja.leaping.configurate.ConfigurationNode;
 
-public class VanishUserDataModule extends DataModule<ModularUserService> {
+public class VanishUserDataModule extends DataModule.ReferenceService<ModularUserService> {
 
     @DataKey("vanish")
-    private boolean vanish = false;
+    boolean vanish = false;
+
+    public VanishUserDataModule(ModularUserService modularDataService) {
+        super(modularDataService);
+    }
+
+    @Override
+    protected void loadFrom(ConfigurationNode node) {
+        super.loadFrom(node);
+        getService().getStatus().set(PlayerStatus.VANISHED, this.vanish);
+    }
 
     public boolean isVanished() {
         return this.vanish;
@@ -19,5 +31,7 @@ public class VanishUserDataModule extends DataModule<ModularUserService> {
 
     public void setVanished(boolean vanished) {
         this.vanish = vanished;
+        getService().getStatus().set(PlayerStatus.VANISHED, vanished);
+        markDirty();
     }
 }
@@ -5,6 +5,7 @@
 package io.github.nucleuspowered.nucleus.modules.vanish.services;
 
 import io.github.nucleuspowered.nucleus.Nucleus;
+import io.github.nucleuspowered.nucleus.dataservices.modular.PlayerStatus;
 import io.github.nucleuspowered.nucleus.internal.interfaces.Reloadable;
 import io.github.nucleuspowered.nucleus.internal.interfaces.ServiceBase;
 import io.github.nucleuspowered.nucleus.internal.traits.PermissionTrait;
@@ -38,6 +39,11 @@ public class VanishService implements Reloadable, PermissionTrait, ServiceBase {
     }
 
     public boolean isVanished(User player) {
+        PlayerStatus status = Nucleus.getNucleus().getUserDataManager().getOnlineStatus(player.getUniqueId());
+        if (status != null && status.isKnown(PlayerStatus.VANISHED)) {
+            return status.is(PlayerStatus.VANISHED);
+        }
+
         return Nucleus.getNucleus().getUserDataManager().getUnchecked(player).get(VanishUserDataModule.class).isVanished();
     }
 
@@ -48,7 +48,7 @@ public class ClearWarningsCommand extends AbstractCommand<CommandSource> {
 
         List<WarnData> warnings = this.handler.getWarningsInternal(user);
         if (warnings.isEmpty()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.checkwarnings.none", user.getName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.checkwarnings.none", user.getName()));
             return CommandResult.success();
         }
 
@@ -76,7 +76,7 @@ public class ClearWarningsCommand extends AbstractCommand<CommandSource> {
             return CommandResult.success();
         }
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.clearwarnings.failure", user.getName()));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.clearwarnings.failure", user.getName()));
         return CommandResult.empty();
     }
 }
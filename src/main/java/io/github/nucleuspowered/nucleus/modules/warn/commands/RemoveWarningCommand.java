@@ -54,16 +54,16 @@ public class RemoveWarningCommand extends AbstractCommand<CommandSource> {
 
         List<WarnData> warnings = this.handler.getWarningsInternal(user);
         if (warnings.isEmpty()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.checkwarnings.none", user.getName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.checkwarnings.none", user.getName()));
             return CommandResult.success();
         }
 
         if (this.handler.removeWarning(user, result.warnData, removePermanently, CauseStackHelper.createCause(src))) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.removewarning.success", user.getName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.removewarning.success", user.getName()));
             return CommandResult.success();
         }
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.removewarning.failure", user.getName()));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.removewarning.failure", user.getName()));
         return CommandResult.empty();
     }
 }
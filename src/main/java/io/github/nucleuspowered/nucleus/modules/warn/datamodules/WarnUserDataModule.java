@@ -17,14 +17,33 @@ import java.util.List;
 public class WarnUserDataModule extends DataModule<ModularUserService> {
 
     @DataKey("warnings")
-    private List<WarnData> warnings = Lists.newArrayList();
+    List<WarnData> warnings = Lists.newArrayList();
 
     public List<WarnData> getWarnings() {
         return ImmutableList.copyOf(this.warnings);
     }
 
+    /**
+     * Starts the timers of any warnings that were waiting for the player to
+     * log in.
+     */
+    public void convertNextLoginToTimestamps() {
+        boolean changed = false;
+        for (WarnData warning : this.warnings) {
+            if (warning.getTimeFromNextLogin().isPresent()) {
+                warning.nextLoginToTimestamp();
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            markDirty();
+        }
+    }
+
     public void setWarnings(List<WarnData> warnings) {
         this.warnings = warnings;
+        markDirty();
     }
 
     public void addWarning(WarnData warning) {
@@ -34,15 +53,22 @@ public class WarnUserDataModule extends DataModule<ModularUserService> {
 
         this.warnings.add(warning);
         this.warnings.sort((x, y) -> Boolean.compare(x.isExpired(), y.isExpired()));
+        markDirty();
     }
 
     public boolean removeWarning(Warning warning) {
-        return this.warnings.removeIf(x -> x.equals(warning));
+        if (this.warnings.removeIf(x -> x.equals(warning))) {
+            markDirty();
+            return true;
+        }
+
+        return false;
     }
 
     public boolean clearWarnings() {
         if (!this.warnings.isEmpty()) {
             this.warnings.clear();
+            markDirty();
             return true;
         } else {
             return false;
@@ -45,17 +45,16 @@ public class WarnListener implements Reloadable, ListenerBase {
     public void onPlayerLogin(final ClientConnectionEvent.Join event) {
         Sponge.getScheduler().createTaskBuilder().async().delay(500, TimeUnit.MILLISECONDS).execute(() -> {
             Player player = event.getTargetEntity();
+            this.handler.convertNextLoginToTimestamps(player);
             List<WarnData> warnings = this.handler.getWarningsInternal(player, true, false);
             if (warnings != null && !warnings.isEmpty()) {
                 for (WarnData warning : warnings) {
-                    warning.nextLoginToTimestamp();
-
                     if (warning.getEndTimestamp().isPresent() && warning.getEndTimestamp().get().isBefore(Instant.now())) {
                         this.handler.removeWarning(player, warning);
                     } else {
                         if (this.isShowOnLogin) {
                             if (warning.getEndTimestamp().isPresent()) {
-                                player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("warn.playernotify.time", warning.getReason(),
+                                player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("warn.playernotify.time", warning.getReason(),
                                         Util.getTimeStringFromSeconds(Instant.now().until(warning.getEndTimestamp().get(), ChronoUnit.SECONDS))));
                             } else {
                                 player.sendMessage(
@@ -151,15 +151,18 @@ public class WarnHandler implements NucleusWarningService, Reloadable, ServiceBa
         return false;
     }
 
+    public void convertNextLoginToTimestamps(User user) {
+        this.userDataManager.get(user).ifPresent(x -> x.get(WarnUserDataModule.class).convertNextLoginToTimestamps());
+    }
+
     public boolean updateWarnings(User user) {
         Optional<ModularUserService> userService = this.userDataManager.get(user);
         if (!userService.isPresent()) {
             return false;
         }
 
+        userService.get().get(WarnUserDataModule.class).convertNextLoginToTimestamps();
         for (WarnData warning : getWarningsInternal(user)) {
-            warning.nextLoginToTimestamp();
-
             if (warning.getEndTimestamp().isPresent() && warning.getEndTimestamp().get().isBefore(Instant.now())) {
                 removeWarning(user, warning);
             }
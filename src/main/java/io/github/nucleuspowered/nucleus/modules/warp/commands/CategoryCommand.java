@@ -94,7 +94,7 @@ public class CategoryCommand extends AbstractCommand<CommandSource> {
             WarpCategory category = args.<WarpCategory>getOne(key).get();
             String displayName = args.<String>getOne(displayname).get();
             this.handler.setWarpCategoryDisplayName(category.getId(), TextSerializers.FORMATTING_CODE.deserialize(args.<String>getOne(displayname).get()));
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warp.category.displayname.set", category.getId(),
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.warp.category.displayname.set", category.getId(),
                     displayName));
             return CommandResult.success();
         }
@@ -117,7 +117,7 @@ public class CategoryCommand extends AbstractCommand<CommandSource> {
         @Override protected CommandResult executeCommand(CommandSource src, CommandContext args, Cause cause) {
             WarpCategory category = args.<WarpCategory>getOne(key).get();
             this.handler.setWarpCategoryDisplayName(category.getId(), null);
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warp.category.displayname.removed", category.getId()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.warp.category.displayname.removed", category.getId()));
             return CommandResult.success();
         }
     }
@@ -141,7 +141,7 @@ public class CategoryCommand extends AbstractCommand<CommandSource> {
             WarpCategory category = args.<WarpCategory>getOne(key).get();
             String d = args.<String>getOne(description).get();
             this.handler.setWarpCategoryDescription(category.getId(), TextSerializers.FORMATTING_CODE.deserialize(d));
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warp.category.description.set", category.getId(), d));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.warp.category.description.set", category.getId(), d));
             return CommandResult.success();
         }
     }
@@ -163,7 +163,7 @@ public class CategoryCommand extends AbstractCommand<CommandSource> {
         @Override protected CommandResult executeCommand(CommandSource src, CommandContext args, Cause cause) {
             WarpCategory category = args.<WarpCategory>getOne(key).get();
             this.handler.setWarpCategoryDescription(category.getId(), null);
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warp.category.description.removed", category.getId()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.warp.category.description.removed", category.getId()));
             return CommandResult.success();
         }
     }
@@ -57,12 +57,12 @@ public class DeleteWarpCommand extends AbstractCommand<CommandSource> {
 
         if (qs.removeWarp(warp.getName())) {
             // Worked. Tell them.
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warps.del", warp.getName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.warps.del", warp.getName()));
             return CommandResult.success();
         }
 
         // Didn't work. Tell them.
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warps.delerror"));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.warps.delerror"));
         return CommandResult.empty();
     }
 
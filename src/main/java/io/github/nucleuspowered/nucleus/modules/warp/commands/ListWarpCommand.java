@@ -68,7 +68,7 @@ public class ListWarpCommand extends AbstractCommand<CommandSource> implements R
     @Override
     public CommandResult executeCommand(final CommandSource src, CommandContext args, Cause cause) {
         if (this.service.getWarpNames().isEmpty()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warps.list.nowarps"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.warps.list.nowarps"));
             return CommandResult.empty();
         }
 
@@ -104,7 +104,7 @@ public class ListWarpCommand extends AbstractCommand<CommandSource> implements R
                 .onClick(TextActions.executeCallback(source -> createSub(source, null, warps))).build());
         }
 
-        MessageProvider messageProvider = Nucleus.getNucleus().getMessageProvider();
+        MessageProvider messageProvider = Nucleus.getNucleus().getMessageProvider(src);
         Util.getPaginationBuilder(src)
             .header(messageProvider.getTextMessageWithFormat("command.warps.list.headercategory"))
             .title(messageProvider.getTextMessageWithFormat("command.warps.list.maincategory")).padding(Text.of(TextColors.GREEN, "-"))
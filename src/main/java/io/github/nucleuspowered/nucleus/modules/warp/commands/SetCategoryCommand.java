@@ -62,7 +62,7 @@ public class SetCategoryCommand extends AbstractCommand<CommandSource> {
         if (args.hasAny("r")) {
             // Remove the category.
             if (this.handler.setWarpCategory(warpName, null)) {
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warp.category.removed", warpName));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.warp.category.removed", warpName));
                 return CommandResult.success();
             }
 
@@ -86,7 +86,7 @@ public class SetCategoryCommand extends AbstractCommand<CommandSource> {
 
         // Add the category.
         if (this.handler.setWarpCategory(warpName, category.getFirst())) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warp.category.added", category.getFirst(), warpName));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.warp.category.added", category.getFirst(), warpName));
             return CommandResult.success();
         }
 
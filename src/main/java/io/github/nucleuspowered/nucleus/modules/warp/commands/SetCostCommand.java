@@ -49,19 +49,19 @@ public class SetCostCommand extends AbstractCommand<CommandSource> implements Re
         Warp warpData = args.<Warp>getOne(WarpParameters.WARP_KEY).get();
         double cost = args.<Double>getOne(this.costKey).get();
         if (cost < -1) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warp.costset.arg"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.warp.costset.arg"));
             return CommandResult.empty();
         }
 
         if (cost == -1 && this.warpHandler.setWarpCost(warpData.getName(), -1)) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warp.costset.reset", warpData.getName(), String.valueOf(this.defaultCost)));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.warp.costset.reset", warpData.getName(), String.valueOf(this.defaultCost)));
             return CommandResult.success();
         } else if (this.warpHandler.setWarpCost(warpData.getName(), cost)) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warp.costset.success", warpData.getName(), String.valueOf(cost)));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.warp.costset.success", warpData.getName(), String.valueOf(cost)));
             return CommandResult.success();
         }
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warp.costset.failed", warpData.getName()));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.warp.costset.failed", warpData.getName()));
         return CommandResult.empty();
     }
 
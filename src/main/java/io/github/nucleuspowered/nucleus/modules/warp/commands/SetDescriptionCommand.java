@@ -50,7 +50,7 @@ public class SetDescriptionCommand extends AbstractCommand<CommandSource> {
         if (args.hasAny("r")) {
             // Remove the desc.
             if (this.handler.setWarpDescription(warpName, null)) {
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warp.description.removed", warpName));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.warp.description.removed", warpName));
                 return CommandResult.success();
             }
 
@@ -52,14 +52,14 @@ public class SetWarpCommand extends AbstractCommand<Player> {
 
         // Needs to match the name...
         if (!this.warpRegex.matcher(warp).matches()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warps.invalidname"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.warps.invalidname"));
             return CommandResult.empty();
         }
 
         // Get the service, does the warp exist?
         if (this.qs.getWarp(warp).isPresent()) {
             // You have to delete to set the same name
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warps.nooverwrite"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.warps.nooverwrite"));
             return CommandResult.empty();
         }
 
@@ -73,7 +73,7 @@ public class SetWarpCommand extends AbstractCommand<Player> {
         // OK! Set it.
         if (this.qs.setWarp(warp, src.getLocation(), src.getRotation())) {
             // Worked. Tell them.
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warps.set", warp));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.warps.set", warp));
             return CommandResult.success();
         }
 
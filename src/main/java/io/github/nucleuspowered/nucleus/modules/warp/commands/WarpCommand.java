@@ -130,14 +130,14 @@ public class WarpCommand extends AbstractCommand<CommandSource> implements Reloa
         String costWithUnit = Nucleus.getNucleus().getEconHelper().getCurrencySymbol(cost);
         if (Nucleus.getNucleus().getEconHelper().hasBalance((Player)source, cost)) {
             String command = String.format("/warp -y %s", wd.getName());
-            source.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warp.cost.details", wd.getName(), costWithUnit));
+            source.sendMessage(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.warp.cost.details", wd.getName(), costWithUnit));
             source.sendMessage(
                     Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warp.cost.clickaccept").toBuilder()
                     .onClick(TextActions.runCommand(command)).onHover(TextActions.showText(
                             Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warp.cost.clickhover", command)))
                     .append(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warp.cost.alt")).build());
         } else {
-            source.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warp.cost.nomoney", wd.getName(), costWithUnit));
+            source.sendMessage(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.warp.cost.nomoney", wd.getName(), costWithUnit));
         }
 
         return ContinueMode.STOP;
@@ -174,7 +174,7 @@ public class WarpCommand extends AbstractCommand<CommandSource> implements Reloa
             if (Nucleus.getNucleus().getEconHelper().withdrawFromPlayer(player, cost, false)) {
                 charge = true; // only true for a warp by the current subject.
             } else {
-                source.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warp.cost.nomoney", wd.getName(),
+                source.sendMessage(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.warp.cost.nomoney", wd.getName(),
                         Nucleus.getNucleus().getEconHelper().getCurrencySymbol(cost)));
                 return CommandResult.empty();
             }
@@ -182,10 +182,10 @@ public class WarpCommand extends AbstractCommand<CommandSource> implements Reloa
 
         // We have a warp data, warp them.
         if (isOther) {
-            source.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warps.namedstart",
+            source.sendMessage(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.warps.namedstart",
                     Nucleus.getNucleus().getNameUtil().getSerialisedName(player), wd.getName()));
         } else {
-            source.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warps.start", wd.getName()));
+            source.sendMessage(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.warps.start", wd.getName()));
         }
 
         // Warp them.
@@ -203,9 +203,9 @@ public class WarpCommand extends AbstractCommand<CommandSource> implements Reloa
         }
 
         if (isOther) {
-            player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warps.warped", wd.getName()));
+            player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.warps.warped", wd.getName()));
         } else if (charge) {
-            source.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.warp.cost.charged",
+            source.sendMessage(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.warp.cost.charged",
                     Nucleus.getNucleus().getEconHelper().getCurrencySymbol(cost)));
         }
 
@@ -7,7 +7,6 @@ package io.github.nucleuspowered.nucleus.modules.warp.datamodules;
 import com.flowpowered.math.vector.Vector3d;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
-import io.github.nucleuspowered.nucleus.Util;
 import io.github.nucleuspowered.nucleus.api.nucleusdata.Warp;
 import io.github.nucleuspowered.nucleus.api.nucleusdata.WarpCategory;
 import io.github.nucleuspowered.nucleus.configurate.datatypes.WarpCategoryDataNode;
@@ -16,18 +15,20 @@ import io.github.nucleuspowered.nucleus.dataservices.modular.DataKey;
 import io.github.nucleuspowered.nucleus.dataservices.modular.LocationDataModule;
 import io.github.nucleuspowered.nucleus.dataservices.modular.ModularGeneralService;
 import io.github.nucleuspowered.nucleus.internal.LocationData;
+import ninja.leaping.configurate.ConfigurationNode;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.serializer.TextSerializers;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -37,45 +38,64 @@ public class WarpGeneralDataModule extends LocationDataModule<ModularGeneralServ
             new WarpData(s, l.getWorld(), l.getPosition(), l.getRotation(), l.getCost(), l.getCategory().orElse(null), l.getDescription());
 
     @DataKey("warps")
-    private Map<String, WarpNode> warps = Maps.newHashMap();
+    Map<String, WarpNode> warps = Maps.newHashMap();
 
     @DataKey("warpCategories")
-    private Map<String, WarpCategoryDataNode> warpCategories = Maps.newHashMap();
+    Map<String, WarpCategoryDataNode> warpCategories = Maps.newHashMap();
+
+    private final WarpIndex index = new WarpIndex();
+
+    @Override
+    protected void loadFrom(ConfigurationNode node) {
+        super.loadFrom(node);
+        this.index.rebuild(this.warps, this.getWarpLocation);
+    }
 
     public Optional<Warp> getWarpLocation(String name) {
-        return get(this.warps, this.getWarpLocation, name);
+        return this.index.get(name);
     }
 
     public Map<String, Warp> getWarps() {
-        return convert(this.warps, this.getWarpLocation);
+        return this.index.getAll();
+    }
+
+    public List<Warp> getWarpsInCategory(@Nullable String category) {
+        return this.index.getInCategory(category);
+    }
+
+    /**
+     * Gets the warps, grouped by category. Uncategorised warps are under the
+     * {@code null} key.
+     *
+     * @return The warps.
+     */
+    public Map<String, Collection<Warp>> getWarpsByCategory() {
+        return this.index.getGroupedByCategory();
+    }
+
+    public List<String> getWarpNamesStartingWith(String prefix, int limit) {
+        return this.index.getNamesStartingWith(prefix, limit);
     }
 
     public boolean addWarp(String name, Location<World> loc, Vector3d rot) {
-        if (Util.getKeyIgnoreCase(this.warps, name).isPresent()) {
+        if (this.index.get(name).isPresent()) {
             return false;
         }
 
-        this.warps.put(name, new WarpNode(loc, rot));
+        WarpNode node = new WarpNode(loc, rot);
+        this.warps.put(name, node);
+        this.index.put(this.getWarpLocation.apply(name, node));
+        markDirty();
         return true;
     }
 
     public boolean setWarpCost(String name, double cost) {
         Preconditions.checkArgument(cost >= -1);
-        Optional<WarpNode> os = Util.getValueIgnoreCase(this.warps, name);
-        if (os.isPresent()) {
-            // No need to put it back - it's saved automatically.
-            os.get().setCost(cost);
-            return true;
-        }
-
-        return false;
+        return updateWarp(name, node -> node.setCost(cost));
     }
 
     public boolean setWarpsWarpCategory(String name, String category) {
-        Optional<WarpNode> os = Util.getValueIgnoreCase(this.warps, name);
-        if (os.isPresent()) {
-            // No need to put it back - it's saved automatically.
-            os.get().setCategory(category);
+        if (updateWarp(name, node -> node.setCategory(category))) {
             if (category != null) {
                 this.warpCategories.putIfAbsent(category.toLowerCase(), new WarpCategoryDataNode());
             }
@@ -87,20 +107,14 @@ public class WarpGeneralDataModule extends LocationDataModule<ModularGeneralServ
     }
 
     public boolean setWarpDescription(String name, @Nullable Text description) {
-        Optional<WarpNode> os = Util.getValueIgnoreCase(this.warps, name);
-        if (os.isPresent()) {
-            // No need to put it back - it's saved automatically.
-            os.get().setDescription(description);
-            return true;
-        }
-
-        return false;
+        return updateWarp(name, node -> node.setDescription(description));
     }
 
     public boolean removeWarp(String name) {
-        Optional<String> os = Util.getKeyIgnoreCase(this.warps, name);
+        Optional<Warp> os = this.index.remove(name);
         if (os.isPresent()) {
-            this.warps.remove(os.get());
+            this.warps.remove(os.get().getName());
+            markDirty();
             return true;
         }
 
@@ -112,13 +126,12 @@ public class WarpGeneralDataModule extends LocationDataModule<ModularGeneralServ
                 category,
                 Text.of(category),
                 null,
-                () -> getWarps().values().stream().filter(x -> x.getCategory().map(y -> y.equals(category)).orElse(false))
-                        .collect(Collectors.toList())));
+                () -> this.index.getInCategory(category)));
     }
 
     public Optional<WarpCategory> getWarpCategory(String category) {
         Preconditions.checkArgument(category != null && !category.isEmpty());
-        if (this.warps.values().stream().noneMatch(x -> x.getCategory().orElse("").equalsIgnoreCase(category))) {
+        if (!this.index.containsCategory(category)) {
             return Optional.empty();
         }
 
@@ -132,7 +145,7 @@ public class WarpGeneralDataModule extends LocationDataModule<ModularGeneralServ
             category,
             w.getDisplayName().map(TextSerializers.JSON::deserialize).orElse(Text.of(category)),
             w.getDescription().map(TextSerializers.JSON::deserialize).orElse(null),
-            () -> getWarps().values().stream().filter(x -> x.getCategory().map(y -> y.equals(category)).orElse(false)).collect(Collectors.toList())
+            () -> this.index.getInCategory(category)
         ));
     }
 
@@ -142,6 +155,24 @@ public class WarpGeneralDataModule extends LocationDataModule<ModularGeneralServ
                 TextSerializers.JSON.serialize(displayName != null ? displayName : Text.of(category)),
                 description != null ? TextSerializers.JSON.serialize(description) : null
             ));
+        markDirty();
+    }
+
+    private boolean updateWarp(String name, Consumer<WarpNode> update) {
+        Optional<Warp> os = this.index.get(name);
+        if (os.isPresent()) {
+            String key = os.get().getName();
+            WarpNode node = this.warps.get(key);
+            if (node != null) {
+                // No need to put it back - it's saved automatically. The view is immutable, so that needs replacing.
+                update.accept(node);
+                this.index.put(this.getWarpLocation.apply(key, node));
+                markDirty();
+                return true;
+            }
+        }
+
+        return false;
     }
 
     private static class WarpData extends LocationData implements Warp {
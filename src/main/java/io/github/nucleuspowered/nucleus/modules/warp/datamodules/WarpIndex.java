@@ -0,0 +1,187 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.warp.datamodules;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.github.nucleuspowered.nucleus.api.nucleusdata.Warp;
+import io.github.nucleuspowered.nucleus.util.PrefixTrie;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Indexes the {@link Warp} views for a {@link WarpGeneralDataModule}, so that
+ * lookups by name and category do not need to convert and scan every warp.
+ *
+ * <p>All names and categories are indexed in lower case. The views are
+ * immutable, and are only replaced when the warp they represent changes.</p>
+ */
+@ThreadSafe
+final class WarpIndex {
+
+    // lower case name -> view, the view holds the name as it was stored
+    private final Map<String, Warp> byName = new HashMap<>();
+
+    // lower case category -> lower case name -> view
+    private final Map<String, Map<String, Warp>> byCategory = new HashMap<>();
+    private final Map<String, Warp> uncategorised = new HashMap<>();
+    private final PrefixTrie<String> names = new PrefixTrie<>();
+
+    // Cached views, cleared on mutation.
+    @Nullable private ImmutableMap<String, Warp> allView = null;
+    private final Map<String, ImmutableList<Warp>> categoryViews = new HashMap<>();
+    @Nullable private ImmutableList<Warp> uncategorisedView = null;
+
+    synchronized <S> void rebuild(Map<String, S> nodes, BiFunction<String, S, Warp> convert) {
+        this.byName.clear();
+        this.byCategory.clear();
+        this.uncategorised.clear();
+        this.names.clear();
+        clearViews();
+        nodes.forEach((name, node) -> {
+            Warp warp = convert.apply(name, node);
+            if (warp != null) {
+                add(warp);
+            }
+        });
+    }
+
+    synchronized void put(Warp warp) {
+        removeInternal(warp.getName());
+        add(warp);
+        clearViews();
+    }
+
+    /**
+     * Removes the warp with the given name, case insensitively.
+     *
+     * @param name The name of the warp.
+     * @return The removed warp, if any.
+     */
+    synchronized Optional<Warp> remove(String name) {
+        Optional<Warp> removed = removeInternal(name);
+        if (removed.isPresent()) {
+            clearViews();
+        }
+
+        return removed;
+    }
+
+    synchronized Optional<Warp> get(String name) {
+        return Optional.ofNullable(this.byName.get(name.toLowerCase()));
+    }
+
+    synchronized boolean containsCategory(String category) {
+        return this.byCategory.containsKey(category.toLowerCase());
+    }
+
+    synchronized ImmutableMap<String, Warp> getAll() {
+        if (this.allView == null) {
+            ImmutableMap.Builder<String, Warp> builder = ImmutableMap.builder();
+            this.byName.values().forEach(x -> builder.put(x.getName(), x));
+            this.allView = builder.build();
+        }
+
+        return this.allView;
+    }
+
+    /**
+     * Gets the warps in the given category, or the warps without a category
+     * if the category is {@code null}.
+     *
+     * @param category The category.
+     * @return The warps.
+     */
+    synchronized ImmutableList<Warp> getInCategory(@Nullable String category) {
+        if (category == null) {
+            if (this.uncategorisedView == null) {
+                this.uncategorisedView = ImmutableList.copyOf(this.uncategorised.values());
+            }
+
+            return this.uncategorisedView;
+        }
+
+        return this.categoryViews.computeIfAbsent(category.toLowerCase(), c -> {
+            Map<String, Warp> warps = this.byCategory.get(c);
+            return warps == null ? ImmutableList.of() : ImmutableList.copyOf(warps.values());
+        });
+    }
+
+    /**
+     * Gets the warps, grouped by the category names as they are set on the
+     * warps. Uncategorised warps are under the {@code null} key.
+     *
+     * @return The grouped warps.
+     */
+    synchronized Map<String, Collection<Warp>> getGroupedByCategory() {
+        Map<String, Collection<Warp>> result = new LinkedHashMap<>();
+        this.byCategory.forEach((key, warps) -> {
+            Collection<Warp> values = getInCategory(key);
+            values.stream().findFirst().flatMap(Warp::getCategory).ifPresent(x -> result.put(x, values));
+        });
+
+        if (!this.uncategorised.isEmpty()) {
+            result.put(null, getInCategory(null));
+        }
+
+        return result;
+    }
+
+    synchronized List<String> getNamesStartingWith(String prefix, int limit) {
+        return this.names.getWithPrefix(prefix, limit);
+    }
+
+    private void add(Warp warp) {
+        String key = warp.getName().toLowerCase();
+        this.byName.put(key, warp);
+        this.names.put(key, warp.getName());
+        Optional<String> category = warp.getCategory();
+        if (category.isPresent()) {
+            this.byCategory.computeIfAbsent(category.get().toLowerCase(), c -> new HashMap<>()).put(key, warp);
+        } else {
+            this.uncategorised.put(key, warp);
+        }
+    }
+
+    private Optional<Warp> removeInternal(String name) {
+        String key = name.toLowerCase();
+        Warp warp = this.byName.remove(key);
+        if (warp == null) {
+            return Optional.empty();
+        }
+
+        this.names.remove(key);
+        Optional<String> category = warp.getCategory();
+        if (category.isPresent()) {
+            String c = category.get().toLowerCase();
+            Map<String, Warp> warps = this.byCategory.get(c);
+            if (warps != null) {
+                warps.remove(key);
+                if (warps.isEmpty()) {
+                    this.byCategory.remove(c);
+                }
+            }
+        } else {
+            this.uncategorised.remove(key);
+        }
+
+        return Optional.of(warp);
+    }
+
+    private void clearViews() {
+        this.allView = null;
+        this.categoryViews.clear();
+        this.uncategorisedView = null;
+    }
+}
@@ -19,6 +19,7 @@ import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -57,27 +58,27 @@ public class WarpHandler implements NucleusWarpService, ServiceBase {
 
     @Override
     public List<Warp> getUncategorisedWarps() {
-        return getWarpsForCategory(x -> !x.getCategory().isPresent());
+        return new ArrayList<>(getModule().getWarpsInCategory(null));
     }
 
     @Override
     public List<Warp> getWarpsForCategory(String category) {
-        return getWarpsForCategory(x -> x.getCategory().isPresent() && x.getCategory().get().equalsIgnoreCase(category));
+        return new ArrayList<>(getModule().getWarpsInCategory(category));
     }
 
     @Override
     public Map<WarpCategory, List<Warp>> getWarpsWithCategories(Predicate<Warp> warpDataPredicate) {
         Preconditions.checkNotNull(warpDataPredicate);
-        Map<String, List<Warp>> map = getModule().getWarps().values().stream()
-            .filter(warpDataPredicate)
-            .collect(Collectors.groupingBy(x -> x.getCategory().orElse("")));
-        if (map.containsKey("")) {
-            map.put(null, map.get(""));
-            map.remove("");
-        }
+        WarpGeneralDataModule module = getModule();
+        Map<WarpCategory, List<Warp>> map = new HashMap<>();
+        module.getWarpsByCategory().forEach((category, warps) -> {
+            List<Warp> filtered = warps.stream().filter(warpDataPredicate).collect(Collectors.toList());
+            if (!filtered.isEmpty()) {
+                map.put(category == null ? null : module.getWarpCategoryOrDefault(category), filtered);
+            }
+        });
 
-        return map.entrySet().stream().collect(Collectors.toMap(x -> x.getKey() == null ? null :
-                        getModule().getWarpCategoryOrDefault(x.getKey()), Map.Entry::getValue));
+        return map;
     }
 
 
@@ -106,6 +107,11 @@ public class WarpHandler implements NucleusWarpService, ServiceBase {
         return getModule().getWarps().keySet();
     }
 
+    @Override
+    public List<String> getWarpNamesStartingWith(String prefix, int limit) {
+        return getModule().getWarpNamesStartingWith(prefix, limit);
+    }
+
     public WarpCategory getWarpCategoryOrDefault(String category) {
         return getModule().getWarpCategoryOrDefault(category);
     }
@@ -133,8 +139,4 @@ public class WarpHandler implements NucleusWarpService, ServiceBase {
         getModule().updateOrSetWarpCategory(category, cat.get().getDisplayName(), description);
         return true;
     }
-
-    private List<Warp> getWarpsForCategory(Predicate<Warp> filter) {
-        return getModule().getWarps().values().stream().filter(filter).collect(Collectors.toList());
-    }
 }
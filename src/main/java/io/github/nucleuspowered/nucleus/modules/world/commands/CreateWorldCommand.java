@@ -171,14 +171,14 @@ public class CreateWorldCommand extends AbstractCommand<CommandSource> implement
 
         WorldArchetype wa = worldSettingsBuilder.build(nameInput.toLowerCase(), nameInput);
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.create.begin", nameInput));
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.create.newparams",
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.world.create.begin", nameInput));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.world.create.newparams",
                 wa.getDimensionType().getName(),
                 wa.getGeneratorType().getName(),
                 modifierString(modifiers),
                 wa.getGameMode().getName(),
                 wa.getDifficulty().getName()));
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.create.newparams2",
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.world.create.newparams2",
                 String.valueOf(loadOnStartup),
                 String.valueOf(keepSpawnLoaded),
                 String.valueOf(genStructures),
@@ -201,7 +201,7 @@ public class CreateWorldCommand extends AbstractCommand<CommandSource> implement
 
         if (world.isPresent()) {
             world.get().getProperties().setDifficulty(wa.getDifficulty());
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.create.success", nameInput));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.world.create.success", nameInput));
             return CommandResult.success();
         } else {
             throw ReturnMessageException.fromKey("command.world.create.worldfailedtoload", nameInput);
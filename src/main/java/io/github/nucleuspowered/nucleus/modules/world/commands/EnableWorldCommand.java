@@ -42,7 +42,7 @@ public class EnableWorldCommand extends AbstractCommand<CommandSource> {
         }
 
         worldProperties.setEnabled(true);
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.enable.success", worldProperties.getWorldName()));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.world.enable.success", worldProperties.getWorldName()));
         return CommandResult.success();
     }
 }
@@ -62,10 +62,10 @@ public class LoadWorldCommand extends AbstractCommand<CommandSource> {
         }
 
         worldProperties.setEnabled(true);
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.load.start", worldProperties.getWorldName()));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.world.load.start", worldProperties.getWorldName()));
         Optional<World> optional = Sponge.getServer().loadWorld(worldProperties);
         if (optional.isPresent()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.load.loaded", worldProperties.getWorldName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.world.load.loaded", worldProperties.getWorldName()));
             return CommandResult.success();
         }
 
@@ -56,7 +56,7 @@ public class PropertiesWorldCommands {
             WorldProperties worldProperties = getWorldPropertiesOrDefault(src, NucleusParameters.Keys.WORLD, args);
             boolean set = args.<Boolean>getOne(NucleusParameters.Keys.BOOL).get();
             this.setter.accept(worldProperties, set);
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.setproperty.success", this.name, worldProperties.getWorldName(), String.valueOf(set)));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.world.setproperty.success", this.name, worldProperties.getWorldName(), String.valueOf(set)));
 
             if (this.extraLogic != null) {
                 this.extraLogic.accept(src, worldProperties, set);
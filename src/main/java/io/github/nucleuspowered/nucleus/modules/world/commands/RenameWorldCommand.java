@@ -44,7 +44,7 @@ public class RenameWorldCommand extends AbstractCommand<CommandSource> {
         String oldName = worldProperties.getWorldName();
         String newName =  args.<String>getOne(this.newNameKey).get();
         if (Sponge.getServer().renameWorld(worldProperties, newName).isPresent()) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.rename.success", oldName, newName));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.world.rename.success", oldName, newName));
             return CommandResult.success();
         }
 
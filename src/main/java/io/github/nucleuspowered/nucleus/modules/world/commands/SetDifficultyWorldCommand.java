@@ -47,7 +47,7 @@ public class SetDifficultyWorldCommand extends AbstractCommand<CommandSource> {
         WorldProperties worldProperties = getWorldFromUserOrArgs(src, NucleusParameters.Keys.WORLD, args);
 
         worldProperties.setDifficulty(difficultyInput);
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.setdifficulty.success",
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.world.setdifficulty.success",
                 worldProperties.getWorldName(),
                 Util.getTranslatableIfPresent(difficultyInput)));
 
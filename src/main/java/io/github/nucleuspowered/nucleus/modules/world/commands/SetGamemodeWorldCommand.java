@@ -46,7 +46,7 @@ public class SetGamemodeWorldCommand extends AbstractCommand<CommandSource> {
         WorldProperties worldProperties = getWorldFromUserOrArgs(src, NucleusParameters.Keys.WORLD, args);
 
         worldProperties.setGameMode(gamemodeInput);
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.setgamemode.success",
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.world.setgamemode.success",
             worldProperties.getWorldName(),
             Util.getTranslatableIfPresent(gamemodeInput)));
 
@@ -60,7 +60,7 @@ public class SetSpawnWorldCommand extends AbstractCommand<CommandSource> {
         }
 
         world.setSpawnPosition(loc);
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.setspawn.success"));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.world.setspawn.success"));
         return CommandResult.success();
     }
 }
@@ -77,11 +77,11 @@ public class TeleportWorldCommand extends AbstractCommand<CommandSource> {
         Nucleus.getNucleus().getWorldDataManager().getWorld(worldProperties.getUniqueId())
                 .ifPresent(x -> x.get(SpawnWorldDataModule.class).getSpawnRotation().ifPresent(y -> new Transform<World>(world, pos, y)));
         if (src instanceof Player && ((Player) src).getUniqueId().equals(player.getUniqueId())) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.teleport.success", worldProperties.getWorldName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.world.teleport.success", worldProperties.getWorldName()));
         } else {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.teleport.successplayer",
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.world.teleport.successplayer",
                     Nucleus.getNucleus().getNameUtil().getSerialisedName(player), worldProperties.getWorldName()));
-            player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.teleport.success", worldProperties.getWorldName()));
+            player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.world.teleport.success", worldProperties.getWorldName()));
         }
 
         return CommandResult.success();
@@ -88,7 +88,7 @@ public class UnloadWorldCommand extends AbstractCommand<CommandSource> {
             try {
                 DisableWorldCommand.disableWorld(sender, worldProperties);
             } catch (ReturnMessageException e) {
-                sender.sendMessage(e.getText());
+                sender.sendMessage(e.getText(sender));
             }
         } else if (messageOnError) {
             sender.sendMessage(provider.getTextMessageWithFormat("command.world.disable.alreadydisabled", worldProperties.getWorldName()));
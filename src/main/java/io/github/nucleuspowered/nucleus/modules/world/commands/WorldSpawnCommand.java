@@ -29,7 +29,7 @@ public class WorldSpawnCommand extends AbstractCommand<Player> {
     @Override
     public CommandResult executeCommand(Player pl, CommandContext args, Cause cause) {
         NucleusTeleportHandler.setLocation(pl, pl.getWorld().getSpawnLocation());
-        pl.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.spawn.success"));
+        pl.sendMessage(Nucleus.getNucleus().getMessageProvider(pl).getTextMessageWithFormat("command.world.spawn.success"));
         return CommandResult.success();
     }
 }
@@ -43,11 +43,11 @@ public class CancelChunkGenCommand extends AbstractCommand<CommandSource> {
         m.set(m.get(WorldgenWorldDataModule.class).setStart(false));
         m.save();
         if (this.worldHelper.cancelPregenRunningForWorld(wp.getUniqueId())) {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.cancelgen.cancelled", wp.getWorldName()));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.world.cancelgen.cancelled", wp.getWorldName()));
             return CommandResult.success();
         }
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.cancelgen.notask", wp.getWorldName()));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.world.cancelgen.notask", wp.getWorldName()));
         return CommandResult.empty();
     }
 }
@@ -53,7 +53,7 @@ public class ResetBorderCommand extends AbstractCommand<CommandSource> {
             w.getWorldBorder().setDiameter(diameter);
         });
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.setborder.set",
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.world.setborder.set",
                 wp.getWorldName(),
                 "0",
                 "0",
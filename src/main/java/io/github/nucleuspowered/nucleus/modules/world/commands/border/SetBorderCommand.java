@@ -91,7 +91,7 @@ public class SetBorderCommand extends AbstractCommand<CommandSource> {
         if (delay == 0) {
             world.ifPresent(w -> w.getWorldBorder().setDiameter(dia));
             wp.setWorldBorderDiameter(dia);
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.setborder.set",
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.world.setborder.set",
                     wp.getWorldName(),
                     String.valueOf(x),
                     String.valueOf(z),
@@ -100,7 +100,7 @@ public class SetBorderCommand extends AbstractCommand<CommandSource> {
             world.ifPresent(w -> w.getWorldBorder().setDiameter(dia, delay * 1000L));
             wp.setWorldBorderTimeRemaining(delay * 1000L);
             wp.setWorldBorderTargetDiameter(dia);
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.setborder.setdelay",
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.world.setborder.setdelay",
                     wp.getWorldName(),
                     String.valueOf(x),
                     String.valueOf(z),
@@ -33,7 +33,7 @@ public abstract class AvailableBaseCommand extends AbstractCommand<CommandSource
 
     @Override
     protected CommandResult executeCommand(CommandSource src, CommandContext args, Cause cause) {
-        MessageProvider mp = Nucleus.getNucleus().getMessageProvider();
+        MessageProvider mp = Nucleus.getNucleus().getMessageProvider(src);
 
         List<Text> types = Sponge.getRegistry().getAllOf(this.catalogType).stream()
                 .map(x -> mp.getTextMessageWithFormat("command.world.presets.item", x.getId(), x.getName()))
@@ -11,19 +11,19 @@ import io.github.nucleuspowered.nucleus.dataservices.modular.ModularWorldService
 public class WorldgenWorldDataModule extends DataModule<ModularWorldService> {
 
     @DataKey("start-pregen")
-    private boolean start = false;
+    boolean start = false;
 
     @DataKey("save-time")
-    private long saveTime = 20L;
+    long saveTime = 20L;
 
     @DataKey("tick-percent")
-    private int tickPercent = 80;
+    int tickPercent = 80;
 
     @DataKey("tick-freq")
-    private int tickFreq = 4;
+    int tickFreq = 4;
 
     @DataKey("aggressive")
-    private boolean aggressive = false;
+    boolean aggressive = false;
 
     public boolean isStart() {
         return start;
@@ -31,6 +31,7 @@ public class WorldgenWorldDataModule extends DataModule<ModularWorldService> {
 
     public WorldgenWorldDataModule setStart(boolean start) {
         this.start = start;
+        markDirty();
         return this;
     }
 
@@ -40,6 +41,7 @@ public class WorldgenWorldDataModule extends DataModule<ModularWorldService> {
 
     public WorldgenWorldDataModule setSaveTime(long saveTime) {
         this.saveTime = saveTime;
+        markDirty();
         return this;
     }
 
@@ -49,6 +51,7 @@ public class WorldgenWorldDataModule extends DataModule<ModularWorldService> {
 
     public WorldgenWorldDataModule setTickPercent(int tickPercent) {
         this.tickPercent = tickPercent;
+        markDirty();
         return this;
     }
 
@@ -58,6 +61,7 @@ public class WorldgenWorldDataModule extends DataModule<ModularWorldService> {
 
     public WorldgenWorldDataModule setTickFreq(int tickFreq) {
         this.tickFreq = tickFreq;
+        markDirty();
         return this;
     }
 
@@ -67,6 +71,7 @@ public class WorldgenWorldDataModule extends DataModule<ModularWorldService> {
 
     public WorldgenWorldDataModule setAggressive(boolean aggressive) {
         this.aggressive = aggressive;
+        markDirty();
         return this;
     }
 }
@@ -0,0 +1,147 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.util;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * An incrementally updated index of names, used for tab completion. Each
+ * value is indexed under a single name, case insensitively, and more than
+ * one value may share a name.
+ *
+ * <p>Owners should call {@link #put(String, Object)} and
+ * {@link #remove(Object)} as their data changes, so that completion does
+ * not have to scan all of the data on each key press.</p>
+ *
+ * @param <V> The type of value that is indexed.
+ */
+@ThreadSafe
+public class CompletionIndex<V> {
+
+    private final PrefixTrie<Set<V>> trie = new PrefixTrie<>();
+    private final Map<V, String> names = new HashMap<>();
+
+    /**
+     * Indexes the value under the given name, replacing any name that the
+     * value was previously indexed under.
+     *
+     * @param name The name.
+     * @param value The value.
+     */
+    public synchronized void put(String name, V value) {
+        Preconditions.checkNotNull(name);
+        Preconditions.checkNotNull(value);
+        String previous = this.names.put(value, name);
+        if (previous != null) {
+            removeFromTrie(previous, value);
+        }
+
+        Optional<Set<V>> existing = this.trie.get(name);
+        if (existing.isPresent()) {
+            existing.get().add(value);
+        } else {
+            Set<V> set = new LinkedHashSet<>();
+            set.add(value);
+            this.trie.put(name, set);
+        }
+    }
+
+    public synchronized boolean remove(V value) {
+        String name = this.names.remove(value);
+        if (name == null) {
+            return false;
+        }
+
+        removeFromTrie(name, value);
+        return true;
+    }
+
+    public synchronized Optional<String> getName(V value) {
+        return Optional.ofNullable(this.names.get(value));
+    }
+
+    /**
+     * Replaces the contents of this index.
+     *
+     * @param values The values to index.
+     * @param nameFunction The function that gets the name for each value.
+     */
+    public synchronized void rebuild(Collection<V> values, Function<V, String> nameFunction) {
+        this.trie.clear();
+        this.names.clear();
+        values.forEach(x -> put(nameFunction.apply(x), x));
+    }
+
+    public synchronized void clear() {
+        this.trie.clear();
+        this.names.clear();
+    }
+
+    public synchronized int size() {
+        return this.names.size();
+    }
+
+    /**
+     * Gets the values whose names start with the supplied prefix, case
+     * insensitively, in alphabetical order of their names.
+     *
+     * @param prefix The prefix.
+     * @param limit The maximum number of values to return, or a negative number for no limit.
+     * @return The values.
+     */
+    public synchronized List<V> complete(String prefix, int limit) {
+        List<V> result = new ArrayList<>();
+        // Each node holds at least one value, so there is no need to visit more nodes than the limit.
+        for (Set<V> values : this.trie.getWithPrefix(prefix, limit)) {
+            for (V value : values) {
+                if (result.size() == limit) {
+                    return result;
+                }
+
+                result.add(value);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the names that start with the supplied prefix, case insensitively,
+     * in alphabetical order.
+     *
+     * @param prefix The prefix.
+     * @param limit The maximum number of names to return, or a negative number for no limit.
+     * @return The names.
+     */
+    public synchronized List<String> completeNames(String prefix, int limit) {
+        List<String> result = new ArrayList<>();
+        for (V value : complete(prefix, limit)) {
+            result.add(this.names.get(value));
+        }
+
+        return result;
+    }
+
+    private void removeFromTrie(String name, V value) {
+        this.trie.get(name).ifPresent(set -> {
+            set.remove(value);
+            if (set.isEmpty()) {
+                this.trie.remove(name);
+            }
+        });
+    }
+}
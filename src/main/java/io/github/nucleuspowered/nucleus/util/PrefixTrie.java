@@ -0,0 +1,178 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.util;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * A case insensitive prefix tree, used to look up entries that start with a
+ * given string without scanning every entry. Entries are returned in
+ * alphabetical order of their (lower case) keys.
+ *
+ * <p>This is not thread safe, callers must synchronise externally if
+ * required.</p>
+ *
+ * @param <V> The type of value to store.
+ */
+public class PrefixTrie<V> {
+
+    private final Node<V> root = new Node<>();
+    private int size = 0;
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public void clear() {
+        this.root.value = null;
+        this.root.children = null;
+        this.size = 0;
+    }
+
+    public boolean containsKey(String key) {
+        return get(key).isPresent();
+    }
+
+    public Optional<V> get(String key) {
+        Node<V> node = find(key.toLowerCase());
+        return node == null ? Optional.empty() : Optional.ofNullable(node.value);
+    }
+
+    /**
+     * Adds an entry, replacing the entry with the same case insensitive key
+     * if there is one.
+     *
+     * @param key The key.
+     * @param value The value.
+     * @return The value that was replaced, if any.
+     */
+    public Optional<V> put(String key, V value) {
+        Preconditions.checkNotNull(value);
+        String lower = key.toLowerCase();
+        Node<V> node = this.root;
+        for (int i = 0; i < lower.length(); i++) {
+            if (node.children == null) {
+                node.children = new TreeMap<>();
+            }
+
+            node = node.children.computeIfAbsent(lower.charAt(i), c -> new Node<>());
+        }
+
+        V previous = node.value;
+        node.value = value;
+        if (previous == null) {
+            this.size++;
+        }
+
+        return Optional.ofNullable(previous);
+    }
+
+    public Optional<V> remove(String key) {
+        String lower = key.toLowerCase();
+        Deque<Node<V>> path = new ArrayDeque<>(lower.length() + 1);
+        Node<V> node = this.root;
+        path.push(node);
+        for (int i = 0; i < lower.length(); i++) {
+            node = node.children == null ? null : node.children.get(lower.charAt(i));
+            if (node == null) {
+                return Optional.empty();
+            }
+
+            path.push(node);
+        }
+
+        V previous = node.value;
+        if (previous == null) {
+            return Optional.empty();
+        }
+
+        node.value = null;
+        this.size--;
+
+        // Prune any nodes that no longer lead anywhere.
+        for (int i = lower.length() - 1; i >= 0; i--) {
+            Node<V> child = path.pop();
+            if (child.value != null || (child.children != null && !child.children.isEmpty())) {
+                break;
+            }
+
+            Node<V> parent = path.peek();
+            parent.children.remove(lower.charAt(i));
+            if (parent.children.isEmpty()) {
+                parent.children = null;
+            }
+        }
+
+        return Optional.of(previous);
+    }
+
+    /**
+     * Gets the values whose keys start with the supplied prefix, case
+     * insensitively.
+     *
+     * @param prefix The prefix.
+     * @param limit The maximum number of values to return, or a negative number for no limit.
+     * @return The values, in key order.
+     */
+    public List<V> getWithPrefix(String prefix, int limit) {
+        List<V> result = new ArrayList<>();
+        Node<V> start = find(prefix.toLowerCase());
+        if (start != null && limit != 0) {
+            collect(start, result, limit);
+        }
+
+        return result;
+    }
+
+    @Nullable
+    private Node<V> find(String lower) {
+        Node<V> node = this.root;
+        for (int i = 0; i < lower.length() && node != null; i++) {
+            node = node.children == null ? null : node.children.get(lower.charAt(i));
+        }
+
+        return node;
+    }
+
+    // Returns false once the limit has been reached.
+    private boolean collect(Node<V> node, List<V> result, int limit) {
+        if (node.value != null) {
+            result.add(node.value);
+            if (result.size() == limit) {
+                return false;
+            }
+        }
+
+        if (node.children != null) {
+            for (Map.Entry<Character, Node<V>> child : node.children.entrySet()) {
+                if (!collect(child.getValue(), result, limit)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static final class Node<V> {
+
+        @Nullable private V value;
+        @Nullable private TreeMap<Character, Node<V>> children;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.configurate.typeserialisers;
+
+import io.github.nucleuspowered.nucleus.configurate.wrappers.NucleusItemStackSnapshot;
+import io.github.nucleuspowered.nucleus.tests.util.Stubs;
+import ninja.leaping.configurate.ConfigurationNode;
+import ninja.leaping.configurate.SimpleConfigurationNode;
+import org.junit.Assert;
+import org.junit.Test;
+import org.spongepowered.api.item.inventory.ItemStackSnapshot;
+
+import java.util.Optional;
+
+// In the same package as the cache, as it is not part of the public API.
+public class ItemStackSnapshotCacheTests {
+
+    private static ConfigurationNode createNode(int count) {
+        ConfigurationNode node = SimpleConfigurationNode.root();
+        node.getNode("ItemType").setValue("minecraft:diamond_sword");
+        node.getNode("Count").setValue(count);
+        node.getNode("UnsafeData", "ench").getAppendedNode().getNode("id").setValue("16");
+        node.getNode("UnsafeData", "ench").getNode(0, "lvl").setValue("5");
+        return node;
+    }
+
+    private static NucleusItemStackSnapshot createSnapshot() {
+        return new NucleusItemStackSnapshot(Stubs.stub(ItemStackSnapshot.class, (method, args) -> null));
+    }
+
+    @Test
+    public void testItemThatHasNotBeenCachedIsAMiss() {
+        ItemStackSnapshotCache cache = new ItemStackSnapshotCache();
+        Assert.assertFalse(cache.get(cache.getKey(createNode(1))).isPresent());
+    }
+
+    @Test
+    public void testEqualNodesReturnTheCachedSnapshot() {
+        ItemStackSnapshotCache cache = new ItemStackSnapshotCache();
+        NucleusItemStackSnapshot snapshot = createSnapshot();
+        cache.put(cache.getKey(createNode(1)), snapshot);
+
+        // A separate node with the same contents, as if the file had been reloaded.
+        Optional<NucleusItemStackSnapshot> cached = cache.get(cache.getKey(createNode(1)));
+        Assert.assertTrue(cached.isPresent());
+        Assert.assertSame(snapshot, cached.get());
+    }
+
+    @Test
+    public void testChangedNodesAreAMiss() {
+        ItemStackSnapshotCache cache = new ItemStackSnapshotCache();
+        cache.put(cache.getKey(createNode(1)), createSnapshot());
+
+        Assert.assertFalse(cache.get(cache.getKey(createNode(2))).isPresent());
+
+        ConfigurationNode node = createNode(1);
+        node.getNode("UnsafeData", "ench", 0, "lvl").setValue("4");
+        Assert.assertFalse(cache.get(cache.getKey(node)).isPresent());
+
+        // The same value with a different type is a different item.
+        node = createNode(1);
+        node.getNode("Count").setValue("1");
+        Assert.assertFalse(cache.get(cache.getKey(node)).isPresent());
+    }
+
+    @Test
+    public void testChangedNodeReplacesTheCachedSnapshot() {
+        ItemStackSnapshotCache cache = new ItemStackSnapshotCache();
+        NucleusItemStackSnapshot first = createSnapshot();
+        NucleusItemStackSnapshot second = createSnapshot();
+        cache.put(cache.getKey(createNode(1)), first);
+        cache.put(cache.getKey(createNode(2)), second);
+
+        Assert.assertSame(first, cache.get(cache.getKey(createNode(1))).get());
+        Assert.assertSame(second, cache.get(cache.getKey(createNode(2))).get());
+    }
+
+    @Test
+    public void testKeyIsNotAffectedByChangesToTheNode() {
+        ItemStackSnapshotCache cache = new ItemStackSnapshotCache();
+        NucleusItemStackSnapshot snapshot = createSnapshot();
+
+        // The serialiser fixes up the node after taking the key.
+        ConfigurationNode node = createNode(1);
+        Object key = cache.getKey(node);
+        node.getNode("UnsafeData").removeChild("ench");
+        cache.put(key, snapshot);
+
+        Assert.assertSame(snapshot, cache.get(cache.getKey(createNode(1))).get());
+        Assert.assertFalse(cache.get(cache.getKey(node)).isPresent());
+    }
+
+    @Test
+    public void testEmptyNode() {
+        ItemStackSnapshotCache cache = new ItemStackSnapshotCache();
+        NucleusItemStackSnapshot snapshot = createSnapshot();
+        cache.put(cache.getKey(SimpleConfigurationNode.root()), snapshot);
+
+        Assert.assertSame(snapshot, cache.get(cache.getKey(SimpleConfigurationNode.root())).get());
+        Assert.assertFalse(cache.get(cache.getKey(createNode(1))).isPresent());
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.chatlogger.services;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+// In the same package as the segment, as it is not part of the public API.
+public class ChatLogSegmentTests {
+
+    private static final long START = 1500000000000L;
+    private static final UUID[] SENDERS = { UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID() };
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testGetStart() {
+        Assert.assertEquals(Optional.of(START), ChatLogSegment.getStart(START + ".seg"));
+        Assert.assertEquals(Optional.empty(), ChatLogSegment.getStart(START + ".uix"));
+        Assert.assertEquals(Optional.empty(), ChatLogSegment.getStart("notanumber.seg"));
+    }
+
+    @Test
+    public void testSealedSegmentRoundTrip() throws IOException {
+        Path directory = this.folder.getRoot().toPath();
+        List<ChatLogEntry> entries = new ArrayList<>();
+        entries.add(new ChatLogEntry(START, ChatLogEntry.Type.CHAT, SENDERS[0], "one", null, "hello"));
+        entries.add(new ChatLogEntry(START + 1, ChatLogEntry.Type.MESSAGE, SENDERS[1], "two", "one", "h\u00e9llo \u2713"));
+        entries.add(new ChatLogEntry(START + 2, ChatLogEntry.Type.MAIL, SENDERS[0], "one", "two", ""));
+        write(directory, entries, true);
+
+        ChatLogSegment segment = new ChatLogSegment(directory, START);
+        Assert.assertFalse(segment.needsRecovery());
+        Assert.assertEquals(Files.size(directory.resolve(START + ".seg")), segment.getSize());
+        assertEntries(entries, readAll(segment, null, Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testReadBySenderAndTime() throws IOException {
+        Path directory = this.folder.getRoot().toPath();
+
+        // Enough entries for the time index to have several entries.
+        List<ChatLogEntry> entries = createEntries(500);
+        write(directory, entries, true);
+
+        ChatLogSegment segment = new ChatLogSegment(directory, START);
+        for (UUID sender : SENDERS) {
+            assertEntries(filter(entries, sender, Long.MIN_VALUE, Long.MAX_VALUE), readAll(segment, sender, Long.MIN_VALUE, Long.MAX_VALUE));
+            assertEntries(filter(entries, sender, START + 130, START + 350), readAll(segment, sender, START + 130, START + 350));
+        }
+
+        assertEntries(filter(entries, null, START + 130, START + 350), readAll(segment, null, START + 130, START + 350));
+        Assert.assertTrue(readAll(segment, null, START + 1000, START + 2000).isEmpty());
+        Assert.assertTrue(readAll(segment, UUID.randomUUID(), Long.MIN_VALUE, Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    public void testVisitorCanStopReading() throws IOException {
+        Path directory = this.folder.getRoot().toPath();
+        write(directory, createEntries(10), true);
+
+        ChatLogSegment segment = new ChatLogSegment(directory, START);
+        List<ChatLogEntry> read = new ArrayList<>();
+        Assert.assertFalse(segment.read(null, Long.MIN_VALUE, Long.MAX_VALUE, x -> read.add(x) && read.size() < 4));
+        Assert.assertEquals(4, read.size());
+    }
+
+    @Test
+    public void testSegmentCanBeReadWhileItIsWritten() throws IOException {
+        Path directory = this.folder.getRoot().toPath();
+        List<ChatLogEntry> entries = createEntries(100);
+        ChatLogSegment segment = new ChatLogSegment(directory, START);
+        segment.openForWriting();
+        try {
+            for (ChatLogEntry entry : entries.subList(0, 50)) {
+                segment.append(entry);
+            }
+
+            segment.flush();
+
+            // Entries that have not been flushed are not visible.
+            segment.append(entries.get(50));
+            assertEntries(entries.subList(0, 50), readAll(segment, null, Long.MIN_VALUE, Long.MAX_VALUE));
+            assertEntries(filter(entries.subList(0, 50), SENDERS[1], Long.MIN_VALUE, Long.MAX_VALUE),
+                    readAll(segment, SENDERS[1], Long.MIN_VALUE, Long.MAX_VALUE));
+        } finally {
+            segment.seal();
+        }
+
+        assertEntries(entries.subList(0, 51), readAll(new ChatLogSegment(directory, START), null, Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSealedSegmentCannotBeWritten() throws IOException {
+        Path directory = this.folder.getRoot().toPath();
+        write(directory, createEntries(1), true);
+        new ChatLogSegment(directory, START).append(createEntries(1).get(0));
+    }
+
+    @Test
+    public void testRecoveryRebuildsIndexes() throws IOException {
+        Path directory = this.folder.getRoot().toPath();
+        List<ChatLogEntry> entries = createEntries(200);
+        write(directory, entries, false);
+
+        ChatLogSegment segment = new ChatLogSegment(directory, START);
+        Assert.assertTrue(segment.needsRecovery());
+        segment.recover();
+        Assert.assertFalse(segment.needsRecovery());
+        Assert.assertTrue(Files.exists(directory.resolve(START + ".uix")));
+
+        assertEntries(entries, readAll(segment, null, Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEntries(filter(entries, SENDERS[2], START + 70, START + 150), readAll(segment, SENDERS[2], START + 70, START + 150));
+    }
+
+    @Test
+    public void testRecoveryDiscardsPartlyWrittenEntry() throws IOException {
+        Path directory = this.folder.getRoot().toPath();
+        List<ChatLogEntry> entries = createEntries(100);
+        write(directory, entries, false);
+        Path segmentFile = directory.resolve(START + ".seg");
+        long length = Files.size(segmentFile);
+
+        // The length of an entry, followed by only part of that entry.
+        try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(segmentFile, StandardOpenOption.APPEND))) {
+            output.writeInt(60);
+            output.write(new byte[10]);
+        }
+
+        assertRecoveredTo(directory, entries, length);
+    }
+
+    @Test
+    public void testRecoveryDiscardsPartlyWrittenLength() throws IOException {
+        Path directory = this.folder.getRoot().toPath();
+        List<ChatLogEntry> entries = createEntries(100);
+        write(directory, entries, false);
+        Path segmentFile = directory.resolve(START + ".seg");
+        long length = Files.size(segmentFile);
+
+        try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(segmentFile, StandardOpenOption.APPEND))) {
+            output.write(new byte[] { 0, 0 });
+        }
+
+        assertRecoveredTo(directory, entries, length);
+    }
+
+    @Test
+    public void testRecoveryDiscardsInvalidLength() throws IOException {
+        Path directory = this.folder.getRoot().toPath();
+        List<ChatLogEntry> entries = createEntries(100);
+        write(directory, entries, false);
+        Path segmentFile = directory.resolve(START + ".seg");
+        long length = Files.size(segmentFile);
+
+        try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(segmentFile, StandardOpenOption.APPEND))) {
+            output.writeInt(-1);
+            output.write(new byte[100]);
+        }
+
+        assertRecoveredTo(directory, entries, length);
+    }
+
+    private void assertRecoveredTo(Path directory, List<ChatLogEntry> entries, long length) throws IOException {
+        ChatLogSegment segment = new ChatLogSegment(directory, START);
+        Assert.assertTrue(segment.needsRecovery());
+        segment.recover();
+
+        Assert.assertEquals(length, segment.getSize());
+        Assert.assertEquals(length, Files.size(directory.resolve(START + ".seg")));
+        assertEntries(entries, readAll(segment, null, Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEntries(filter(entries, SENDERS[0], Long.MIN_VALUE, Long.MAX_VALUE), readAll(segment, SENDERS[0], Long.MIN_VALUE, Long.MAX_VALUE));
+
+        // The rebuilt posting list is used when the segment is opened again.
+        ChatLogSegment reopened = new ChatLogSegment(directory, START);
+        Assert.assertFalse(reopened.needsRecovery());
+        assertEntries(filter(entries, SENDERS[1], Long.MIN_VALUE, Long.MAX_VALUE), readAll(reopened, SENDERS[1], Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    // Writes the entries, then seals the segment, or closes it as if the server stopped without sealing it.
+    static void write(Path directory, List<ChatLogEntry> entries, boolean seal) throws IOException {
+        long start = entries.get(0).getTimestamp();
+        ChatLogSegment segment = new ChatLogSegment(directory, start);
+        segment.openForWriting();
+        for (ChatLogEntry entry : entries) {
+            segment.append(entry);
+        }
+
+        segment.seal();
+        if (!seal) {
+            Files.delete(directory.resolve(start + ".uix"));
+        }
+    }
+
+    // One entry a millisecond, from each of the senders in turn.
+    static List<ChatLogEntry> createEntries(int count) {
+        return createEntries(START, count);
+    }
+
+    static List<ChatLogEntry> createEntries(long start, int count) {
+        List<ChatLogEntry> entries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            UUID sender = SENDERS[i % SENDERS.length];
+            entries.add(new ChatLogEntry(start + i, ChatLogEntry.Type.values()[i % 3], sender, "player" + (i % SENDERS.length),
+                    i % 3 == 0 ? null : "recipient", "message " + i));
+        }
+
+        return entries;
+    }
+
+    static UUID getSender(int index) {
+        return SENDERS[index];
+    }
+
+    static List<ChatLogEntry> filter(List<ChatLogEntry> entries, @Nullable UUID sender, long from, long to) {
+        return entries.stream()
+                .filter(x -> sender == null || sender.equals(x.getSender()))
+                .filter(x -> x.getTimestamp() >= from && x.getTimestamp() <= to)
+                .collect(Collectors.toList());
+    }
+
+    static void assertEntries(List<ChatLogEntry> expected, List<ChatLogEntry> actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            ChatLogEntry e = expected.get(i);
+            ChatLogEntry a = actual.get(i);
+            Assert.assertEquals(e.getTimestamp(), a.getTimestamp());
+            Assert.assertEquals(e.getType(), a.getType());
+            Assert.assertEquals(e.getSender(), a.getSender());
+            Assert.assertEquals(e.getSenderName(), a.getSenderName());
+            Assert.assertEquals(e.getRecipientName(), a.getRecipientName());
+            Assert.assertEquals(e.getMessage(), a.getMessage());
+        }
+    }
+
+    private static List<ChatLogEntry> readAll(ChatLogSegment segment, @Nullable UUID sender, long from, long to) throws IOException {
+        List<ChatLogEntry> read = new ArrayList<>();
+        Assert.assertTrue(segment.read(sender, from, to, read::add));
+        return read;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.chatlogger.services;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class ChatLogStoreTests {
+
+    private static final long FIRST = 1500000000000L;
+    private static final long SECOND = FIRST + 1000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path directory;
+    private final List<ChatLogEntry> entries = new ArrayList<>();
+
+    // A sealed segment, followed by one that was not sealed and ends with part of an entry.
+    @Before
+    public void createSegments() throws IOException {
+        this.directory = this.folder.getRoot().toPath();
+        List<ChatLogEntry> first = ChatLogSegmentTests.createEntries(FIRST, 100);
+        List<ChatLogEntry> second = ChatLogSegmentTests.createEntries(SECOND, 100);
+        ChatLogSegmentTests.write(this.directory, first, true);
+        ChatLogSegmentTests.write(this.directory, second, false);
+        try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(this.directory.resolve(SECOND + ".seg"),
+                StandardOpenOption.APPEND))) {
+            output.writeInt(80);
+            output.write(new byte[20]);
+        }
+
+        this.entries.addAll(first);
+        this.entries.addAll(second);
+    }
+
+    @Test
+    public void testSearchAcrossSegments() throws IOException {
+        ChatLogStore store = new ChatLogStore(this.directory);
+        for (int i = 0; i < 3; i++) {
+            UUID sender = ChatLogSegmentTests.getSender(i);
+            ChatLogSegmentTests.assertEntries(ChatLogSegmentTests.filter(this.entries, sender, FIRST, SECOND + 100),
+                    search(store, sender, FIRST, SECOND + 100));
+        }
+
+        // The unsealed segment was recovered when the store was loaded.
+        Assert.assertTrue(Files.exists(this.directory.resolve(SECOND + ".uix")));
+    }
+
+    @Test
+    public void testSearchOnlyReturnsEntriesInTheTimeRange() throws IOException {
+        ChatLogStore store = new ChatLogStore(this.directory);
+        UUID sender = ChatLogSegmentTests.getSender(1);
+        ChatLogSegmentTests.assertEntries(ChatLogSegmentTests.filter(this.entries, sender, FIRST + 50, SECOND + 50),
+                search(store, sender, FIRST + 50, SECOND + 50));
+        ChatLogSegmentTests.assertEntries(ChatLogSegmentTests.filter(this.entries, sender, SECOND + 10, SECOND + 20),
+                search(store, sender, SECOND + 10, SECOND + 20));
+        Assert.assertTrue(search(store, sender, FIRST + 200, SECOND - 1).isEmpty());
+        Assert.assertTrue(search(store, sender, SECOND, FIRST).isEmpty());
+    }
+
+    @Test
+    public void testVisitorCanStopTheSearch() throws IOException {
+        ChatLogStore store = new ChatLogStore(this.directory);
+        List<ChatLogEntry> read = new ArrayList<>();
+        store.search(ChatLogSegmentTests.getSender(0), Instant.ofEpochMilli(FIRST), Instant.ofEpochMilli(SECOND + 100),
+                x -> read.add(x) && read.size() < 5);
+        Assert.assertEquals(5, read.size());
+    }
+
+    private static List<ChatLogEntry> search(ChatLogStore store, UUID sender, long from, long to) throws IOException {
+        List<ChatLogEntry> read = new ArrayList<>();
+        store.search(sender, Instant.ofEpochMilli(from), Instant.ofEpochMilli(to), read::add);
+        return read;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.tests;
+
+import io.github.nucleuspowered.nucleus.util.CompletionIndex;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public class CompletionIndexTests {
+
+    private final UUID first = UUID.randomUUID();
+    private final UUID second = UUID.randomUUID();
+    private final UUID third = UUID.randomUUID();
+
+    @Test
+    public void testAddedEntriesCanBeCompleted() {
+        CompletionIndex<UUID> index = new CompletionIndex<>();
+        index.put("Alice", this.first);
+        index.put("albert", this.second);
+        index.put("Bob", this.third);
+
+        Assert.assertEquals(3, index.size());
+        Assert.assertEquals(Arrays.asList(this.second, this.first), index.complete("al", -1));
+        Assert.assertEquals(Arrays.asList("albert", "Alice"), index.completeNames("AL", -1));
+        Assert.assertEquals(Collections.singletonList("albert"), index.completeNames("alb", -1));
+        Assert.assertEquals(Arrays.asList("albert", "Alice", "Bob"), index.completeNames("", -1));
+        Assert.assertTrue(index.complete("c", -1).isEmpty());
+        Assert.assertEquals(Optional.of("Bob"), index.getName(this.third));
+    }
+
+    @Test
+    public void testRenamedEntriesAreOnlyCompletedByTheirNewName() {
+        CompletionIndex<UUID> index = new CompletionIndex<>();
+        index.put("Alice", this.first);
+        index.put("Bob", this.second);
+
+        index.put("Carol", this.first);
+        Assert.assertEquals(2, index.size());
+        Assert.assertTrue(index.complete("a", -1).isEmpty());
+        Assert.assertEquals(Collections.singletonList(this.first), index.complete("c", -1));
+        Assert.assertEquals(Optional.of("Carol"), index.getName(this.first));
+
+        // A change of case is a rename too.
+        index.put("CAROL", this.first);
+        Assert.assertEquals(Collections.singletonList("CAROL"), index.completeNames("car", -1));
+    }
+
+    @Test
+    public void testRemovedEntriesAreNotCompleted() {
+        CompletionIndex<UUID> index = new CompletionIndex<>();
+        index.put("Alice", this.first);
+        index.put("Alicia", this.second);
+
+        Assert.assertTrue(index.remove(this.first));
+        Assert.assertFalse(index.remove(this.first));
+        Assert.assertEquals(1, index.size());
+        Assert.assertEquals(Collections.singletonList(this.second), index.complete("ali", -1));
+        Assert.assertFalse(index.getName(this.first).isPresent());
+
+        Assert.assertTrue(index.remove(this.second));
+        Assert.assertTrue(index.complete("", -1).isEmpty());
+    }
+
+    @Test
+    public void testValuesCanShareAName() {
+        CompletionIndex<UUID> index = new CompletionIndex<>();
+        index.put("Steve", this.first);
+        index.put("steve", this.second);
+        index.put("Stevie", this.third);
+
+        Assert.assertEquals(Arrays.asList(this.first, this.second, this.third), index.complete("st", -1));
+        Assert.assertEquals(Arrays.asList(this.first, this.second), index.complete("st", 2));
+
+        // Removing one of the values keeps the other under the shared name.
+        index.remove(this.first);
+        Assert.assertEquals(Arrays.asList(this.second, this.third), index.complete("stev", -1));
+
+        // As does renaming one of them.
+        index.put("Steve", this.first);
+        index.put("Dave", this.second);
+        Assert.assertEquals(Arrays.asList(this.first, this.third), index.complete("stev", -1));
+    }
+
+    @Test
+    public void testCompletionLimit() {
+        CompletionIndex<UUID> index = new CompletionIndex<>();
+        index.put("a1", this.first);
+        index.put("a2", this.second);
+        index.put("a3", this.third);
+
+        Assert.assertEquals(Arrays.asList("a1", "a2"), index.completeNames("a", 2));
+        Assert.assertEquals(Arrays.asList("a1", "a2", "a3"), index.completeNames("a", 5));
+        Assert.assertTrue(index.complete("a", 0).isEmpty());
+    }
+
+    @Test
+    public void testRebuildReplacesTheContents() {
+        CompletionIndex<UUID> index = new CompletionIndex<>();
+        index.put("Alice", this.first);
+
+        Map<UUID, String> names = new HashMap<>();
+        names.put(this.second, "Bob");
+        names.put(this.third, "Bobby");
+        index.rebuild(names.keySet(), names::get);
+
+        Assert.assertEquals(2, index.size());
+        Assert.assertTrue(index.complete("a", -1).isEmpty());
+        Assert.assertEquals(Arrays.asList("Bob", "Bobby"), index.completeNames("b", -1));
+
+        index.clear();
+        Assert.assertEquals(0, index.size());
+        Assert.assertTrue(index.complete("", -1).isEmpty());
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.tests;
+
+import io.github.nucleuspowered.nucleus.internal.messages.MessageFormatter;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * Checks that compiled messages are formatted in the same way as they were
+ * when every message was escaped and passed to {@link MessageFormat}.
+ */
+@SuppressWarnings("CanBeFinal")
+@RunWith(Parameterized.class)
+public class MessageFormatterTests {
+
+    // How messages were escaped before they were passed to MessageFormat.
+    private static final Pattern STRING_REPLACER = Pattern.compile("\\{+[^0-9]+}+");
+
+    // The message provider only formats strings, apart from messages with a format type, which are still formatted by
+    // MessageFormat, so the arguments here are strings unless the message has a format type.
+    @Parameterized.Parameters(name = "{index}: Message {0}")
+    public static Iterable<Object[]> data() {
+        return Arrays.asList(new Object[][] {
+                { "No arguments", new Object[0] },
+                { "&aHello {0}, welcome to {1}!", new Object[] { "dualspiral", "Nucleus" } },
+                { "{0}{1}", new Object[] { "a", "b" } },
+                { "{1} before {0}", new Object[] { "a", "b" } },
+                { "{0} and {0} again", new Object[] { "a" } },
+                { "Don't stop", new Object[0] },
+                { "It's {0}'s turn", new Object[] { "dualspiral" } },
+                { "''quoted'' {0}", new Object[] { "x" } },
+                { "'{0}'", new Object[] { "x" } },
+                { "Use {{name}} for the name", new Object[0] },
+                { "{{prefix}} {0} {{suffix}}", new Object[] { "x" } },
+                { "{{{name}}} {0}", new Object[] { "x" } },
+                { "Missing {0} and {1}", new Object[] { "a" } },
+                { "Missing {2}", new Object[0] },
+                { "Ten {10}, one {1}", new Object[] { "0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10" } },
+                { "Number {0,number} and {1}", new Object[] { 12345, "x" } },
+                { "Number {0,number,#} don't", new Object[] { 12345 } },
+                { "Number {0, number} with {{name}}", new Object[] { 1.5 } },
+                { "Null {0}", new Object[] { null } }
+        });
+    }
+
+    @Parameterized.Parameter()
+    public String message;
+
+    @Parameterized.Parameter(1)
+    public Object[] args;
+
+    @Test
+    public void testFormatMatchesMessageFormat() {
+        String expected = MessageFormat.format(STRING_REPLACER.matcher(this.message.replaceAll("'", "''")).replaceAll("'$0'"), this.args);
+        Assert.assertEquals(expected, MessageFormatter.compile(this.message).format(this.args));
+    }
+}
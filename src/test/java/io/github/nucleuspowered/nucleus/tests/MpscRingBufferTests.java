@@ -0,0 +1,151 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.tests;
+
+import io.github.nucleuspowered.nucleus.logging.MpscRingBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class MpscRingBufferTests {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCapacityMustBeAPowerOfTwo() {
+        new MpscRingBuffer<String>(6);
+    }
+
+    @Test
+    public void testEmptyBufferReturnsNothing() {
+        MpscRingBuffer<String> buffer = new MpscRingBuffer<>(4);
+        Assert.assertTrue(buffer.isEmpty());
+        Assert.assertEquals(0, buffer.size());
+        Assert.assertNull(buffer.poll());
+        Assert.assertEquals(0, buffer.drain(x -> Assert.fail("Nothing should be drained"), 10));
+    }
+
+    @Test
+    public void testElementsAreReturnedInOrder() {
+        MpscRingBuffer<String> buffer = new MpscRingBuffer<>(4);
+        Assert.assertTrue(buffer.offer("a"));
+        Assert.assertTrue(buffer.offer("b"));
+        Assert.assertFalse(buffer.isEmpty());
+        Assert.assertEquals(2, buffer.size());
+
+        Assert.assertEquals("a", buffer.poll());
+        Assert.assertEquals("b", buffer.poll());
+        Assert.assertNull(buffer.poll());
+        Assert.assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void testFullBufferRejectsUntilSpaceIsFreed() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue(buffer.offer(i));
+        }
+
+        Assert.assertFalse(buffer.offer(4));
+        Assert.assertEquals(4, buffer.size());
+
+        Assert.assertEquals(Integer.valueOf(0), buffer.poll());
+        Assert.assertTrue(buffer.offer(4));
+        Assert.assertFalse(buffer.offer(5));
+
+        List<Integer> drained = new ArrayList<>();
+        Assert.assertEquals(4, buffer.drain(drained::add, 10));
+        Assert.assertEquals(Arrays.asList(1, 2, 3, 4), drained);
+        Assert.assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void testDrainStopsAtTheLimit() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(8);
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(i);
+        }
+
+        List<Integer> drained = new ArrayList<>();
+        Assert.assertEquals(3, buffer.drain(drained::add, 3));
+        Assert.assertEquals(Arrays.asList(0, 1, 2), drained);
+        Assert.assertEquals(2, buffer.size());
+    }
+
+    @Test
+    public void testBufferCanWrapManyTimes() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(2);
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertTrue(buffer.offer(i));
+            Assert.assertEquals(Integer.valueOf(i), buffer.poll());
+        }
+
+        Assert.assertTrue(buffer.isEmpty());
+    }
+
+    @Test(timeout = 30000)
+    public void testMultipleProducersLoseAndDuplicateNothing() throws Exception {
+        final int producers = 4;
+        final int perProducer = 100000;
+
+        // Smaller than the number of elements, so producers regularly find the buffer full and have to retry.
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int p = 0; p < producers; p++) {
+                final int offset = p * perProducer;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!buffer.offer(offset + i)) {
+                            Thread.yield();
+                        }
+                    }
+
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            // Elements from each producer must arrive in the order that producer added them.
+            int[] next = new int[producers];
+            boolean[] seen = new boolean[producers * perProducer];
+            int received = 0;
+            while (received < producers * perProducer) {
+                Integer element = buffer.poll();
+                if (element == null) {
+                    Thread.yield();
+                    continue;
+                }
+
+                Assert.assertFalse("Element " + element + " was received twice", seen[element]);
+                seen[element] = true;
+                int producer = element / perProducer;
+                Assert.assertEquals(producer * perProducer + next[producer], element.intValue());
+                next[producer]++;
+                received++;
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            Assert.assertTrue(buffer.isEmpty());
+            Assert.assertNull(buffer.poll());
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.tests;
+
+import io.github.nucleuspowered.nucleus.util.PrefixTrie;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+public class PrefixTrieTests {
+
+    private static PrefixTrie<String> create(String... values) {
+        PrefixTrie<String> trie = new PrefixTrie<>();
+        for (String value : values) {
+            trie.put(value, value);
+        }
+
+        return trie;
+    }
+
+    @Test
+    public void testEmptyTrie() {
+        PrefixTrie<String> trie = new PrefixTrie<>();
+        Assert.assertTrue(trie.isEmpty());
+        Assert.assertEquals(0, trie.size());
+        Assert.assertFalse(trie.get("spawn").isPresent());
+        Assert.assertTrue(trie.getWithPrefix("", -1).isEmpty());
+        Assert.assertFalse(trie.remove("spawn").isPresent());
+    }
+
+    @Test
+    public void testKeysAreCaseInsensitive() {
+        PrefixTrie<String> trie = create("Spawn");
+        Assert.assertEquals(Optional.of("Spawn"), trie.get("spawn"));
+        Assert.assertEquals(Optional.of("Spawn"), trie.get("SPAWN"));
+        Assert.assertTrue(trie.containsKey("sPaWn"));
+        Assert.assertFalse(trie.containsKey("spawns"));
+        Assert.assertFalse(trie.containsKey("spaw"));
+    }
+
+    @Test
+    public void testPutReplacesEntryWithTheSameKey() {
+        PrefixTrie<String> trie = create("Spawn");
+        Assert.assertEquals(Optional.of("Spawn"), trie.put("SPAWN", "SPAWN"));
+        Assert.assertEquals(1, trie.size());
+        Assert.assertEquals(Optional.of("SPAWN"), trie.get("spawn"));
+        Assert.assertEquals(Optional.empty(), trie.put("shop", "shop"));
+        Assert.assertEquals(2, trie.size());
+    }
+
+    @Test
+    public void testRemove() {
+        PrefixTrie<String> trie = create("shop", "shops", "sh");
+        Assert.assertEquals(Optional.of("shop"), trie.remove("SHOP"));
+        Assert.assertEquals(2, trie.size());
+        Assert.assertFalse(trie.containsKey("shop"));
+
+        // Entries either side of the removed one are not affected.
+        Assert.assertTrue(trie.containsKey("shops"));
+        Assert.assertTrue(trie.containsKey("sh"));
+        Assert.assertEquals(Arrays.asList("sh", "shops"), trie.getWithPrefix("s", -1));
+
+        // Removing something that is only a prefix of an entry does nothing.
+        Assert.assertFalse(trie.remove("sho").isPresent());
+        Assert.assertFalse(trie.remove("shop").isPresent());
+        Assert.assertEquals(2, trie.size());
+
+        Assert.assertEquals(Optional.of("shops"), trie.remove("shops"));
+        Assert.assertEquals(Optional.of("sh"), trie.remove("sh"));
+        Assert.assertTrue(trie.isEmpty());
+        Assert.assertTrue(trie.getWithPrefix("", -1).isEmpty());
+
+        // The trie can be used again after all entries have been removed.
+        trie.put("shop", "shop");
+        Assert.assertEquals(Collections.singletonList("shop"), trie.getWithPrefix("S", -1));
+    }
+
+    @Test
+    public void testPrefixQueriesAreInKeyOrder() {
+        PrefixTrie<String> trie = create("spawn", "Shop", "SHOPS", "arena", "spleef", "s");
+        Assert.assertEquals(Arrays.asList("s", "Shop", "SHOPS", "spawn", "spleef"), trie.getWithPrefix("s", -1));
+        Assert.assertEquals(Arrays.asList("Shop", "SHOPS"), trie.getWithPrefix("sHoP", -1));
+        Assert.assertEquals(Arrays.asList("spawn", "spleef"), trie.getWithPrefix("SP", -1));
+        Assert.assertEquals(Collections.singletonList("arena"), trie.getWithPrefix("arena", -1));
+        Assert.assertTrue(trie.getWithPrefix("arenas", -1).isEmpty());
+        Assert.assertTrue(trie.getWithPrefix("x", -1).isEmpty());
+        Assert.assertEquals(Arrays.asList("arena", "s", "Shop", "SHOPS", "spawn", "spleef"), trie.getWithPrefix("", -1));
+    }
+
+    @Test
+    public void testPrefixQueryLimit() {
+        PrefixTrie<String> trie = create("a1", "a2", "a3", "a4", "b1");
+        Assert.assertEquals(Arrays.asList("a1", "a2"), trie.getWithPrefix("a", 2));
+        Assert.assertEquals(Arrays.asList("a1", "a2", "a3", "a4"), trie.getWithPrefix("a", 10));
+        Assert.assertTrue(trie.getWithPrefix("a", 0).isEmpty());
+    }
+
+    @Test
+    public void testClear() {
+        PrefixTrie<String> trie = create("spawn", "shop");
+        trie.clear();
+        Assert.assertTrue(trie.isEmpty());
+        Assert.assertFalse(trie.containsKey("spawn"));
+        Assert.assertTrue(trie.getWithPrefix("", -1).isEmpty());
+    }
+}
@@ -18,6 +18,7 @@ import io.github.nucleuspowered.nucleus.dataservices.modular.ModularGeneralServi
 import io.github.nucleuspowered.nucleus.internal.EconHelper;
 import io.github.nucleuspowered.nucleus.internal.InternalServiceManager;
 import io.github.nucleuspowered.nucleus.internal.PermissionRegistry;
+import io.github.nucleuspowered.nucleus.internal.StartupTimings;
 import io.github.nucleuspowered.nucleus.internal.TextFileController;
 import io.github.nucleuspowered.nucleus.internal.docgen.DocGenCache;
 import io.github.nucleuspowered.nucleus.internal.interfaces.Reloadable;
@@ -29,6 +30,7 @@ import io.github.nucleuspowered.nucleus.internal.services.WarmupManager;
 import io.github.nucleuspowered.nucleus.internal.teleport.NucleusTeleportHandler;
 import io.github.nucleuspowered.nucleus.internal.text.TextParsingUtils;
 import io.github.nucleuspowered.nucleus.modules.core.config.WarmupConfig;
+import io.github.nucleuspowered.nucleus.tests.util.Stubs;
 import org.junit.BeforeClass;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
@@ -39,6 +41,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.asset.Asset;
+import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.cause.EventContext;
@@ -56,6 +59,7 @@ import java.lang.reflect.Modifier;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @RunWith(PowerMockRunner.class)
@@ -74,24 +78,43 @@ public abstract class TestBase {
 
     private static void setFinalStaticPlain(Field field) throws Exception {
         setFinalStatic(field);
-        SafeTextSerializer sts = Mockito.mock(SafeTextSerializer.class);
-        Mockito.when(sts.serialize(Mockito.any())).thenReturn("key");
-        Mockito.when(sts.deserialize(Mockito.any())).thenReturn(Text.of("key"));
-        field.set(null, sts);
+        Text key = Text.of("key");
+        field.set(null, Stubs.stub(SafeTextSerializer.class, (method, args) -> {
+            switch (method) {
+                case "serialize":
+                    return "key";
+                case "deserialize":
+                    return key;
+                default:
+                    return null;
+            }
+        }));
     }
 
     private static void setFinalStaticFormatters(Field field) throws Exception {
         setFinalStatic(field);
-        FormattingCodeTextSerializer sts = Mockito.mock(FormattingCodeTextSerializer.class);
-        Mockito.when(sts.serialize(Mockito.any())).thenReturn("key");
-        Mockito.when(sts.deserialize(Mockito.any())).thenReturn(Text.of("key"));
-        Mockito.when(sts.stripCodes(Mockito.anyString())).thenReturn("test");
-        Mockito.when(sts.replaceCodes(Mockito.anyString(), Mockito.anyChar())).thenReturn("test");
-        field.set(null, sts);
+        Text key = Text.of("key");
+        field.set(null, Stubs.stub(FormattingCodeTextSerializer.class, (method, args) -> {
+            switch (method) {
+                case "serialize":
+                    return "key";
+                case "deserialize":
+                    return key;
+                case "stripCodes":
+                case "replaceCodes":
+                    return "test";
+                default:
+                    return null;
+            }
+        }));
     }
 
     @BeforeClass
     public static void testSetup() throws Exception {
+        testSetup(new NucleusTest());
+    }
+
+    public static void testSetup(Nucleus nucleus) throws Exception {
         if (complete) {
             return;
         }
@@ -100,7 +123,7 @@ public abstract class TestBase {
         try {
             Method m = Nucleus.class.getDeclaredMethod("setNucleus", Nucleus.class);
             m.setAccessible(true);
-            m.invoke(null, new NucleusTest());
+            m.invoke(null, nucleus);
         } catch (IllegalStateException e) {
             // Nope
         }
@@ -118,7 +141,7 @@ public abstract class TestBase {
         PowerMockito.when(Sponge.getCauseStackManager()).thenReturn(csm);
     }
 
-    private static class NucleusTest extends Nucleus {
+    public static class NucleusTest extends Nucleus {
 
         private final MessageProvider mp = new ResourceMessageProvider(ResourceMessageProvider.messagesBundle);
         private final PermissionRegistry permissionRegistry = new PermissionRegistry();
@@ -240,6 +263,16 @@ public abstract class TestBase {
             return this.mp;
         }
 
+        @Override
+        public MessageProvider getMessageProvider(CommandSource source) {
+            return this.mp;
+        }
+
+        @Override
+        public MessageProvider getMessageProvider(Locale locale) {
+            return this.mp;
+        }
+
         @Override
         public MessageProvider getCommandMessageProvider() {
             return null;
@@ -321,5 +354,9 @@ public abstract class TestBase {
         @Override public boolean isPrintingSavesAndLoads() {
             return false;
         }
+
+        @Override public StartupTimings getStartupTimings() {
+            return new StartupTimings();
+        }
     }
 }
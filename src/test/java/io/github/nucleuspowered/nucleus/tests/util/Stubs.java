@@ -0,0 +1,100 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.tests.util;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * Creates stub implementations of interfaces that answer every call with a
+ * supplied function.
+ *
+ * <p>Unlike mocks, stubs do not record their invocations or match arguments,
+ * so they are cheap enough to be called from benchmarks and from objects
+ * that live for the whole test run.</p>
+ */
+public final class Stubs {
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private Stubs() {}
+
+    /**
+     * Creates a stub of the supplied interface.
+     *
+     * <p>If the {@link Answer} returns {@code null}, the stub returns
+     * {@link Optional#empty()}, {@code false} or zero when the method returns
+     * one of those types. {@link Object#equals(Object)},
+     * {@link Object#hashCode()} and {@link Object#toString()} are based on the
+     * identity of the stub.</p>
+     *
+     * @param type The interface to stub.
+     * @param answer The {@link Answer} to use for each call.
+     * @param <T> The type of interface.
+     * @return The stub.
+     */
+    public static <T> T stub(Class<T> type, Answer answer) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return objectMethod(proxy, method, args);
+            }
+
+            Object result = answer.answer(method.getName(), args == null ? NO_ARGS : args);
+            return result == null ? defaultValue(method.getReturnType()) : result;
+        }));
+    }
+
+    private static Object objectMethod(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                return proxy.getClass().getInterfaces()[0].getSimpleName() + " stub";
+        }
+    }
+
+    @Nullable
+    private static Object defaultValue(Class<?> type) {
+        if (type == Optional.class) {
+            return Optional.empty();
+        } else if (type == boolean.class) {
+            return false;
+        } else if (type == char.class) {
+            return '\0';
+        } else if (type == byte.class) {
+            return (byte) 0;
+        } else if (type == short.class) {
+            return (short) 0;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == float.class) {
+            return 0f;
+        } else if (type == double.class) {
+            return 0d;
+        }
+
+        return null;
+    }
+
+    @FunctionalInterface
+    public interface Answer {
+
+        /**
+         * Answers a call to a stub.
+         *
+         * @param method The name of the method that was called.
+         * @param args The arguments to the method.
+         * @return The value to return, or {@code null} for the default.
+         */
+        @Nullable Object answer(String method, Object[] args);
+    }
+}